@@ -0,0 +1,116 @@
+package com.sinsaflower.server;
+
+import com.sinsaflower.server.domain.delivery.entity.Region;
+import com.sinsaflower.server.domain.member.dto.MemberProductPriceDto;
+import com.sinsaflower.server.domain.member.dto.MemberSearchBaseDto;
+import com.sinsaflower.server.domain.member.entity.Member;
+import com.sinsaflower.server.domain.member.entity.MemberRank;
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.entity.OrderMessage;
+import com.sinsaflower.server.domain.order.entity.OrderOption;
+import com.sinsaflower.server.domain.order.entity.OrderSender;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공용 데이터
+ * 운영 주문/회원 검색 데이터와 비슷한 크기로 만든다 (DB 없이 메모리에서 생성).
+ */
+public final class BenchmarkFixtures {
+
+    public static final String[] CATEGORIES = {"근조화환", "축하화환", "관엽식물", "동양란", "서양란", "꽃다발", "꽃바구니", "쌀화환", "기타"};
+    private static final MemberRank[] RANKS = MemberRank.values();
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 주문 1건 (옵션, 메시지, 발송자를 각각 children개씩 포함)
+     */
+    public static Order order(long id, int children) {
+        Order order = Order.builder()
+                .id(id)
+                .orderNumber("ORD-20240115-" + id)
+                .member(Member.builder().id(id % 100).name("회원" + id % 100).build())
+                .region(Region.builder().id(id % 250).sido("서울").sigungu("강남구").build())
+                .shopName("신사플라워 강남점")
+                .phone("02-1234-5678")
+                .productName("근조화환 3단")
+                .productDetail("흰 국화, 리본 포함")
+                .quantity(1)
+                .originPrice(BigDecimal.valueOf(60000))
+                .price(BigDecimal.valueOf(80000))
+                .payment(BigDecimal.valueOf(80000))
+                .orderCustomerName("홍길동")
+                .orderCustomerPhone("02-9876-5432")
+                .orderCustomerMobile("010-1234-5678")
+                .receiverName("김철수")
+                .receiverMobile("010-8765-4321")
+                .deliveryDate(LocalDate.of(2024, 1, 15))
+                .deliveryPlace("서울특별시 강남구 테헤란로 123 장례식장 2층")
+                .card("삼가 고인의 명복을 빕니다")
+                .request("오전 중 배송 부탁드립니다")
+                .orderStatus(Order.OrderStatus.CONFIRMED)
+                .totalAmount(BigDecimal.valueOf(80000 + children * 5000L))
+                .build();
+        order.setCreatedAt(LocalDateTime.of(2024, 1, 14, 10, 30));
+        order.setUpdatedAt(LocalDateTime.of(2024, 1, 14, 11, 0));
+        for (int i = 0; i < children; i++) {
+            order.addOrderOption(OrderOption.builder()
+                    .optionName("옵션" + i)
+                    .checked(i % 2 == 0)
+                    .price(BigDecimal.valueOf(5000))
+                    .build());
+            order.addOrderMessage(OrderMessage.builder()
+                    .text("리본 문구 " + i)
+                    .sortOrder(i)
+                    .build());
+            order.addOrderSender(OrderSender.builder()
+                    .name("보내는분" + i)
+                    .relationship("동료")
+                    .phone("010-0000-000" + i % 10)
+                    .sortOrder(i)
+                    .isMain(i == 0)
+                    .build());
+        }
+        return order;
+    }
+
+    public static List<Order> orders(int count, int children) {
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            orders.add(order(i, children));
+        }
+        return orders;
+    }
+
+    /**
+     * 회원 검색 기본 정보 (한 페이지 분량)
+     */
+    public static List<MemberSearchBaseDto> searchBases(int members) {
+        List<MemberSearchBaseDto> bases = new ArrayList<>(members);
+        for (int i = 1; i <= members; i++) {
+            bases.add(new MemberSearchBaseDto((long) i, "회원" + i, "010-1234-" + String.format("%04d", i),
+                    "서울 강남구", i % 3 == 0 ? "단골" : null, RANKS[i % RANKS.length]));
+        }
+        return bases;
+    }
+
+    /**
+     * 회원별 상품 가격 (회원마다 전체 카테고리)
+     */
+    public static List<MemberProductPriceDto> searchPrices(int members) {
+        List<MemberProductPriceDto> prices = new ArrayList<>(members * CATEGORIES.length);
+        for (int i = 1; i <= members; i++) {
+            for (int c = 0; c < CATEGORIES.length; c++) {
+                prices.add(new MemberProductPriceDto((long) i, CATEGORIES[c],
+                        BigDecimal.valueOf(50000 + c * 10000L), (i + c) % 4 != 0));
+            }
+        }
+        return prices;
+    }
+}
@@ -0,0 +1,44 @@
+package com.sinsaflower.server.domain.member.service;
+
+import com.sinsaflower.server.BenchmarkFixtures;
+import com.sinsaflower.server.domain.member.dto.MemberProductPriceDto;
+import com.sinsaflower.server.domain.member.dto.MemberSearchBaseDto;
+import com.sinsaflower.server.domain.member.dto.MemberSearchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 통합 검색 결과 조립 (기본 정보 + 카테고리별 가격 + 태그 계산)
+ * members: 한 페이지의 회원 수 (회원마다 전체 카테고리 가격 포함)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MemberSearchAssemblyBenchmark {
+
+    @Param({"20", "100"})
+    private int members;
+
+    private List<MemberSearchBaseDto> bases;
+    private List<MemberProductPriceDto> prices;
+
+    @Setup
+    public void setUp() {
+        bases = BenchmarkFixtures.searchBases(members);
+        prices = BenchmarkFixtures.searchPrices(members);
+    }
+
+    @Benchmark
+    public List<MemberSearchResponse> assembleSearchResults() {
+        return MemberService.assembleSearchResults(bases, prices);
+    }
+}
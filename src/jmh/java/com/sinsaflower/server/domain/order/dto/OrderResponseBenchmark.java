@@ -0,0 +1,44 @@
+package com.sinsaflower.server.domain.order.dto;
+
+import com.sinsaflower.server.BenchmarkFixtures;
+import com.sinsaflower.server.domain.order.entity.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 엔티티 -> 응답 DTO 변환 (주문 상세/목록 API마다 호출)
+ * children: 옵션, 메시지, 발송자 각각의 개수
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class OrderResponseBenchmark {
+
+    @Param({"1", "3", "10"})
+    private int children;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = BenchmarkFixtures.order(1L, children);
+    }
+
+    @Benchmark
+    public OrderResponse from() {
+        return OrderResponse.from(order);
+    }
+
+    @Benchmark
+    public OrderResponse forList() {
+        return OrderResponse.forList(order);
+    }
+}
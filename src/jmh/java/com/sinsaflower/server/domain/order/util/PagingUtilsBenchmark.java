@@ -0,0 +1,41 @@
+package com.sinsaflower.server.domain.order.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이징 파라미터 검증 및 Pageable 생성 (목록 API마다 호출)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PagingUtilsBenchmark {
+
+    // 상수 폴딩 방지를 위해 필드로 둠
+    private int page = 2;
+    private int size = 20;
+    private String sort = "deliveryDate";
+    private String direction = "asc";
+
+    @Benchmark
+    public Pageable createPageable() {
+        return PagingUtils.createPageable(page, size, sort, direction);
+    }
+
+    // 요청 파라미터 보정(페이지 번호, 크기, 허용 정렬 필드) 후 생성
+    @Benchmark
+    public Pageable createPageable_Validated() {
+        return PagingUtils.createPageable(
+                PagingUtils.validatePageNumber(page),
+                PagingUtils.validatePageSize(size),
+                PagingUtils.validateSortField(sort),
+                direction);
+    }
+}
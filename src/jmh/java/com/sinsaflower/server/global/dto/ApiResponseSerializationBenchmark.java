@@ -0,0 +1,91 @@
+package com.sinsaflower.server.global.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinsaflower.server.BenchmarkFixtures;
+import com.sinsaflower.server.domain.member.dto.MemberProductPriceResponse;
+import com.sinsaflower.server.domain.member.dto.MemberSearchResponse;
+import com.sinsaflower.server.domain.member.entity.MemberRank;
+import com.sinsaflower.server.domain.order.dto.OrderResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 API 응답(ApiResponse<Page<...>>) JSON 직렬화
+ * ObjectMapper는 application.yml의 spring.jackson 설정과 같게 구성한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<Page<OrderResponse>> orderPage;
+    private ApiResponse<Page<MemberSearchResponse>> memberPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .simpleDateFormat("yyyy-MM-dd HH:mm:ss")
+                .timeZone(TimeZone.getTimeZone("Asia/Seoul"))
+                .build();
+
+        PageRequest pageable = PageRequest.of(0, pageSize);
+        List<OrderResponse> orders = BenchmarkFixtures.orders(pageSize, 3).stream()
+                .map(OrderResponse::forList)
+                .toList();
+        orderPage = ApiResponse.success("주문 목록 조회 성공", new PageImpl<>(orders, pageable, 1_000));
+        memberPage = ApiResponse.success("회원 검색 성공", new PageImpl<>(members(pageSize), pageable, 1_000));
+    }
+
+    @Benchmark
+    public byte[] serializeOrderPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(orderPage);
+    }
+
+    @Benchmark
+    public byte[] serializeMemberSearchPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(memberPage);
+    }
+
+    private static List<MemberSearchResponse> members(int count) {
+        List<MemberSearchResponse> members = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            MemberSearchResponse member = new MemberSearchResponse();
+            member.setId((long) i);
+            member.setName("회원" + i);
+            member.setPhone("010-1234-" + String.format("%04d", i));
+            member.setRegion("서울 강남구");
+            member.setRank(MemberRank.values()[i % MemberRank.values().length]);
+            member.getTags().add("신규회원");
+            for (int c = 0; c < BenchmarkFixtures.CATEGORIES.length; c++) {
+                member.getPrices().add(MemberProductPriceResponse.builder()
+                        .categoryName(BenchmarkFixtures.CATEGORIES[c])
+                        .price(BigDecimal.valueOf(50000 + c * 10000L))
+                        .isAvailable(true)
+                        .build());
+            }
+            members.add(member);
+        }
+        return members;
+    }
+}
@@ -0,0 +1,52 @@
+package com.sinsaflower.server.global.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급(로그인)과 검증/권한 추출(인증이 필요한 모든 요청)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForJwtTokenGenerationAndValidation";
+
+    private JwtUtil jwtUtil;
+    private List<GrantedAuthority> authorities;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 3_600_000, 86_400_000);
+        authorities = List.of(new SimpleGrantedAuthority("ROLE_PARTNER"));
+        token = jwtUtil.generateToken("partner01", authorities, "MEMBER", 1L);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("partner01", authorities, "MEMBER", 1L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthoritiesFromToken() {
+        return jwtUtil.getAuthoritiesFromToken(token);
+    }
+}
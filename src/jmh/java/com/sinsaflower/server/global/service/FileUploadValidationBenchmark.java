@@ -0,0 +1,63 @@
+package com.sinsaflower.server.global.service;
+
+import com.sinsaflower.server.global.config.FileUploadProperties;
+import com.sinsaflower.server.global.storage.LocalBlobStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 파일 검증 (크기, 확장자, 내용 시그니처)과 시그니처 판별
+ * 파일 저장(해시 계산, 스토리지 쓰기)은 제외한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class FileUploadValidationBenchmark {
+
+    private static final byte[] PNG_MAGIC = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private FileUploadService fileUploadService;
+    private MockMultipartFile image;
+    private MockMultipartFile pdf;
+    private byte[] header;
+
+    @Setup
+    public void setUp() throws IOException {
+        FileUploadProperties properties = new FileUploadProperties();
+        fileUploadService = new FileUploadService(properties,
+                new LocalBlobStore(Files.createTempDirectory("jmh-upload")));
+
+        byte[] content = Arrays.copyOf(PNG_MAGIC, 256 * 1024);
+        image = new MockMultipartFile("file", "Product_Photo.PNG", "image/png", content);
+        byte[] document = Arrays.copyOf(new byte[]{'%', 'P', 'D', 'F', '-'}, 64 * 1024);
+        pdf = new MockMultipartFile("file", "invoice.pdf", "application/pdf", document);
+        header = Arrays.copyOf(content, FileSignature.HEADER_LENGTH);
+    }
+
+    @Benchmark
+    public FileSignature validateImage() throws IOException {
+        return fileUploadService.validateFile(image);
+    }
+
+    @Benchmark
+    public FileSignature validateDocument() throws IOException {
+        return fileUploadService.validateFile(pdf);
+    }
+
+    @Benchmark
+    public Optional<FileSignature> detectSignature() {
+        return FileSignature.detect(header, header.length, FileSignature.IMAGES);
+    }
+}
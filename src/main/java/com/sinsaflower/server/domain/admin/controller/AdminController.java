@@ -2,12 +2,17 @@ package com.sinsaflower.server.domain.admin.controller;
 
 import com.sinsaflower.server.domain.admin.dto.AdminResponse;
 import com.sinsaflower.server.domain.admin.service.AdminService;
+import com.sinsaflower.server.domain.member.constants.MemberConstants;
 import com.sinsaflower.server.domain.member.dto.MemberResponse;
 import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
+import com.sinsaflower.server.domain.member.service.MemberExportService;
 import com.sinsaflower.server.domain.member.service.MemberService;
+import com.sinsaflower.server.global.dto.CursorResponse;
 import com.sinsaflower.server.global.security.CustomUserDetails;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -17,12 +22,18 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.Map;
 import java.util.Optional;
 
@@ -31,6 +42,7 @@ import java.util.Optional;
  * 멤버 승인, 관리자 관리 등의 기능 제공
  */
 @RestController
+@Lazy // 관리자 전용: 첫 요청 시 생성해 기동 시간 단축
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
 @Slf4j
@@ -39,6 +51,7 @@ public class AdminController {
 
     private final AdminService adminService;
     private final MemberService memberService;
+    private final MemberExportService memberExportService;
 
     /**
      * 내 관리자 정보 조회
@@ -76,11 +89,27 @@ public class AdminController {
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "403", description = "관리자 권한 필요")
     })
-    public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<List<MemberResponse>>> getPendingMembers(
+    public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<Page<MemberResponse>>> getPendingMembers(
+            @PageableDefault(size = MemberConstants.Paging.DEFAULT_PAGE_SIZE, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
         log.info("승인 대기 중인 멤버 목록 조회 요청 by {} (ID: {})", currentUser.getUsername(), currentUser.getUserId());
         
-        List<MemberResponse> pendingMembers = memberService.getPendingMembers();
+        Page<MemberResponse> pendingMembers = memberService.getPendingMembers(pageable);
+        return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("승인 대기 중인 멤버 목록 조회가 완료되었습니다.", pendingMembers));
+    }
+
+    /**
+     * 승인 대기 중인 멤버 목록 조회 (커서 기반)
+     */
+    @GetMapping("/members/pending/cursor")
+    @Operation(summary = "승인 대기 멤버 목록 조회 (커서)", description = "승인 대기 중인 멤버 목록을 최신 가입순 커서 방식으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<CursorResponse<MemberResponse>>> getPendingMembersByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        log.info("승인 대기 중인 멤버 목록 커서 조회 요청: cursor={} by {}", cursor, currentUser.getUsername());
+
+        CursorResponse<MemberResponse> pendingMembers = memberService.getPendingMembers(cursor, size);
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("승인 대기 중인 멤버 목록 조회가 완료되었습니다.", pendingMembers));
     }
 
@@ -193,6 +222,43 @@ public class AdminController {
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("회원 목록 조회가 완료되었습니다.", response));
     }
 
+    /**
+     * 모든 회원 조회 (커서 기반)
+     */
+    @GetMapping("/members/all/cursor")
+    @Operation(summary = "모든 회원 조회 (커서)", description = "관리자가 모든 회원을 최신 가입순 커서 방식으로 조회합니다.")
+    public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<CursorResponse<MemberResponse>>> getAllMembersByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        log.info("모든 회원 커서 조회 요청: cursor={} by admin: {}", cursor, currentUser.getUsername());
+
+        CursorResponse<MemberResponse> response = memberService.getAllActiveMembers(cursor, size);
+        return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("회원 목록 조회가 완료되었습니다.", response));
+    }
+
+    /**
+     * 회원 목록 내보내기
+     */
+    @GetMapping("/members/export")
+    @Operation(summary = "회원 목록 내보내기", description = "회원 목록을 CSV 또는 NDJSON으로 스트리밍 다운로드합니다.")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @Parameter(description = "내보내기 형식 (csv, ndjson)") @RequestParam(defaultValue = MemberConstants.Export.FORMAT_CSV) String format,
+            @Parameter(description = "회원 상태 (생략 시 전체)") @RequestParam(required = false) MemberStatus status,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        log.info("회원 목록 내보내기 요청: format={}, status={} by admin: {}", format, status, currentUser.getUsername());
+
+        memberExportService.validateFormat(format);
+        boolean csv = MemberConstants.Export.FORMAT_CSV.equals(format);
+        String filename = "members-" + LocalDate.now() + "." + (csv ? "csv" : "ndjson");
+
+        StreamingResponseBody body = outputStream -> memberExportService.export(status, format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     /**
      * 상태별 회원 조회
      */
@@ -277,4 +343,30 @@ public class AdminController {
         Map<String, Long> statistics = adminService.getMemberStatistics();
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("회원 통계 조회가 완료되었습니다.", statistics));
     }
+
+    /**
+     * 지역별 회원 통계 조회
+     */
+    @GetMapping("/members/statistics/regions")
+    @Operation(summary = "지역별 회원 통계 조회", description = "관리자가 시/도별 활성 회원 수를 조회합니다.")
+    public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<Map<String, Long>>> getMemberStatisticsByRegion(
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        log.info("지역별 회원 통계 조회 요청 by admin: {}", currentUser.getUsername());
+
+        Map<String, Long> statistics = memberService.getMemberStatisticsByRegion();
+        return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("지역별 회원 통계 조회가 완료되었습니다.", statistics));
+    }
+
+    /**
+     * 취급 상품별 회원 통계 조회
+     */
+    @GetMapping("/members/statistics/products")
+    @Operation(summary = "취급 상품별 회원 통계 조회", description = "관리자가 취급 상품별 활성 회원 수를 조회합니다.")
+    public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<Map<String, Long>>> getMemberStatisticsByProduct(
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        log.info("취급 상품별 회원 통계 조회 요청 by admin: {}", currentUser.getUsername());
+
+        Map<String, Long> statistics = memberService.getMemberStatisticsByProduct();
+        return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("취급 상품별 회원 통계 조회가 완료되었습니다.", statistics));
+    }
 } 
\ No newline at end of file
@@ -4,15 +4,19 @@ import com.sinsaflower.server.domain.admin.dto.AdminLoginRequest;
 import com.sinsaflower.server.domain.admin.dto.AdminResponse;
 import com.sinsaflower.server.domain.admin.entity.Admin;
 import com.sinsaflower.server.domain.admin.repository.AdminRepository;
+import com.sinsaflower.server.domain.member.constants.MemberConstants;
 import com.sinsaflower.server.domain.member.dto.MemberResponse;
 import com.sinsaflower.server.domain.member.entity.Member;
 import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
 import com.sinsaflower.server.domain.member.entity.MemberBusinessProfile;
 import com.sinsaflower.server.domain.member.repository.MemberRepository;
 import com.sinsaflower.server.domain.member.repository.MemberBusinessProfileRepository;
+import com.sinsaflower.server.domain.member.service.MemberStatisticsService;
+import com.sinsaflower.server.domain.member.service.NotificationSettingCache;
 import com.sinsaflower.server.global.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +35,8 @@ public class AdminService {
     private final MemberRepository memberRepository;
     private final MemberBusinessProfileRepository memberBusinessProfileRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberStatisticsService memberStatisticsService;
+    private final NotificationSettingCache notificationSettingCache;
 
     /**
      * 관리자 로그인
@@ -161,6 +167,7 @@ public class AdminService {
     /**
      * 멤버 승인 (관리자 기능)
      */
+    @CacheEvict(cacheNames = MemberConstants.CacheNames.MEMBER_PROFILE, key = "#memberId")
     @Transactional
     public MemberResponse approveMember(Long memberId) {
         log.info("멤버 승인 처리 시작: {}", memberId);
@@ -170,6 +177,7 @@ public class AdminService {
             .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
 
         // 회원 상태를 활성화로 변경
+        MemberStatus previousStatus = member.getStatus();
         member.setStatus(Member.MemberStatus.ACTIVE);
 
         // 멤버 상세 정보 승인 처리
@@ -177,6 +185,8 @@ public class AdminService {
             .orElseThrow(() -> new IllegalArgumentException("멤버 상세 정보를 찾을 수 없습니다."));
 
         businessProfile.approve("관리자"); // 관리자 1명이므로 고정값
+        memberStatisticsService.recordStatusChange(member, previousStatus);
+        notificationSettingCache.refresh(member);
 
         log.info("멤버 승인 처리 완료: {}", member.getLoginId());
         return MemberResponse.from(member);
@@ -185,6 +195,7 @@ public class AdminService {
     /**
      * 멤버 거부 (관리자 기능)
      */
+    @CacheEvict(cacheNames = MemberConstants.CacheNames.MEMBER_PROFILE, key = "#memberId")
     @Transactional
     public MemberResponse rejectMember(Long memberId, String reason) {
         log.info("멤버 승인 거부 처리 시작: {}", memberId);
@@ -235,6 +246,7 @@ public class AdminService {
     /**
      * 회원 정지
      */
+    @CacheEvict(cacheNames = MemberConstants.CacheNames.MEMBER_PROFILE, key = "#memberId")
     @Transactional
     public MemberResponse suspendMember(Long memberId) {
         log.info("회원 정지 요청: {}", memberId);
@@ -243,8 +255,11 @@ public class AdminService {
                 .filter(m -> !m.getIsDeleted())
                 .orElseThrow(() -> new ResourceNotFoundException("회원을 찾을 수 없습니다: " + memberId));
 
+        MemberStatus previousStatus = member.getStatus();
         member.suspend();
         Member suspendedMember = memberRepository.save(member);
+        memberStatisticsService.recordStatusChange(suspendedMember, previousStatus);
+        notificationSettingCache.refresh(suspendedMember);
 
         log.info("회원 정지 완료: {}", memberId);
         return MemberResponse.from(suspendedMember);
@@ -253,6 +268,7 @@ public class AdminService {
     /**
      * 회원 정지 해제
      */
+    @CacheEvict(cacheNames = MemberConstants.CacheNames.MEMBER_PROFILE, key = "#memberId")
     @Transactional
     public MemberResponse unsuspendMember(Long memberId) {
         log.info("회원 정지 해제 요청: {}", memberId);
@@ -261,8 +277,11 @@ public class AdminService {
                 .filter(m -> !m.getIsDeleted())
                 .orElseThrow(() -> new ResourceNotFoundException("회원을 찾을 수 없습니다: " + memberId));
 
+        MemberStatus previousStatus = member.getStatus();
         member.unsuspend();
         Member unsuspendedMember = memberRepository.save(member);
+        memberStatisticsService.recordStatusChange(unsuspendedMember, previousStatus);
+        notificationSettingCache.refresh(unsuspendedMember);
 
         log.info("회원 정지 해제 완료: {}", memberId);
         return MemberResponse.from(unsuspendedMember);
@@ -271,6 +290,7 @@ public class AdminService {
     /**
      * 회원 삭제 (소프트 삭제)
      */
+    @CacheEvict(cacheNames = MemberConstants.CacheNames.MEMBER_PROFILE, key = "#memberId")
     @Transactional
     public void deleteMember(Long memberId, String deletedBy) {
         log.info("회원 삭제 요청: {} by {}", memberId, deletedBy);
@@ -279,8 +299,11 @@ public class AdminService {
                 .filter(m -> !m.getIsDeleted())
                 .orElseThrow(() -> new ResourceNotFoundException("회원을 찾을 수 없습니다: " + memberId));
 
+        MemberStatus previousStatus = member.getStatus();
         member.softDelete(deletedBy);
         memberRepository.save(member);
+        memberStatisticsService.recordStatusChange(member, previousStatus);
+        notificationSettingCache.refresh(member);
 
         log.info("회원 삭제 완료: {}", memberId);
     }
@@ -289,11 +312,6 @@ public class AdminService {
      * 회원 통계 조회
      */
     public Map<String, Long> getMemberStatistics() {
-        return Map.of(
-                "pending", memberRepository.countByStatus(MemberStatus.PENDING),
-                "active", memberRepository.countByStatus(MemberStatus.ACTIVE),
-                "suspended", memberRepository.countByStatus(MemberStatus.SUSPENDED),
-                "total", memberRepository.count() - memberRepository.countByStatus(MemberStatus.DELETED)
-        );
+        return memberStatisticsService.getStatusStatistics();
     }
-} 
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package com.sinsaflower.server.domain.common;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.FilterDef;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -11,11 +12,20 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+/**
+ * 생성/수정 이력과 소프트 삭제 공통 필드
+ * 소프트 삭제 필터(NOT_DELETED_FILTER)는 모든 세션에서 자동으로 켜지며,
+ * {@code @Filter(name = BaseTimeEntity.NOT_DELETED_FILTER)}를 선언한 엔티티의 조회 쿼리에서 삭제된 행을 제외한다.
+ * ID 단건 조회(findById, 지연 로딩)에는 적용되지 않는다.
+ */
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
+@FilterDef(name = BaseTimeEntity.NOT_DELETED_FILTER, defaultCondition = "is_deleted = false", autoEnabled = true)
 @Getter @Setter
 public abstract class BaseTimeEntity {
 
+    public static final String NOT_DELETED_FILTER = "notDeleted";
+
     @CreatedDate
     @Column(nullable = false, updatable = false, columnDefinition = "TIMESTAMP")
     private LocalDateTime createdAt;
@@ -107,4 +107,20 @@ public final class MemberConstants {
         public static final String DEFAULT_SORT_FIELD = "createdAt";
         public static final String DEFAULT_SORT_DIRECTION = "desc";
     }
+
+    /**
+     * 캐시 관련 상수
+     */
+    public static class CacheNames {
+        public static final String MEMBER_PROFILE = "memberProfile"; // memberId -> MemberResponse
+    }
+
+    /**
+     * 내보내기 관련 상수
+     */
+    public static class Export {
+        public static final int CLEAR_INTERVAL = 500; // 영속성 컨텍스트 비우는 주기 (건)
+        public static final String FORMAT_CSV = "csv";
+        public static final String FORMAT_NDJSON = "ndjson";
+    }
 }
@@ -5,6 +5,7 @@ import com.sinsaflower.server.domain.member.dto.MemberResponse;
 import com.sinsaflower.server.domain.member.dto.MemberSearchResponse;
 import com.sinsaflower.server.domain.member.dto.MemberSignupRequest;
 import com.sinsaflower.server.domain.member.service.MemberService;
+import com.sinsaflower.server.domain.member.service.MemberSignupService;
 import com.sinsaflower.server.global.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -32,6 +33,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberSignupService memberSignupService;
 
     /**
      * 파트너 회원가입
@@ -67,7 +69,7 @@ public class MemberController {
             request.getBusinessProfile().setBankCertFile(bankCertFile);
         }
 
-        MemberResponse response = memberService.signUp(request);
+        MemberResponse response = memberSignupService.signUp(request);
         log.info("회원가입 성공: {} (ID: {})", response.getLoginId(), response.getId());
         
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -1,8 +1,7 @@
 package com.sinsaflower.server.domain.member.controller;
 
 import com.sinsaflower.server.domain.member.dto.DuplicateCheckResponse;
-import com.sinsaflower.server.domain.member.repository.MemberRepository;
-import com.sinsaflower.server.domain.member.repository.MemberBusinessProfileRepository;
+import com.sinsaflower.server.domain.member.service.MemberService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -26,8 +25,7 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 public class MemberValidationController {
 
-    private final MemberRepository memberRepository;
-    private final MemberBusinessProfileRepository memberBusinessProfileRepository;
+    private final MemberService memberService;
 
     @Operation(
         summary = "로그인 ID 중복 확인", 
@@ -47,7 +45,7 @@ public class MemberValidationController {
             @PathVariable String loginId) {
         log.info("로그인 ID 중복 확인 요청: {}", loginId);
         
-        boolean exists = memberRepository.existsByLoginId(loginId);
+        boolean exists = memberService.isLoginIdDuplicate(loginId);
         DuplicateCheckResponse response = exists ? 
             DuplicateCheckResponse.loginIdDuplicate() : 
             DuplicateCheckResponse.loginIdAvailable();
@@ -76,7 +74,7 @@ public class MemberValidationController {
             @PathVariable String mobile) {
         log.info("전화번호 중복 확인 요청: {}", mobile);
         
-        boolean exists = memberRepository.existsByMobile(mobile);
+        boolean exists = memberService.isMobileDuplicate(mobile);
         DuplicateCheckResponse response = exists ? 
             DuplicateCheckResponse.mobileDuplicate() : 
             DuplicateCheckResponse.mobileAvailable();
@@ -105,7 +103,7 @@ public class MemberValidationController {
             @PathVariable String businessNumber) {
         log.info("사업자등록번호 중복 확인 요청: {}", businessNumber);
         
-        boolean exists = memberBusinessProfileRepository.existsByBusinessNumber(businessNumber);
+        boolean exists = memberService.isBusinessNumberDuplicate(businessNumber);
         DuplicateCheckResponse response = exists ? 
             DuplicateCheckResponse.businessNumberDuplicate() : 
             DuplicateCheckResponse.businessNumberAvailable();
@@ -0,0 +1,52 @@
+package com.sinsaflower.server.domain.member.dto;
+
+import com.sinsaflower.server.domain.member.entity.Member;
+import com.sinsaflower.server.domain.member.entity.MemberBusinessProfile;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 내보내기(CSV/NDJSON) 행 DTO
+ */
+public record MemberExportRow(
+        Long id,
+        String loginId,
+        String name,
+        String nickname,
+        String mobile,
+        String status,
+        String corpName,
+        String businessNumber,
+        String approvalStatus,
+        LocalDateTime createdAt,
+        LocalDateTime lastLoginAt
+) {
+    public static final String[] CSV_HEADER = {
+            "id", "loginId", "name", "nickname", "mobile", "status",
+            "corpName", "businessNumber", "approvalStatus", "createdAt", "lastLoginAt"
+    };
+
+    public static MemberExportRow from(Member member) {
+        MemberBusinessProfile profile = member.getBusinessProfile();
+        return new MemberExportRow(
+                member.getId(),
+                member.getLoginId(),
+                member.getName(),
+                member.getNickname(),
+                member.getMobile(),
+                member.getStatus().name(),
+                profile != null ? profile.getCorpName() : null,
+                profile != null ? profile.getBusinessNumber() : null,
+                profile != null && profile.getApprovalStatus() != null ? profile.getApprovalStatus().name() : null,
+                member.getCreatedAt(),
+                member.getLastLoginAt()
+        );
+    }
+
+    public Object[] toCsvValues() {
+        return new Object[]{
+                id, loginId, name, nickname, mobile, status,
+                corpName, businessNumber, approvalStatus, createdAt, lastLoginAt
+        };
+    }
+}
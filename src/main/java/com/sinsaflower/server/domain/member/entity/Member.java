@@ -16,7 +16,7 @@ import java.util.List;
 @Entity
 @Table(name = "member", indexes = {
     @Index(name = "idx_login_id", columnList = "loginId"),
-    @Index(name = "idx_status", columnList = "status")
+    @Index(name = "idx_status", columnList = "status, isDeleted")
 })
 @Getter @Setter
 @NoArgsConstructor
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "member_activity_region")
+@Table(name = "member_activity_region", indexes = {
+    @Index(name = "idx_activity_region_member", columnList = "member_id")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
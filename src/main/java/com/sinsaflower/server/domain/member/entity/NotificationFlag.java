@@ -0,0 +1,70 @@
+package com.sinsaflower.server.domain.member.entity;
+
+/**
+ * 알림 설정 항목 (NotificationSetting.flags의 비트 위치)
+ * 저장된 값의 의미가 바뀌지 않도록 위치는 한 번 정하면 변경하지 않는다 (새 항목은 뒤에 추가).
+ * 알림 설정 캐시가 하위 32비트만 사용하므로 위치는 0~31 범위로 둔다.
+ */
+public enum NotificationFlag {
+
+    // SMS 알림
+    SMS_ORDER_CREATED(0, true),
+    SMS_ORDER_CANCELED(1, true),
+    SMS_DELIVERY_STARTED(2, true),
+    SMS_DELIVERY_COMPLETED(3, true),
+    SMS_PAYMENT_COMPLETED(4, true),
+
+    // 전화 알림
+    CALL_ORDER_CREATED(5, false),
+    CALL_DELIVERY_STARTED(6, false),
+    CALL_EMERGENCY_ONLY(7, true),
+
+    // 이메일 알림
+    EMAIL_ORDER_CREATED(8, false),
+    EMAIL_ORDER_CANCELED(9, false),
+    EMAIL_WEEKLY_REPORT(10, true),
+    EMAIL_MONTHLY_REPORT(11, true),
+
+    // 푸시 알림
+    PUSH_ORDER_CREATED(12, true),
+    PUSH_DELIVERY_STARTED(13, true),
+    PUSH_SYSTEM_NOTICE(14, true),
+
+    // 알림 허용 시간대와 무관하게 야간에도 발송
+    NIGHT_TIME_NOTIFICATION(15, false);
+
+    /**
+     * 신규 회원 기본 설정
+     */
+    public static final long DEFAULT_MASK = defaultMask();
+
+    private final long mask;
+    private final boolean enabledByDefault;
+
+    NotificationFlag(int position, boolean enabledByDefault) {
+        this.mask = 1L << position;
+        this.enabledByDefault = enabledByDefault;
+    }
+
+    public long mask() {
+        return mask;
+    }
+
+    public boolean isSetIn(long flags) {
+        return (flags & mask) != 0;
+    }
+
+    public long applyTo(long flags, boolean enabled) {
+        return enabled ? flags | mask : flags & ~mask;
+    }
+
+    private static long defaultMask() {
+        long flags = 0L;
+        for (NotificationFlag flag : values()) {
+            if (flag.enabledByDefault) {
+                flags |= flag.mask;
+            }
+        }
+        return flags;
+    }
+}
@@ -2,8 +2,12 @@ package com.sinsaflower.server.domain.member.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
-import java.time.LocalDateTime;
 
+/**
+ * 회원 알림 설정
+ * 항목별 수신 여부는 NotificationFlag 비트로 묶어 flags 한 컬럼에 저장한다.
+ * 발송 판단은 NotificationSettingCache를 통해 엔티티 조회 없이 처리한다.
+ */
 @Entity
 @Table(name = "notification_setting")
 @Getter
@@ -21,87 +25,55 @@ public class NotificationSetting {
     @JoinColumn(name = "member_id", nullable = false, unique = true)
     private Member member;
 
-    // SMS 알림 설정
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean smsOrderCreated = true;
-
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean smsOrderCanceled = true;
-
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean smsDeliveryStarted = true;
-
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean smsDeliveryCompleted = true;
-
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean smsPaymentCompleted = true;
-
-    // 전화 알림 설정
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean callOrderCreated = false;
-
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean callDeliveryStarted = false;
-
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean callEmergencyOnly = true;
-
-    // 이메일 알림 설정
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean emailOrderCreated = false;
-
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean emailOrderCanceled = false;
-
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean emailWeeklyReport = true;
-
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean emailMonthlyReport = true;
-
-    // 푸시 알림 설정
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean pushOrderCreated = true;
-
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean pushDeliveryStarted = true;
-
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean pushSystemNotice = true;
+    // 알림 항목별 수신 여부 (NotificationFlag 비트)
+    @Column(nullable = false)
+    @Builder.Default
+    private long flags = NotificationFlag.DEFAULT_MASK;
 
     // 알림 시간 설정
     @Column(length = 5)
+    @Builder.Default
     private String notificationStartTime = "09:00";
 
     @Column(length = 5)
+    @Builder.Default
     private String notificationEndTime = "21:00";
 
-    @Column(nullable = true, columnDefinition = "BOOLEAN DEFAULT FALSE")
-    private Boolean nightTimeNotification = false;
-    
     // 비즈니스 메서드
+    public boolean isEnabled(NotificationFlag flag) {
+        return flag.isSetIn(flags);
+    }
+
+    public void setEnabled(NotificationFlag flag, boolean enabled) {
+        this.flags = flag.applyTo(flags, enabled);
+    }
+
     public void enableAllSmsNotifications() {
-        this.smsOrderCreated = true;
-        this.smsOrderCanceled = true;
-        this.smsDeliveryStarted = true;
-        this.smsDeliveryCompleted = true;
-        this.smsPaymentCompleted = true;
+        setAllSmsNotifications(true);
     }
 
     public void disableAllSmsNotifications() {
-        this.smsOrderCreated = false;
-        this.smsOrderCanceled = false;
-        this.smsDeliveryStarted = false;
-        this.smsDeliveryCompleted = false;
-        this.smsPaymentCompleted = false;
+        setAllSmsNotifications(false);
+    }
+
+    private void setAllSmsNotifications(boolean enabled) {
+        setEnabled(NotificationFlag.SMS_ORDER_CREATED, enabled);
+        setEnabled(NotificationFlag.SMS_ORDER_CANCELED, enabled);
+        setEnabled(NotificationFlag.SMS_DELIVERY_STARTED, enabled);
+        setEnabled(NotificationFlag.SMS_DELIVERY_COMPLETED, enabled);
+        setEnabled(NotificationFlag.SMS_PAYMENT_COMPLETED, enabled);
     }
 
     public boolean isNotificationTimeValid(String currentTime) {
-        if (nightTimeNotification) {
+        if (isEnabled(NotificationFlag.NIGHT_TIME_NOTIFICATION)) {
             return true;
         }
-        return currentTime.compareTo(notificationStartTime) >= 0 &&
-                currentTime.compareTo(notificationEndTime) <= 0;
+        boolean afterStart = currentTime.compareTo(notificationStartTime) >= 0;
+        boolean beforeEnd = currentTime.compareTo(notificationEndTime) <= 0;
+        // 시작이 종료보다 늦으면 자정을 넘기는 시간대 (예: 22:00 ~ 07:00)
+        if (notificationStartTime.compareTo(notificationEndTime) > 0) {
+            return afterStart || beforeEnd;
+        }
+        return afterStart && beforeEnd;
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import com.sinsaflower.server.domain.member.entity.MemberBankAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,4 +46,8 @@ public interface MemberBankAccountRepository extends JpaRepository<MemberBankAcc
     
     // 비활성화된 계좌 조회
     List<MemberBankAccount> findByBusinessProfileIdAndIsActiveFalse(Long businessProfileId);
-} 
\ No newline at end of file
+
+    // 주어진 경로 중 은행 인증서로 참조되는 경로 (미사용 파일 정리용)
+    @Query("SELECT mba.bankCertFilePath FROM MemberBankAccount mba WHERE mba.bankCertFilePath IN :paths")
+    List<String> findReferencedBankCertFilePaths(@Param("paths") Collection<String> paths);
+}
@@ -2,10 +2,15 @@ package com.sinsaflower.server.domain.member.repository;
 
 import com.sinsaflower.server.domain.member.entity.MemberBusinessProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MemberBusinessProfileRepository extends JpaRepository<MemberBusinessProfile, Long> {
     
@@ -18,6 +23,11 @@ public interface MemberBusinessProfileRepository extends JpaRepository<MemberBus
     // 사업자등록번호 중복 확인
     boolean existsByBusinessNumber(String businessNumber);
     
+    // 전체 사업자등록번호 (중복 확인 필터 구성용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT mbp.businessNumber FROM MemberBusinessProfile mbp")
+    Stream<String> streamAllBusinessNumbers();
+    
     // 승인 상태로 조회
     List<MemberBusinessProfile> findByApprovalStatus(MemberBusinessProfile.ApprovalStatus approvalStatus);
     
@@ -42,4 +52,8 @@ public interface MemberBusinessProfileRepository extends JpaRepository<MemberBus
     
     // 회원 ID로 삭제
     void deleteByMemberId(Long memberId);
-} 
\ No newline at end of file
+
+    // 주어진 경로 중 사업자등록증으로 참조되는 경로 (미사용 파일 정리용)
+    @Query("SELECT mbp.businessCertFilePath FROM MemberBusinessProfile mbp WHERE mbp.businessCertFilePath IN :paths")
+    List<String> findReferencedBusinessCertFilePaths(@Param("paths") Collection<String> paths);
+}
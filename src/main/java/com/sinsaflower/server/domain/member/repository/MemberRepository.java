@@ -5,13 +5,20 @@ import com.sinsaflower.server.domain.member.entity.Member;
 import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
@@ -28,24 +35,61 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     // 전화번호 중복 확인
     boolean existsByMobile(String mobile);
     
+    // 전체 로그인 ID/전화번호 (중복 확인 필터 구성용, 삭제 회원 포함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT m.loginId FROM Member m")
+    Stream<String> streamAllLoginIds();
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT m.mobile FROM Member m WHERE m.mobile IS NOT NULL")
+    Stream<String> streamAllMobiles();
+    
     // 개별 필드로 회원 조회
     Optional<Member> findByNickname(String nickname);
     Optional<Member> findByMobile(String mobile);
     
-    // 회원 상태별 조회
-    List<Member> findByStatus(MemberStatus status);
+    // 회원 상태별 조회 (사업자 정보 함께 조회)
+    @EntityGraph(attributePaths = "businessProfile")
     Page<Member> findByStatus(MemberStatus status, Pageable pageable);
     
+    // 회원 상태별 키셋 조회 (id 내림차순, cursorId 미만)
+    @EntityGraph(attributePaths = "businessProfile")
+    @Query("SELECT m FROM Member m WHERE m.status = :status AND m.isDeleted = false AND m.id < :cursorId ORDER BY m.id DESC")
+    List<Member> findByStatusBeforeCursor(@Param("status") MemberStatus status, @Param("cursorId") Long cursorId, Pageable pageable);
+    
+    // 삭제되지 않은 회원 키셋 조회 (id 내림차순, cursorId 미만)
+    @EntityGraph(attributePaths = "businessProfile")
+    @Query("SELECT m FROM Member m WHERE m.isDeleted = false AND m.id < :cursorId ORDER BY m.id DESC")
+    List<Member> findActiveBeforeCursor(@Param("cursorId") Long cursorId, Pageable pageable);
+    
+    // 내보내기용 스트리밍 조회 (전체)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM Member m LEFT JOIN FETCH m.businessProfile WHERE m.isDeleted = false ORDER BY m.id")
+    Stream<Member> streamAllForExport();
+    
+    // 내보내기용 스트리밍 조회 (상태별)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM Member m LEFT JOIN FETCH m.businessProfile WHERE m.status = :status AND m.isDeleted = false ORDER BY m.id")
+    Stream<Member> streamByStatusForExport(@Param("status") MemberStatus status);
+    
     // 로그인 ID와 상태로 조회
     Optional<Member> findByLoginIdAndStatus(String loginId, MemberStatus status);
     
     // 삭제되지 않은 회원만 조회
-    @Query("SELECT DISTINCT m FROM Member m LEFT JOIN FETCH m.businessProfile bp LEFT JOIN FETCH bp.bankAccounts WHERE m.isDeleted = false ORDER BY m.createdAt DESC")
-    List<Member> findAllActive();
-    
-    @Query(value = "SELECT DISTINCT m FROM Member m LEFT JOIN FETCH m.businessProfile bp LEFT JOIN FETCH bp.bankAccounts WHERE m.isDeleted = false ORDER BY m.createdAt DESC",
+    // 삭제되지 않은 회원 ID 페이징 조회 (컬렉션 fetch join 없이 DB에서 페이징)
+    @Query(value = "SELECT m.id FROM Member m WHERE m.isDeleted = false",
            countQuery = "SELECT count(m) FROM Member m WHERE m.isDeleted = false")
-    Page<Member> findAllActive(Pageable pageable);
+    Page<Long> findActiveIds(Pageable pageable);
+    
+    // ID 목록으로 사업자 정보/계좌까지 함께 조회 (그 사이 삭제된 회원 제외)
+    @Query("SELECT DISTINCT m FROM Member m LEFT JOIN FETCH m.businessProfile bp LEFT JOIN FETCH bp.bankAccounts WHERE m.id IN :ids AND m.isDeleted = false")
+    List<Member> findAllWithBusinessProfileByIdIn(@Param("ids") Collection<Long> ids);
     
     // 활성 회원 중 로그인 ID로 조회
     @Query("SELECT m FROM Member m WHERE m.loginId = :loginId AND m.isDeleted = false")
@@ -152,6 +196,22 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("SELECT COUNT(m) FROM Member m WHERE m.status = :status AND m.isDeleted = false")
     long countByStatus(@Param("status") MemberStatus status);
     
+    // 상태별 회원 수 (통계 재집계용)
+    @Query("SELECT m.status, COUNT(m) FROM Member m WHERE m.isDeleted = false GROUP BY m.status")
+    List<Object[]> countGroupByStatus();
+    
+    // 활성 회원별 활동 시/도 (통계 재집계용)
+    @Query("SELECT DISTINCT m.id, ar.sido FROM Member m " +
+           "JOIN m.activityRegions ar " +
+           "WHERE m.status = 'ACTIVE' AND m.isDeleted = false AND COALESCE(ar.isActive, true) = true")
+    List<Object[]> findActiveMemberSidos();
+    
+    // 활성 회원별 취급 상품 (통계 재집계용)
+    @Query("SELECT DISTINCT m.id, hp.productType FROM Member m " +
+           "JOIN m.handlingProducts hp " +
+           "WHERE m.status = 'ACTIVE' AND m.isDeleted = false AND hp.isActive = true")
+    List<Object[]> findActiveMemberProductTypes();
+    
     // 사업자등록번호로 중복 확인 (파트너 회원 전용)
     @Query("SELECT COUNT(m) > 0 FROM Member m LEFT JOIN m.businessProfile mbp WHERE mbp.businessNumber = :businessNumber")
     boolean existsByBusinessNumber(@Param("businessNumber") String businessNumber);
@@ -0,0 +1,133 @@
+package com.sinsaflower.server.domain.member.service;
+
+import com.sinsaflower.server.domain.member.repository.MemberBusinessProfileRepository;
+import com.sinsaflower.server.domain.member.repository.MemberRepository;
+import com.sinsaflower.server.global.util.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/**
+ * 회원 가입 중복 확인용 블룸 필터
+ * 로그인 ID/전화번호/사업자등록번호가 필터에 없으면 DB 조회 없이 사용 가능으로 판단하고,
+ * 있을 수도 있는 경우에만 DB(유니크 인덱스) 조회로 확정한다.
+ * 삭제(소프트 삭제) 회원의 값도 DB 중복 확인 대상이므로 필터에서 제거하지 않으며,
+ * 주기적으로 재구성하여 실제 데이터와 맞춘다.
+ * 재구성 중 커밋되는 가입분이 누락되지 않도록 최근 등록 값을 새 필터에 다시 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberDuplicateFilter {
+
+    private final MemberRepository memberRepository;
+    private final MemberBusinessProfileRepository businessProfileRepository;
+
+    @Value("${member.duplicate-filter.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${member.duplicate-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // 재구성 시 DB 스냅샷에 아직 커밋되지 않은 가입분을 다시 반영하기 위한 보관 기간
+    private static final long REPLAY_RETENTION_MILLIS = 10 * 60 * 1000L;
+
+    // 구성 완료 전에는 null (모든 조회를 DB로 전달)
+    private volatile Filters current;
+
+    // 최근 등록 값 (재구성 직후 새 필터에 다시 반영)
+    private final Queue<Registration> recentRegistrations = new ConcurrentLinkedQueue<>();
+
+    public boolean mightContainLoginId(String loginId) {
+        Filters filters = current;
+        return filters == null || loginId == null || filters.loginIds.mightContain(loginId);
+    }
+
+    public boolean mightContainMobile(String mobile) {
+        Filters filters = current;
+        return filters == null || mobile == null || filters.mobiles.mightContain(mobile);
+    }
+
+    public boolean mightContainBusinessNumber(String businessNumber) {
+        Filters filters = current;
+        return filters == null || businessNumber == null || filters.businessNumbers.mightContain(businessNumber);
+    }
+
+    /**
+     * 가입 값 등록
+     * 롤백되더라도 오탐만 늘어날 뿐 결과가 틀리지 않으므로 즉시 반영
+     */
+    public void register(String loginId, String mobile, String businessNumber) {
+        Registration registration = new Registration(System.currentTimeMillis(), loginId, mobile, businessNumber);
+        recentRegistrations.add(registration);
+
+        Filters filters = current;
+        if (filters != null) {
+            filters.put(registration);
+        }
+    }
+
+    /**
+     * DB 기준으로 필터 재구성 (기동 직후 및 주기적으로 실행)
+     */
+    @Scheduled(fixedDelayString = "${member.duplicate-filter.rebuild-interval:3600000}")
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        long memberCount = memberRepository.count();
+        Filters next = new Filters(Math.max(expectedInsertions, memberCount * 2), falsePositiveRate);
+
+        try (Stream<String> loginIds = memberRepository.streamAllLoginIds()) {
+            loginIds.forEach(next.loginIds::put);
+        }
+        try (Stream<String> mobiles = memberRepository.streamAllMobiles()) {
+            mobiles.forEach(next.mobiles::put);
+        }
+        try (Stream<String> businessNumbers = businessProfileRepository.streamAllBusinessNumbers()) {
+            businessNumbers.forEach(next.businessNumbers::put);
+        }
+
+        // 최근 등록분 재반영 (스냅샷 이후 커밋된 가입 포함), 교체 직전 등록분까지 교체 후 한 번 더 반영
+        recentRegistrations.forEach(next::put);
+        current = next;
+        recentRegistrations.forEach(next::put);
+        recentRegistrations.removeIf(r -> r.registeredAt() < startedAt - REPLAY_RETENTION_MILLIS);
+
+        log.info("회원 중복 확인 필터 구성 완료: 회원 {}명, 필터당 {}bit, 해시 {}개",
+                memberCount, next.loginIds.getBitSize(), next.loginIds.getHashCount());
+    }
+
+    private static class Filters {
+        private final BloomFilter loginIds;
+        private final BloomFilter mobiles;
+        private final BloomFilter businessNumbers;
+
+        private Filters(long expectedInsertions, double falsePositiveRate) {
+            this.loginIds = new BloomFilter(expectedInsertions, falsePositiveRate);
+            this.mobiles = new BloomFilter(expectedInsertions, falsePositiveRate);
+            this.businessNumbers = new BloomFilter(expectedInsertions, falsePositiveRate);
+        }
+
+        private void put(Registration registration) {
+            if (registration.loginId() != null) {
+                loginIds.put(registration.loginId());
+            }
+            if (registration.mobile() != null) {
+                mobiles.put(registration.mobile());
+            }
+            if (registration.businessNumber() != null) {
+                businessNumbers.put(registration.businessNumber());
+            }
+        }
+    }
+
+    private record Registration(long registeredAt, String loginId, String mobile, String businessNumber) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.sinsaflower.server.domain.member.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinsaflower.server.domain.member.constants.MemberConstants;
+import com.sinsaflower.server.domain.member.dto.MemberExportRow;
+import com.sinsaflower.server.domain.member.entity.Member;
+import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
+import com.sinsaflower.server.domain.member.repository.MemberRepository;
+import com.sinsaflower.server.global.datasource.ReportQuery;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 회원 목록 내보내기 서비스
+ * JPA Stream으로 한 건씩 읽어 바로 출력하고, 주기적으로 영속성 컨텍스트를 비워 회원 수와 무관하게 일정한 메모리로 동작
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberExportService {
+
+    private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내보내기 형식 검증
+     */
+    public void validateFormat(String format) {
+        if (!MemberConstants.Export.FORMAT_CSV.equals(format) && !MemberConstants.Export.FORMAT_NDJSON.equals(format)) {
+            throw InvalidRequestException.invalidParameter("format", "csv 또는 ndjson만 지원합니다");
+        }
+    }
+
+    /**
+     * 회원 목록 내보내기
+     *
+     * @param status 회원 상태 (null이면 삭제되지 않은 전체 회원)
+     * @param format csv 또는 ndjson
+     * @return 내보낸 회원 수
+     */
+    @ReportQuery
+    @Transactional(readOnly = true)
+    public long export(MemberStatus status, String format, OutputStream outputStream) throws IOException {
+        validateFormat(format);
+        boolean csv = MemberConstants.Export.FORMAT_CSV.equals(format);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (csv) {
+            writer.write('\uFEFF'); // 엑셀 한글 깨짐 방지용 BOM
+            writeCsvLine(writer, MemberExportRow.CSV_HEADER);
+        }
+
+        long count = 0;
+        try (Stream<Member> members = status == null
+                ? memberRepository.streamAllForExport()
+                : memberRepository.streamByStatusForExport(status)) {
+
+            Iterator<Member> iterator = members.iterator();
+            while (iterator.hasNext()) {
+                MemberExportRow row = MemberExportRow.from(iterator.next());
+                if (csv) {
+                    writeCsvLine(writer, row.toCsvValues());
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+
+                if (++count % MemberConstants.Export.CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        log.info("회원 내보내기 완료: {}건 (format: {}, status: {})", count, format, status);
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof String && startsWithFormulaPrefix(text)) {
+            text = "'" + text; // 스프레드시트 수식 실행 방지 (CSV injection)
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private static boolean startsWithFormulaPrefix(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
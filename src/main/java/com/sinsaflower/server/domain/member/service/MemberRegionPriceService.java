@@ -1,9 +1,11 @@
 package com.sinsaflower.server.domain.member.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.sinsaflower.server.domain.member.constants.MemberConstants;
 import com.sinsaflower.server.domain.member.dto.*;
 import com.sinsaflower.server.domain.member.entity.*;
 import com.sinsaflower.server.domain.member.repository.*;
@@ -11,7 +13,11 @@ import com.sinsaflower.server.domain.product.entity.MemberProductPrice;
 import com.sinsaflower.server.domain.product.repository.MemberProductPriceRepository;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -22,7 +28,9 @@ public class MemberRegionPriceService {
     private final MemberRepository memberRepository;
     private final MemberActivityRegionRepository regionRepository;
     private final MemberProductPriceRepository priceRepository;
+    private final MemberStatisticsService memberStatisticsService;
 
+    @CacheEvict(cacheNames = MemberConstants.CacheNames.MEMBER_PROFILE, key = "#memberId")
     public void save(Long memberId, List<MemberRegionPriceRequest> requests) {
 
         Member member = memberRepository.findById(memberId)
@@ -35,6 +43,11 @@ public class MemberRegionPriceService {
         member.getProductPrices()
                 .forEach(p -> p.setIsAvailable(false));
 
+        // 기존 가격은 이미 불러온 컬렉션에서 찾음 (가격마다 조회하지 않아 트랜잭션이 연결을 오래 잡지 않도록)
+        Map<String, MemberProductPrice> existingPrices = new HashMap<>();
+        member.getProductPrices()
+                .forEach(p -> existingPrices.put(priceKey(p.getSido(), p.getSigungu(), p.getCategoryName()), p));
+
         /* 2️⃣ 신규 데이터 저장 */
         for (MemberRegionPriceRequest regionReq : requests) {
 
@@ -51,20 +64,15 @@ public class MemberRegionPriceService {
             // 상품 가격 (UPSERT)
             for (MemberProductPriceRequest priceReq : regionReq.getPrices()) {
 
-                MemberProductPrice price = priceRepository
-                        .findByMemberIdAndSidoAndSigunguAndCategoryName(
-                                memberId,
-                                regionReq.getSido(),
-                                regionReq.getSigungu(),
-                                priceReq.getCategoryName()
-                        )
-                        .orElseGet(() -> MemberProductPrice.builder()
+                MemberProductPrice price = existingPrices.computeIfAbsent(
+                        priceKey(regionReq.getSido(), regionReq.getSigungu(), priceReq.getCategoryName()),
+                        key -> MemberProductPrice.builder()
                                 .member(member)
                                 .sido(regionReq.getSido())
                                 .sigungu(regionReq.getSigungu())
                                 .categoryName(priceReq.getCategoryName())
                                 .build()
-                        );
+                );
 
                 price.setPrice(BigDecimal.valueOf(priceReq.getPrice()));
                 price.setIsAvailable(
@@ -75,6 +83,13 @@ public class MemberRegionPriceService {
                 priceRepository.save(price);
             }
         }
+
+        /* 3️⃣ 지역별 회원 통계 반영 */
+        Set<String> handledSidos = requests.stream()
+                .filter(r -> Boolean.TRUE.equals(r.getHandled()))
+                .map(MemberRegionPriceRequest::getSido)
+                .collect(Collectors.toSet());
+        memberStatisticsService.recordRegionsChanged(member, handledSidos);
     }
 
     @Transactional(readOnly = true)
@@ -118,4 +133,8 @@ public class MemberRegionPriceService {
                 })
                 .toList();
     }
+
+    private static String priceKey(String sido, String sigungu, String categoryName) {
+        return sido + "|" + sigungu + "|" + categoryName;
+    }
 }
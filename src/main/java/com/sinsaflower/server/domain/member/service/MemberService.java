@@ -9,12 +9,17 @@ import com.sinsaflower.server.domain.member.repository.*;
 import com.sinsaflower.server.domain.product.entity.MemberProductPrice;
 import com.sinsaflower.server.domain.product.repository.MemberProductPriceRepository;
 import com.sinsaflower.server.domain.common.Address;
+import com.sinsaflower.server.global.dto.CursorResponse;
 import com.sinsaflower.server.global.exception.ResourceNotFoundException;
-import com.sinsaflower.server.global.service.FileUploadService;
+import com.sinsaflower.server.global.service.StagedFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -24,6 +29,8 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -37,14 +44,26 @@ public class MemberService {
     private final MemberProductPriceRepository productPriceRepository;
     private final MemberActivityRegionRepository activityRegionRepository;
     private final NotificationSettingRepository notificationSettingRepository;
-    private final FileUploadService fileUploadService;
+    private final NotificationSettingCache notificationSettingCache;
     private final PasswordEncoder passwordEncoder;
+    private final MemberStatisticsService memberStatisticsService;
+    private final MemberDuplicateFilter memberDuplicateFilter;
 
     /**
-     * 회원 가입 처리
+     * 회원 가입 처리 (첨부 파일 없음)
+     * 첨부 파일이 있는 가입은 MemberSignupService를 통해 처리
      */
     @Transactional
     public MemberResponse signUp(MemberSignupRequest request) {
+        return signUp(request, SignupFiles.none());
+    }
+
+    /**
+     * 회원 가입 처리
+     * 첨부 파일은 트랜잭션 전에 저장소에 저장된 상태로 전달받음
+     */
+    @Transactional
+    public MemberResponse signUp(MemberSignupRequest request, SignupFiles files) {
         log.info("회원 가입 요청 처리: {}", request.getLoginId());
 
         // 1. 중복 검증
@@ -54,11 +73,11 @@ public class MemberService {
         Member member = createMember(request);
 
         // 3. 사업자 프로필 생성
-        MemberBusinessProfile businessProfile = createBusinessProfile(member, request.getBusinessProfile());
+        MemberBusinessProfile businessProfile = createBusinessProfile(member, request.getBusinessProfile(), files.businessCert());
 
-        // 4. 계좌 정보 생성
+        // 4. 계좌 정보 생성 (계좌 정보가 없으면 통장 사본은 참조되지 않아 OrphanFileCollector가 회수)
         if (isValidBankInfo(request.getBusinessProfile())) {
-            createBankAccount(businessProfile, request.getBusinessProfile());
+            createBankAccount(businessProfile, request.getBusinessProfile(), files.bankCert());
         }
 
         // 5. 활동 지역 생성
@@ -67,13 +86,17 @@ public class MemberService {
         // 6. 상품 가격 정보 생성
         createProductPrices(member, request);
 
+        memberStatisticsService.recordSignup();
+        memberDuplicateFilter.register(member.getLoginId(), member.getMobile(), businessProfile.getBusinessNumber());
+
         log.info("회원 가입 완료: {} (ID: {})", member.getLoginId(), member.getId());
         return convertToResponse(member);
     }
 
     /**
-     * 회원 정보 조회
+     * 회원 정보 조회 (memberId 기준 캐시)
      */
+    @Cacheable(cacheNames = MemberConstants.CacheNames.MEMBER_PROFILE, key = "#memberId")
     @Transactional(readOnly = true)
     public MemberResponse getMemberInfo(Long memberId) {
         Member member = memberRepository.findById(memberId)
@@ -96,16 +119,31 @@ public class MemberService {
     /**
      * 로그인 ID 중복 확인
      */
-    @Transactional(readOnly = true)
     public boolean isLoginIdDuplicate(String loginId) {
+        // 필터에 없으면 확실히 사용 가능
+        if (!memberDuplicateFilter.mightContainLoginId(loginId)) {
+            return false;
+        }
         return memberRepository.existsByLoginId(loginId);
     }
 
+    /**
+     * 전화번호 중복 확인
+     */
+    public boolean isMobileDuplicate(String mobile) {
+        if (!memberDuplicateFilter.mightContainMobile(mobile)) {
+            return false;
+        }
+        return memberRepository.existsByMobile(mobile);
+    }
+
     /**
      * 사업자등록번호 중복 확인
      */
-    @Transactional(readOnly = true)
     public boolean isBusinessNumberDuplicate(String businessNumber) {
+        if (!memberDuplicateFilter.mightContainBusinessNumber(businessNumber)) {
+            return false;
+        }
         return businessProfileRepository.existsByBusinessNumber(businessNumber);
     }
 
@@ -113,11 +151,20 @@ public class MemberService {
      * 승인 대기 중인 멤버 목록 조회
      */
     @Transactional(readOnly = true)
-    public List<MemberResponse> getPendingMembers() {
-        List<Member> pendingMembers = memberRepository.findByStatus(Member.MemberStatus.PENDING);
-        return pendingMembers.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public Page<MemberResponse> getPendingMembers(Pageable pageable) {
+        return memberRepository.findByStatus(Member.MemberStatus.PENDING, pageable)
+                .map(this::convertToResponse);
+    }
+
+    /**
+     * 승인 대기 중인 멤버 목록 조회 (커서 기반)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<MemberResponse> getPendingMembers(Long cursor, int size) {
+        int limit = normalizeCursorSize(size);
+        List<Member> members = memberRepository.findByStatusBeforeCursor(
+                Member.MemberStatus.PENDING, toCursorId(cursor), PageRequest.of(0, limit + 1));
+        return CursorResponse.of(members.stream().map(this::convertToResponse).toList(), limit, MemberResponse::getId);
     }
 
     /**
@@ -153,7 +200,8 @@ public class MemberService {
     /**
      * 사업자 프로필 생성
      */
-    private MemberBusinessProfile createBusinessProfile(Member member, MemberSignupRequest.BusinessProfileRequest request) {
+    private MemberBusinessProfile createBusinessProfile(Member member, MemberSignupRequest.BusinessProfileRequest request,
+                                                       StagedFile businessCertFile) {
         MemberBusinessProfile profile = MemberBusinessProfile.builder()
                 .member(member)
                 .businessNumber(request.getBusinessNumber())
@@ -167,15 +215,9 @@ public class MemberService {
                 .approvalStatus(MemberBusinessProfile.ApprovalStatus.PENDING)
                 .build();
 
-        // 파일 업로드 처리
-        if (request.getBusinessCertFile() != null && !request.getBusinessCertFile().isEmpty()) {
-            try {
-                String filePath = fileUploadService.saveFile(request.getBusinessCertFile(), "business-cert");
-                profile.setBusinessCertFilePath(filePath);
-            } catch (Exception e) {
-                log.error("사업자등록증 파일 업로드 실패: {}", e.getMessage());
-                throw new RuntimeException("파일 업로드 중 오류가 발생했습니다.", e);
-            }
+        // 사업자등록증 (미리 저장된 경로)
+        if (businessCertFile != null) {
+            profile.setBusinessCertFilePath(businessCertFile.relativePath());
         }
 
         return businessProfileRepository.save(profile);
@@ -184,7 +226,8 @@ public class MemberService {
     /**
      * 계좌 정보 생성
      */
-    private void createBankAccount(MemberBusinessProfile profile, MemberSignupRequest.BusinessProfileRequest request) {
+    private void createBankAccount(MemberBusinessProfile profile, MemberSignupRequest.BusinessProfileRequest request,
+                                   StagedFile bankCertFile) {
         MemberBankAccount account = MemberBankAccount.builder()
                 .businessProfile(profile)
                 .bankName(request.getBankName())
@@ -194,15 +237,9 @@ public class MemberService {
                 .isActive(true)
                 .build();
 
-        // 통장 사본 파일 업로드
-        if (request.getBankCertFile() != null && !request.getBankCertFile().isEmpty()) {
-            try {
-                String filePath = fileUploadService.saveFile(request.getBankCertFile(), "bank-cert");
-                account.setBankCertFilePath(filePath);
-            } catch (Exception e) {
-                log.error("통장사본 파일 업로드 실패: {}", e.getMessage());
-                throw new RuntimeException("파일 업로드 중 오류가 발생했습니다.", e);
-            }
+        // 통장 사본 (미리 저장된 경로)
+        if (bankCertFile != null) {
+            account.setBankCertFilePath(bankCertFile.relativePath());
         }
 
         bankAccountRepository.save(account);
@@ -256,21 +293,10 @@ public class MemberService {
     private void createNotificationSetting(Member member) {
         NotificationSetting setting = NotificationSetting.builder()
                 .member(member)
-                .smsOrderCreated(true)
-                .smsOrderCanceled(true)
-                .smsDeliveryStarted(true)
-                .smsDeliveryCompleted(true)
-                .smsPaymentCompleted(true)
-                .emailOrderCreated(false)
-                .emailOrderCanceled(false)
-                .emailWeeklyReport(true)
-                .emailMonthlyReport(true)
-                .pushOrderCreated(true)
-                .pushDeliveryStarted(true)
-                .pushSystemNotice(true)
                 .build();
 
         notificationSettingRepository.save(setting);
+        notificationSettingCache.update(setting);
     }
 
     /**
@@ -359,11 +385,26 @@ public class MemberService {
                 .map(MemberSearchBaseDto::getMemberId)
                 .toList();
 
+        return new PageImpl<>(
+                assembleSearchResults(basePage.getContent(), productPriceRepository.findProductPrices(memberIds)),
+                pageable,
+                basePage.getTotalElements()
+        );
+    }
+
+    /**
+     * 통합 검색 결과 조립 (기본 정보 + 가격 + 태그)
+     * DB 조회와 분리되어 있어 벤치마크(src/jmh)에서 직접 호출한다.
+     */
+    static List<MemberSearchResponse> assembleSearchResults(
+            List<MemberSearchBaseDto> bases,
+            List<MemberProductPriceDto> prices
+    ) {
         // 결과 컨테이너
         Map<Long, MemberSearchResponse> resultMap = new LinkedHashMap<>();
 
         // 1️⃣ 기본 정보 세팅
-        for (var b : basePage) {
+        for (var b : bases) {
             MemberSearchResponse r = new MemberSearchResponse();
             r.setId(b.getMemberId());
             r.setName(b.getName());
@@ -375,7 +416,7 @@ public class MemberService {
         }
 
         // 2️⃣ 가격 세팅 (기존 Response DTO 사용)
-        productPriceRepository.findProductPrices(memberIds).forEach(p -> {
+        prices.forEach(p -> {
             MemberSearchResponse r = resultMap.get(p.getMemberId());
             r.getPrices().add(
                     MemberProductPriceResponse.builder()
@@ -403,40 +444,27 @@ public class MemberService {
             r.getTags().add("신규회원"); // 예시
         });
 
-        return new PageImpl<>(
-                new ArrayList<>(resultMap.values()),
-                pageable,
-                basePage.getTotalElements()
-        );
+        return new ArrayList<>(resultMap.values());
     }
 
     /**
      * 지역별 회원 수 통계
      */
     public Map<String, Long> getMemberStatisticsByRegion() {
-        List<Object[]> results = memberRepository.countMembersByRegion();
-        return results.stream()
-                .collect(Collectors.toMap(
-                    result -> (String) result[0],  // sido
-                    result -> (Long) result[1]     // count
-                ));
+        return memberStatisticsService.getRegionStatistics();
     }
 
     /**
      * 취급 상품별 회원 수 통계
      */
     public Map<String, Long> getMemberStatisticsByProduct() {
-        List<Object[]> results = memberRepository.countMembersByProduct();
-        return results.stream()
-                .collect(Collectors.toMap(
-                    result -> result[0].toString(), 
-                    result -> (Long) result[1]     // count
-                ));
+        return memberStatisticsService.getProductStatistics();
     }
 
     /**
      * 비밀번호 변경 (본인만)
      */
+    @CacheEvict(cacheNames = MemberConstants.CacheNames.MEMBER_PROFILE, key = "#memberId")
     @Transactional
     public void changePassword(Long memberId, String currentPassword, String newPassword) {
         log.info("비밀번호 변경 요청: {}", memberId);
@@ -454,27 +482,58 @@ public class MemberService {
     /**
      * 모든 활성 회원 조회 (관리자용)
      */
+    @Transactional(readOnly = true)
     public Page<MemberResponse> getAllActiveMembers(Pageable pageable) {
-        Page<Member> members = memberRepository.findAllActive(pageable);
-        
-        // --- 디버깅 로그 추가 ---
-        members.getContent().forEach(member -> {
-            if (member.getBusinessProfile() == null) {
-                log.info("Member ID {}: BusinessProfile is NULL after fetch.", member.getId());
-            } else {
-                log.info("Member ID {}: BusinessProfile FOUND. CorpName: {}", member.getId(), member.getBusinessProfile().getCorpName());
-            }
-        });
-        // ----------------------
+        // 1. ID만 DB에서 페이징 (정렬 미지정 시 최신 가입순)
+        Pageable idPageable = pageable.getSort().isSorted()
+                ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
+        Page<Long> idPage = memberRepository.findActiveIds(idPageable);
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(List.of(), idPageable, idPage.getTotalElements());
+        }
 
-        return members.map(this::convertToResponse);
+        // 2. 해당 ID의 회원을 연관 정보와 함께 한 번에 조회 후 페이지 순서대로 정렬
+        Map<Long, Member> membersById = memberRepository.findAllWithBusinessProfileByIdIn(idPage.getContent()).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        // 두 조회 사이에 삭제된 회원은 제외
+        List<MemberResponse> content = idPage.getContent().stream()
+                .map(membersById::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToResponse)
+                .toList();
+        return new PageImpl<>(content, idPage.getPageable(), idPage.getTotalElements());
+    }
+
+    /**
+     * 삭제되지 않은 회원 조회 (관리자용, 커서 기반)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<MemberResponse> getAllActiveMembers(Long cursor, int size) {
+        int limit = normalizeCursorSize(size);
+        List<Member> members = memberRepository.findActiveBeforeCursor(toCursorId(cursor), PageRequest.of(0, limit + 1));
+        return CursorResponse.of(members.stream().map(this::convertToResponse).toList(), limit, MemberResponse::getId);
     }
 
     /**
      * 상태별 회원 조회 (관리자용)
      */
+    @Transactional(readOnly = true)
     public Page<MemberResponse> getMembersByStatus(MemberStatus status, Pageable pageable) {
         Page<Member> members = memberRepository.findByStatus(status, pageable);
         return members.map(this::convertToResponse);
     }
+
+    private int normalizeCursorSize(int size) {
+        if (size <= 0) {
+            return MemberConstants.Paging.DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MemberConstants.Paging.MAX_PAGE_SIZE);
+    }
+
+    private Long toCursorId(Long cursor) {
+        // 첫 페이지는 커서 없이 요청
+        return cursor != null ? cursor : Long.MAX_VALUE;
+    }
 } 
\ No newline at end of file
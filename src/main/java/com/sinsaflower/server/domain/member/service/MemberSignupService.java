@@ -0,0 +1,69 @@
+package com.sinsaflower.server.domain.member.service;
+
+import com.sinsaflower.server.domain.member.dto.MemberResponse;
+import com.sinsaflower.server.domain.member.dto.MemberSignupRequest;
+import com.sinsaflower.server.global.service.FileUploadService;
+import com.sinsaflower.server.global.service.StagedFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 회원 가입 처리 (첨부 파일 포함)
+ * 첨부 파일을 트랜잭션 밖에서 병렬로 저장소에 저장한 뒤 DB 작업만 트랜잭션으로 수행하여
+ * 커넥션 점유 시간을 줄인다. 실패/롤백으로 참조되지 않은 파일은 OrphanFileCollector가 회수한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberSignupService {
+
+    private final MemberService memberService;
+    private final FileUploadService fileUploadService;
+
+    /**
+     * 회원 가입
+     */
+    public MemberResponse signUp(MemberSignupRequest request) {
+        SignupFiles files = stageFiles(request.getBusinessProfile());
+        return memberService.signUp(request, files);
+    }
+
+    private SignupFiles stageFiles(MemberSignupRequest.BusinessProfileRequest profile) {
+        if (profile == null) {
+            return SignupFiles.none();
+        }
+
+        CompletableFuture<StagedFile> businessCert = stage(profile.getBusinessCertFile(), "business-cert");
+        CompletableFuture<StagedFile> bankCert = stage(profile.getBankCertFile(), "bank-cert");
+
+        try {
+            CompletableFuture.allOf(businessCert, bankCert).join();
+            return new SignupFiles(businessCert.join(), bankCert.join());
+        } catch (CompletionException e) {
+            throw translate(e.getCause());
+        }
+    }
+
+    private CompletableFuture<StagedFile> stage(MultipartFile file, String subDirectory) {
+        if (file == null || file.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return fileUploadService.stageFileAsync(file, subDirectory);
+    }
+
+    private RuntimeException translate(Throwable cause) {
+        if (cause instanceof IllegalArgumentException illegalArgument) {
+            return illegalArgument;
+        }
+        if (cause instanceof UncheckedIOException) {
+            log.error("가입 첨부 파일 저장 실패: {}", cause.getMessage());
+        }
+        return new RuntimeException("파일 업로드 중 오류가 발생했습니다.", cause);
+    }
+}
@@ -0,0 +1,244 @@
+package com.sinsaflower.server.domain.member.service;
+
+import com.sinsaflower.server.domain.member.entity.HandlingProduct;
+import com.sinsaflower.server.domain.member.entity.Member;
+import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
+import com.sinsaflower.server.domain.member.entity.MemberActivityRegion;
+import com.sinsaflower.server.domain.member.repository.MemberRepository;
+import com.sinsaflower.server.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 통계 롤업 서비스
+ * 상태/활동 지역/취급 상품별 회원 수를 메모리에 유지하여 통계 조회 시 DB 집계를 하지 않는다.
+ * 가입/승인/정지/삭제/지역 변경 시 커밋 이후 카운터를 갱신하고, 주기적으로 DB 기준으로 재집계한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberStatisticsService {
+
+    private final MemberRepository memberRepository;
+
+    // 상태별 회원 수 (삭제 회원 제외)
+    private final Map<MemberStatus, Long> statusCounts = new EnumMap<>(MemberStatus.class);
+
+    // 활성 회원별 활동 시/도, 취급 상품 (회원 단위 중복 제거용)
+    private final Map<Long, Set<String>> activeMemberRegions = new HashMap<>();
+    private final Map<Long, Set<String>> activeMemberProducts = new HashMap<>();
+
+    // 시/도별, 취급 상품별 활성 회원 수
+    private final Map<String, Long> regionCounts = new HashMap<>();
+    private final Map<String, Long> productCounts = new HashMap<>();
+
+    private boolean initialized = false;
+
+    /**
+     * 상태별 회원 수 통계
+     */
+    public synchronized Map<String, Long> getStatusStatistics() {
+        ensureInitialized();
+
+        long pending = statusCounts.getOrDefault(MemberStatus.PENDING, 0L);
+        long active = statusCounts.getOrDefault(MemberStatus.ACTIVE, 0L);
+        long suspended = statusCounts.getOrDefault(MemberStatus.SUSPENDED, 0L);
+
+        return Map.of(
+                "pending", pending,
+                "active", active,
+                "suspended", suspended,
+                "total", pending + active + suspended
+        );
+    }
+
+    /**
+     * 지역(시/도)별 활성 회원 수 통계
+     */
+    public synchronized Map<String, Long> getRegionStatistics() {
+        ensureInitialized();
+        return sortedByCountDesc(regionCounts);
+    }
+
+    /**
+     * 취급 상품별 활성 회원 수 통계
+     */
+    public synchronized Map<String, Long> getProductStatistics() {
+        ensureInitialized();
+        return sortedByCountDesc(productCounts);
+    }
+
+    /**
+     * 회원 가입 반영 (가입 회원은 승인 대기 상태)
+     */
+    public void recordSignup() {
+        TransactionUtils.afterCommit(() -> applyStatusChange(null, null, MemberStatus.PENDING, Set.of(), Set.of()));
+    }
+
+    /**
+     * 회원 상태 변경 반영 (승인/정지/정지 해제/삭제)
+     * 활성화되는 경우 활동 지역/취급 상품을 트랜잭션 안에서 미리 읽어둔다.
+     */
+    public void recordStatusChange(Member member, MemberStatus previousStatus) {
+        MemberStatus newStatus = member.getStatus();
+        if (previousStatus == newStatus) {
+            return;
+        }
+
+        Long memberId = member.getId();
+        Set<String> regions = newStatus == MemberStatus.ACTIVE ? activeSidos(member.getActivityRegions()) : Set.of();
+        Set<String> products = newStatus == MemberStatus.ACTIVE ? activeProductTypes(member.getHandlingProducts()) : Set.of();
+
+        TransactionUtils.afterCommit(() -> applyStatusChange(memberId, previousStatus, newStatus, regions, products));
+    }
+
+    /**
+     * 활동 지역 변경 반영
+     */
+    public void recordRegionsChanged(Member member, Set<String> sidos) {
+        if (member.getStatus() != MemberStatus.ACTIVE) {
+            return;
+        }
+
+        Long memberId = member.getId();
+        Set<String> regions = Set.copyOf(sidos);
+        TransactionUtils.afterCommit(() -> applyRegionsChange(memberId, regions));
+    }
+
+    /**
+     * DB 기준 재집계
+     * 카운터 누락/중복 반영 등으로 생긴 오차를 주기적으로 보정
+     */
+    @Scheduled(fixedDelayString = "${member.statistics.reconcile-interval:600000}")
+    public void reconcile() {
+        Map<MemberStatus, Long> newStatusCounts = new EnumMap<>(MemberStatus.class);
+        for (Object[] row : memberRepository.countGroupByStatus()) {
+            newStatusCounts.put((MemberStatus) row[0], (Long) row[1]);
+        }
+
+        Map<Long, Set<String>> newMemberRegions = groupByMember(memberRepository.findActiveMemberSidos());
+        Map<Long, Set<String>> newMemberProducts = groupByMember(memberRepository.findActiveMemberProductTypes());
+
+        synchronized (this) {
+            statusCounts.clear();
+            statusCounts.putAll(newStatusCounts);
+            statusCounts.remove(MemberStatus.DELETED);
+
+            activeMemberRegions.clear();
+            activeMemberRegions.putAll(newMemberRegions);
+            regionCounts.clear();
+            newMemberRegions.values().forEach(sidos -> increment(regionCounts, sidos));
+
+            activeMemberProducts.clear();
+            activeMemberProducts.putAll(newMemberProducts);
+            productCounts.clear();
+            newMemberProducts.values().forEach(products -> increment(productCounts, products));
+
+            initialized = true;
+        }
+
+        log.debug("회원 통계 재집계 완료: {}", newStatusCounts);
+    }
+
+    private synchronized void applyStatusChange(Long memberId, MemberStatus from, MemberStatus to,
+                                                Set<String> regions, Set<String> products) {
+        if (!initialized) {
+            // 최초 조회 시 재집계되므로 개별 반영 불필요
+            return;
+        }
+
+        if (from != null && from != MemberStatus.DELETED) {
+            statusCounts.merge(from, -1L, Long::sum);
+        }
+        if (to != null && to != MemberStatus.DELETED) {
+            statusCounts.merge(to, 1L, Long::sum);
+        }
+
+        if (memberId == null) {
+            return;
+        }
+
+        if (from == MemberStatus.ACTIVE) {
+            decrement(regionCounts, activeMemberRegions.remove(memberId));
+            decrement(productCounts, activeMemberProducts.remove(memberId));
+        }
+        if (to == MemberStatus.ACTIVE) {
+            activeMemberRegions.put(memberId, regions);
+            activeMemberProducts.put(memberId, products);
+            increment(regionCounts, regions);
+            increment(productCounts, products);
+        }
+    }
+
+    private synchronized void applyRegionsChange(Long memberId, Set<String> regions) {
+        if (!initialized) {
+            return;
+        }
+
+        decrement(regionCounts, activeMemberRegions.put(memberId, regions));
+        increment(regionCounts, regions);
+    }
+
+    private void ensureInitialized() {
+        if (!initialized) {
+            reconcile();
+        }
+    }
+
+    private static Set<String> activeSidos(Collection<MemberActivityRegion> regions) {
+        if (regions == null) {
+            return Set.of();
+        }
+        return regions.stream()
+                .filter(region -> !Boolean.FALSE.equals(region.getIsActive()))
+                .map(MemberActivityRegion::getSido)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static Set<String> activeProductTypes(Collection<HandlingProduct> products) {
+        if (products == null) {
+            return Set.of();
+        }
+        return products.stream()
+                .filter(product -> !Boolean.FALSE.equals(product.getIsActive()))
+                .map(product -> product.getProductType().toString())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static Map<Long, Set<String>> groupByMember(Collection<Object[]> rows) {
+        Map<Long, Set<String>> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add(row[1].toString());
+        }
+        return result;
+    }
+
+    private static void increment(Map<String, Long> counts, Set<String> keys) {
+        keys.forEach(key -> counts.merge(key, 1L, Long::sum));
+    }
+
+    private static void decrement(Map<String, Long> counts, Set<String> keys) {
+        if (keys == null) {
+            return;
+        }
+        // 0이 되면 항목 제거
+        keys.forEach(key -> counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null));
+    }
+
+    private static Map<String, Long> sortedByCountDesc(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+}
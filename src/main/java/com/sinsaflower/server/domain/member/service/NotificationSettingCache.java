@@ -0,0 +1,207 @@
+package com.sinsaflower.server.domain.member.service;
+
+import com.sinsaflower.server.domain.member.entity.Member;
+import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
+import com.sinsaflower.server.domain.member.entity.NotificationFlag;
+import com.sinsaflower.server.domain.member.entity.NotificationSetting;
+import com.sinsaflower.server.domain.member.repository.NotificationSettingRepository;
+import com.sinsaflower.server.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 회원 알림 설정 캐시
+ * 회원별 설정을 long 하나(알림 플래그 + 허용 시간대)로 압축해 전체를 메모리에 두고,
+ * 발송 여부 판단과 "이 알림을 받을 회원" 조회를 회원별 DB 조회 없이 처리한다.
+ * 다른 노드에서 변경된 설정은 주기적 재적재로 반영하며,
+ * 재적재 중 커밋된 변경이 누락되지 않도록 최근 변경분을 새 캐시에 다시 반영한다.
+ * 활성 상태가 아닌 회원(승인 대기/정지/삭제)은 대량 발송 대상 조회에서 제외한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationSettingCache {
+
+    // 비트 배치: 0~30 알림 플래그, 31 비활성 회원, 32~47 허용 시작 시각(분), 48~63 허용 종료 시각(분)
+    private static final long FLAGS_MASK = 0x7FFF_FFFFL;
+    private static final long INACTIVE_MEMBER = 1L << 31;
+    private static final int START_SHIFT = 32;
+    private static final int END_SHIFT = 48;
+    private static final int MINUTE_MASK = 0xFFFF;
+    private static final int LAST_MINUTE_OF_DAY = 24 * 60 - 1;
+
+    // 설정이 없는 회원에게 적용 (NotificationSetting 기본값과 동일)
+    static final long DEFAULT_PREFERENCE = pack(new NotificationSetting());
+
+    // 재적재 시 DB 스냅샷에 아직 커밋되지 않은 변경을 다시 반영하기 위한 보관 기간
+    private static final long REPLAY_RETENTION_MILLIS = 10 * 60 * 1000L;
+
+    private final NotificationSettingRepository notificationSettingRepository;
+
+    // 적재 완료 전에는 null (회원별로 DB 조회)
+    private volatile Map<Long, Long> preferences;
+
+    // 최근 변경분 (재적재 직후 새 캐시에 다시 반영)
+    private final Queue<Update> recentUpdates = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 회원이 해당 알림을 받는지 여부
+     */
+    public boolean isEnabled(Long memberId, NotificationFlag flag) {
+        return flag.isSetIn(preferenceOf(memberId));
+    }
+
+    /**
+     * 알림을 받는 회원 ID 목록 (공지 등 대량 발송 대상 조회)
+     * 알림 설정이 없는 회원과 활성 상태가 아닌 회원(승인 대기/정지/삭제)은 포함되지 않는다.
+     */
+    public List<Long> findMemberIds(NotificationFlag flag) {
+        Map<Long, Long> current = preferences;
+        if (current == null) {
+            reload();
+            current = preferences;
+        }
+        List<Long> memberIds = new ArrayList<>();
+        current.forEach((memberId, preference) -> {
+            if ((preference & INACTIVE_MEMBER) == 0 && flag.isSetIn(preference)) {
+                memberIds.add(memberId);
+            }
+        });
+        return memberIds;
+    }
+
+    /**
+     * 알림 허용 시간대를 반영한 발송 시각 (시간대 밖이면 다음 시작 시각)
+     */
+    public LocalDateTime nextAllowedTime(Long memberId, LocalDateTime now) {
+        return nextAllowedTime(preferenceOf(memberId), now);
+    }
+
+    static LocalDateTime nextAllowedTime(long preference, LocalDateTime now) {
+        if (NotificationFlag.NIGHT_TIME_NOTIFICATION.isSetIn(preference)) {
+            return now;
+        }
+        int startMinute = (int) (preference >>> START_SHIFT) & MINUTE_MASK;
+        int endMinute = (int) (preference >>> END_SHIFT) & MINUTE_MASK;
+        int currentMinute = now.getHour() * 60 + now.getMinute();
+        if (isWithinWindow(currentMinute, startMinute, endMinute)) {
+            return now;
+        }
+        LocalDateTime todayStart = now.toLocalDate().atStartOfDay().plusMinutes(startMinute);
+        return now.isBefore(todayStart) ? todayStart : todayStart.plusDays(1);
+    }
+
+    /**
+     * 시작이 종료보다 늦으면 자정을 넘기는 시간대 (예: 22:00 ~ 07:00)
+     */
+    private static boolean isWithinWindow(int currentMinute, int startMinute, int endMinute) {
+        if (startMinute <= endMinute) {
+            return currentMinute >= startMinute && currentMinute <= endMinute;
+        }
+        return currentMinute >= startMinute || currentMinute <= endMinute;
+    }
+
+    /**
+     * 설정 변경 반영 (현재 트랜잭션 커밋 이후)
+     */
+    public void update(NotificationSetting setting) {
+        Member member = setting.getMember();
+        long preference = pack(setting) | (isActive(member.getStatus(), member.getIsDeleted()) ? 0 : INACTIVE_MEMBER);
+        put(member.getId(), preference);
+    }
+
+    /**
+     * 회원 상태 변경 반영 (승인/정지/정지 해제/삭제, 현재 트랜잭션 커밋 이후)
+     * 알림 설정은 그대로 두고 대량 발송 대상 여부만 바뀐다.
+     */
+    public void refresh(Member member) {
+        notificationSettingRepository.findByMemberId(member.getId()).ifPresent(this::update);
+    }
+
+    private void put(Long memberId, long preference) {
+        TransactionUtils.afterCommit(() -> {
+            recentUpdates.add(new Update(System.currentTimeMillis(), memberId, preference));
+            Map<Long, Long> current = preferences;
+            if (current != null) {
+                current.put(memberId, preference);
+            }
+        });
+    }
+
+    /**
+     * DB 기준으로 전체 재적재 (기동 직후 및 주기적으로 실행)
+     */
+    @Scheduled(fixedDelayString = "${notification.setting-cache.reload-interval:600000}")
+    @Transactional(readOnly = true)
+    public synchronized void reload() {
+        long startedAt = System.currentTimeMillis();
+        List<Object[]> rows = notificationSettingRepository.findAllPreferences();
+        Map<Long, Long> next = new ConcurrentHashMap<>(Math.max(16, rows.size() * 4 / 3 + 1));
+        for (Object[] row : rows) {
+            long preference = pack((Long) row[1], (String) row[2], (String) row[3]);
+            next.put((Long) row[0], isActive((MemberStatus) row[4], (Boolean) row[5]) ? preference : preference | INACTIVE_MEMBER);
+        }
+
+        // 최근 변경분 재반영 (스냅샷 이후 커밋된 변경 포함), 교체 직전 변경분까지 교체 후 한 번 더 반영
+        recentUpdates.forEach(update -> next.put(update.memberId(), update.preference()));
+        preferences = next;
+        recentUpdates.forEach(update -> next.put(update.memberId(), update.preference()));
+        recentUpdates.removeIf(update -> update.updatedAt() < startedAt - REPLAY_RETENTION_MILLIS);
+
+        log.info("회원 알림 설정 캐시 적재 완료: 회원 {}명", next.size());
+    }
+
+    private long preferenceOf(Long memberId) {
+        Map<Long, Long> current = preferences;
+        if (current != null) {
+            return current.getOrDefault(memberId, DEFAULT_PREFERENCE);
+        }
+        return notificationSettingRepository.findByMemberId(memberId)
+                .map(NotificationSettingCache::pack)
+                .orElse(DEFAULT_PREFERENCE);
+    }
+
+    private static boolean isActive(MemberStatus status, Boolean deleted) {
+        return status == MemberStatus.ACTIVE && !Boolean.TRUE.equals(deleted);
+    }
+
+    static long pack(NotificationSetting setting) {
+        return pack(setting.getFlags(), setting.getNotificationStartTime(), setting.getNotificationEndTime());
+    }
+
+    private static long pack(long flags, String startTime, String endTime) {
+        long startMinute = minuteOfDay(startTime, 0);
+        long endMinute = minuteOfDay(endTime, LAST_MINUTE_OF_DAY);
+        return (flags & FLAGS_MASK) | (startMinute << START_SHIFT) | (endMinute << END_SHIFT);
+    }
+
+    /**
+     * "HH:mm" -> 자정부터의 분 (형식이 잘못되었으면 기본값, 시간대 제한 없음으로 처리)
+     */
+    private static int minuteOfDay(String time, int defaultMinute) {
+        if (time == null || time.length() != 5 || time.charAt(2) != ':') {
+            return defaultMinute;
+        }
+        try {
+            int hour = Integer.parseInt(time.substring(0, 2));
+            int minute = Integer.parseInt(time.substring(3));
+            return hour < 24 && minute < 60 ? hour * 60 + minute : defaultMinute;
+        } catch (NumberFormatException e) {
+            return defaultMinute;
+        }
+    }
+
+    private record Update(long updatedAt, Long memberId, long preference) {
+    }
+}
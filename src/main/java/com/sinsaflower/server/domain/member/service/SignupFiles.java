@@ -0,0 +1,16 @@
+package com.sinsaflower.server.domain.member.service;
+
+import com.sinsaflower.server.global.service.StagedFile;
+
+/**
+ * 회원 가입 첨부 파일 (트랜잭션 전에 저장소에 저장된 파일)
+ *
+ * @param businessCert 사업자등록증 (없으면 null)
+ * @param bankCert 통장 사본 (없으면 null)
+ */
+public record SignupFiles(StagedFile businessCert, StagedFile bankCert) {
+
+    public static SignupFiles none() {
+        return new SignupFiles(null, null);
+    }
+}
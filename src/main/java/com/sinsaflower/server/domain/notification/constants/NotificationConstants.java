@@ -0,0 +1,28 @@
+package com.sinsaflower.server.domain.notification.constants;
+
+/**
+ * 알림 도메인 관련 상수 정의
+ */
+public final class NotificationConstants {
+
+    private NotificationConstants() {
+        throw new IllegalStateException("Constants class");
+    }
+
+    // 발송 문구 (%s: 주문번호)
+    public static final class Template {
+        public static final String PREFIX = "[신사플라워] ";
+        public static final String ORDER_CREATED = PREFIX + "주문 %s이(가) 접수되었습니다.";
+        public static final String ORDER_CANCELED = PREFIX + "주문 %s이(가) 취소되었습니다.";
+        public static final String DELIVERY_STARTED = PREFIX + "주문 %s의 배송 준비가 시작되었습니다.";
+        public static final String DELIVERY_COMPLETED = PREFIX + "주문 %s의 배송이 완료되었습니다.";
+        public static final String FAX_ORDER_CREATED = PREFIX + "신규 주문 접수 안내\n주문번호: %s";
+
+        private Template() {
+            throw new IllegalStateException("Constants class");
+        }
+    }
+
+    // 오류 메시지 최대 길이 (notification_queue.last_error)
+    public static final int MAX_ERROR_LENGTH = 500;
+}
@@ -0,0 +1,9 @@
+package com.sinsaflower.server.domain.notification.entity;
+
+/**
+ * 알림 발송 채널 (채널별로 발송 대행 업체가 하나씩 연결됨)
+ */
+public enum NotificationChannel {
+    SMS,
+    FAX
+}
@@ -0,0 +1,72 @@
+package com.sinsaflower.server.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 대기열
+ * 주문 이벤트로 적재되고 NotificationQueueProcessor가 채널별로 묶어서 발송한다.
+ * 같은 이벤트로 같은 채널 알림이 두 번 적재되지 않도록 (sourceEventId, channel)을 유니크로 둔다.
+ */
+@Entity
+@Table(name = "notification_queue",
+    indexes = {
+        @Index(name = "idx_notification_queue_due", columnList = "channel, status, nextAttemptAt")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notification_queue_event", columnNames = {"sourceEventId", "channel"})
+    })
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private NotificationChannel channel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    private Long orderId; // 발송 결과를 기록할 주문
+
+    private Long sourceEventId; // 적재 원인 주문 이벤트 (중복 적재 방지)
+
+    @Column(length = 30, nullable = false)
+    private String recipient; // 수신 번호 (휴대폰/팩스)
+
+    @Column(length = 1000, nullable = false)
+    private String content;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0; // 발송 실패 횟수
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt; // 발송 가능 시각 (알림 허용 시간대, 재시도 백오프 반영)
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt; // 발송 완료/거부/포기 시각
+
+    public enum Status {
+        PENDING,  // 발송 대기 (재시도 대기 포함)
+        SENT,     // 발송 성공
+        REJECTED, // 수신 거부, 잘못된 번호 등 재시도해도 실패하는 경우
+        FAILED    // 최대 재시도 횟수 초과
+    }
+}
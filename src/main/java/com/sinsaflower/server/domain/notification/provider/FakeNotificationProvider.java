@@ -0,0 +1,68 @@
+package com.sinsaflower.server.domain.notification.provider;
+
+import com.sinsaflower.server.domain.notification.entity.NotificationChannel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 실제로 발송하지 않는 로컬/테스트용 업체
+ * 발송 내용은 로그와 메모리에 남기며, 결과를 바꿔 실패/거부 상황을 재현할 수 있다.
+ */
+@Slf4j
+public class FakeNotificationProvider implements NotificationProvider {
+
+    private static final int MAX_KEPT_MESSAGES = 1000;
+
+    private final NotificationChannel channel;
+    private final List<NotificationMessage> sentMessages = new ArrayList<>();
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private volatile Function<NotificationMessage, SendResult> responder = message -> SendResult.sent(message.id());
+
+    public FakeNotificationProvider(NotificationChannel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public NotificationChannel channel() {
+        return channel;
+    }
+
+    @Override
+    public synchronized List<SendResult> send(List<NotificationMessage> messages) {
+        if (batchSizes.size() >= MAX_KEPT_MESSAGES) {
+            batchSizes.remove(0);
+        }
+        batchSizes.add(messages.size());
+        List<SendResult> results = new ArrayList<>(messages.size());
+        for (NotificationMessage message : messages) {
+            SendResult result = responder.apply(message);
+            if (result.outcome() == SendResult.Outcome.SENT) {
+                if (sentMessages.size() >= MAX_KEPT_MESSAGES) {
+                    sentMessages.remove(0);
+                }
+                sentMessages.add(message);
+            }
+            log.info("[FAKE {}] {} -> {}: {}", channel, message.recipient(), result.outcome(), message.content());
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * 메시지별 결과 지정 (기본: 모두 성공)
+     */
+    public void respondWith(Function<NotificationMessage, SendResult> responder) {
+        this.responder = responder;
+    }
+
+    public synchronized List<NotificationMessage> sentMessages() {
+        return List.copyOf(sentMessages);
+    }
+
+    public synchronized List<Integer> batchSizes() {
+        return List.copyOf(batchSizes);
+    }
+}
@@ -0,0 +1,10 @@
+package com.sinsaflower.server.domain.notification.provider;
+
+/**
+ * 발송할 알림
+ *
+ * @param id 대기열 ID (업체 측 중복 발송 방지 키로 사용 가능)
+ * @param recipient 수신 번호
+ */
+public record NotificationMessage(Long id, String recipient, String content) {
+}
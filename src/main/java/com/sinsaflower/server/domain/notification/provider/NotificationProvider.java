@@ -0,0 +1,29 @@
+package com.sinsaflower.server.domain.notification.provider;
+
+import com.sinsaflower.server.domain.notification.entity.NotificationChannel;
+
+import java.util.List;
+
+/**
+ * 알림 발송 대행 업체 SPI
+ * 채널별로 하나의 빈을 등록하며, NotificationQueueProcessor가 업체별 배치 크기와 초당 발송량에 맞춰 호출한다.
+ */
+public interface NotificationProvider {
+
+    NotificationChannel channel();
+
+    /**
+     * 한 번에 보낼 수 있는 최대 건수
+     */
+    default int maxBatchSize() {
+        return 100;
+    }
+
+    /**
+     * 배치 발송
+     * 네트워크 오류 등으로 배치 전체가 실패하면 예외를 던지며, 이 경우 배치 전체를 재시도한다.
+     *
+     * @return 메시지별 결과 (결과가 없는 메시지는 재시도)
+     */
+    List<SendResult> send(List<NotificationMessage> messages);
+}
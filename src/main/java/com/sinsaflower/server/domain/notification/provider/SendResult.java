@@ -0,0 +1,28 @@
+package com.sinsaflower.server.domain.notification.provider;
+
+/**
+ * 메시지별 발송 결과
+ *
+ * @param messageId NotificationMessage.id
+ * @param detail 업체 응답 코드/사유 (실패 시 기록)
+ */
+public record SendResult(Long messageId, Outcome outcome, String detail) {
+
+    public enum Outcome {
+        SENT,     // 발송 성공
+        REJECTED, // 재시도해도 실패 (수신 거부, 잘못된 번호)
+        RETRY     // 일시적 실패 (재시도)
+    }
+
+    public static SendResult sent(Long messageId) {
+        return new SendResult(messageId, Outcome.SENT, null);
+    }
+
+    public static SendResult rejected(Long messageId, String detail) {
+        return new SendResult(messageId, Outcome.REJECTED, detail);
+    }
+
+    public static SendResult retry(Long messageId, String detail) {
+        return new SendResult(messageId, Outcome.RETRY, detail);
+    }
+}
@@ -0,0 +1,50 @@
+package com.sinsaflower.server.domain.notification.repository;
+
+import com.sinsaflower.server.domain.notification.entity.NotificationChannel;
+import com.sinsaflower.server.domain.notification.entity.NotificationJob;
+import com.sinsaflower.server.domain.notification.entity.NotificationJob.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationJobRepository extends JpaRepository<NotificationJob, Long> {
+
+    // 채널별 발송 가능한 대기 건 (적재 순서)
+    @Query("SELECT j FROM NotificationJob j WHERE j.channel = :channel AND j.status = :status " +
+           "AND j.nextAttemptAt <= :now ORDER BY j.id")
+    List<NotificationJob> findDue(@Param("channel") NotificationChannel channel, @Param("status") Status status,
+                                  @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 같은 이벤트로 이미 적재되었는지 확인 (이벤트 재전달 대비)
+    boolean existsBySourceEventIdAndChannel(Long sourceEventId, NotificationChannel channel);
+
+    // 발송 완료/거부/포기 처리
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationJob j SET j.status = :status, j.completedAt = :completedAt WHERE j.id IN :ids")
+    int markCompleted(@Param("ids") Collection<Long> ids, @Param("status") Status status,
+                      @Param("completedAt") LocalDateTime completedAt);
+
+    // 발송 실패 기록 (nextAttemptAt 이후 재시도)
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationJob j SET j.attempts = :attempts, j.lastError = :error, j.nextAttemptAt = :nextAttemptAt " +
+           "WHERE j.id = :id")
+    int scheduleRetry(@Param("id") Long id, @Param("attempts") int attempts, @Param("error") String error,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    // 실패 사유 기록 (거부/포기 건)
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationJob j SET j.attempts = :attempts, j.lastError = :error WHERE j.id = :id")
+    int recordError(@Param("id") Long id, @Param("attempts") int attempts, @Param("error") String error);
+}
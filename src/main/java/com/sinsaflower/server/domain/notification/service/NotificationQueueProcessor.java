@@ -0,0 +1,267 @@
+package com.sinsaflower.server.domain.notification.service;
+
+import com.sinsaflower.server.domain.notification.constants.NotificationConstants;
+import com.sinsaflower.server.domain.notification.entity.NotificationChannel;
+import com.sinsaflower.server.domain.notification.entity.NotificationJob;
+import com.sinsaflower.server.domain.notification.entity.NotificationJob.Status;
+import com.sinsaflower.server.domain.notification.provider.NotificationMessage;
+import com.sinsaflower.server.domain.notification.provider.NotificationProvider;
+import com.sinsaflower.server.domain.notification.provider.SendResult;
+import com.sinsaflower.server.domain.notification.repository.NotificationJobRepository;
+import com.sinsaflower.server.domain.order.constants.OrderConstants;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.global.config.NotificationProperties;
+import com.sinsaflower.server.global.util.RateLimiter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 알림 발송 대기열 처리
+ * 채널(업체)마다 전용 스레드에서 발송 가능한 건을 배치로 묶어 보내고, 결과를 대기열과 주문(sms/fax)에 기록한다.
+ * - 업체별 초당 발송량 제한 (notification.rate-per-second)
+ * - 일시적 실패는 지수 백오프 후 재시도, 최대 횟수를 넘으면 "실패" 처리
+ * - 한 업체가 느려도 다른 채널 발송은 영향받지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationQueueProcessor {
+
+    private static final double DEFAULT_RATE_PER_SECOND = 10.0;
+
+    private final NotificationJobRepository notificationJobRepository;
+    private final OrderRepository orderRepository;
+    private final ObjectProvider<NotificationProvider> providers;
+    private final NotificationProperties notificationProperties;
+
+    private final Map<NotificationChannel, Lane> lanes = new EnumMap<>(NotificationChannel.class);
+    private ThreadPoolExecutor sendExecutor;
+
+    /**
+     * 채널별 발송 상태 (업체, 발송량 제한, 처리 중 여부)
+     */
+    private record Lane(NotificationChannel channel, NotificationProvider provider,
+                        RateLimiter rateLimiter, AtomicBoolean running) {
+    }
+
+    @PostConstruct
+    void initLanes() {
+        providers.orderedStream().forEach(provider -> {
+            NotificationChannel channel = provider.channel();
+            if (lanes.containsKey(channel)) {
+                log.warn("Duplicate notification provider for {} ignored: {}", channel, provider.getClass().getName());
+                return;
+            }
+            double rate = notificationProperties.getRatePerSecond().getOrDefault(channel, DEFAULT_RATE_PER_SECOND);
+            lanes.put(channel, new Lane(channel, provider, new RateLimiter(rate), new AtomicBoolean()));
+        });
+
+        int threads = Math.max(1, lanes.size());
+        sendExecutor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-sender");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        sendExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdownSendExecutor() {
+        // 발송량 제한으로 대기 중인 스레드를 깨워 종료
+        sendExecutor.shutdownNow();
+    }
+
+    /**
+     * 주기적 발송 (채널별로 이전 처리가 끝난 경우에만 새로 시작)
+     */
+    @Scheduled(fixedDelayString = "${notification.poll-interval:1000}")
+    public void poll() {
+        if (!notificationProperties.isEnabled()) {
+            return;
+        }
+        for (Lane lane : lanes.values()) {
+            if (!lane.running().compareAndSet(false, true)) {
+                continue;
+            }
+            try {
+                sendExecutor.execute(() -> {
+                    try {
+                        drain(lane);
+                    } catch (RuntimeException e) {
+                        log.error("Notification dispatch failed for {}", lane.channel(), e);
+                    } finally {
+                        lane.running().set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                lane.running().set(false);
+            }
+        }
+    }
+
+    /**
+     * 채널의 발송 가능한 대기 건을 모두 처리
+     *
+     * @return 발송 시도한 건수
+     */
+    public int drain(NotificationChannel channel) {
+        Lane lane = lanes.get(channel);
+        return lane == null ? 0 : drain(lane);
+    }
+
+    private int drain(Lane lane) {
+        synchronized (lane) {
+            int batchSize = Math.max(1, Math.min(notificationProperties.getBatchSize(), lane.provider().maxBatchSize()));
+            int processed = 0;
+
+            while (true) {
+                List<NotificationJob> jobs = notificationJobRepository.findDue(
+                        lane.channel(), Status.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+                if (jobs.isEmpty()) {
+                    break;
+                }
+
+                List<NotificationJob> permitted = acquirePermits(lane, jobs);
+                if (!permitted.isEmpty()) {
+                    send(lane, permitted);
+                    processed += permitted.size();
+                }
+
+                if (permitted.size() < jobs.size() || jobs.size() < batchSize) {
+                    break;
+                }
+            }
+
+            if (processed > 0) {
+                log.debug("Notifications processed for {}: {}", lane.channel(), processed);
+            }
+            return processed;
+        }
+    }
+
+    /**
+     * 건별로 발송량 제한 허용을 받음 (대기 중 인터럽트되면 허용받은 건까지만 반환, 나머지는 대기열에 남김)
+     */
+    private List<NotificationJob> acquirePermits(Lane lane, List<NotificationJob> jobs) {
+        for (int i = 0; i < jobs.size(); i++) {
+            if (!lane.rateLimiter().acquire(1)) {
+                return jobs.subList(0, i);
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * 배치 발송 후 결과 기록 (배치 전체 실패 또는 결과 누락 건은 재시도)
+     */
+    private void send(Lane lane, List<NotificationJob> jobs) {
+        List<NotificationMessage> messages = jobs.stream()
+                .map(job -> new NotificationMessage(job.getId(), job.getRecipient(), job.getContent()))
+                .toList();
+
+        Map<Long, SendResult> results = new HashMap<>();
+        String batchError = "No result from provider";
+        try {
+            for (SendResult result : lane.provider().send(messages)) {
+                results.put(result.messageId(), result);
+            }
+        } catch (RuntimeException e) {
+            batchError = abbreviate(e.getClass().getSimpleName() + ": " + e.getMessage());
+            log.warn("Notification batch of {} failed for {}: {}", jobs.size(), lane.channel(), batchError);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationJob> sent = new ArrayList<>();
+        List<NotificationJob> rejected = new ArrayList<>();
+        List<NotificationJob> failed = new ArrayList<>();
+        for (NotificationJob job : jobs) {
+            SendResult result = results.get(job.getId());
+            if (result == null) {
+                retryOrFail(job, batchError, now, failed);
+                continue;
+            }
+            switch (result.outcome()) {
+                case SENT -> sent.add(job);
+                case REJECTED -> {
+                    notificationJobRepository.recordError(job.getId(), job.getAttempts(),
+                            abbreviate(detailOf(result)));
+                    rejected.add(job);
+                }
+                case RETRY -> retryOrFail(job, abbreviate(detailOf(result)), now, failed);
+            }
+        }
+
+        complete(lane.channel(), sent, Status.SENT, OrderConstants.NotificationStatus.SUCCESS, now);
+        complete(lane.channel(), rejected, Status.REJECTED, OrderConstants.NotificationStatus.REJECTED, now);
+        complete(lane.channel(), failed, Status.FAILED, OrderConstants.NotificationStatus.FAILED, now);
+    }
+
+    /**
+     * 일시적 실패 처리 (지수 백오프 후 재시도, 최대 횟수를 넘으면 failed에 추가)
+     */
+    private void retryOrFail(NotificationJob job, String error, LocalDateTime now, List<NotificationJob> failed) {
+        int attempts = job.getAttempts() + 1;
+        if (attempts >= notificationProperties.getMaxAttempts()) {
+            log.error("Notification {} ({} for order {}) failed after {} attempts: {}",
+                    job.getId(), job.getChannel(), job.getOrderId(), attempts, error);
+            notificationJobRepository.recordError(job.getId(), attempts, error);
+            failed.add(job);
+            return;
+        }
+        notificationJobRepository.scheduleRetry(job.getId(), attempts, error, now.plus(backoff(attempts)));
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = notificationProperties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(notificationProperties.getMaxBackoff()) > 0
+                ? notificationProperties.getMaxBackoff()
+                : backoff;
+    }
+
+    /**
+     * 대기열 완료 처리 및 주문에 발송 결과 기록
+     */
+    private void complete(NotificationChannel channel, List<NotificationJob> jobs, Status status,
+                          String orderStatus, LocalDateTime now) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        notificationJobRepository.markCompleted(jobs.stream().map(NotificationJob::getId).toList(), status, now);
+
+        List<Long> orderIds = jobs.stream().map(NotificationJob::getOrderId).distinct().toList();
+        switch (channel) {
+            case SMS -> orderRepository.updateSmsStatus(orderIds, orderStatus);
+            case FAX -> orderRepository.updateFaxStatus(orderIds, orderStatus);
+        }
+    }
+
+    private static String detailOf(SendResult result) {
+        return result.detail() != null ? result.detail() : result.outcome().name();
+    }
+
+    private static String abbreviate(String message) {
+        int maxLength = NotificationConstants.MAX_ERROR_LENGTH;
+        return message.length() <= maxLength ? message : message.substring(0, maxLength);
+    }
+}
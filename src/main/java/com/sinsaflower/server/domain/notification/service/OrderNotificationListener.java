@@ -0,0 +1,106 @@
+package com.sinsaflower.server.domain.notification.service;
+
+import com.sinsaflower.server.domain.member.entity.Member;
+import com.sinsaflower.server.domain.member.entity.MemberBusinessProfile;
+import com.sinsaflower.server.domain.member.entity.NotificationFlag;
+import com.sinsaflower.server.domain.member.repository.MemberBusinessProfileRepository;
+import com.sinsaflower.server.domain.member.repository.MemberRepository;
+import com.sinsaflower.server.domain.member.service.NotificationSettingCache;
+import com.sinsaflower.server.domain.notification.constants.NotificationConstants.Template;
+import com.sinsaflower.server.domain.notification.entity.NotificationChannel;
+import com.sinsaflower.server.domain.notification.entity.NotificationJob;
+import com.sinsaflower.server.domain.notification.repository.NotificationJobRepository;
+import com.sinsaflower.server.domain.order.event.OrderEvent;
+import com.sinsaflower.server.domain.order.event.OrderEventListener;
+import com.sinsaflower.server.domain.order.event.OrderEventType;
+import com.sinsaflower.server.global.config.NotificationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 주문 이벤트를 받아 회원 알림 설정(NotificationSettingCache)에 따라 SMS/FAX 발송 대기열에 적재
+ * 아웃박스 디스패처가 커밋 후 호출하므로 주문 처리 시간은 발송 업체와 무관하며,
+ * 알림 허용 시간대 밖이면 다음 허용 시각까지 발송을 미룬다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderNotificationListener implements OrderEventListener {
+
+    private final NotificationJobRepository notificationJobRepository;
+    private final NotificationSettingCache notificationSettingCache;
+    private final MemberRepository memberRepository;
+    private final MemberBusinessProfileRepository memberBusinessProfileRepository;
+    private final NotificationProperties notificationProperties;
+
+    @Override
+    @Transactional
+    public void onOrderEvent(OrderEvent event) {
+        if (!notificationProperties.isEnabled() || event.memberId() == null
+                || event.type() == OrderEventType.DELETED || event.type() == OrderEventType.UPDATED) {
+            return;
+        }
+
+        LocalDateTime sendAt = notificationSettingCache.nextAllowedTime(event.memberId(), LocalDateTime.now());
+
+        smsContent(event).ifPresent(content ->
+                memberRepository.findById(event.memberId())
+                        .map(Member::getMobile)
+                        .ifPresent(mobile -> enqueue(event, NotificationChannel.SMS, mobile, content, sendAt)));
+
+        if (event.type() == OrderEventType.CREATED) {
+            memberBusinessProfileRepository.findByMemberId(event.memberId())
+                    .map(MemberBusinessProfile::getFax)
+                    .ifPresent(fax -> enqueue(event, NotificationChannel.FAX, fax,
+                            Template.FAX_ORDER_CREATED.formatted(event.orderNumber()), sendAt));
+        }
+    }
+
+    /**
+     * 이벤트별 SMS 문구 (회원이 끈 알림이면 empty)
+     */
+    private Optional<String> smsContent(OrderEvent event) {
+        if (event.type() == OrderEventType.CREATED) {
+            return enabled(NotificationFlag.SMS_ORDER_CREATED, Template.ORDER_CREATED, event);
+        }
+        return switch (event.status()) {
+            case CANCELLED -> enabled(NotificationFlag.SMS_ORDER_CANCELED, Template.ORDER_CANCELED, event);
+            case PREPARING -> enabled(NotificationFlag.SMS_DELIVERY_STARTED, Template.DELIVERY_STARTED, event);
+            case DELIVERED -> enabled(NotificationFlag.SMS_DELIVERY_COMPLETED, Template.DELIVERY_COMPLETED, event);
+            default -> Optional.empty();
+        };
+    }
+
+    private Optional<String> enabled(NotificationFlag flag, String template, OrderEvent event) {
+        return notificationSettingCache.isEnabled(event.memberId(), flag)
+                ? Optional.of(template.formatted(event.orderNumber()))
+                : Optional.empty();
+    }
+
+    private void enqueue(OrderEvent event, NotificationChannel channel, String recipient, String content,
+                         LocalDateTime sendAt) {
+        if (!StringUtils.hasText(recipient)) {
+            return;
+        }
+        // 디스패처는 최소 한 번 전달하므로 같은 이벤트가 다시 올 수 있음
+        if (notificationJobRepository.existsBySourceEventIdAndChannel(event.eventId(), channel)) {
+            return;
+        }
+        notificationJobRepository.save(NotificationJob.builder()
+                .channel(channel)
+                .orderId(event.orderId())
+                .sourceEventId(event.eventId())
+                .recipient(recipient)
+                .content(content)
+                .nextAttemptAt(sendAt)
+                .createdAt(LocalDateTime.now())
+                .build());
+        log.debug("Notification queued: {} for order {} (event {})", channel, event.orderId(), event.eventId());
+    }
+}
@@ -1,8 +1,11 @@
 package com.sinsaflower.server.domain.order.controller;
 
+import com.sinsaflower.server.domain.order.dto.OrderArchiveResponse;
 import com.sinsaflower.server.domain.order.dto.OrderResponse;
+import com.sinsaflower.server.domain.order.dto.OrderRevenueResponse;
 import com.sinsaflower.server.domain.order.entity.Order;
 import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.service.OrderArchiveService;
 import com.sinsaflower.server.domain.order.service.OrderService;
 import com.sinsaflower.server.domain.order.util.PagingUtils;
 import com.sinsaflower.server.global.dto.ApiResponse;
@@ -12,6 +15,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +30,7 @@ import java.util.Map;
  * 관리자용 주문 조회, 통계 API 제공
  */
 @RestController
+@Lazy // 관리자 전용: 첫 요청 시 생성해 기동 시간 단축
 @RequestMapping("/api/admin/orders")
 @RequiredArgsConstructor
 @Slf4j
@@ -33,6 +38,7 @@ import java.util.Map;
 public class OrderAdminController {
 
     private final OrderService orderService;
+    private final OrderArchiveService orderArchiveService;
 
     /**
      * 주문 상태별 조회 (관리자용)
@@ -50,7 +56,7 @@ public class OrderAdminController {
 
         Pageable pageable = PagingUtils.createPageable(page, size, sort, direction);
         Page<Order> orders = orderService.getOrdersByStatus(status, pageable);
-        Page<OrderResponse> response = orders.map(OrderResponse::from);
+        Page<OrderResponse> response = orders.map(OrderResponse::forList);
 
         return ResponseEntity.ok(ApiResponse.success("상태별 주문 조회가 성공적으로 완료되었습니다.", response));
     }
@@ -71,7 +77,7 @@ public class OrderAdminController {
 
         Pageable pageable = PagingUtils.createPageable(page, size, sort, direction);
         Page<Order> orders = orderService.getOrdersByDeliveryDate(date, pageable);
-        Page<OrderResponse> response = orders.map(OrderResponse::from);
+        Page<OrderResponse> response = orders.map(OrderResponse::forList);
 
         return ResponseEntity.ok(ApiResponse.success("배송일별 주문 조회가 성공적으로 완료되었습니다.", response));
     }
@@ -86,7 +92,7 @@ public class OrderAdminController {
 
         List<Order> orders = orderService.getTodayOrders();
         List<OrderResponse> response = orders.stream()
-                .map(OrderResponse::from)
+                .map(OrderResponse::forList)
                 .toList();
 
         return ResponseEntity.ok(ApiResponse.success("오늘 주문 조회가 성공적으로 완료되었습니다.", response));
@@ -102,7 +108,7 @@ public class OrderAdminController {
 
         List<Order> orders = orderService.getTodayDeliveryOrders();
         List<OrderResponse> response = orders.stream()
-                .map(OrderResponse::from)
+                .map(OrderResponse::forList)
                 .toList();
 
         return ResponseEntity.ok(ApiResponse.success("오늘 배송 예정 주문 조회가 성공적으로 완료되었습니다.", response));
@@ -120,4 +126,102 @@ public class OrderAdminController {
 
         return ResponseEntity.ok(ApiResponse.success("주문 통계 조회가 성공적으로 완료되었습니다.", statistics));
     }
+
+    /**
+     * 배송일별 매출 조회
+     */
+    @GetMapping("/revenue/daily")
+    @Operation(summary = "배송일별 매출 조회", description = "기간 내 배송일별 주문 수와 총 주문 금액 합계를 조회합니다. (취소 주문 제외)")
+    public ResponseEntity<ApiResponse<List<OrderRevenueResponse>>> getDailyRevenue(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+
+        log.info("관리자 배송일별 매출 조회 요청: {} ~ {}", startDate, endDate);
+
+        List<OrderRevenueResponse> revenue = orderService.getDailyRevenue(startDate, endDate);
+
+        return ResponseEntity.ok(ApiResponse.success("배송일별 매출 조회가 성공적으로 완료되었습니다.", revenue));
+    }
+
+    /**
+     * 회원별 매출 조회
+     */
+    @GetMapping("/revenue/members")
+    @Operation(summary = "회원별 매출 조회", description = "기간 내 회원별 주문 수와 총 주문 금액 합계를 매출 큰 순으로 조회합니다. (취소 주문 제외)")
+    public ResponseEntity<ApiResponse<List<OrderRevenueResponse>>> getMemberRevenue(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+
+        log.info("관리자 회원별 매출 조회 요청: {} ~ {}", startDate, endDate);
+
+        List<OrderRevenueResponse> revenue = orderService.getMemberRevenue(startDate, endDate);
+
+        return ResponseEntity.ok(ApiResponse.success("회원별 매출 조회가 성공적으로 완료되었습니다.", revenue));
+    }
+
+    /**
+     * 지역별 매출 조회
+     */
+    @GetMapping("/revenue/regions")
+    @Operation(summary = "지역별 매출 조회", description = "기간 내 배송 지역별 주문 수와 총 주문 금액 합계를 매출 큰 순으로 조회합니다. (취소 주문 제외)")
+    public ResponseEntity<ApiResponse<List<OrderRevenueResponse>>> getRegionRevenue(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+
+        log.info("관리자 지역별 매출 조회 요청: {} ~ {}", startDate, endDate);
+
+        List<OrderRevenueResponse> revenue = orderService.getRegionRevenue(startDate, endDate);
+
+        return ResponseEntity.ok(ApiResponse.success("지역별 매출 조회가 성공적으로 완료되었습니다.", revenue));
+    }
+
+    /**
+     * 보관 주문 목록 조회
+     */
+    @GetMapping("/archive")
+    @Operation(summary = "보관 주문 목록 조회", description = "배송일 기간으로 보관 주문을 조회합니다. 회원을 지정하면 해당 회원의 보관 주문만 조회합니다.")
+    public ResponseEntity<ApiResponse<Page<OrderArchiveResponse>>> getArchivedOrders(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "deliveryDate") String sort,
+            @RequestParam(defaultValue = "desc") String direction) {
+
+        log.info("관리자 보관 주문 목록 조회 요청: {} ~ {} (member {})", startDate, endDate, memberId);
+
+        Pageable pageable = PagingUtils.createPageable(page, size, sort, direction);
+        Page<OrderArchiveResponse> response = orderArchiveService.getArchivedOrders(memberId, startDate, endDate, pageable);
+
+        return ResponseEntity.ok(ApiResponse.success("보관 주문 목록 조회가 성공적으로 완료되었습니다.", response));
+    }
+
+    /**
+     * 주문번호로 보관 주문 조회
+     */
+    @GetMapping("/archive/number/{orderNumber}")
+    @Operation(summary = "주문번호로 보관 주문 조회", description = "주문번호로 보관 주문을 조회합니다. 주문번호는 보관 후 재사용될 수 있어 여러 건이 조회될 수 있습니다.")
+    public ResponseEntity<ApiResponse<List<OrderArchiveResponse>>> getArchivedOrdersByNumber(
+            @PathVariable String orderNumber) {
+
+        log.info("관리자 주문번호 보관 주문 조회 요청: {}", orderNumber);
+
+        List<OrderArchiveResponse> response = orderArchiveService.getArchivedOrdersByNumber(orderNumber);
+
+        return ResponseEntity.ok(ApiResponse.success("보관 주문 조회가 성공적으로 완료되었습니다.", response));
+    }
+
+    /**
+     * 보관 주문 상세 조회
+     */
+    @GetMapping("/archive/{orderId}")
+    @Operation(summary = "보관 주문 상세 조회", description = "보관 주문의 보관 시점 상세 정보(옵션, 메시지, 발송자 포함)를 조회합니다.")
+    public ResponseEntity<ApiResponse<OrderResponse>> getArchivedOrder(@PathVariable Long orderId) {
+        log.info("관리자 보관 주문 상세 조회 요청: {}", orderId);
+
+        OrderResponse response = orderArchiveService.getArchivedOrder(orderId, null);
+
+        return ResponseEntity.ok(ApiResponse.success("보관 주문 상세 조회가 성공적으로 완료되었습니다.", response));
+    }
 }
@@ -8,6 +8,7 @@ import com.sinsaflower.server.domain.order.dto.OrderCreateResponse;
 import com.sinsaflower.server.domain.order.dto.OrderResponse;
 import com.sinsaflower.server.domain.order.entity.Order;
 import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.service.OrderProductImageService;
 import com.sinsaflower.server.domain.order.service.OrderService;
 import com.sinsaflower.server.domain.order.constants.OrderConstants;
 import com.sinsaflower.server.domain.delivery.entity.Region;
@@ -19,6 +20,7 @@ import com.sinsaflower.server.global.exception.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +34,7 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.Map;
 
 @RestController
@@ -42,6 +45,7 @@ import java.util.Map;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderProductImageService orderProductImageService;
     private final RegionRepository regionRepository;
     @PostMapping("/debug")
     public void debug(@RequestBody String raw) {
@@ -166,7 +170,7 @@ public class OrderController {
 //        // 주문 생성 (이미지 포함)
 //        Order savedOrder;
 //        if (productImage != null && !productImage.isEmpty()) {
-//            savedOrder = orderService.createOrderWithImage(userDetails.getUserId(), orderData, productImage);
+//            savedOrder = orderProductImageService.createOrderWithImage(userDetails.getUserId(), orderData, productImage);
 //        } else {
 //            savedOrder = orderService.createOrder(userDetails.getUserId(), orderData);
 //        }
@@ -180,16 +184,22 @@ public class OrderController {
      * 주문 상태 변경
      */
     @PatchMapping("/{orderId}/status")
-    @Operation(summary = "주문 상태 변경", description = "주문의 상태를 변경합니다.")
+    @Operation(summary = "주문 상태 변경",
+            description = "주문의 상태를 변경합니다. expectedStatus(본문)와 version(파라미터)을 보내면 " +
+                    "그 상태/버전일 때만 변경하고, 다른 요청이 먼저 변경했으면 409를 반환합니다.")
     public ResponseEntity<ApiResponse<OrderResponse>> updateOrderStatus(
             @PathVariable Long orderId,
             @RequestBody Map<String, OrderStatus> request,
+            @RequestParam(required = false) Long version,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
         OrderStatus newStatus = request.get("orderStatus");
+        OrderStatus expectedStatus = request.get("expectedStatus");
         log.info("Updating order status: {} to {} by member: {}", orderId, newStatus, userDetails.getUserId());
 
-        Order updatedOrder = orderService.updateOrderStatus(orderId, newStatus);
+        Order updatedOrder = expectedStatus != null
+                ? orderService.transitionStatus(orderId, expectedStatus, version, newStatus)
+                : orderService.updateOrderStatus(orderId, newStatus);
         OrderResponse response = OrderResponse.from(updatedOrder);
 
         return ResponseEntity.ok(ApiResponse.success(OrderConstants.Messages.ORDER_STATUS_UPDATED, response));
@@ -226,7 +236,32 @@ public class OrderController {
 
         log.info("Uploading product image for order: {} by member: {}", orderId, userDetails.getUserId());
 
-        Order updatedOrder = orderService.uploadProductImage(orderId, imageFile);
+        Order updatedOrder = orderProductImageService.uploadProductImage(orderId, imageFile);
+        OrderResponse response = OrderResponse.from(updatedOrder);
+
+        return ResponseEntity.ok(ApiResponse.success(OrderConstants.Messages.IMAGE_UPLOADED, response));
+    }
+
+    /**
+     * 상품 이미지 업로드 (요청 본문 스트리밍)
+     */
+    @PutMapping(value = "/{orderId}/image", consumes = {
+            MediaType.IMAGE_JPEG_VALUE,
+            MediaType.IMAGE_PNG_VALUE,
+            MediaType.IMAGE_GIF_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @Operation(summary = "상품 이미지 업로드 (스트리밍)",
+            description = "요청 본문에 이미지 바이너리를 그대로 전송합니다. 형식은 파일 내용으로 판별하며 대용량 업로드에 적합합니다.")
+    public ResponseEntity<ApiResponse<OrderResponse>> streamProductImage(
+            @PathVariable Long orderId,
+            @Parameter(description = "원본 파일명") @RequestParam(value = "filename", required = false) String filename,
+            HttpServletRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) throws IOException {
+
+        log.info("Streaming product image for order: {} by member: {}", orderId, userDetails.getUserId());
+
+        Order updatedOrder = orderProductImageService.uploadProductImage(
+                orderId, request.getInputStream(), request.getContentLengthLong(), filename);
         OrderResponse response = OrderResponse.from(updatedOrder);
 
         return ResponseEntity.ok(ApiResponse.success(OrderConstants.Messages.IMAGE_UPLOADED, response));
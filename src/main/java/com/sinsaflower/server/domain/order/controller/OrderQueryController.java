@@ -3,6 +3,7 @@ package com.sinsaflower.server.domain.order.controller;
 import com.sinsaflower.server.domain.order.dto.*;
 import com.sinsaflower.server.domain.order.entity.Order;
 import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.service.OrderArchiveService;
 import com.sinsaflower.server.domain.order.service.OrderService;
 import com.sinsaflower.server.domain.order.constants.OrderConstants;
 import com.sinsaflower.server.domain.order.util.PagingUtils;
@@ -36,6 +37,7 @@ import java.util.List;
 public class OrderQueryController {
 
     private final OrderService orderService;
+    private final OrderArchiveService orderArchiveService;
 
     /**
      * 개별 주문 조회
@@ -69,7 +71,7 @@ public class OrderQueryController {
 
         Pageable pageable = PagingUtils.createPageable(page, size, sort, direction);
         Page<Order> orders = orderService.getOrdersByMember(userDetails.getUserId(), pageable);
-        Page<OrderResponse> response = orders.map(OrderResponse::from);
+        Page<OrderResponse> response = orders.map(OrderResponse::forList);
 
         return ResponseEntity.ok(ApiResponse.success("주문 목록 조회가 성공적으로 완료되었습니다.", response));
     }
@@ -91,7 +93,7 @@ public class OrderQueryController {
 
         Pageable pageable = PagingUtils.createPageable(page, size, sort, direction);
         Page<Order> orders = orderService.getOrdersByMemberAndStatus(userDetails.getUserId(), status, pageable);
-        Page<OrderResponse> response = orders.map(OrderResponse::from);
+        Page<OrderResponse> response = orders.map(OrderResponse::forList);
 
         return ResponseEntity.ok(ApiResponse.success("상태별 주문 목록 조회가 성공적으로 완료되었습니다.", response));
     }
@@ -224,6 +226,43 @@ public class OrderQueryController {
         return ResponseEntity.ok(ApiResponse.success("발주서/영수증 조회가 성공적으로 완료되었습니다.", response));
     }
 
+    /**
+     * 내 보관 주문 목록 조회
+     */
+    @GetMapping("/my/archive")
+    @Operation(summary = "내 보관 주문 목록 조회", description = "보관 기간이 지나 보관 처리된 본인 주문을 배송 년도별로 조회합니다.")
+    public ResponseEntity<ApiResponse<Page<OrderArchiveResponse>>> getMyArchivedOrders(
+            @RequestParam int year,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "deliveryDate") String sort,
+            @RequestParam(defaultValue = "desc") String direction,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        log.info("내 보관 주문 목록 조회 요청: {}년 member {}", year, userDetails.getUserId());
+
+        Pageable pageable = PagingUtils.createPageable(page, size, sort, direction);
+        Page<OrderArchiveResponse> response = orderArchiveService.getArchivedOrders(userDetails.getUserId(), year, pageable);
+
+        return ResponseEntity.ok(ApiResponse.success("보관 주문 목록 조회가 성공적으로 완료되었습니다.", response));
+    }
+
+    /**
+     * 내 보관 주문 상세 조회
+     */
+    @GetMapping("/my/archive/{orderId}")
+    @Operation(summary = "내 보관 주문 상세 조회", description = "보관 처리된 본인 주문의 보관 시점 상세 정보를 조회합니다.")
+    public ResponseEntity<ApiResponse<OrderResponse>> getMyArchivedOrder(
+            @PathVariable Long orderId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        log.info("내 보관 주문 상세 조회 요청: order {} by member {}", orderId, userDetails.getUserId());
+
+        OrderResponse response = orderArchiveService.getArchivedOrder(orderId, userDetails.getUserId());
+
+        return ResponseEntity.ok(ApiResponse.success("보관 주문 상세 조회가 성공적으로 완료되었습니다.", response));
+    }
+
     /**
      * 문자열을 LocalDate로 변환하는 헬퍼 메서드
      */
@@ -0,0 +1,49 @@
+package com.sinsaflower.server.domain.order.dto;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.entity.OrderArchive;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 주문 목록 응답 (주문 전체 내용은 상세 조회 시 OrderResponse로 제공)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderArchiveResponse {
+
+    private Long id;
+    private String orderNumber;
+    private Long memberId;
+    private Long regionId;
+    private OrderStatus orderStatus;
+    private String orderStatusDescription;
+    private LocalDate deliveryDate;
+    private BigDecimal totalAmount;
+    private Boolean deleted;
+    private LocalDateTime orderCreatedAt;
+    private LocalDateTime archivedAt;
+
+    // Entity -> DTO 변환
+    public static OrderArchiveResponse from(OrderArchive archive) {
+        return OrderArchiveResponse.builder()
+                .id(archive.getId())
+                .orderNumber(archive.getOrderNumber())
+                .memberId(archive.getMemberId())
+                .regionId(archive.getRegionId())
+                .orderStatus(archive.getOrderStatus())
+                .orderStatusDescription(archive.getOrderStatus().getDescription())
+                .deliveryDate(archive.getDeliveryDate())
+                .totalAmount(archive.getTotalAmount())
+                .deleted(archive.isDeleted())
+                .orderCreatedAt(archive.getOrderCreatedAt())
+                .archivedAt(archive.getArchivedAt())
+                .build();
+    }
+}
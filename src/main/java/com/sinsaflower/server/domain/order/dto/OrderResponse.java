@@ -57,12 +57,15 @@ public class OrderResponse {
     // 상태 정보
     private OrderStatus orderStatus;
     private String orderStatusDescription;
+    private Long version; // 상태 변경 시 함께 보내면 그 사이 다른 변경이 있을 때 충돌(409) 처리
 
     // 이미지 정보
     private String productImagePath;
     private String productImageOriginalName;
     private String productImageContentType;
     private Long productImageSize;
+    private String productImageThumbnailPath; // 생성 전이면 null
+    private String productImageMediumPath; // 생성 전이면 null
     private Boolean hasProductImage;
 
     // 연관 정보
@@ -114,10 +117,13 @@ public class OrderResponse {
                 .hideDeliveryPhoto(order.getHideDeliveryPhoto())
                 .orderStatus(order.getOrderStatus())
                 .orderStatusDescription(order.getOrderStatus().getDescription())
+                .version(order.getVersion())
                 .productImagePath(order.getProductImagePath())
                 .productImageOriginalName(order.getProductImageOriginalName())
                 .productImageContentType(order.getProductImageContentType())
                 .productImageSize(order.getProductImageSize())
+                .productImageThumbnailPath(order.getProductImageThumbnailPath())
+                .productImageMediumPath(order.getProductImageMediumPath())
                 .hasProductImage(order.hasProductImage())
                 .memberId(order.getMember() != null ? order.getMember().getId() : null)
                 .memberName(order.getMember() != null ? order.getMember().getName() : null)
@@ -139,6 +145,15 @@ public class OrderResponse {
                 .build();
     }
 
+    // Entity -> 목록용 DTO 변환 (productImagePath에 썸네일이 있으면 썸네일 경로 사용)
+    public static OrderResponse forList(Order order) {
+        OrderResponse response = from(order);
+        if (order.getProductImageThumbnailPath() != null) {
+            response.setProductImagePath(order.getProductImageThumbnailPath());
+        }
+        return response;
+    }
+
     // 내부 DTO 클래스들
     @Getter
     @Setter
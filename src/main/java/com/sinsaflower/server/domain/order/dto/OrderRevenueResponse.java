@@ -0,0 +1,48 @@
+package com.sinsaflower.server.domain.order.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 매출 집계 응답 (배송일/회원/지역별 중 하나의 기준으로 묶은 주문 수와 총 주문 금액 합계)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderRevenueResponse {
+
+    private LocalDate deliveryDate;  // 배송일별 집계 시
+    private Long memberId;           // 회원별 집계 시
+    private Long regionId;           // 지역별 집계 시
+    private Long orderCount;         // 주문 수
+    private BigDecimal totalAmount;  // 총 주문 금액 합계
+
+    // 집계 결과 행 (기준값, 주문 수, 금액 합계) -> DTO
+    public static OrderRevenueResponse byDeliveryDate(Object[] row) {
+        return OrderRevenueResponse.builder()
+                .deliveryDate((LocalDate) row[0])
+                .orderCount((Long) row[1])
+                .totalAmount((BigDecimal) row[2])
+                .build();
+    }
+
+    public static OrderRevenueResponse byMember(Object[] row) {
+        return OrderRevenueResponse.builder()
+                .memberId((Long) row[0])
+                .orderCount((Long) row[1])
+                .totalAmount((BigDecimal) row[2])
+                .build();
+    }
+
+    public static OrderRevenueResponse byRegion(Object[] row) {
+        return OrderRevenueResponse.builder()
+                .regionId((Long) row[0])
+                .orderCount((Long) row[1])
+                .totalAmount((BigDecimal) row[2])
+                .build();
+    }
+}
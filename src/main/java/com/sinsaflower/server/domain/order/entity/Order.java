@@ -8,19 +8,26 @@ import com.sinsaflower.server.domain.delivery.entity.Region;
 import com.sinsaflower.server.domain.product.entity.Product;
 import com.sinsaflower.server.domain.order.constants.OrderConstants;
 import com.sinsaflower.server.global.exception.InvalidRequestException;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Filter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 @Entity
 @Table(name = "orders", indexes = {
-    @Index(name = "idx_order_date", columnList = "deliveryDate"),
-    @Index(name = "idx_order_status", columnList = "orderStatus"),
-    @Index(name = "idx_member_id", columnList = "member_id")
-})
+    @Index(name = "idx_order_product_image_path", columnList = "productImagePath"),
+    @Index(name = "idx_order_date_total", columnList = "deliveryDate, totalAmount"),
+    @Index(name = "idx_order_member_total", columnList = "member_id, totalAmount")
+}) // 삭제되지 않은 주문 대상 부분 인덱스는 db/migration
+@Filter(name = BaseTimeEntity.NOT_DELETED_FILTER)
+@DynamicUpdate // 변경한 컬럼만 저장 (버전 없이 일괄 갱신하는 발송 결과/이미지 파생본 경로를 이전 값으로 덮어쓰지 않도록)
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -78,6 +85,11 @@ public class Order extends BaseTimeEntity {
     @Column(precision = 10, scale = 0, nullable = false)
     private BigDecimal payment; // 결제금액
 
+    // 총 주문 금액 (결제금액 + 선택된 옵션 가격), 결제금액/옵션 변경 시 OrderService에서 갱신
+    @Column(precision = 12, scale = 0, nullable = false)
+    @Builder.Default
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
     // 주문자 정보
     @Column(length = 50, nullable = false)
     private String orderCustomerName; // 주문자명
@@ -162,6 +174,11 @@ public class Order extends BaseTimeEntity {
     @Builder.Default
     private OrderStatus orderStatus = OrderStatus.PENDING; // 주문 상태
 
+    // 낙관적 잠금 버전 (동시 수정 시 나중 요청이 앞선 변경을 덮어쓰지 않도록 충돌 처리)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // 연관 엔티티들
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
@@ -188,6 +205,12 @@ public class Order extends BaseTimeEntity {
     @Column
     private Long productImageSize; // 파일 크기 (bytes)
 
+    @Column(length = 500)
+    private String productImageThumbnailPath; // 썸네일 경로 (목록용, 업로드 후 비동기 생성)
+
+    @Column(length = 500)
+    private String productImageMediumPath; // 중간 크기 이미지 경로 (상세용, 업로드 후 비동기 생성)
+
     // 비즈니스 메서드
     public void addOrderOption(OrderOption orderOption) {
         this.orderOptions.add(orderOption);
@@ -210,8 +233,8 @@ public class Order extends BaseTimeEntity {
         this.orderStatus = newStatus;
     }
     
-    // 상태 전환 유효성 검증
-    private void validateStatusTransition(OrderStatus currentStatus, OrderStatus newStatus) {
+    // 상태 전환 유효성 검증 (OrderStatus.canTransitionTo와 같은 규칙, 사유별 메시지 제공)
+    public static void validateStatusTransition(OrderStatus currentStatus, OrderStatus newStatus) {
         // 취소된 주문은 다른 상태로 변경 불가
         if (currentStatus == OrderStatus.CANCELLED) {
             throw new InvalidRequestException("취소된 주문은 상태를 변경할 수 없습니다.");
@@ -240,14 +263,19 @@ public class Order extends BaseTimeEntity {
                this.orderStatus == OrderStatus.CONFIRMED;
     }
 
-    // 총 주문 금액 계산 (기본 상품 + 옵션)
-    public BigDecimal getTotalAmount() {
-        BigDecimal optionTotal = orderOptions.stream()
-                .filter(option -> option.getChecked())
+    // 총 주문 금액 갱신 (결제금액 + 선택된 옵션 가격 합계)
+    public void updateTotalAmount(BigDecimal checkedOptionTotal) {
+        BigDecimal base = payment != null ? payment : BigDecimal.ZERO;
+        this.totalAmount = base.add(checkedOptionTotal != null ? checkedOptionTotal : BigDecimal.ZERO);
+    }
+
+    // 메모리의 옵션 목록 기준 선택된 옵션 가격 합계 (주문 생성 시 사용)
+    public BigDecimal sumCheckedOptionPrices() {
+        return orderOptions.stream()
+                .filter(option -> Boolean.TRUE.equals(option.getChecked()))
                 .map(OrderOption::getPrice)
+                .filter(Objects::nonNull)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        return payment.add(optionTotal);
     }
 
     // 상품 이미지 설정
@@ -256,6 +284,8 @@ public class Order extends BaseTimeEntity {
         this.productImageOriginalName = originalName;
         this.productImageContentType = contentType;
         this.productImageSize = fileSize;
+        this.productImageThumbnailPath = null;
+        this.productImageMediumPath = null;
     }
 
     // 상품 이미지 삭제
@@ -264,6 +294,8 @@ public class Order extends BaseTimeEntity {
         this.productImageOriginalName = null;
         this.productImageContentType = null;
         this.productImageSize = null;
+        this.productImageThumbnailPath = null;
+        this.productImageMediumPath = null;
     }
 
     // 상품 이미지 존재 여부 확인
@@ -349,5 +381,23 @@ public class Order extends BaseTimeEntity {
         public String getDescription() {
             return description;
         }
+
+        // 상태 전환 규칙 (취소된 주문은 변경 불가, 배송 완료 주문은 취소 불가, 같은 상태로 변경 불가)
+        public boolean canTransitionTo(OrderStatus newStatus) {
+            return this != CANCELLED
+                    && this != newStatus
+                    && !(this == DELIVERED && newStatus == CANCELLED);
+        }
+
+        // newStatus로 전환할 수 있는 현재 상태 목록 (상태 전환 UPDATE 조건용)
+        public static Set<OrderStatus> sourcesOf(OrderStatus newStatus) {
+            Set<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+            for (OrderStatus status : values()) {
+                if (status.canTransitionTo(newStatus)) {
+                    sources.add(status);
+                }
+            }
+            return sources;
+        }
     }
 }
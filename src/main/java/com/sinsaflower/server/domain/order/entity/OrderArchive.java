@@ -0,0 +1,71 @@
+package com.sinsaflower.server.domain.order.entity;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 주문
+ * 배송월이 보관 기간을 지난 종료 주문(배송완료/취소/삭제)을 주문 테이블에서 옮겨 둔다.
+ * 조회 조건으로 쓰는 항목만 컬럼으로 두고, 옵션/메시지/발송자를 포함한 주문 전체는
+ * OrderResponse JSON을 gzip으로 압축하여 payload에 저장한다.
+ */
+@Entity
+@Table(name = "order_archive", indexes = {
+    @Index(name = "idx_order_archive_member_date", columnList = "memberId, deliveryDate"),
+    @Index(name = "idx_order_archive_member_year", columnList = "memberId, deliveryYear"),
+    @Index(name = "idx_order_archive_order_number", columnList = "orderNumber"),
+    @Index(name = "idx_order_archive_product_image_path", columnList = "productImagePath")
+})
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderArchive {
+
+    @Id
+    private Long id; // 원 주문 ID
+
+    // 주문번호는 보관 후 재사용될 수 있으므로 유니크가 아님
+    @Column(length = 6, nullable = false)
+    private String orderNumber;
+
+    private Long memberId;
+
+    private Long regionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private OrderStatus orderStatus;
+
+    @Column(nullable = false)
+    private LocalDate deliveryDate;
+
+    private Integer deliveryYear;
+
+    @Column(precision = 12, scale = 0, nullable = false)
+    private BigDecimal totalAmount;
+
+    // 미사용 업로드 파일 정리 시 참조 여부 판단용
+    @Column(length = 500)
+    private String productImagePath;
+
+    @Column(nullable = false)
+    private boolean deleted; // 보관 전 소프트 삭제 여부
+
+    private LocalDateTime deletedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime orderCreatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    // gzip 압축한 OrderResponse JSON
+    @Column(nullable = false, length = 1_048_576)
+    private byte[] payload;
+}
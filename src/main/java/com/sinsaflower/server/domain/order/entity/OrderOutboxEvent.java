@@ -0,0 +1,84 @@
+package com.sinsaflower.server.domain.order.entity;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.event.OrderEvent;
+import com.sinsaflower.server.domain.order.event.OrderEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 이벤트 아웃박스
+ * 주문 변경과 같은 트랜잭션에서 기록하고, OrderEventDispatcher가 커밋된 행을 ID 순서로 전달한다.
+ */
+@Entity
+@Table(name = "order_outbox", indexes = {
+    @Index(name = "idx_order_outbox_pending", columnList = "dispatchedAt, id"),
+    @Index(name = "idx_order_outbox_order", columnList = "orderId")
+})
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private OrderEventType eventType;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(length = 6)
+    private String orderNumber;
+
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private OrderStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private OrderStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    private LocalDateTime dispatchedAt; // 전달 완료 (또는 재시도 포기) 시각, null이면 대기 중
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0; // 전달 실패 횟수
+
+    private LocalDateTime nextAttemptAt; // 재시도 가능 시각 (실패 후 지수 백오프)
+
+    @Column(length = 500)
+    private String lastError;
+
+    public static OrderOutboxEvent of(OrderEventType eventType, Order order, OrderStatus previousStatus) {
+        return OrderOutboxEvent.builder()
+                .eventType(eventType)
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .memberId(order.getMember() != null ? order.getMember().getId() : null)
+                .previousStatus(previousStatus)
+                .status(order.getOrderStatus())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public OrderEvent toEvent() {
+        return new OrderEvent(id, eventType, orderId, orderNumber, memberId, previousStatus, status, occurredAt);
+    }
+
+    // 재시도 대기 중인지 확인
+    public boolean isBackingOff(LocalDateTime now) {
+        return nextAttemptAt != null && nextAttemptAt.isAfter(now);
+    }
+}
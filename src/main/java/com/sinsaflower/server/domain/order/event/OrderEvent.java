@@ -0,0 +1,25 @@
+package com.sinsaflower.server.domain.order.event;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 도메인 이벤트 (아웃박스에서 리스너로 전달)
+ * 최소 한 번 전달되므로 같은 eventId가 다시 올 수 있다.
+ *
+ * @param eventId 아웃박스 ID (주문별 발생 순서와 일치, 중복 수신 판별용)
+ * @param previousStatus 변경 전 상태 (STATUS_CHANGED 외에는 null)
+ * @param status 이벤트 발생 시점의 주문 상태
+ */
+public record OrderEvent(
+        Long eventId,
+        OrderEventType type,
+        Long orderId,
+        String orderNumber,
+        Long memberId,
+        OrderStatus previousStatus,
+        OrderStatus status,
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.sinsaflower.server.domain.order.event;
+
+/**
+ * 주문 도메인 이벤트 리스너
+ * 빈으로 등록하면 OrderEventDispatcher가 커밋된 이벤트를 주문별 발생 순서대로 전달한다.
+ * 예외를 던지면 해당 주문의 이후 이벤트와 함께 재시도되므로 처리는 멱등이어야 한다.
+ */
+public interface OrderEventListener {
+
+    void onOrderEvent(OrderEvent event);
+}
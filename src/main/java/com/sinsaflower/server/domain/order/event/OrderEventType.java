@@ -0,0 +1,11 @@
+package com.sinsaflower.server.domain.order.event;
+
+/**
+ * 주문 도메인 이벤트 종류
+ */
+public enum OrderEventType {
+    CREATED,        // 주문 생성
+    STATUS_CHANGED, // 주문 상태 변경
+    UPDATED,        // 주문 내용 변경 (결제금액, 옵션, 배송일 등)
+    DELETED         // 주문 삭제 (소프트 삭제)
+}
@@ -0,0 +1,37 @@
+package com.sinsaflower.server.domain.order.repository;
+
+import com.sinsaflower.server.domain.order.entity.OrderArchive;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderArchiveRepository extends JpaRepository<OrderArchive, Long> {
+
+    // 회원별 보관 주문 (배송일 기간)
+    Page<OrderArchive> findByMemberIdAndDeliveryDateBetween(Long memberId, LocalDate startDate, LocalDate endDate,
+                                                            Pageable pageable);
+
+    // 회원별 보관 주문 (배송 년도)
+    Page<OrderArchive> findByMemberIdAndDeliveryYear(Long memberId, Integer deliveryYear, Pageable pageable);
+
+    // 전체 보관 주문 (배송일 기간)
+    Page<OrderArchive> findByDeliveryDateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    // 주문번호로 조회 (보관 후 재사용될 수 있어 여러 건)
+    List<OrderArchive> findByOrderNumberOrderByDeliveryDateDesc(String orderNumber);
+
+    // 주어진 경로 중 보관 주문이 참조하는 상품 이미지 경로 (삭제 후 보존 기간이 지난 주문은 제외, 미사용 파일 정리용)
+    @Query("SELECT a.productImagePath FROM OrderArchive a WHERE a.productImagePath IN :paths " +
+           "AND (a.deleted = false OR a.deletedAt > :deletedAfter)")
+    List<String> findReferencedProductImagePaths(@Param("paths") Collection<String> paths,
+                                                 @Param("deletedAfter") LocalDateTime deletedAfter);
+}
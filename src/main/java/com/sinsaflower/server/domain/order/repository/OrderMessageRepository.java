@@ -4,10 +4,12 @@ import com.sinsaflower.server.domain.order.entity.Order;
 import com.sinsaflower.server.domain.order.entity.OrderMessage;
 import com.sinsaflower.server.domain.order.entity.OrderMessage.MessageType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -29,4 +31,9 @@ public interface OrderMessageRepository extends JpaRepository<OrderMessage, Long
 
     // 주문 삭제시 메시지들도 함께 삭제
     void deleteByOrder(Order order);
+
+    // 주문 보관 시 메시지 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM OrderMessage o WHERE o.order.id IN :orderIds")
+    int deleteByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -3,10 +3,13 @@ package com.sinsaflower.server.domain.order.repository;
 import com.sinsaflower.server.domain.order.entity.Order;
 import com.sinsaflower.server.domain.order.entity.OrderOption;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -29,6 +32,15 @@ public interface OrderOptionRepository extends JpaRepository<OrderOption, Long>
     @Query("SELECT COUNT(o) FROM OrderOption o WHERE o.order = :order AND o.checked = true")
     long countCheckedByOrder(@Param("order") Order order);
 
+    // 주문별 선택된 옵션 가격 합계 (총 주문 금액 갱신용)
+    @Query("SELECT COALESCE(SUM(o.price), 0) FROM OrderOption o WHERE o.order.id = :orderId AND o.checked = true")
+    BigDecimal sumCheckedPriceByOrderId(@Param("orderId") Long orderId);
+
     // 주문 삭제시 옵션들도 함께 삭제
     void deleteByOrder(Order order);
+
+    // 주문 보관 시 옵션 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM OrderOption o WHERE o.order.id IN :orderIds")
+    int deleteByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -0,0 +1,53 @@
+package com.sinsaflower.server.domain.order.repository;
+
+import com.sinsaflower.server.domain.order.entity.OrderOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    // 전달 대기 이벤트 (ID 순서, afterId 이후부터)
+    @Query("SELECT e FROM OrderOutboxEvent e WHERE e.dispatchedAt IS NULL AND e.id > :afterId ORDER BY e.id")
+    List<OrderOutboxEvent> findPending(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 전달 완료 처리
+    @Transactional
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.dispatchedAt = :dispatchedAt WHERE e.id IN :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("dispatchedAt") LocalDateTime dispatchedAt);
+
+    // 전달 실패 기록 (nextAttemptAt 이후 재시도)
+    @Transactional
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.attempts = :attempts, e.lastError = :error, e.nextAttemptAt = :nextAttemptAt " +
+           "WHERE e.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("attempts") int attempts, @Param("error") String error,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    // 재시도 포기 (전달 완료로 보고 오류 보관)
+    @Transactional
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.attempts = :attempts, e.lastError = :error, e.dispatchedAt = :dispatchedAt " +
+           "WHERE e.id = :id")
+    int markAbandoned(@Param("id") Long id, @Param("attempts") int attempts, @Param("error") String error,
+                      @Param("dispatchedAt") LocalDateTime dispatchedAt);
+
+    // 보관 기간이 지난 전달 완료 이벤트 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OrderOutboxEvent e WHERE e.dispatchedAt < :dispatchedBefore")
+    int deleteDispatchedBefore(@Param("dispatchedBefore") LocalDateTime dispatchedBefore);
+
+    // 전달 대기 이벤트 수
+    long countByDispatchedAtIsNull();
+}
@@ -8,17 +8,27 @@ import com.sinsaflower.server.domain.delivery.entity.Region;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
+    // 소프트 삭제 필터가 적용되어 삭제된 주문은 조회되지 않음
     Optional<Order> findByOrderNumber(String orderNumber);
+
+    // 삭제되지 않은 주문 단건 조회 (findById는 ID 단건 조회라 소프트 삭제 필터가 적용되지 않음)
+    @Query("SELECT o FROM Order o WHERE o.id = :orderId")
+    Optional<Order> findActiveById(@Param("orderId") Long orderId);
     // 회원별 주문 조회
     List<Order> findByMemberAndIsDeletedFalseOrderByCreatedAtDesc(Member member);
     
@@ -130,7 +140,9 @@ ORDER BY o.createdAt DESC
     List<Order> findTodayDeliveryOrders();
 
     // 주문번호 중복 확인
-    boolean existsByOrderNumber(String orderNumber);
+    // 주문번호 중복 확인: 유니크 제약은 삭제된 주문도 포함하므로 필터를 거치지 않는 네이티브 쿼리로 확인
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM orders WHERE order_number = :orderNumber)", nativeQuery = true)
+    boolean existsByOrderNumber(@Param("orderNumber") String orderNumber);
 
     // Summary 통계용 쿼리들
     
@@ -153,4 +165,97 @@ ORDER BY o.createdAt DESC
     @Query("SELECT COUNT(o) FROM Order o WHERE o.member.id = :memberId AND " +
            "o.orderStatus IN ('PENDING', 'CONFIRMED', 'PREPARING') AND o.isDeleted = false")
     long countByMemberIdAndInProgress(@Param("memberId") Long memberId);
+
+    // 배송일별 매출 (배송일, 주문 수, 총 주문 금액 합계) - 취소/삭제 주문 제외
+    @Query("SELECT o.deliveryDate, COUNT(o), SUM(o.totalAmount) FROM Order o " +
+           "WHERE o.deliveryDate BETWEEN :startDate AND :endDate AND o.orderStatus <> 'CANCELLED' AND o.isDeleted = false " +
+           "GROUP BY o.deliveryDate ORDER BY o.deliveryDate")
+    List<Object[]> sumRevenueByDeliveryDate(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 회원별 매출 (회원 ID, 주문 수, 총 주문 금액 합계) - 매출 큰 순
+    @Query("SELECT o.member.id, COUNT(o), SUM(o.totalAmount) FROM Order o " +
+           "WHERE o.deliveryDate BETWEEN :startDate AND :endDate AND o.orderStatus <> 'CANCELLED' AND o.isDeleted = false " +
+           "GROUP BY o.member.id ORDER BY SUM(o.totalAmount) DESC")
+    List<Object[]> sumRevenueByMember(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 배송 지역별 매출 (지역 ID, 주문 수, 총 주문 금액 합계) - 매출 큰 순, 지역 미지정 주문은 null로 묶임
+    @Query("SELECT o.region.id, COUNT(o), SUM(o.totalAmount) FROM Order o " +
+           "WHERE o.deliveryDate BETWEEN :startDate AND :endDate AND o.orderStatus <> 'CANCELLED' AND o.isDeleted = false " +
+           "GROUP BY o.region.id ORDER BY SUM(o.totalAmount) DESC")
+    List<Object[]> sumRevenueByRegion(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 총 주문 금액이 결제금액 + 선택된 옵션 합계와 다른 주문 (주문 ID, 저장된 금액, 계산한 금액) - ID 구간 단위 점검
+    @Query("SELECT o.id, o.totalAmount, o.payment + COALESCE((SELECT SUM(op.price) FROM OrderOption op " +
+           "WHERE op.order = o AND op.checked = true), 0) FROM Order o " +
+           "WHERE o.id > :afterId AND o.id <= :untilId AND o.totalAmount <> o.payment + " +
+           "COALESCE((SELECT SUM(op2.price) FROM OrderOption op2 WHERE op2.order = o AND op2.checked = true), 0) " +
+           "ORDER BY o.id")
+    List<Object[]> findTotalAmountDrift(@Param("afterId") Long afterId, @Param("untilId") Long untilId);
+
+    // 가장 큰 주문 ID (총 주문 금액 점검 범위)
+    @Query("SELECT MAX(o.id) FROM Order o")
+    Long findMaxId();
+
+    // 총 주문 금액 보정 (점검 이후 다른 요청이 금액을 바꿨으면 반영하지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Order o SET o.totalAmount = :totalAmount WHERE o.id = :orderId AND o.totalAmount = :expectedAmount")
+    int repairTotalAmount(@Param("orderId") Long orderId,
+                          @Param("expectedAmount") BigDecimal expectedAmount,
+                          @Param("totalAmount") BigDecimal totalAmount);
+
+    // 보관 대상 주문 ID: 배송일이 기준일 이전인 종료 주문 (배송완료/취소/삭제, 소프트 삭제 필터를 해제한 세션에서 호출)
+    // 전달되지 않은 주문 이벤트가 남은 주문은 이벤트 처리(정산 반영 등)가 주문을 읽을 수 있도록 제외
+    @Query("SELECT o.id FROM Order o WHERE o.deliveryDate < :before " +
+           "AND (o.isDeleted = true OR o.orderStatus IN ('DELIVERED', 'CANCELLED')) " +
+           "AND NOT EXISTS (SELECT 1 FROM OrderOutboxEvent e WHERE e.orderId = o.id AND e.dispatchedAt IS NULL) " +
+           "ORDER BY o.deliveryDate, o.id")
+    List<Long> findArchivableIds(@Param("before") LocalDate before, Pageable pageable);
+
+    // 정리 대상 주문 ID: 삭제 후 보존 기간이 지난 주문 (소프트 삭제 필터를 해제한 세션에서 호출, 전달되지 않은 이벤트가 남은 주문 제외)
+    @Query("SELECT o.id FROM Order o WHERE o.isDeleted = true AND o.deletedAt < :deletedBefore " +
+           "AND NOT EXISTS (SELECT 1 FROM OrderOutboxEvent e WHERE e.orderId = o.id AND e.dispatchedAt IS NULL) " +
+           "ORDER BY o.id")
+    List<Long> findPurgeableIds(@Param("deletedBefore") LocalDateTime deletedBefore, Pageable pageable);
+
+    // 상태 전환 (compare-and-set): 기대 상태/버전이고 전환 규칙상 허용될 때만 한 문장으로 변경하며 버전 증가
+    // expectedVersion이 null이면 상태만 비교
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.orderStatus = :newStatus, o.version = o.version + 1, o.updatedAt = :updatedAt " +
+           "WHERE o.id = :orderId AND o.orderStatus = :expectedStatus AND o.orderStatus IN :allowedFrom " +
+           "AND (:expectedVersion IS NULL OR o.version = :expectedVersion) AND o.isDeleted = false")
+    int compareAndSetStatus(@Param("orderId") Long orderId,
+                            @Param("expectedStatus") OrderStatus expectedStatus,
+                            @Param("expectedVersion") Long expectedVersion,
+                            @Param("newStatus") OrderStatus newStatus,
+                            @Param("allowedFrom") Collection<OrderStatus> allowedFrom,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 상품 이미지 파생본 경로 반영 (생성 중 이미지가 교체되었으면 반영하지 않음)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.productImageThumbnailPath = :thumbnailPath, o.productImageMediumPath = :mediumPath " +
+           "WHERE o.id = :orderId AND o.productImagePath = :originalPath")
+    int updateProductImageVariants(@Param("orderId") Long orderId,
+                                   @Param("originalPath") String originalPath,
+                                   @Param("thumbnailPath") String thumbnailPath,
+                                   @Param("mediumPath") String mediumPath);
+
+    // 주어진 경로 중 주문이 참조하는 상품 이미지 경로 (삭제 후 보존 기간이 지난 주문은 제외, 미사용 파일 정리용)
+    // 보존 기간 내 삭제 주문도 포함해야 하므로 소프트 삭제 필터를 거치지 않는 네이티브 쿼리
+    @Query(value = "SELECT product_image_path FROM orders WHERE product_image_path IN (:paths) " +
+           "AND (is_deleted = false OR deleted_at > :deletedAfter)", nativeQuery = true)
+    List<String> findReferencedProductImagePaths(@Param("paths") Collection<String> paths,
+                                                 @Param("deletedAfter") LocalDateTime deletedAfter);
+
+    // SMS 발송 결과 기록 (알림 대기열 처리 스레드에서 호출)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Order o SET o.sms = :status WHERE o.id IN :orderIds")
+    int updateSmsStatus(@Param("orderIds") Collection<Long> orderIds, @Param("status") String status);
+
+    // FAX 발송 결과 기록 (알림 대기열 처리 스레드에서 호출)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Order o SET o.fax = :status WHERE o.id IN :orderIds")
+    int updateFaxStatus(@Param("orderIds") Collection<Long> orderIds, @Param("status") String status);
 }
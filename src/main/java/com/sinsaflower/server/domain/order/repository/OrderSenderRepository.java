@@ -3,10 +3,12 @@ package com.sinsaflower.server.domain.order.repository;
 import com.sinsaflower.server.domain.order.entity.Order;
 import com.sinsaflower.server.domain.order.entity.OrderSender;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +35,9 @@ public interface OrderSenderRepository extends JpaRepository<OrderSender, Long>
 
     // 주문 삭제시 발송자들도 함께 삭제
     void deleteByOrder(Order order);
+
+    // 주문 보관 시 발송자 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM OrderSender o WHERE o.order.id IN :orderIds")
+    int deleteByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 }
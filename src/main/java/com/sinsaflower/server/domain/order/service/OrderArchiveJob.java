@@ -0,0 +1,101 @@
+package com.sinsaflower.server.domain.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 종료된 배송월의 주문 보관 작업
+ * 보관 기간(order.archive.retention-months)보다 이전 달에 배송된 배송완료/취소/삭제 주문을
+ * 배치 단위로 보관 테이블로 옮긴다. 진행 중인 주문은 배송월과 관계없이 주문 테이블에 남는다.
+ * 삭제된 주문은 배송월과 관계없이 삭제 후 보존 기간(order.archive.deleted-retention-days)이 지나면 옮긴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderArchiveJob {
+
+    private final OrderArchiveService orderArchiveService;
+
+    @Value("${order.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.archive.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${order.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${order.archive.max-orders-per-run:50000}")
+    private int maxOrdersPerRun;
+
+    @Value("${order.archive.deleted-retention-days:30}")
+    private int deletedRetentionDays;
+
+    @Scheduled(fixedDelayString = "${order.archive.interval:3600000}",
+            initialDelayString = "${order.archive.initial-delay:900000}")
+    public void scheduledArchive() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            archiveClosedMonths(LocalDate.now());
+            purgeDeleted(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("주문 보관 실패 (다음 실행에서 이어서 진행)", e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 배송월의 종료 주문 보관
+     *
+     * @return 이번 실행에서 보관한 주문 수
+     */
+    public synchronized int archiveClosedMonths(LocalDate today) {
+        LocalDate before = YearMonth.from(today).minusMonths(retentionMonths).atDay(1);
+        int archived = 0;
+        while (archived < maxOrdersPerRun) {
+            List<Long> orderIds = orderArchiveService.findArchivableIds(before,
+                    Math.min(batchSize, maxOrdersPerRun - archived));
+            if (orderIds.isEmpty()) {
+                break;
+            }
+            archived += orderArchiveService.archive(orderIds);
+        }
+
+        if (archived > 0) {
+            log.info("주문 보관 완료: 배송일 {} 이전 주문 {}건", before, archived);
+        }
+        return archived;
+    }
+
+    /**
+     * 삭제 후 보존 기간이 지난 주문 정리 (보관 테이블로 이동)
+     *
+     * @return 이번 실행에서 정리한 주문 수
+     */
+    public synchronized int purgeDeleted(LocalDateTime now) {
+        LocalDateTime deletedBefore = now.minusDays(deletedRetentionDays);
+        int purged = 0;
+        while (purged < maxOrdersPerRun) {
+            List<Long> orderIds = orderArchiveService.findPurgeableIds(deletedBefore,
+                    Math.min(batchSize, maxOrdersPerRun - purged));
+            if (orderIds.isEmpty()) {
+                break;
+            }
+            purged += orderArchiveService.archive(orderIds);
+        }
+
+        if (purged > 0) {
+            log.info("삭제 주문 정리 완료: {} 이전 삭제 주문 {}건", deletedBefore, purged);
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,177 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinsaflower.server.domain.order.dto.OrderArchiveResponse;
+import com.sinsaflower.server.domain.order.dto.OrderResponse;
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.entity.OrderArchive;
+import com.sinsaflower.server.domain.order.repository.OrderArchiveRepository;
+import com.sinsaflower.server.domain.order.repository.OrderMessageRepository;
+import com.sinsaflower.server.domain.order.repository.OrderOptionRepository;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.domain.order.repository.OrderSenderRepository;
+import com.sinsaflower.server.global.exception.ResourceNotFoundException;
+import com.sinsaflower.server.global.util.SoftDeleteFilterUtils;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 주문 보관
+ * 배송월이 지난 종료 주문을 보관 테이블로 옮겨 주문 테이블(과 인덱스)에는 최근/진행 중 주문만 남기고,
+ * 보관된 주문의 조회를 제공한다. 보관과 원 주문 삭제는 배치 단위로 한 트랜잭션에서 처리한다.
+ * 삭제된 주문도 옮겨야 하므로 보관 대상 조회와 보관 시에는 소프트 삭제 필터를 해제한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class OrderArchiveService {
+
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderOptionRepository orderOptionRepository;
+    private final OrderMessageRepository orderMessageRepository;
+    private final OrderSenderRepository orderSenderRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * 보관 대상 주문 ID (배송일이 기준일 이전인 배송완료/취소/삭제 주문, 배송일 순)
+     */
+    public List<Long> findArchivableIds(LocalDate before, int limit) {
+        SoftDeleteFilterUtils.includeDeleted(entityManager);
+        return orderRepository.findArchivableIds(before, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 정리 대상 주문 ID (삭제 시각이 기준 시각 이전인 삭제 주문, ID 순)
+     */
+    public List<Long> findPurgeableIds(LocalDateTime deletedBefore, int limit) {
+        SoftDeleteFilterUtils.includeDeleted(entityManager);
+        return orderRepository.findPurgeableIds(deletedBefore, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 주문을 보관 테이블로 옮기고 주문 테이블에서 삭제
+     *
+     * @return 보관한 주문 수
+     */
+    @Transactional
+    public int archive(Collection<Long> orderIds) {
+        SoftDeleteFilterUtils.includeDeleted(entityManager);
+        List<Order> orders = orderRepository.findAllById(orderIds);
+        if (orders.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime archivedAt = LocalDateTime.now();
+        orderArchiveRepository.saveAll(orders.stream()
+                .map(order -> toArchive(order, archivedAt))
+                .toList());
+
+        List<Long> archivedIds = orders.stream().map(Order::getId).toList();
+        orderOptionRepository.deleteByOrderIds(archivedIds);
+        orderMessageRepository.deleteByOrderIds(archivedIds);
+        orderSenderRepository.deleteByOrderIds(archivedIds);
+        orderRepository.deleteAllByIdInBatch(archivedIds);
+
+        log.info("주문 보관: {}건", orders.size());
+        return orders.size();
+    }
+
+    /**
+     * 회원의 보관 주문 목록 (배송일 기간)
+     */
+    public Page<OrderArchiveResponse> getArchivedOrders(Long memberId, LocalDate startDate, LocalDate endDate,
+                                                        Pageable pageable) {
+        Page<OrderArchive> archives = memberId != null
+                ? orderArchiveRepository.findByMemberIdAndDeliveryDateBetween(memberId, startDate, endDate, pageable)
+                : orderArchiveRepository.findByDeliveryDateBetween(startDate, endDate, pageable);
+        return archives.map(OrderArchiveResponse::from);
+    }
+
+    /**
+     * 회원의 보관 주문 목록 (배송 년도)
+     */
+    public Page<OrderArchiveResponse> getArchivedOrders(Long memberId, int deliveryYear, Pageable pageable) {
+        return orderArchiveRepository.findByMemberIdAndDeliveryYear(memberId, deliveryYear, pageable)
+                .map(OrderArchiveResponse::from);
+    }
+
+    /**
+     * 주문번호로 보관 주문 조회 (주문번호는 재사용될 수 있어 여러 건)
+     */
+    public List<OrderArchiveResponse> getArchivedOrdersByNumber(String orderNumber) {
+        return orderArchiveRepository.findByOrderNumberOrderByDeliveryDateDesc(orderNumber).stream()
+                .map(OrderArchiveResponse::from)
+                .toList();
+    }
+
+    /**
+     * 보관 주문 상세 (보관 시점의 주문 전체 내용)
+     *
+     * @param memberId 조회 회원 (null이면 관리자 조회로 회원 확인 생략)
+     */
+    public OrderResponse getArchivedOrder(Long orderId, Long memberId) {
+        OrderArchive archive = orderArchiveRepository.findById(orderId)
+                .filter(found -> memberId == null || memberId.equals(found.getMemberId()))
+                .orElseThrow(() -> new ResourceNotFoundException("Archived order not found: " + orderId));
+        return readPayload(archive.getPayload());
+    }
+
+    private OrderArchive toArchive(Order order, LocalDateTime archivedAt) {
+        return OrderArchive.builder()
+                .id(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .memberId(order.getMember() != null ? order.getMember().getId() : null)
+                .regionId(order.getRegion() != null ? order.getRegion().getId() : null)
+                .orderStatus(order.getOrderStatus())
+                .deliveryDate(order.getDeliveryDate())
+                .deliveryYear(order.getDeliveryYear())
+                .totalAmount(order.getTotalAmount())
+                .productImagePath(order.getProductImagePath())
+                .deleted(Boolean.TRUE.equals(order.getIsDeleted()))
+                .deletedAt(order.getDeletedAt())
+                .orderCreatedAt(order.getCreatedAt())
+                .archivedAt(archivedAt)
+                .payload(writePayload(OrderResponse.from(order)))
+                .build();
+    }
+
+    private byte[] writePayload(OrderResponse response) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(out, response);
+        } catch (IOException e) {
+            throw new UncheckedIOException("보관 주문 직렬화 실패: " + response.getId(), e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private OrderResponse readPayload(byte[] payload) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(in, OrderResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("보관 주문 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.entity.OrderOutboxEvent;
+import com.sinsaflower.server.domain.order.event.OrderEvent;
+import com.sinsaflower.server.domain.order.event.OrderEventListener;
+import com.sinsaflower.server.domain.order.repository.OrderOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 이벤트 아웃박스 디스패처
+ * 커밋된 이벤트를 ID 순서로 배치 조회하여 리스너에 전달하고, 전달한 배치를 한 번에 완료 처리한다.
+ * - 최소 한 번 전달: 전달 후 완료 처리 전에 중단되면 다시 전달됨
+ * - 주문별 순서 보장: 한 스레드에서 ID 순서로 전달하며, 실패한 이벤트가 있으면 같은 주문의 이후 이벤트는 보류
+ * 여러 노드에서 동시에 전달하면 순서가 보장되지 않으므로 order.outbox.enabled는 한 노드에서만 켠다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderEventDispatcher {
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectProvider<OrderEventListener> listeners;
+
+    @Value("${order.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${order.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${order.outbox.retention-days:7}")
+    private int retentionDays;
+
+    // 커밋 직후 전달 요청 처리용 (대기 요청이 이미 있으면 합쳐짐)
+    private ThreadPoolExecutor wakeUpExecutor;
+
+    @PostConstruct
+    void initWakeUpExecutor() {
+        wakeUpExecutor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "order-outbox-dispatcher");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+        wakeUpExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdownWakeUpExecutor() {
+        wakeUpExecutor.shutdown();
+    }
+
+    /**
+     * 새 이벤트 커밋 알림 (발행 트랜잭션 커밋 직후 호출)
+     */
+    public void wakeUp() {
+        if (enabled) {
+            wakeUpExecutor.execute(this::dispatchSafely);
+        }
+    }
+
+    /**
+     * 주기적 전달 (알림 누락, 재시도 대기 이벤트 처리)
+     */
+    @Scheduled(fixedDelayString = "${order.outbox.poll-interval:1000}")
+    public void poll() {
+        if (enabled) {
+            dispatchSafely();
+        }
+    }
+
+    private void dispatchSafely() {
+        try {
+            dispatchPending();
+        } catch (RuntimeException e) {
+            log.error("Order event dispatch failed", e);
+        }
+    }
+
+    /**
+     * 대기 중인 이벤트를 모두 전달
+     *
+     * @return 전달 완료(또는 포기) 처리한 이벤트 수
+     */
+    public synchronized int dispatchPending() {
+        List<OrderEventListener> targets = listeners.orderedStream().toList();
+        Set<Long> blockedOrders = new HashSet<>();
+        long afterId = 0L;
+        int completed = 0;
+
+        while (true) {
+            List<OrderOutboxEvent> batch = orderOutboxRepository.findPending(afterId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> dispatched = new ArrayList<>(batch.size());
+            for (OrderOutboxEvent event : batch) {
+                if (blockedOrders.contains(event.getOrderId())) {
+                    continue;
+                }
+                if (event.isBackingOff(now)) {
+                    blockedOrders.add(event.getOrderId());
+                    continue;
+                }
+
+                try {
+                    deliver(targets, event.toEvent());
+                    dispatched.add(event.getId());
+                } catch (RuntimeException e) {
+                    if (handleFailure(event, e, now)) {
+                        completed++;
+                    } else {
+                        blockedOrders.add(event.getOrderId());
+                    }
+                }
+            }
+
+            if (!dispatched.isEmpty()) {
+                orderOutboxRepository.markDispatched(dispatched, now);
+                completed += dispatched.size();
+            }
+
+            afterId = batch.get(batch.size() - 1).getId();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (completed > 0) {
+            log.debug("Order events dispatched: {}", completed);
+        }
+        return completed;
+    }
+
+    private void deliver(List<OrderEventListener> targets, OrderEvent event) {
+        for (OrderEventListener listener : targets) {
+            listener.onOrderEvent(event);
+        }
+    }
+
+    /**
+     * 전달 실패 처리 (지수 백오프 후 재시도, 최대 횟수를 넘으면 포기)
+     *
+     * @return 재시도를 포기했으면 true
+     */
+    private boolean handleFailure(OrderOutboxEvent event, RuntimeException e, LocalDateTime now) {
+        int attempts = event.getAttempts() + 1;
+        String error = abbreviate(e.getClass().getSimpleName() + ": " + e.getMessage());
+
+        if (attempts >= maxAttempts) {
+            log.error("Order event {} ({} for order {}) abandoned after {} attempts",
+                    event.getId(), event.getEventType(), event.getOrderId(), attempts, e);
+            orderOutboxRepository.markAbandoned(event.getId(), attempts, error, now);
+            return true;
+        }
+
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(MAX_BACKOFF) > 0) {
+            backoff = MAX_BACKOFF;
+        }
+        log.warn("Order event {} ({} for order {}) failed, retrying in {}s: {}",
+                event.getId(), event.getEventType(), event.getOrderId(), backoff.toSeconds(), error);
+        orderOutboxRepository.recordFailure(event.getId(), attempts, error, now.plus(backoff));
+        return false;
+    }
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 정리
+     */
+    @Scheduled(fixedDelayString = "${order.outbox.purge-interval:3600000}")
+    public void purgeDispatched() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = orderOutboxRepository.deleteDispatchedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Purged {} dispatched order events", deleted);
+        }
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+}
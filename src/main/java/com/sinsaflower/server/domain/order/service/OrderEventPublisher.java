@@ -0,0 +1,39 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.entity.OrderOutboxEvent;
+import com.sinsaflower.server.domain.order.event.OrderEventType;
+import com.sinsaflower.server.domain.order.repository.OrderOutboxRepository;
+import com.sinsaflower.server.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 이벤트 발행
+ * 주문 변경과 같은 트랜잭션에서 아웃박스에 기록하므로 롤백되면 이벤트도 남지 않으며,
+ * 커밋 직후 디스패처를 깨워 폴링 주기를 기다리지 않고 전달한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderEventPublisher {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderEventDispatcher orderEventDispatcher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OrderEventType eventType, Order order) {
+        publish(eventType, order, null);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OrderEventType eventType, Order order, OrderStatus previousStatus) {
+        OrderOutboxEvent event = orderOutboxRepository.save(OrderOutboxEvent.of(eventType, order, previousStatus));
+        log.debug("Order event recorded: {} {} (order {})", event.getId(), eventType, order.getId());
+        TransactionUtils.afterCommit(orderEventDispatcher::wakeUp);
+    }
+}
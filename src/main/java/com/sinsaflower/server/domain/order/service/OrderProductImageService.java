@@ -0,0 +1,125 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.constants.OrderConstants;
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import com.sinsaflower.server.global.service.FileSignature;
+import com.sinsaflower.server.global.service.FileUploadService;
+import com.sinsaflower.server.global.service.ImageVariantService;
+import com.sinsaflower.server.global.service.StagedFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 주문 상품 이미지 업로드
+ * 저장소 업로드는 트랜잭션 밖에서 수행하고 DB 반영만 트랜잭션으로 처리하여 커넥션 점유 시간을 줄인다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderProductImageService {
+
+    private final OrderService orderService;
+    private final FileUploadService fileUploadService;
+    private final ImageVariantService imageVariantService;
+
+    /**
+     * 주문에 상품 이미지 업로드
+     */
+    public Order uploadProductImage(Long orderId, MultipartFile imageFile) {
+        log.info("Uploading product image for order: {}", orderId);
+
+        StagedFile image;
+        try {
+            image = fileUploadService.stageFile(imageFile, OrderConstants.FileUpload.ORDER_PRODUCT_IMAGE_PATH);
+        } catch (IOException e) {
+            log.error("Failed to upload product image for order: {}", orderId, e);
+            throw new InvalidRequestException("Failed to upload image: " + e.getMessage());
+        }
+
+        return attach(orderId, image, imageFile.getOriginalFilename(), imageFile.getContentType());
+    }
+
+    /**
+     * 상품 이미지와 함께 주문 생성
+     * 이미지는 트랜잭션 밖에서 먼저 저장하고, 주문 생성 후 상품 이미지 업로드와 같은 방식으로 연결하여
+     * 커밋 이후 파생본을 생성한다. 이미지 저장에 실패해도 주문은 생성된다.
+     */
+    public Order createOrderWithImage(Long memberId, Order orderData, MultipartFile productImage) {
+        log.info("Creating order with image for member: {}", memberId);
+
+        StagedFile image = null;
+        if (productImage != null && !productImage.isEmpty()) {
+            try {
+                image = fileUploadService.stageFile(productImage, OrderConstants.FileUpload.ORDER_PRODUCT_IMAGE_PATH);
+            } catch (IOException e) {
+                log.error("Failed to upload image during order creation for member: {}", memberId, e);
+            }
+        }
+
+        Order savedOrder = orderService.createOrder(memberId, orderData);
+        if (image == null) {
+            return savedOrder;
+        }
+
+        Order order = attach(savedOrder.getId(), image, productImage.getOriginalFilename(), contentTypeOf(image));
+        log.info("Order created with image successfully: {}", order.getId());
+        return order;
+    }
+
+    /**
+     * 요청 본문 스트림으로 상품 이미지 업로드
+     * 멀티파트 파싱/버퍼링 없이 본문을 바로 저장소에 기록하며, 형식은 내용(매직 바이트)으로 판별한다.
+     */
+    public Order uploadProductImage(Long orderId, InputStream content, long contentLength, String originalFilename) {
+        log.info("Streaming product image for order: {} ({} bytes)", orderId, contentLength);
+
+        // 본문을 읽기 전에 주문 존재 여부 확인
+        orderService.getOrder(orderId);
+
+        StagedFile image;
+        try {
+            image = fileUploadService.stageStream(content, contentLength,
+                    OrderConstants.FileUpload.ORDER_PRODUCT_IMAGE_PATH, FileSignature.IMAGES);
+        } catch (IOException e) {
+            log.error("Failed to stream product image for order: {}", orderId, e);
+            throw new InvalidRequestException("Failed to upload image: " + e.getMessage());
+        }
+
+        String filename = StringUtils.hasText(originalFilename)
+                ? StringUtils.getFilename(StringUtils.cleanPath(originalFilename))
+                : StringUtils.getFilename(image.relativePath());
+        return attach(orderId, image, filename, contentTypeOf(image));
+    }
+
+    // 저장된 확장자 기준 Content-Type (확장자는 내용 검사를 거친 값)
+    private static String contentTypeOf(StagedFile image) {
+        return MediaTypeFactory.getMediaType(image.relativePath())
+                .map(MediaType::toString)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+
+    private Order attach(Long orderId, StagedFile image, String originalFilename, String contentType) {
+        // 실패해도 저장한 이미지는 삭제하지 않음 (공유될 수 있는 내용 기준 파일, OrphanFileCollector가 회수)
+        Order order = orderService.attachProductImage(orderId, image, originalFilename, contentType);
+
+        // 커밋 이후 썸네일/중간 크기 파생본을 백그라운드에서 생성
+        String originalPath = image.relativePath();
+        imageVariantService.generateAsync(originalPath)
+                .thenAccept(variants -> variants.ifPresent(
+                        v -> orderService.updateProductImageVariants(orderId, originalPath, v)))
+                .exceptionally(e -> {
+                    log.warn("Failed to generate product image variants for order: {}", orderId, e);
+                    return null;
+                });
+        return order;
+    }
+}
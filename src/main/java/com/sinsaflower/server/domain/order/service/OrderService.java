@@ -2,11 +2,13 @@ package com.sinsaflower.server.domain.order.service;
 
 import com.sinsaflower.server.domain.order.dto.OrderPurchaseDto;
 import com.sinsaflower.server.domain.order.dto.OrderResponse;
+import com.sinsaflower.server.domain.order.dto.OrderRevenueResponse;
 import com.sinsaflower.server.domain.order.entity.Order;
 import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
 import com.sinsaflower.server.domain.order.entity.OrderOption;
 import com.sinsaflower.server.domain.order.entity.OrderMessage;
 import com.sinsaflower.server.domain.order.entity.OrderSender;
+import com.sinsaflower.server.domain.order.event.OrderEventType;
 import com.sinsaflower.server.domain.order.dto.OrderSummaryResponse;
 import com.sinsaflower.server.domain.order.repository.OrderRepository;
 import com.sinsaflower.server.domain.order.repository.OrderOptionRepository;
@@ -18,9 +20,14 @@ import com.sinsaflower.server.domain.member.repository.MemberRepository;
 import com.sinsaflower.server.domain.delivery.entity.Region;
 import com.sinsaflower.server.domain.delivery.repository.RegionRepository;
 import com.sinsaflower.server.domain.product.entity.Product;
+import com.sinsaflower.server.global.datasource.ReportQuery;
+import com.sinsaflower.server.global.exception.ConcurrentUpdateException;
 import com.sinsaflower.server.global.exception.ResourceNotFoundException;
 import com.sinsaflower.server.global.exception.InvalidRequestException;
 import com.sinsaflower.server.global.service.FileUploadService;
+import com.sinsaflower.server.global.service.ImageVariants;
+import com.sinsaflower.server.global.service.StagedFile;
+import com.sinsaflower.server.global.util.TransactionUtils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,10 +35,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -48,6 +54,7 @@ public class OrderService {
     private final OrderSenderRepository orderSenderRepository;
     private final MemberRepository memberRepository;
     private final FileUploadService fileUploadService;
+    private final OrderEventPublisher orderEventPublisher;
 
     /**
      * 주문 생성
@@ -76,6 +83,9 @@ public class OrderService {
         // 배송 년도 자동 설정
         orderData.setDeliveryYearFromDate();
 
+        // 총 주문 금액 설정 (결제금액 + 선택된 옵션)
+        orderData.updateTotalAmount(orderData.sumCheckedOptionPrices());
+
         // 주문 저장
         Order savedOrder = orderRepository.save(orderData);
 
@@ -101,6 +111,8 @@ public class OrderService {
             });
         }
 
+        orderEventPublisher.publish(OrderEventType.CREATED, savedOrder);
+
         log.info("Order created successfully: {}", savedOrder.getId());
         return savedOrder;
     }
@@ -109,8 +121,7 @@ public class OrderService {
      * 주문 조회
      */
     public Order getOrder(Long orderId) {
-        return orderRepository.findById(orderId)
-                .filter(order -> !order.getIsDeleted())
+        return orderRepository.findActiveById(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found: " + orderId));
     }
 
@@ -120,7 +131,6 @@ public class OrderService {
     @Transactional(readOnly = true)
     public OrderResponse getOrder(String orderNumber) {
         Order ord = orderRepository.findByOrderNumber(orderNumber)
-                .filter(order -> !order.getIsDeleted())
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found: " + orderNumber));
 
         return OrderResponse.from(ord);
@@ -173,18 +183,39 @@ public class OrderService {
 
     /**
      * 주문 상태 변경
+     * 조회한 상태/버전을 조건으로 전환하므로, 그 사이 다른 요청이 변경했으면 덮어쓰지 않고 충돌로 처리한다.
      */
     @Transactional
     public Order updateOrderStatus(Long orderId, OrderStatus newStatus) {
-        log.info("Updating order status: {} to {}", orderId, newStatus);
-
         Order order = getOrder(orderId);
-        
-        // Entity에서 비즈니스 규칙 검증 후 상태 변경
-        order.updateStatus(newStatus);
-        Order updatedOrder = orderRepository.save(order);
+        return transitionStatus(orderId, order.getOrderStatus(), order.getVersion(), newStatus);
+    }
+
+    /**
+     * 주문 상태 전환 (compare-and-set)
+     * 사전 조회 없이 한 문장으로 기대 상태/버전 비교, 전환 규칙 확인, 변경을 함께 수행한다 (잠금 대기 없음).
+     *
+     * @param expectedVersion 클라이언트가 본 주문 버전 (null이면 상태만 비교)
+     * @throws InvalidRequestException 전환 규칙상 허용되지 않는 변경
+     * @throws ConcurrentUpdateException 다른 요청이 먼저 상태를 변경함
+     */
+    @Transactional
+    public Order transitionStatus(Long orderId, OrderStatus expectedStatus, Long expectedVersion, OrderStatus newStatus) {
+        log.info("Updating order status: {} from {} to {}", orderId, expectedStatus, newStatus);
+
+        // Entity의 비즈니스 규칙으로 먼저 검증 (사유별 메시지), 같은 규칙을 UPDATE 조건에도 적용
+        Order.validateStatusTransition(expectedStatus, newStatus);
+        int updated = orderRepository.compareAndSetStatus(orderId, expectedStatus, expectedVersion, newStatus,
+                OrderStatus.sourcesOf(newStatus), LocalDateTime.now());
+        if (updated == 0) {
+            Order current = getOrder(orderId);
+            throw ConcurrentUpdateException.orderStatus(orderId, current.getOrderStatus().getDescription());
+        }
+
+        Order updatedOrder = getOrder(orderId);
+        orderEventPublisher.publish(OrderEventType.STATUS_CHANGED, updatedOrder, expectedStatus);
 
-        log.info("Order status updated successfully: {} -> {}", orderId, newStatus);
+        log.info("Order status updated successfully: {} -> {} (version {})", orderId, newStatus, updatedOrder.getVersion());
         return updatedOrder;
     }
 
@@ -215,6 +246,7 @@ public class OrderService {
         }
         if (updateData.getPayment() != null) {
             existingOrder.setPayment(updateData.getPayment());
+            refreshTotalAmount(existingOrder);
         }
         if (updateData.getDeliveryDate() != null) {
             existingOrder.setDeliveryDate(updateData.getDeliveryDate());
@@ -227,6 +259,7 @@ public class OrderService {
         }
 
         Order updatedOrder = orderRepository.save(existingOrder);
+        orderEventPublisher.publish(OrderEventType.UPDATED, updatedOrder);
         log.info("Order updated successfully: {}", orderId);
         return updatedOrder;
     }
@@ -238,7 +271,17 @@ public class OrderService {
     public OrderOption addOrUpdateOrderOption(Long orderId, OrderOption optionData) {
         Order order = getOrder(orderId);
         optionData.setOrder(order);
-        return orderOptionRepository.save(optionData);
+        OrderOption savedOption = orderOptionRepository.save(optionData);
+        refreshTotalAmount(order);
+        orderEventPublisher.publish(OrderEventType.UPDATED, order);
+        return savedOption;
+    }
+
+    /**
+     * 총 주문 금액 갱신 (DB에 반영된 선택 옵션 합계 기준, 옵션 컬렉션은 로딩하지 않음)
+     */
+    private void refreshTotalAmount(Order order) {
+        order.updateTotalAmount(orderOptionRepository.sumCheckedPriceByOrderId(order.getId()));
     }
 
     /**
@@ -277,6 +320,7 @@ public class OrderService {
 
         order.softDelete(deletedBy);
         orderRepository.save(order);
+        orderEventPublisher.publish(OrderEventType.DELETED, order);
 
         log.info("Order deleted successfully: {}", orderId);
     }
@@ -298,6 +342,7 @@ public class OrderService {
     /**
      * 주문 통계 조회
      */
+    @ReportQuery
     public Map<String, Long> getOrderStatistics() {
         return Map.of(
                 "pending", orderRepository.countByOrderStatus(OrderStatus.PENDING),
@@ -310,38 +355,68 @@ public class OrderService {
     }
 
     /**
-     * 주문에 상품 이미지 업로드
+     * 배송일별 매출 (취소/삭제 주문 제외)
+     */
+    @ReportQuery
+    public List<OrderRevenueResponse> getDailyRevenue(LocalDate startDate, LocalDate endDate) {
+        return orderRepository.sumRevenueByDeliveryDate(startDate, endDate).stream()
+                .map(OrderRevenueResponse::byDeliveryDate)
+                .toList();
+    }
+
+    /**
+     * 회원별 매출 (취소/삭제 주문 제외, 매출 큰 순)
+     */
+    @ReportQuery
+    public List<OrderRevenueResponse> getMemberRevenue(LocalDate startDate, LocalDate endDate) {
+        return orderRepository.sumRevenueByMember(startDate, endDate).stream()
+                .map(OrderRevenueResponse::byMember)
+                .toList();
+    }
+
+    /**
+     * 배송 지역별 매출 (취소/삭제 주문 제외, 매출 큰 순)
+     */
+    @ReportQuery
+    public List<OrderRevenueResponse> getRegionRevenue(LocalDate startDate, LocalDate endDate) {
+        return orderRepository.sumRevenueByRegion(startDate, endDate).stream()
+                .map(OrderRevenueResponse::byRegion)
+                .toList();
+    }
+
+    /**
+     * 주문에 상품 이미지 연결 (파일은 OrderProductImageService에서 트랜잭션 전에 저장)
      */
     @Transactional
-    public Order uploadProductImage(Long orderId, MultipartFile imageFile) {
-        log.info("Uploading product image for order: {}", orderId);
+    public Order attachProductImage(Long orderId, StagedFile image, String originalFilename, String contentType) {
+        log.info("Attaching product image for order: {}", orderId);
 
         Order order = getOrder(orderId);
+        String previousImagePath = order.hasProductImage() ? order.getProductImagePath() : null;
 
-        try {
-            // 기존 이미지가 있다면 삭제
-            if (order.hasProductImage()) {
-                fileUploadService.deleteFile(order.getProductImagePath());
-            }
+        // Order 엔티티에 이미지 정보 설정
+        order.setProductImage(image.relativePath(), originalFilename, contentType, image.size());
+        Order updatedOrder = orderRepository.save(order);
 
-            // 새 이미지 업로드
-            String filePath = fileUploadService.saveFile(imageFile, OrderConstants.FileUpload.ORDER_PRODUCT_IMAGE_PATH);
-            
-            // Order 엔티티에 이미지 정보 설정
-            order.setProductImage(
-                filePath,
-                imageFile.getOriginalFilename(),
-                imageFile.getContentType(),
-                imageFile.getSize()
-            );
+        // 기존 이미지는 커밋된 경우에만 삭제 (새 이미지는 롤백되어도 다른 주문과 공유될 수 있어 OrphanFileCollector가 회수)
+        if (previousImagePath != null) {
+            TransactionUtils.afterCommit(() -> fileUploadService.deleteFile(previousImagePath));
+        }
 
-            Order updatedOrder = orderRepository.save(order);
-            log.info("Product image uploaded successfully for order: {}", orderId);
-            return updatedOrder;
+        log.info("Product image uploaded successfully for order: {}", orderId);
+        return updatedOrder;
+    }
 
-        } catch (IOException e) {
-            log.error("Failed to upload product image for order: {}", orderId, e);
-            throw new InvalidRequestException("Failed to upload image: " + e.getMessage());
+    /**
+     * 상품 이미지 파생본 경로 반영
+     * 생성 중 이미지가 교체/삭제되었으면 원본 경로가 달라 반영하지 않음
+     */
+    @Transactional
+    public void updateProductImageVariants(Long orderId, String originalPath, ImageVariants variants) {
+        int updated = orderRepository.updateProductImageVariants(
+                orderId, originalPath, variants.thumbnailPath(), variants.mediumPath());
+        if (updated == 0) {
+            log.debug("Product image changed before variants were ready, skipping order: {}", orderId);
         }
     }
 
@@ -370,37 +445,6 @@ public class OrderService {
         }
     }
 
-    /**
-     * 주문 생성 시 이미지와 함께 처리
-     */
-    @Transactional
-    public Order createOrderWithImage(Long memberId, Order orderData, MultipartFile productImage) {
-        log.info("Creating order with image for member: {}", memberId);
-
-        // 기본 주문 생성
-        Order savedOrder = createOrder(memberId, orderData);
-
-        // 이미지가 있다면 업로드
-        if (productImage != null && !productImage.isEmpty()) {
-            try {
-                String filePath = fileUploadService.saveFile(productImage, OrderConstants.FileUpload.ORDER_PRODUCT_IMAGE_PATH);
-                savedOrder.setProductImage(
-                    filePath,
-                    productImage.getOriginalFilename(),
-                    productImage.getContentType(),
-                    productImage.getSize()
-                );
-                savedOrder = orderRepository.save(savedOrder);
-                log.info("Order created with image successfully: {}", savedOrder.getId());
-            } catch (IOException e) {
-                log.error("Failed to upload image during order creation: {}", savedOrder.getId(), e);
-                // 이미지 업로드 실패해도 주문은 생성되도록 함
-            }
-        }
-
-        return savedOrder;
-    }
-
     /**
      * 회원별 주문 요약 통계 조회
      */
@@ -0,0 +1,102 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 총 주문 금액 정합성 점검
+ * 저장된 totalAmount가 결제금액 + 선택된 옵션 가격 합계와 다른 주문을 ID 구간 단위로 찾아 기록한다.
+ * OrderService를 거치지 않은 변경(직접 SQL 수정 등)으로 생긴 차이를 발견하기 위한 작업이며,
+ * order.total-check.repair가 켜져 있으면 점검 이후 금액이 바뀌지 않은 주문만 계산값으로 보정한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderTotalAmountChecker {
+
+    private final OrderRepository orderRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${order.total-check.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.total-check.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${order.total-check.repair:false}")
+    private boolean repair;
+
+    private Counter driftedOrders;
+    private Counter repairedOrders;
+
+    @PostConstruct
+    void registerMetrics() {
+        driftedOrders = Counter.builder("orders.total_amount.drift")
+                .description("총 주문 금액이 결제금액 + 선택 옵션 합계와 다른 주문 수")
+                .register(meterRegistry);
+        repairedOrders = Counter.builder("orders.total_amount.repaired")
+                .description("보정한 총 주문 금액 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.total-check.interval:86400000}",
+            initialDelayString = "${order.total-check.initial-delay:600000}")
+    public void scheduledCheck() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            check();
+        } catch (RuntimeException e) {
+            log.warn("총 주문 금액 점검 실패", e);
+        }
+    }
+
+    /**
+     * 전체 주문을 ID 구간 단위로 점검
+     *
+     * @return 금액이 맞지 않는 주문 수
+     */
+    public synchronized int check() {
+        Long maxId = orderRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        int drifted = 0;
+        int repaired = 0;
+        for (long afterId = 0; afterId < maxId; afterId += batchSize) {
+            List<Object[]> rows = orderRepository.findTotalAmountDrift(afterId, Math.min(afterId + batchSize, maxId));
+            for (Object[] row : rows) {
+                Long orderId = (Long) row[0];
+                BigDecimal storedAmount = (BigDecimal) row[1];
+                BigDecimal expectedAmount = (BigDecimal) row[2];
+                drifted++;
+                driftedOrders.increment();
+                log.warn("총 주문 금액 불일치: orderId={}, 저장={}, 계산={}", orderId, storedAmount, expectedAmount);
+
+                if (repair && orderRepository.repairTotalAmount(orderId, storedAmount, expectedAmount) > 0) {
+                    repaired++;
+                    repairedOrders.increment();
+                }
+            }
+        }
+
+        if (drifted > 0) {
+            log.warn("총 주문 금액 점검: 불일치 {}건, 보정 {}건", drifted, repaired);
+        } else {
+            log.info("총 주문 금액 점검: 불일치 없음 (최대 주문 ID {})", maxId);
+        }
+        return drifted;
+    }
+}
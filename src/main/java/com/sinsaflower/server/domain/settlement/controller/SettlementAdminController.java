@@ -0,0 +1,113 @@
+package com.sinsaflower.server.domain.settlement.controller;
+
+import com.sinsaflower.server.domain.settlement.dto.SettlementResponse;
+import com.sinsaflower.server.domain.settlement.service.SettlementService;
+import com.sinsaflower.server.global.dto.ApiResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 정산 관리자 전용 컨트롤러
+ * 일별 정산 집계 기준 전체/회원별/지역별 매출, 원가, 마진 조회 API 제공
+ */
+@RestController
+@Lazy // 관리자 전용: 첫 요청 시 생성해 기동 시간 단축
+@RequestMapping("/api/admin/settlements")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "정산 관리 (관리자)", description = "관리자 전용 정산 조회 API")
+public class SettlementAdminController {
+
+    private final SettlementService settlementService;
+
+    /**
+     * 기간 정산 합계 조회
+     */
+    @GetMapping("/summary")
+    @Operation(summary = "기간 정산 합계 조회", description = "기간 내 전체 또는 특정 회원의 주문 수, 매출, 원가, 마진 합계를 조회합니다.")
+    public ResponseEntity<ApiResponse<SettlementResponse>> getSummary(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(required = false) Long memberId) {
+
+        log.info("관리자 정산 합계 조회 요청: {} ~ {} (member {})", startDate, endDate, memberId);
+
+        SettlementResponse response = settlementService.getSummary(memberId, startDate, endDate);
+
+        return ResponseEntity.ok(ApiResponse.success("정산 합계 조회가 성공적으로 완료되었습니다.", response));
+    }
+
+    /**
+     * 이번 달 정산 합계 조회
+     */
+    @GetMapping("/month-to-date")
+    @Operation(summary = "이번 달 정산 합계 조회", description = "이번 달 1일부터 오늘까지 전체 또는 특정 회원의 정산 합계를 조회합니다.")
+    public ResponseEntity<ApiResponse<SettlementResponse>> getMonthToDate(
+            @RequestParam(required = false) Long memberId) {
+
+        log.info("관리자 이번 달 정산 합계 조회 요청 (member {})", memberId);
+
+        SettlementResponse response = settlementService.getMonthToDate(memberId, LocalDate.now());
+
+        return ResponseEntity.ok(ApiResponse.success("이번 달 정산 합계 조회가 성공적으로 완료되었습니다.", response));
+    }
+
+    /**
+     * 일별 정산 조회
+     */
+    @GetMapping("/daily")
+    @Operation(summary = "일별 정산 조회", description = "기간 내 배송일별 전체 또는 특정 회원의 정산 합계를 조회합니다.")
+    public ResponseEntity<ApiResponse<List<SettlementResponse>>> getDaily(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(required = false) Long memberId) {
+
+        log.info("관리자 일별 정산 조회 요청: {} ~ {} (member {})", startDate, endDate, memberId);
+
+        List<SettlementResponse> response = settlementService.getDaily(memberId, startDate, endDate);
+
+        return ResponseEntity.ok(ApiResponse.success("일별 정산 조회가 성공적으로 완료되었습니다.", response));
+    }
+
+    /**
+     * 회원별 정산 조회
+     */
+    @GetMapping("/members")
+    @Operation(summary = "회원별 정산 조회", description = "기간 내 회원별 정산 합계를 매출 큰 순으로 조회합니다.")
+    public ResponseEntity<ApiResponse<List<SettlementResponse>>> getByMember(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+
+        log.info("관리자 회원별 정산 조회 요청: {} ~ {}", startDate, endDate);
+
+        List<SettlementResponse> response = settlementService.getByMember(startDate, endDate);
+
+        return ResponseEntity.ok(ApiResponse.success("회원별 정산 조회가 성공적으로 완료되었습니다.", response));
+    }
+
+    /**
+     * 지역별 정산 조회
+     */
+    @GetMapping("/regions")
+    @Operation(summary = "지역별 정산 조회", description = "기간 내 배송 지역별 정산 합계를 매출 큰 순으로 조회합니다.")
+    public ResponseEntity<ApiResponse<List<SettlementResponse>>> getByRegion(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+
+        log.info("관리자 지역별 정산 조회 요청: {} ~ {}", startDate, endDate);
+
+        List<SettlementResponse> response = settlementService.getByRegion(startDate, endDate);
+
+        return ResponseEntity.ok(ApiResponse.success("지역별 정산 조회가 성공적으로 완료되었습니다.", response));
+    }
+}
@@ -0,0 +1,72 @@
+package com.sinsaflower.server.domain.settlement.controller;
+
+import com.sinsaflower.server.domain.settlement.dto.SettlementResponse;
+import com.sinsaflower.server.domain.settlement.service.SettlementService;
+import com.sinsaflower.server.global.dto.ApiResponse;
+import com.sinsaflower.server.global.security.CustomUserDetails;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 파트너 정산 조회 컨트롤러
+ * 로그인한 회원의 배송일 기준 매출/원가/마진 합계 제공 (기간 미지정 시 이번 달 1일 ~ 오늘)
+ */
+@RestController
+@RequestMapping("/api/settlements")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "정산", description = "파트너 정산 조회 API")
+public class SettlementController {
+
+    private final SettlementService settlementService;
+
+    /**
+     * 내 정산 합계 조회
+     */
+    @GetMapping("/me")
+    @Operation(summary = "내 정산 합계 조회", description = "기간 내 배송일 기준 주문 수, 매출, 원가, 마진 합계를 조회합니다. 기간을 지정하지 않으면 이번 달 합계를 조회합니다.")
+    public ResponseEntity<ApiResponse<SettlementResponse>> getMySettlement(
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        log.info("내 정산 합계 조회 요청: member {} ({} ~ {})", userDetails.getUserId(), startDate, endDate);
+
+        LocalDate today = LocalDate.now();
+        SettlementResponse response = settlementService.getSummary(userDetails.getUserId(),
+                startDate != null ? startDate : today.withDayOfMonth(1),
+                endDate != null ? endDate : today);
+
+        return ResponseEntity.ok(ApiResponse.success("정산 합계 조회가 성공적으로 완료되었습니다.", response));
+    }
+
+    /**
+     * 내 일별 정산 조회
+     */
+    @GetMapping("/me/daily")
+    @Operation(summary = "내 일별 정산 조회", description = "기간 내 배송일별 주문 수, 매출, 원가, 마진을 조회합니다. 기간을 지정하지 않으면 이번 달을 조회합니다.")
+    public ResponseEntity<ApiResponse<List<SettlementResponse>>> getMyDailySettlement(
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        log.info("내 일별 정산 조회 요청: member {} ({} ~ {})", userDetails.getUserId(), startDate, endDate);
+
+        LocalDate today = LocalDate.now();
+        List<SettlementResponse> response = settlementService.getDaily(userDetails.getUserId(),
+                startDate != null ? startDate : today.withDayOfMonth(1),
+                endDate != null ? endDate : today);
+
+        return ResponseEntity.ok(ApiResponse.success("일별 정산 조회가 성공적으로 완료되었습니다.", response));
+    }
+}
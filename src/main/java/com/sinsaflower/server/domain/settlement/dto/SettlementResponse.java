@@ -0,0 +1,66 @@
+package com.sinsaflower.server.domain.settlement.dto;
+
+import com.sinsaflower.server.domain.settlement.entity.DailySettlement;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 정산 집계 응답 (기간 합계 또는 배송일/회원/지역별 합계)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementResponse {
+
+    private LocalDate startDate;     // 기간 합계 시
+    private LocalDate endDate;       // 기간 합계 시
+    private LocalDate businessDate;  // 배송일별 집계 시
+    private Long memberId;           // 회원별 집계 시
+    private Long regionId;           // 지역별 집계 시 (지역 미지정 주문은 null)
+    private Long orderCount;         // 정산 대상 주문 수
+    private BigDecimal revenue;      // 매출 (총 주문 금액 합계)
+    private BigDecimal cost;         // 원가 합계
+    private BigDecimal margin;       // 매출 - 원가
+
+    // 집계 결과 행 (주문 수, 매출, 원가) -> 기간 합계 DTO
+    public static SettlementResponse summary(LocalDate startDate, LocalDate endDate, Object[] row) {
+        return amounts(row, 0)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+
+    // 집계 결과 행 (기준값, 주문 수, 매출, 원가) -> DTO
+    public static SettlementResponse byBusinessDate(Object[] row) {
+        return amounts(row, 1)
+                .businessDate((LocalDate) row[0])
+                .build();
+    }
+
+    public static SettlementResponse byMember(Object[] row) {
+        return amounts(row, 1)
+                .memberId((Long) row[0])
+                .build();
+    }
+
+    public static SettlementResponse byRegion(Object[] row) {
+        Long regionId = (Long) row[0];
+        return amounts(row, 1)
+                .regionId(regionId == DailySettlement.NO_REGION ? null : regionId)
+                .build();
+    }
+
+    private static SettlementResponseBuilder amounts(Object[] row, int offset) {
+        BigDecimal revenue = (BigDecimal) row[offset + 1];
+        BigDecimal cost = (BigDecimal) row[offset + 2];
+        return SettlementResponse.builder()
+                .orderCount(((Number) row[offset]).longValue())
+                .revenue(revenue)
+                .cost(cost)
+                .margin(revenue.subtract(cost));
+    }
+}
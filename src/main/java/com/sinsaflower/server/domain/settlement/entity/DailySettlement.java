@@ -0,0 +1,52 @@
+package com.sinsaflower.server.domain.settlement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일별 정산 집계 (배송일 x 회원 x 배송 지역)
+ * 주문 이벤트마다 해당 주문의 기여분 차이만큼 더해지며, 주문 테이블을 다시 읽어 재계산하지 않는다.
+ * 기간 조회는 주문이 아닌 이 테이블을 합산한다.
+ */
+@Entity
+@Table(name = "settlement_daily",
+    indexes = {
+        @Index(name = "idx_settlement_daily_member", columnList = "memberId, businessDate")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_settlement_daily_key", columnNames = {"businessDate", "memberId", "regionId"})
+    })
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailySettlement {
+
+    // 배송 지역이 없는 주문의 regionId (유니크 키에 null을 쓰지 않기 위함)
+    public static final long NO_REGION = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate businessDate; // 배송일
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private Long regionId;
+
+    @Column(nullable = false)
+    private long orderCount; // 정산 대상 주문 수
+
+    @Column(precision = 15, scale = 0, nullable = false)
+    private BigDecimal revenue; // 매출 (총 주문 금액 합계)
+
+    @Column(precision = 15, scale = 0, nullable = false)
+    private BigDecimal cost; // 원가 합계
+}
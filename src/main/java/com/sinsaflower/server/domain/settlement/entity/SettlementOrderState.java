@@ -0,0 +1,42 @@
+package com.sinsaflower.server.domain.settlement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 주문별 정산 반영 상태
+ * 일별 집계에 마지막으로 더한 주문의 기여분을 보관하여, 다음 이벤트에서 차이만 반영할 수 있게 한다.
+ * 정산 대상이 아닌 주문(취소/삭제)은 행이 없다.
+ */
+@Entity
+@Table(name = "settlement_order_state")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementOrderState {
+
+    @Id
+    private Long orderId;
+
+    @Column(nullable = false)
+    private LocalDate businessDate;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private Long regionId;
+
+    @Column(precision = 12, scale = 0, nullable = false)
+    private BigDecimal revenue;
+
+    @Column(precision = 12, scale = 0, nullable = false)
+    private BigDecimal cost;
+
+    // 마지막으로 반영한 주문 이벤트 ID
+    private Long lastEventId;
+}
@@ -0,0 +1,57 @@
+package com.sinsaflower.server.domain.settlement.repository;
+
+import com.sinsaflower.server.domain.settlement.entity.DailySettlement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailySettlementRepository extends JpaRepository<DailySettlement, Long> {
+
+    // 집계 행에 증감분 반영 (행이 없으면 0 반환, 호출 측에서 새 행 저장)
+    @Modifying
+    @Query("UPDATE DailySettlement d SET d.orderCount = d.orderCount + :orderCount, " +
+           "d.revenue = d.revenue + :revenue, d.cost = d.cost + :cost " +
+           "WHERE d.businessDate = :businessDate AND d.memberId = :memberId AND d.regionId = :regionId")
+    int addTo(@Param("businessDate") LocalDate businessDate,
+              @Param("memberId") Long memberId,
+              @Param("regionId") Long regionId,
+              @Param("orderCount") long orderCount,
+              @Param("revenue") BigDecimal revenue,
+              @Param("cost") BigDecimal cost);
+
+    // 기간 합계 (주문 수, 매출, 원가) - memberId가 null이면 전체
+    @Query("SELECT COALESCE(SUM(d.orderCount), 0), COALESCE(SUM(d.revenue), 0), COALESCE(SUM(d.cost), 0) " +
+           "FROM DailySettlement d WHERE d.businessDate BETWEEN :startDate AND :endDate " +
+           "AND (:memberId IS NULL OR d.memberId = :memberId)")
+    List<Object[]> sumTotal(@Param("memberId") Long memberId,
+                            @Param("startDate") LocalDate startDate,
+                            @Param("endDate") LocalDate endDate);
+
+    // 일별 합계 (배송일, 주문 수, 매출, 원가) - memberId가 null이면 전체
+    @Query("SELECT d.businessDate, SUM(d.orderCount), SUM(d.revenue), SUM(d.cost) " +
+           "FROM DailySettlement d WHERE d.businessDate BETWEEN :startDate AND :endDate " +
+           "AND (:memberId IS NULL OR d.memberId = :memberId) " +
+           "GROUP BY d.businessDate ORDER BY d.businessDate")
+    List<Object[]> sumByBusinessDate(@Param("memberId") Long memberId,
+                                     @Param("startDate") LocalDate startDate,
+                                     @Param("endDate") LocalDate endDate);
+
+    // 회원별 합계 (회원 ID, 주문 수, 매출, 원가) - 매출 큰 순
+    @Query("SELECT d.memberId, SUM(d.orderCount), SUM(d.revenue), SUM(d.cost) " +
+           "FROM DailySettlement d WHERE d.businessDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY d.memberId ORDER BY SUM(d.revenue) DESC")
+    List<Object[]> sumByMember(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 배송 지역별 합계 (지역 ID, 주문 수, 매출, 원가) - 매출 큰 순
+    @Query("SELECT d.regionId, SUM(d.orderCount), SUM(d.revenue), SUM(d.cost) " +
+           "FROM DailySettlement d WHERE d.businessDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY d.regionId ORDER BY SUM(d.revenue) DESC")
+    List<Object[]> sumByRegion(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,9 @@
+package com.sinsaflower.server.domain.settlement.repository;
+
+import com.sinsaflower.server.domain.settlement.entity.SettlementOrderState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SettlementOrderStateRepository extends JpaRepository<SettlementOrderState, Long> {
+}
@@ -0,0 +1,22 @@
+package com.sinsaflower.server.domain.settlement.service;
+
+import com.sinsaflower.server.domain.order.event.OrderEvent;
+import com.sinsaflower.server.domain.order.event.OrderEventListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 주문 이벤트를 받아 일별 정산 집계에 반영
+ * 생성/상태 변경/내용 변경/삭제 모두 주문의 현재 상태 기준으로 차이를 계산하므로 이벤트 종류를 구분하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderSettlementListener implements OrderEventListener {
+
+    private final SettlementService settlementService;
+
+    @Override
+    public void onOrderEvent(OrderEvent event) {
+        settlementService.apply(event.orderId(), event.eventId());
+    }
+}
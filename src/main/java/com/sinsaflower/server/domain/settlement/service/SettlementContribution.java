@@ -0,0 +1,61 @@
+package com.sinsaflower.server.domain.settlement.service;
+
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.settlement.entity.DailySettlement;
+import com.sinsaflower.server.domain.settlement.entity.SettlementOrderState;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 주문 한 건이 일별 정산 집계에 더하는 값
+ * 매출은 총 주문 금액, 원가는 원가 x 수량이며, 취소/삭제된 주문은 정산 대상이 아니다.
+ */
+public record SettlementContribution(
+        LocalDate businessDate,
+        Long memberId,
+        Long regionId,
+        BigDecimal revenue,
+        BigDecimal cost
+) {
+
+    /**
+     * 주문의 현재 기여분 (정산 대상이 아니면 empty)
+     */
+    public static Optional<SettlementContribution> of(Order order) {
+        if (Boolean.TRUE.equals(order.getIsDeleted()) || order.getOrderStatus() == OrderStatus.CANCELLED
+                || order.getMember() == null || order.getDeliveryDate() == null) {
+            return Optional.empty();
+        }
+        BigDecimal cost = order.getOriginPrice() != null && order.getQuantity() != null
+                ? order.getOriginPrice().multiply(BigDecimal.valueOf(order.getQuantity()))
+                : BigDecimal.ZERO;
+        return Optional.of(new SettlementContribution(
+                order.getDeliveryDate(),
+                order.getMember().getId(),
+                order.getRegion() != null ? order.getRegion().getId() : DailySettlement.NO_REGION,
+                order.getTotalAmount() != null ? order.getTotalAmount() : BigDecimal.ZERO,
+                cost));
+    }
+
+    /**
+     * 집계에 마지막으로 반영한 기여분
+     */
+    public static SettlementContribution of(SettlementOrderState state) {
+        return new SettlementContribution(state.getBusinessDate(), state.getMemberId(), state.getRegionId(),
+                state.getRevenue(), state.getCost());
+    }
+
+    /**
+     * 집계 키와 금액이 같은지 (금액은 scale 무시)
+     */
+    public boolean isSameAs(SettlementContribution other) {
+        return businessDate.equals(other.businessDate)
+                && memberId.equals(other.memberId)
+                && regionId.equals(other.regionId)
+                && revenue.compareTo(other.revenue) == 0
+                && cost.compareTo(other.cost) == 0;
+    }
+}
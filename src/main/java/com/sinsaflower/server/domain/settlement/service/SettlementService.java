@@ -0,0 +1,154 @@
+package com.sinsaflower.server.domain.settlement.service;
+
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.domain.settlement.dto.SettlementResponse;
+import com.sinsaflower.server.domain.settlement.entity.DailySettlement;
+import com.sinsaflower.server.domain.settlement.entity.SettlementOrderState;
+import com.sinsaflower.server.domain.settlement.repository.DailySettlementRepository;
+import com.sinsaflower.server.domain.settlement.repository.SettlementOrderStateRepository;
+import com.sinsaflower.server.global.datasource.ReportQuery;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 정산 집계
+ * 주문 이벤트마다 주문의 현재 기여분과 마지막으로 반영한 기여분의 차이만 일별 집계에 더하고,
+ * 기간 조회는 일별 집계만 합산한다 (주문 테이블을 읽지 않음).
+ * 주문의 현재 상태 기준으로 차이를 계산하므로 같은 이벤트를 다시 받아도 결과가 같다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class SettlementService {
+
+    private final OrderRepository orderRepository;
+    private final DailySettlementRepository dailySettlementRepository;
+    private final SettlementOrderStateRepository settlementOrderStateRepository;
+
+    /**
+     * 주문 변경분을 일별 집계에 반영
+     *
+     * @param eventId 반영 계기가 된 주문 이벤트 ID
+     */
+    @Transactional
+    public void apply(Long orderId, Long eventId) {
+        Optional<Order> order = orderRepository.findById(orderId);
+        Optional<SettlementOrderState> state = settlementOrderStateRepository.findById(orderId);
+        if (order.isEmpty()) {
+            // 보관/정리로 주문 행이 없어진 경우: 취소/삭제는 소프트 삭제와 상태로 반영되므로 마지막 반영분을 유지
+            state.ifPresent(found -> found.setLastEventId(eventId));
+            log.debug("Settlement skipped: order {} no longer exists (event {})", orderId, eventId);
+            return;
+        }
+        Optional<SettlementContribution> target = order.flatMap(SettlementContribution::of);
+        Optional<SettlementContribution> previous = state.map(SettlementContribution::of);
+
+        if (target.isPresent() && previous.isPresent() && target.get().isSameAs(previous.get())) {
+            state.get().setLastEventId(eventId);
+            return;
+        }
+        if (target.isEmpty() && previous.isEmpty()) {
+            return;
+        }
+
+        previous.ifPresent(contribution -> addToDaily(contribution, -1));
+        target.ifPresent(contribution -> addToDaily(contribution, 1));
+
+        if (target.isPresent()) {
+            SettlementContribution contribution = target.get();
+            SettlementOrderState next = state.orElseGet(() -> SettlementOrderState.builder().orderId(orderId).build());
+            next.setBusinessDate(contribution.businessDate());
+            next.setMemberId(contribution.memberId());
+            next.setRegionId(contribution.regionId());
+            next.setRevenue(contribution.revenue());
+            next.setCost(contribution.cost());
+            next.setLastEventId(eventId);
+            settlementOrderStateRepository.save(next);
+        } else {
+            settlementOrderStateRepository.delete(state.get());
+        }
+        log.debug("Settlement applied: order {} (event {})", orderId, eventId);
+    }
+
+    private void addToDaily(SettlementContribution contribution, int sign) {
+        BigDecimal factor = BigDecimal.valueOf(sign);
+        BigDecimal revenue = contribution.revenue().multiply(factor);
+        BigDecimal cost = contribution.cost().multiply(factor);
+        int updated = dailySettlementRepository.addTo(contribution.businessDate(), contribution.memberId(),
+                contribution.regionId(), sign, revenue, cost);
+        if (updated == 0) {
+            dailySettlementRepository.save(DailySettlement.builder()
+                    .businessDate(contribution.businessDate())
+                    .memberId(contribution.memberId())
+                    .regionId(contribution.regionId())
+                    .orderCount(sign)
+                    .revenue(revenue)
+                    .cost(cost)
+                    .build());
+        }
+    }
+
+    /**
+     * 기간 합계 (memberId가 null이면 전체)
+     */
+    public SettlementResponse getSummary(Long memberId, LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
+        return SettlementResponse.summary(startDate, endDate,
+                dailySettlementRepository.sumTotal(memberId, startDate, endDate).get(0));
+    }
+
+    /**
+     * 이번 달 1일부터 기준일까지 합계 (memberId가 null이면 전체)
+     */
+    public SettlementResponse getMonthToDate(Long memberId, LocalDate today) {
+        return getSummary(memberId, today.withDayOfMonth(1), today);
+    }
+
+    /**
+     * 배송일별 합계 (memberId가 null이면 전체)
+     */
+    public List<SettlementResponse> getDaily(Long memberId, LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
+        return dailySettlementRepository.sumByBusinessDate(memberId, startDate, endDate).stream()
+                .map(SettlementResponse::byBusinessDate)
+                .toList();
+    }
+
+    /**
+     * 회원별 합계 (매출 큰 순)
+     */
+    @ReportQuery
+    public List<SettlementResponse> getByMember(LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
+        return dailySettlementRepository.sumByMember(startDate, endDate).stream()
+                .map(SettlementResponse::byMember)
+                .toList();
+    }
+
+    /**
+     * 배송 지역별 합계 (매출 큰 순)
+     */
+    @ReportQuery
+    public List<SettlementResponse> getByRegion(LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
+        return dailySettlementRepository.sumByRegion(startDate, endDate).stream()
+                .map(SettlementResponse::byRegion)
+                .toList();
+    }
+
+    private void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw InvalidRequestException.invalidParameter("startDate", "종료일보다 늦을 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.sinsaflower.server.global.config;
+
+import com.sinsaflower.server.global.storage.BlobStore;
+import com.sinsaflower.server.global.storage.LocalBlobStore;
+import com.sinsaflower.server.global.storage.S3BlobStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.nio.file.Paths;
+
+/**
+ * 업로드 파일 저장소 설정
+ * storage.type=local(기본)이면 로컬 디스크, s3이면 S3 호환 오브젝트 스토리지 사용
+ */
+@Configuration
+public class BlobStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+    public BlobStore localBlobStore(FileUploadProperties fileUploadProperties) {
+        return new LocalBlobStore(Paths.get(fileUploadProperties.getBasePath()));
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+    static class S3StorageConfig {
+
+        @Bean
+        public S3Client s3Client(BlobStoreProperties blobStoreProperties) {
+            BlobStoreProperties.S3 s3 = blobStoreProperties.getS3();
+            var builder = S3Client.builder()
+                    .region(Region.of(s3.getRegion()))
+                    .credentialsProvider(credentialsProvider(s3))
+                    .forcePathStyle(s3.isPathStyleAccess());
+            if (StringUtils.hasText(s3.getEndpoint())) {
+                builder.endpointOverride(URI.create(s3.getEndpoint()));
+            }
+            return builder.build();
+        }
+
+        @Bean
+        public S3Presigner s3Presigner(BlobStoreProperties blobStoreProperties) {
+            BlobStoreProperties.S3 s3 = blobStoreProperties.getS3();
+            var builder = S3Presigner.builder()
+                    .region(Region.of(s3.getRegion()))
+                    .credentialsProvider(credentialsProvider(s3))
+                    .serviceConfiguration(S3Configuration.builder()
+                            .pathStyleAccessEnabled(s3.isPathStyleAccess())
+                            .build());
+            if (StringUtils.hasText(s3.getEndpoint())) {
+                builder.endpointOverride(URI.create(s3.getEndpoint()));
+            }
+            return builder.build();
+        }
+
+        @Bean
+        public BlobStore s3BlobStore(S3Client s3Client, S3Presigner s3Presigner, BlobStoreProperties blobStoreProperties) {
+            BlobStoreProperties.S3 s3 = blobStoreProperties.getS3();
+            return new S3BlobStore(s3Client, s3Presigner, s3.getBucket(), s3.getPartSize());
+        }
+
+        private static AwsCredentialsProvider credentialsProvider(BlobStoreProperties.S3 s3) {
+            if (StringUtils.hasText(s3.getAccessKey())) {
+                return StaticCredentialsProvider.create(AwsBasicCredentials.create(s3.getAccessKey(), s3.getSecretKey()));
+            }
+            return DefaultCredentialsProvider.create();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "storage")
+@Getter @Setter
+public class BlobStoreProperties {
+
+    private String type = "local"; // local | s3
+    private Duration presignTtl = Duration.ofMinutes(10); // 서명 URL 유효 시간
+    private S3 s3 = new S3();
+
+    @Getter @Setter
+    public static class S3 {
+        private String endpoint; // MinIO 등 S3 호환 스토리지 주소 (AWS S3는 비워둠)
+        private String region = "ap-northeast-2";
+        private String bucket;
+        private String accessKey; // 비워두면 기본 자격 증명 체인 사용
+        private String secretKey;
+        private boolean pathStyleAccess = false; // MinIO는 true
+        private int partSize = 8 * 1024 * 1024; // 멀티파트 업로드 파트 크기 (최소 5MB)
+    }
+}
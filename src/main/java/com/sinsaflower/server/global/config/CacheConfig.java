@@ -0,0 +1,16 @@
+package com.sinsaflower.server.global.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    // 캐시 인터셉터를 트랜잭션보다 바깥에 두어
+    // 캐시 적중 시 트랜잭션(커넥션)을 열지 않고, 무효화는 커밋 이후에 수행
+    
+    // 캐시 구현/크기 설정은 application.yml의 spring.cache 참고
+    // 적중률/제거 수는 actuator 메트릭(cache.gets, cache.evictions)으로 노출
+}
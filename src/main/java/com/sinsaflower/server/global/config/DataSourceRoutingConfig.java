@@ -0,0 +1,131 @@
+package com.sinsaflower.server.global.config;
+
+import com.sinsaflower.server.global.datasource.ReadYourWritesTracker;
+import com.sinsaflower.server.global.datasource.ReplicaHealthChecker;
+import com.sinsaflower.server.global.datasource.ReplicaNode;
+import com.sinsaflower.server.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DB 연결 풀과 라우팅 설정
+ * - 주 DB(OLTP) 풀: spring.datasource(.hikari), 주문/회원 처리 등 짧은 트랜잭션
+ * - 보고서 풀: datasource.report(.hikari), 읽기 전용 @ReportQuery 조회 (url 생략 시 주 DB)
+ * - 읽기 복제본: datasource.routing.enabled=true일 때 datasource.routing.replicas
+ * 풀별 크기/타임아웃/누수 감지는 application.yml의 환경별 프로필에서 설정한다.
+ */
+@Configuration
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.report.hikari")
+    public HikariDataSource reportDataSource(DataSourceProperties dataSourceProperties,
+                                             @Value("${datasource.report.url:}") String reportUrl) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(StringUtils.hasText(reportUrl) ? reportUrl : dataSourceProperties.determineUrl())
+                .username(dataSourceProperties.determineUsername())
+                .password(dataSourceProperties.determinePassword())
+                .build();
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    // 읽기 일관성 표식은 모든 노드가 검증할 수 있도록 노드 간 공유되는 JWT 서명 키로 서명
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties routingProperties,
+                                                       @Value("${jwt.secret}") String jwtSecret) {
+        return new ReadYourWritesTracker(routingProperties.getReadYourWritesWindow(), jwtSecret);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                             @Qualifier("reportDataSource") DataSource reportDataSource,
+                                                             DataSourceProperties dataSourceProperties,
+                                                             DataSourceRoutingProperties routingProperties,
+                                                             ReadYourWritesTracker readYourWritesTracker,
+                                                             MeterRegistry meterRegistry) {
+        List<ReplicaNode> replicas = new ArrayList<>();
+        if (routingProperties.isEnabled()) {
+            for (int i = 0; i < routingProperties.getReplicas().size(); i++) {
+                DataSourceRoutingProperties.Replica replica = routingProperties.getReplicas().get(i);
+                String name = StringUtils.hasText(replica.getName()) ? replica.getName() : "replica-" + (i + 1);
+                replicas.add(new ReplicaNode(name, replicaDataSource(name, replica,
+                        replicaConnectionTimeout(replica, routingProperties), dataSourceProperties, meterRegistry)));
+            }
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, reportDataSource, replicas, readYourWritesTracker,
+                meterRegistry);
+    }
+
+    // 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 연결을 얻어, 읽기 전용 여부가 정해진 뒤 라우팅되도록 함
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                                     DataSourceRoutingProperties routingProperties,
+                                                     MeterRegistry meterRegistry) {
+        return new ReplicaHealthChecker(replicaRoutingDataSource.getReplicas(), meterRegistry,
+                routingProperties.getMaxReplicationLag(), routingProperties.getLagQuery(),
+                routingProperties.getHealthCheckTimeoutSeconds());
+    }
+
+    // 복제본 장애 시 읽기와 상태 점검이 Hikari 기본 대기(30초)만큼 멈추지 않도록 상태 점검 제한 시간 이내로 제한
+    static Duration replicaConnectionTimeout(DataSourceRoutingProperties.Replica replica,
+                                             DataSourceRoutingProperties routingProperties) {
+        Duration healthCheckTimeout = Duration.ofSeconds(routingProperties.getHealthCheckTimeoutSeconds());
+        return replica.getConnectionTimeout().compareTo(healthCheckTimeout) > 0
+                ? healthCheckTimeout
+                : replica.getConnectionTimeout();
+    }
+
+    static HikariDataSource replicaDataSource(String name, DataSourceRoutingProperties.Replica replica,
+                                              Duration connectionTimeout, DataSourceProperties dataSourceProperties,
+                                              MeterRegistry meterRegistry) {
+        boolean ownAccount = StringUtils.hasText(replica.getUsername());
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(replica.getUrl())
+                .username(ownAccount ? replica.getUsername() : dataSourceProperties.determineUsername())
+                .password(ownAccount ? replica.getPassword() : dataSourceProperties.determinePassword())
+                .build();
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        dataSource.setReadOnly(true);
+        // 빈으로 등록되지 않으므로 연결 풀 메트릭(hikaricp.*)을 직접 등록
+        dataSource.setMetricRegistry(meterRegistry);
+        // 복제본이 내려가 있어도 애플리케이션은 기동 (상태 점검에서 제외 후 복귀)
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
@@ -0,0 +1,34 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+@Getter @Setter
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false; // true면 읽기 전용 트랜잭션을 복제본으로 분산 (보고서 풀은 항상 사용)
+    private List<Replica> replicas = new ArrayList<>();
+    private Duration readYourWritesWindow = Duration.ofSeconds(5); // 사용자의 쓰기 커밋 후 이 기간 동안 해당 사용자의 읽기는 주 DB로 (서명된 표식으로 노드 간 적용)
+    private Duration maxReplicationLag = Duration.ofSeconds(5); // 복제 지연이 이보다 크면 복제본 제외
+    private String lagQuery; // 복제 지연(초)을 반환하는 쿼리 (비어 있으면 연결 확인만)
+    private int healthCheckTimeoutSeconds = 2;
+
+    @Getter @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username; // 비어 있으면 주 DB 계정 사용
+        private String password;
+        private int maximumPoolSize = 10;
+        // 연결 대기 한도 (복제본 장애 시 이만큼 기다린 뒤 주 DB로 전환, 상태 점검 제한 시간보다 길면 제한 시간 적용)
+        private Duration connectionTimeout = Duration.ofSeconds(1);
+    }
+}
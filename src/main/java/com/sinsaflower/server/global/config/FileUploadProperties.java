@@ -15,4 +15,7 @@ public class FileUploadProperties {
     private String basePath = "./uploads";
     private List<String> allowedExtensions = List.of("jpg", "jpeg", "png", "gif", "pdf");
     private long maxFileSize = 10485760; // 10MB
+    private String stagingDirectory = ".staging"; // basePath 하위 업로드 임시 파일 디렉토리 (해시 계산용)
+    private int stagingThreads = 4; // 업로드 병렬 처리 스레드 수
+    private long sendfileMinSize = 48 * 1024; // 이 크기 이상은 sendfile(커널 zero-copy)로 전송 (bytes)
 } 
\ No newline at end of file
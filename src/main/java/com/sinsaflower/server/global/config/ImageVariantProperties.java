@@ -0,0 +1,19 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "file.image-variant")
+@Getter @Setter
+public class ImageVariantProperties {
+
+    private int thumbnailSize = 200; // 썸네일 긴 변 (px)
+    private int mediumSize = 800; // 중간 크기 긴 변 (px)
+    private float quality = 0.8f; // JPEG 품질 (0~1)
+    private long maxPixels = 40_000_000; // 처리할 원본 최대 픽셀 수 (디코딩 폭탄 방지)
+    private int threads = 2; // 생성 스레드 수
+    private int queueCapacity = 200; // 대기 작업 수 (초과 시 생성 생략, 목록은 원본 사용)
+}
@@ -0,0 +1,32 @@
+package com.sinsaflower.server.global.config;
+
+import com.sinsaflower.server.domain.member.dto.MemberExportRow;
+import com.sinsaflower.server.domain.order.dto.OrderResponse;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.NativeDetector;
+
+/**
+ * GraalVM 네이티브 이미지 설정 (./gradlew nativeCompile -Pnative)
+ * JVM 실행에는 영향 없음. 리플렉션 힌트는 AOT 처리 시점에만 등록되고, Hibernate 설정은 네이티브 실행일 때만 바뀐다.
+ */
+@Configuration
+@ImportRuntimeHints(NativeRuntimeHints.class)
+// 컨트롤러 시그니처 밖에서 Jackson으로 직렬화/역직렬화하는 DTO (회원 내보내기 JSON Lines, 주문 보관 payload)
+@RegisterReflectionForBinding({MemberExportRow.class, OrderResponse.class})
+public class NativeConfig {
+
+    // 네이티브 이미지에서는 런타임에 프록시 클래스를 만들 수 없으므로 빌드 시점에 보강된 엔티티(org.hibernate.orm 플러그인)를 사용
+    @Bean
+    public HibernatePropertiesCustomizer nativeBytecodeProviderCustomizer() {
+        return properties -> {
+            if (NativeDetector.inNativeImage()) {
+                properties.put(AvailableSettings.BYTECODE_PROVIDER, "none");
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.sinsaflower.server.global.config;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.MappedSuperclass;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.List;
+
+/**
+ * 네이티브 이미지 리플렉션 힌트
+ * - JPA: 도메인 패키지의 엔티티, 임베디드 타입, 공통 상위 클래스와 필드의 enum, 엔티티 리스너
+ *   (Spring AOT는 @EntityScan 대상 엔티티만 등록하므로 domain.common의 Address, BaseTimeEntity 등을 보완)
+ * - JJWT: jjwt-api가 jjwt-impl 구현 클래스를 이름으로 찾아 생성하거나 정적 메서드를 호출
+ */
+class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String DOMAIN_PACKAGE = "com.sinsaflower.server.domain";
+
+    private static final MemberCategory[] ENTITY_MEMBERS = {
+            MemberCategory.DECLARED_FIELDS,
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+            MemberCategory.INVOKE_DECLARED_METHODS
+    };
+
+    private static final List<String> JJWT_IMPL_CLASSES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.KeysBridge"
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        registerPersistentTypes(hints, classLoader);
+        for (String className : JJWT_IMPL_CLASSES) {
+            hints.reflection().registerType(TypeReference.of(className),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+    }
+
+    private void registerPersistentTypes(RuntimeHints hints, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent(); // 추상 클래스(@MappedSuperclass) 포함
+            }
+        };
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Embeddable.class));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(MappedSuperclass.class));
+
+        for (BeanDefinition candidate : scanner.findCandidateComponents(DOMAIN_PACKAGE)) {
+            Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+            hints.reflection().registerType(type, ENTITY_MEMBERS);
+
+            // @Enumerated 필드의 enum (Hibernate가 상수 목록을 리플렉션으로 조회)
+            ReflectionUtils.doWithLocalFields(type, field -> {
+                if (field.getType().isEnum()) {
+                    hints.reflection().registerType(field.getType(), MemberCategory.INVOKE_PUBLIC_METHODS);
+                }
+            });
+
+            EntityListeners listeners = type.getAnnotation(EntityListeners.class);
+            if (listeners != null) {
+                for (Class<?> listener : listeners.value()) {
+                    hints.reflection().registerType(listener,
+                            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.sinsaflower.server.global.config;
+
+import com.sinsaflower.server.domain.notification.entity.NotificationChannel;
+import com.sinsaflower.server.domain.notification.provider.FakeNotificationProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 알림 발송 업체 설정
+ * 실제 업체 연동 전에는 채널별로 발송하지 않는 FakeNotificationProvider를 등록한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "notification", name = "fake-provider", havingValue = "true", matchIfMissing = true)
+public class NotificationConfig {
+
+    @Bean
+    public FakeNotificationProvider fakeSmsProvider() {
+        return new FakeNotificationProvider(NotificationChannel.SMS);
+    }
+
+    @Bean
+    public FakeNotificationProvider fakeFaxProvider() {
+        return new FakeNotificationProvider(NotificationChannel.FAX);
+    }
+}
@@ -0,0 +1,27 @@
+package com.sinsaflower.server.global.config;
+
+import com.sinsaflower.server.domain.notification.entity.NotificationChannel;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "notification")
+@Getter @Setter
+public class NotificationProperties {
+
+    private boolean enabled = true;
+    private boolean fakeProvider = true; // 실제 업체 연동 전까지 발송 없이 로그만 남김
+    private int batchSize = 100; // 업체 호출 1회당 최대 건수 (업체 제한이 더 작으면 업체 기준)
+    private int maxAttempts = 8; // 초과 시 발송 포기 (주문에 "실패" 기록)
+    private Duration initialBackoff = Duration.ofSeconds(10); // 첫 재시도 간격 (실패할 때마다 2배)
+    private Duration maxBackoff = Duration.ofMinutes(30);
+    private Map<NotificationChannel, Double> ratePerSecond = new EnumMap<>(Map.of(
+            NotificationChannel.SMS, 20.0,
+            NotificationChannel.FAX, 1.0)); // 업체별 초당 최대 발송 건수
+}
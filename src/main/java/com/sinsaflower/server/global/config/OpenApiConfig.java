@@ -7,10 +7,12 @@ import io.swagger.v3.oas.models.servers.Server;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 import java.util.List;
 
 @Configuration
+@Lazy // API 문서를 처음 요청할 때 생성 (fast-start 프로필에서는 springdoc 비활성화로 생성하지 않음)
 public class OpenApiConfig {
 
     @Value("${server.port:8080}")
@@ -0,0 +1,21 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "file.orphan-gc")
+@Getter @Setter
+public class OrphanFileProperties {
+
+    private boolean enabled = true;
+    private Duration gracePeriod = Duration.ofHours(24); // 수정 시각이 이보다 최근인 파일은 삭제하지 않음 (업로드/재사용 후 커밋 전 파일 보호)
+    private Duration deletedOrderRetention = Duration.ofDays(30); // 삭제된 주문의 이미지 보존 기간 (복구 대비)
+    private int batchSize = 500; // 목록 조회/참조 확인 단위
+    private int maxFilesPerRun = 20000; // 1회 실행 시 확인할 최대 파일 수 (다음 실행에서 이어서 진행)
+    private int filesPerSecond = 500; // 초당 최대 파일 IO (조회 + 삭제)
+}
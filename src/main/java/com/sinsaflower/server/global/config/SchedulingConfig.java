@@ -0,0 +1,12 @@
+package com.sinsaflower.server.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // @Scheduled 백그라운드 작업 활성화
+    // 통계 재집계 등 주기 작업에 사용
+}
@@ -3,15 +3,12 @@ package com.sinsaflower.server.global.config;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
-    private final FileUploadProperties fileUploadProperties;
-
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -22,10 +19,5 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(false);
     }
 
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 업로드된 파일을 정적 리소스로 서빙
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + fileUploadProperties.getBasePath() + "/");
-    }
+    // 업로드된 파일 서빙은 UploadFileController에서 처리 (Range/ETag/sendfile)
 } 
\ No newline at end of file
@@ -1,7 +1,8 @@
 package com.sinsaflower.server.global.controller;
 
 import com.sinsaflower.server.domain.admin.repository.AdminRepository;
-import com.sinsaflower.server.domain.member.repository.MemberRepository;
+import com.sinsaflower.server.domain.member.dto.MemberResponse;
+import com.sinsaflower.server.domain.member.service.MemberService;
 import com.sinsaflower.server.global.constants.AuthConstants;
 import com.sinsaflower.server.global.dto.AuthResponse;
 import com.sinsaflower.server.global.dto.LoginRequest;
@@ -40,7 +41,7 @@ public class AuthController {
     
     private final AuthService authService;
     private final AdminRepository adminRepository;
-    private final MemberRepository memberRepository;
+    private final MemberService memberService;
     
 
     /**
@@ -165,10 +166,10 @@ public class AuthController {
                 userInfo.put("nickname", admin.getName()); // 관리자는 name을 nickname으로 사용
             });
         } else if (userDetails.isPartner()) {
-            memberRepository.findById(userDetails.getUserId()).ifPresent(member -> {
-                userInfo.put("name", member.getName());
-                userInfo.put("nickname", member.getNickname());
-            });
+            // 회원 프로필 캐시 사용
+            MemberResponse member = memberService.getMemberInfo(userDetails.getUserId());
+            userInfo.put("name", member.getName());
+            userInfo.put("nickname", member.getNickname());
         }
         
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success(AuthConstants.Messages.USER_INFO_SUCCESS, userInfo));
@@ -0,0 +1,180 @@
+package com.sinsaflower.server.global.controller;
+
+import com.sinsaflower.server.global.config.BlobStoreProperties;
+import com.sinsaflower.server.global.config.FileUploadProperties;
+import com.sinsaflower.server.global.service.FileUploadService;
+import com.sinsaflower.server.global.storage.BlobStore;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 서빙
+ * 로컬 저장소는 Range(206), ETag/Last-Modified(304)를 지원하고 가능한 경우 sendfile로 본문을 전송하며,
+ * 오브젝트 스토리지는 서명 URL로 리다이렉트하여 클라이언트가 직접 내려받게 한다.
+ */
+@Hidden
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class UploadFileController {
+
+    private static final String UPLOADS_PREFIX = "/uploads/";
+
+    // Tomcat sendfile 요청 속성 (NIO/NIO2 커넥터에서 커널 zero-copy 전송)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final BlobStore blobStore;
+    private final FileUploadProperties fileUploadProperties;
+    private final BlobStoreProperties blobStoreProperties;
+
+    /**
+     * 업로드 파일 조회 (GET/HEAD)
+     */
+    @GetMapping(UPLOADS_PREFIX + "**")
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = URL_PATH_HELPER.getPathWithinApplication(request).substring(UPLOADS_PREFIX.length());
+        Optional<Path> localPath = blobStore.localPath(key);
+        if (localPath.isEmpty()) {
+            Optional<URI> presignedUrl = blobStore.presignedGetUrl(key, blobStoreProperties.getPresignTtl());
+            if (presignedUrl.isPresent()) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+                response.sendRedirect(presignedUrl.get().toString());
+            } else {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            }
+            return;
+        }
+
+        Path path = localPath.get();
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long fileLength = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        Optional<String> contentHash = FileUploadService.contentHashOf(key);
+        String etag = contentHash
+                .map(hash -> "\"" + hash + "\"")
+                .orElseGet(() -> "W/\"" + Long.toHexString(fileLength) + "-" + Long.toHexString(lastModified) + "\"");
+
+        // 내용 기준 파일은 경로가 바뀌지 않는 한 내용도 바뀌지 않음
+        response.setHeader(HttpHeaders.CACHE_CONTROL, contentHash.isPresent()
+                ? "private, max-age=31536000, immutable"
+                : "private, no-cache");
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setContentType(MediaTypeFactory.getMediaType(path.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+
+        long start = 0;
+        long end = fileLength - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && isRangeApplicable(request, etag, lastModified)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+
+            // 다중 범위는 지원하지 않고 전체 응답 (RFC 9110 허용)
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                start = range.getRangeStart(fileLength);
+                end = Math.min(range.getRangeEnd(fileLength), fileLength - 1);
+                if (start >= fileLength || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileLength);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + fileLength);
+            }
+        }
+
+        long contentLength = end - start + 1;
+        response.setContentLengthLong(contentLength);
+        if ("HEAD".equals(request.getMethod()) || contentLength <= 0) {
+            return;
+        }
+
+        if (contentLength >= fileUploadProperties.getSendfileMinSize()
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            // 컨테이너가 응답 커밋 시 sendfile로 전송 (end는 exclusive)
+            request.setAttribute(SENDFILE_FILENAME_ATTR, path.toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+
+        transfer(path, start, contentLength, response);
+    }
+
+    /**
+     * If-Range 조건 확인 (일치하지 않으면 Range를 무시하고 전체 응답)
+     */
+    private boolean isRangeApplicable(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // 약한 ETag는 Range 비교에 사용할 수 없음
+            return !etag.startsWith("W/") && ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * sendfile을 사용할 수 없는 경우 FileChannel.transferTo로 전송
+     */
+    private void transfer(Path path, long start, long length, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+}
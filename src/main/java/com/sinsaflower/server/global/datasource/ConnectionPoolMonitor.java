@@ -0,0 +1,75 @@
+package com.sinsaflower.server.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연결 풀 포화 감시
+ * 연결 풀 메트릭(hikaricp.connections.pending, hikaricp.connections.acquire)을 주기적으로 확인해
+ * 연결을 기다리는 스레드 수나 최근 최대 대기 시간이 기준을 넘은 풀을 경고 로그와 카운터(datasource.pool.saturation)로 알린다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConnectionPoolMonitor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${datasource.pool-monitor.enabled:true}")
+    private boolean enabled;
+
+    @Value("${datasource.pool-monitor.pending-threshold:5}")
+    private int pendingThreshold;
+
+    @Value("${datasource.pool-monitor.max-wait-threshold:500}")
+    private long maxWaitThresholdMillis;
+
+    @Scheduled(fixedDelayString = "${datasource.pool-monitor.interval:10000}",
+            initialDelayString = "${datasource.pool-monitor.interval:10000}")
+    public void scheduledCheck() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            check();
+        } catch (RuntimeException e) {
+            log.warn("연결 풀 감시 실패", e);
+        }
+    }
+
+    /**
+     * 포화 상태인 풀마다 경고
+     *
+     * @return 포화 상태인 풀 수
+     */
+    public int check() {
+        int saturated = 0;
+        for (Gauge pending : meterRegistry.find("hikaricp.connections.pending").gauges()) {
+            String pool = pending.getId().getTag("pool");
+            Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+            double pendingThreads = pending.value();
+            double maxWaitMillis = acquire != null ? acquire.max(TimeUnit.MILLISECONDS) : 0;
+
+            if (pendingThreads >= pendingThreshold || maxWaitMillis >= maxWaitThresholdMillis) {
+                saturated++;
+                Counter.builder("datasource.pool.saturation")
+                        .description("연결 풀 포화 감지 횟수")
+                        .tag("pool", pool)
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("연결 풀 포화: {} (대기 스레드 {}, 최근 최대 대기 {}ms)", pool, (long) pendingThreads,
+                        (long) maxWaitMillis);
+            }
+        }
+        return saturated;
+    }
+}
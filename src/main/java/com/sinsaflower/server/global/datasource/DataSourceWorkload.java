@@ -0,0 +1,36 @@
+package com.sinsaflower.server.global.datasource;
+
+/**
+ * 현재 스레드의 DB 작업 종류 (@ReportQuery 메서드 실행 중인지)
+ */
+public final class DataSourceWorkload {
+
+    private static final ThreadLocal<Boolean> REPORT = new ThreadLocal<>();
+
+    private DataSourceWorkload() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static boolean isReport() {
+        return Boolean.TRUE.equals(REPORT.get());
+    }
+
+    /**
+     * 보고서 조회 시작
+     *
+     * @return 시작 전 상태 (종료 시 restore에 전달)
+     */
+    public static boolean beginReport() {
+        boolean previous = isReport();
+        REPORT.set(Boolean.TRUE);
+        return previous;
+    }
+
+    public static void restore(boolean previous) {
+        if (previous) {
+            REPORT.set(Boolean.TRUE);
+        } else {
+            REPORT.remove();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.sinsaflower.server.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sinsaflower.server.global.security.CustomUserDetails;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * 사용자별 최근 쓰기 기록
+ * 쓰기 트랜잭션을 커밋한 사용자는 복제 지연 동안 자신의 변경이 보이지 않을 수 있으므로,
+ * 기록 후 일정 기간 동안 해당 사용자의 읽기 전용 트랜잭션을 주 DB로 보낸다.
+ * 다음 요청이 다른 노드로 가도 주 DB로 읽도록, 커밋한 요청의 응답에 만료 시각을 서명한 표식을
+ * 쿠키와 헤더(X-Read-Your-Writes)로 내려주고 요청에서 이를 확인한다 (노드 간 공유 저장소나 고정 세션 불필요).
+ * 같은 노드 안에서는 표식 없이도 메모리 기록으로 판단한다.
+ * 인증되지 않은 호출(스케줄러, 비동기 처리 등)은 기록하지 않는다.
+ */
+public class ReadYourWritesTracker {
+
+    public static final String MARKER_COOKIE = "rw_until";
+    public static final String MARKER_HEADER = "X-Read-Your-Writes";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String SIGNATURE_CONTEXT = "read-your-writes:"; // 같은 키를 쓰는 JWT 서명과 구분
+
+    private final Duration window;
+    private final SecretKeySpec signingKey;
+    private final Cache<String, Boolean> recentWriters;
+
+    /**
+     * @param secret 표식 서명 키 (모든 노드가 같은 값을 사용해야 함)
+     */
+    public ReadYourWritesTracker(Duration window, String secret) {
+        this.window = window;
+        this.signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * 현재 사용자 키 (인증되지 않았으면 null)
+     */
+    public String currentUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+            return user.getUserType() + ":" + user.getUserId();
+        }
+        return null;
+    }
+
+    /**
+     * 쓰기 커밋 기록 (HTTP 요청 처리 중이면 응답에 표식 추가)
+     */
+    public void recordWrite(String userKey) {
+        if (userKey == null) {
+            return;
+        }
+        recentWriters.put(userKey, Boolean.TRUE);
+
+        HttpServletResponse response = currentResponse();
+        if (response != null && !response.isCommitted()) {
+            String marker = issueMarker(userKey, System.currentTimeMillis() + window.toMillis());
+            response.setHeader(MARKER_HEADER, marker);
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(MARKER_COOKIE, marker)
+                    .httpOnly(true)
+                    .path("/")
+                    .maxAge(window)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        }
+    }
+
+    /**
+     * 현재 사용자가 최근에 쓰기를 커밋했는지 (읽기를 주 DB로 보내야 하는지)
+     */
+    public boolean requiresPrimary() {
+        String userKey = currentUserKey();
+        if (userKey == null) {
+            return false;
+        }
+        if (recentWriters.getIfPresent(userKey) != null) {
+            return true;
+        }
+        HttpServletRequest request = currentRequest();
+        return request != null && isValidMarker(userKey, markerOf(request), System.currentTimeMillis());
+    }
+
+    /**
+     * 표식: "만료 시각(epoch ms).서명" (서명 대상은 사용자 키와 만료 시각)
+     */
+    String issueMarker(String userKey, long expiresAt) {
+        return expiresAt + "." + sign(userKey, expiresAt);
+    }
+
+    boolean isValidMarker(String userKey, String marker, long now) {
+        if (!StringUtils.hasText(marker)) {
+            return false;
+        }
+        int separator = marker.indexOf('.');
+        if (separator <= 0) {
+            return false;
+        }
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(marker.substring(0, separator));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        // 만료되었거나 설정한 기간보다 먼 만료 시각은 무시
+        if (expiresAt <= now || expiresAt > now + window.toMillis()) {
+            return false;
+        }
+        byte[] expected = sign(userKey, expiresAt).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = marker.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    private String sign(String userKey, long expiresAt) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            byte[] signature = mac.doFinal((SIGNATURE_CONTEXT + userKey + ":" + expiresAt).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("읽기 일관성 표식 서명 실패", e);
+        }
+    }
+
+    private static String markerOf(HttpServletRequest request) {
+        String header = request.getHeader(MARKER_HEADER);
+        if (StringUtils.hasText(header)) {
+            return header;
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (MARKER_COOKIE.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servlet ? servlet.getRequest() : null;
+    }
+
+    private static HttpServletResponse currentResponse() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servlet ? servlet.getResponse() : null;
+    }
+}
@@ -0,0 +1,94 @@
+package com.sinsaflower.server.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 복제본 상태 점검
+ * 연결할 수 없거나 복제 지연이 허용치를 넘는 복제본은 라우팅에서 제외하고, 회복되면 다시 포함한다.
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+
+    private final List<ReplicaNode> replicas;
+    private final MeterRegistry meterRegistry;
+    private final Duration maxReplicationLag;
+    private final String lagQuery;
+    private final int timeoutSeconds;
+
+    public ReplicaHealthChecker(List<ReplicaNode> replicas, MeterRegistry meterRegistry, Duration maxReplicationLag,
+                                String lagQuery, int timeoutSeconds) {
+        this.replicas = replicas;
+        this.meterRegistry = meterRegistry;
+        this.maxReplicationLag = maxReplicationLag;
+        this.lagQuery = lagQuery;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        for (ReplicaNode replica : replicas) {
+            Gauge.builder("datasource.replica.available", replica, node -> node.isAvailable() ? 1 : 0)
+                    .description("읽기 복제본 사용 가능 여부")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.lag", replica, ReplicaNode::getLagSeconds)
+                    .description("읽기 복제본 복제 지연 (초)")
+                    .tag("replica", replica.getName())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval:5000}",
+            initialDelayString = "${datasource.routing.health-check-interval:5000}")
+    public void scheduledCheck() {
+        checkAll();
+    }
+
+    public void checkAll() {
+        for (ReplicaNode replica : replicas) {
+            check(replica);
+        }
+    }
+
+    private void check(ReplicaNode replica) {
+        try (Connection connection = replica.getDataSource().getConnection()) {
+            if (!connection.isValid(timeoutSeconds)) {
+                replica.markDown("연결 확인 실패");
+                return;
+            }
+            double lagSeconds = measureLag(connection);
+            if (lagSeconds > maxReplicationLag.toMillis() / 1000.0) {
+                replica.markDown("복제 지연 " + lagSeconds + "초");
+                return;
+            }
+            replica.markUp(lagSeconds);
+        } catch (SQLException e) {
+            replica.markDown(e.getMessage());
+        }
+    }
+
+    private double measureLag(Connection connection) throws SQLException {
+        if (!StringUtils.hasText(lagQuery)) {
+            return 0;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(timeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                return resultSet.next() ? resultSet.getDouble(1) : 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.sinsaflower.server.global.datasource;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 DB와 상태 (상태 점검 결과와 연결 실패에 따라 라우팅 대상에서 제외/복귀)
+ */
+@Slf4j
+@Getter
+public class ReplicaNode {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean available = true;
+    private volatile double lagSeconds;
+
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public void markUp(double lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        if (!available) {
+            log.info("읽기 복제본 복귀: {} (지연 {}초)", name, lagSeconds);
+        }
+        available = true;
+    }
+
+    public void markDown(String reason) {
+        if (available) {
+            log.warn("읽기 복제본 제외: {} ({})", name, reason);
+        }
+        available = false;
+    }
+}
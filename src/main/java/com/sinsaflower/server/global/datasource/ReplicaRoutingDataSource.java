@@ -0,0 +1,139 @@
+package com.sinsaflower.server.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 읽기 복제본, 그 외는 주 DB로 보내는 DataSource
+ * 트랜잭션의 읽기 전용 여부가 정해진 뒤 연결을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ *
+ * - 읽기 전용 보고서 조회(@ReportQuery)는 보고서 연결 풀로 보내 짧은 주문/회원 처리와 연결을 나눠 쓰지 않는다.
+ * - 사용 가능한 복제본 사이에서는 순서대로 분산하고, 없으면 주 DB를 사용한다.
+ * - 복제본 연결에 실패하면 해당 복제본을 제외하고 주 DB로 대신 연결한다 (상태 점검에서 복귀).
+ * - 최근 쓰기를 커밋한 사용자의 읽기는 복제 지연 동안 주 DB로 보낸다 (ReadYourWritesTracker).
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final DataSource report;
+    private final List<ReplicaNode> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+    private final Counter reportReads;
+    private final Counter failovers;
+
+    /**
+     * @param report 보고서 조회용 DataSource (null이면 일반 읽기와 같이 라우팅)
+     */
+    public ReplicaRoutingDataSource(DataSource primary, DataSource report, List<ReplicaNode> replicas,
+                                    ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.report = report;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaReads = Counter.builder("datasource.routing.reads")
+                .description("읽기 전용 트랜잭션 연결 수")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        this.primaryReads = Counter.builder("datasource.routing.reads")
+                .description("읽기 전용 트랜잭션 연결 수")
+                .tag("target", "primary")
+                .register(meterRegistry);
+        this.reportReads = Counter.builder("datasource.routing.reads")
+                .description("읽기 전용 트랜잭션 연결 수")
+                .tag("target", "report")
+                .register(meterRegistry);
+        this.failovers = Counter.builder("datasource.routing.failover")
+                .description("복제본 연결 실패로 주 DB에 연결한 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteAfterCommit();
+            return primary.getConnection();
+        }
+
+        if (report != null && DataSourceWorkload.isReport()) {
+            reportReads.increment();
+            return report.getConnection();
+        }
+
+        ReplicaNode replica = readYourWritesTracker.requiresPrimary() ? null : selectReplica();
+        if (replica != null) {
+            try {
+                Connection connection = replica.getDataSource().getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+                failovers.increment();
+            }
+        }
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // 계정을 지정한 연결은 관리 작업용으로 보고 주 DB 사용
+        return primary.getConnection(username, password);
+    }
+
+    public List<ReplicaNode> getReplicas() {
+        return replicas;
+    }
+
+    // 복제본 연결 풀 종료 (주 DB 연결 풀은 별도 빈으로 관리)
+    @Override
+    public void close() throws IOException {
+        for (ReplicaNode replica : replicas) {
+            if (replica.getDataSource() instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private ReplicaNode selectReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReplicaNode replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 현재 사용자를 최근 쓰기 사용자로 기록 (트랜잭션 밖 연결은 기록하지 않음)
+    private void recordWriteAfterCommit() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String userKey = readYourWritesTracker.currentUserKey();
+        if (userKey == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(userKey);
+            }
+        });
+    }
+}
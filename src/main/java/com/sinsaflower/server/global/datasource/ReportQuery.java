@@ -0,0 +1,18 @@
+package com.sinsaflower.server.global.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 관리자 통계/집계/내보내기처럼 오래 걸리는 조회
+ * 읽기 전용 트랜잭션이면 별도 보고서 연결 풀을 사용해 주문/회원 처리용 연결 풀을 점유하지 않는다.
+ * 쓰기 트랜잭션 안에서는 무시된다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReportQuery {
+}
@@ -0,0 +1,29 @@
+package com.sinsaflower.server.global.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * @ReportQuery 메서드 실행 동안 현재 스레드를 보고서 조회로 표시
+ * 트랜잭션보다 바깥에서 표시하며, 실제 연결은 첫 쿼리 시점에 얻으므로 라우팅에 반영된다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReportQueryAspect {
+
+    @Around("@annotation(com.sinsaflower.server.global.datasource.ReportQuery) " +
+            "|| @within(com.sinsaflower.server.global.datasource.ReportQuery)")
+    public Object markReport(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = DataSourceWorkload.beginReport();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            DataSourceWorkload.restore(previous);
+        }
+    }
+}
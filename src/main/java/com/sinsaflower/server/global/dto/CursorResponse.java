@@ -0,0 +1,41 @@
+package com.sinsaflower.server.global.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(키셋) 기반 목록 응답 구조
+ * 다음 페이지 요청 시 nextCursor를 cursor 파라미터로 전달
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "커서 기반 목록 응답")
+public class CursorResponse<T> {
+
+    @Schema(description = "목록 데이터")
+    private List<T> content;
+
+    @Schema(description = "다음 조회 커서 (마지막 페이지면 null)", example = "1024")
+    private Long nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    /**
+     * size + 1 건을 조회한 결과로 응답 생성
+     *
+     * @param fetched size + 1 건까지 조회한 목록
+     * @param size 요청 크기
+     * @param cursorExtractor 커서 값 추출 함수
+     */
+    public static <T> CursorResponse<T> of(List<T> fetched, int size, Function<T, Long> cursorExtractor) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        Long nextCursor = hasNext ? cursorExtractor.apply(content.get(content.size() - 1)) : null;
+        return new CursorResponse<>(content, nextCursor, hasNext);
+    }
+}
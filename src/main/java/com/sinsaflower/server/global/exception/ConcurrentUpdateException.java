@@ -0,0 +1,23 @@
+package com.sinsaflower.server.global.exception;
+
+/**
+ * 동시 수정 충돌 예외 (다른 요청이 먼저 변경함)
+ * HTTP 409 Conflict
+ */
+public class ConcurrentUpdateException extends BusinessException {
+
+    private static final String ERROR_CODE = "CONFLICT_001";
+
+    public ConcurrentUpdateException(String message) {
+        super(409, ERROR_CODE, message);
+    }
+
+    public ConcurrentUpdateException(String message, Throwable cause) {
+        super(409, ERROR_CODE, message, cause);
+    }
+
+    // 편의 메서드들
+    public static ConcurrentUpdateException orderStatus(Long orderId, String currentStatus) {
+        return new ConcurrentUpdateException("다른 요청이 먼저 주문 상태를 변경했습니다. 주문: " + orderId + ", 현재: " + currentStatus);
+    }
+}
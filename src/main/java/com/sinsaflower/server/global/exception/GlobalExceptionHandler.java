@@ -2,6 +2,7 @@ package com.sinsaflower.server.global.exception;
 
 import com.sinsaflower.server.global.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -155,6 +156,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
     }
 
+    /**
+     * 낙관적 잠금 충돌 (@Version 불일치, 다른 요청이 먼저 수정함)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        log.warn("Optimistic Locking Failure: {}", ex.getMessage());
+
+        ApiResponse<Void> response = ApiResponse.error(HttpStatus.CONFLICT.value(), "다른 요청이 먼저 변경했습니다. 다시 조회한 후 시도해 주세요.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     /**
      * IllegalArgumentException 처리 (기존 코드 호환성)
      */
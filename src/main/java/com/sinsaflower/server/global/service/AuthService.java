@@ -2,11 +2,12 @@ package com.sinsaflower.server.global.service;
 
 import com.sinsaflower.server.domain.admin.entity.Admin;
 import com.sinsaflower.server.domain.admin.repository.AdminRepository;
+import com.sinsaflower.server.domain.member.constants.MemberConstants;
 import com.sinsaflower.server.domain.member.dto.MemberResponse;
 import com.sinsaflower.server.domain.member.dto.MemberSignupRequest;
 import com.sinsaflower.server.domain.member.entity.Member;
 import com.sinsaflower.server.domain.member.repository.MemberRepository;
-import com.sinsaflower.server.domain.member.service.MemberService;
+import com.sinsaflower.server.domain.member.service.MemberSignupService;
 import com.sinsaflower.server.global.dto.AuthResponse;
 import com.sinsaflower.server.global.dto.LoginRequest;
 import com.sinsaflower.server.global.dto.TokenRefreshRequest;
@@ -14,6 +15,7 @@ import com.sinsaflower.server.global.jwt.JwtUtil;
 import com.sinsaflower.server.global.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -33,25 +35,28 @@ public class AuthService {
     
     private final AdminRepository adminRepository;
     private final MemberRepository memberRepository;
-    private final MemberService memberService;
+    private final MemberSignupService memberSignupService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     
     /**
      * 파트너 회원가입
+     * 첨부 파일 저장이 트랜잭션 밖에서 이뤄지도록 트랜잭션을 열지 않음
      */
-    @Transactional
     public MemberResponse signUp(MemberSignupRequest request) {
         log.info("파트너 회원가입 처리: {}", request.getLoginId());
         
-        // MemberService의 회원가입 로직 활용
-        return memberService.signUp(request);
+        // MemberSignupService의 회원가입 로직 활용
+        return memberSignupService.signUp(request);
     }
     
     /**
      * 통합 로그인 처리
      * 관리자와 파트너 모두 동일한 loginId로 로그인 시도
+     * 파트너 로그인 시 마지막 로그인 일시가 바뀌므로 커밋 후 회원 프로필 캐시 무효화
      */
+    @CacheEvict(cacheNames = MemberConstants.CacheNames.MEMBER_PROFILE, key = "#result.userId",
+            condition = "#result != null && #result.userType == 'PARTNER'")
     @Transactional
     public AuthResponse login(LoginRequest request) {
         log.info("로그인 시도: {}", request.getLoginId());
@@ -0,0 +1,56 @@
+package com.sinsaflower.server.global.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 파일 앞부분(매직 바이트)으로 판별한 실제 파일 형식
+ * 클라이언트가 보낸 Content-Type/확장자 대신 내용으로 형식을 판단할 때 사용
+ */
+public enum FileSignature {
+
+    JPEG("jpg", "image/jpeg", new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+    PNG("png", "image/png", new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}),
+    GIF87A("gif", "image/gif", new byte[]{'G', 'I', 'F', '8', '7', 'a'}),
+    GIF89A("gif", "image/gif", new byte[]{'G', 'I', 'F', '8', '9', 'a'}),
+    PDF("pdf", "application/pdf", new byte[]{'%', 'P', 'D', 'F', '-'});
+
+    // 판별에 필요한 최대 길이 (bytes)
+    public static final int HEADER_LENGTH = 8;
+
+    public static final Set<FileSignature> IMAGES = EnumSet.of(JPEG, PNG, GIF87A, GIF89A);
+
+    private final String extension;
+    private final String contentType;
+    private final byte[] magic;
+
+    FileSignature(String extension, String contentType, byte[] magic) {
+        this.extension = extension;
+        this.contentType = contentType;
+        this.magic = magic;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    /**
+     * 파일 앞부분으로 형식 판별 (허용 목록에 없으면 빈 값)
+     */
+    public static Optional<FileSignature> detect(byte[] header, int length, Collection<FileSignature> accepted) {
+        for (FileSignature signature : accepted) {
+            if (length >= signature.magic.length
+                    && Arrays.equals(header, 0, signature.magic.length, signature.magic, 0, signature.magic.length)) {
+                return Optional.of(signature);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -1,6 +1,9 @@
 package com.sinsaflower.server.global.service;
 
 import com.sinsaflower.server.global.config.FileUploadProperties;
+import com.sinsaflower.server.global.storage.BlobStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -8,60 +11,202 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HexFormat;
 import java.util.UUID;
-import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FileUploadService {
 
+    // 내용 기준 저장 파일명 (SHA-256 16진수 + 파생본 접미사 + 확장자)
+    private static final Pattern CONTENT_ADDRESSED_FILE_NAME = Pattern.compile("([0-9a-f]{64}(?:_[a-z]+)?)(\\.[A-Za-z0-9]+)?");
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+    private static final int STREAM_BUFFER_SIZE = 16 * 1024; // 스트리밍 업로드 1건당 버퍼 크기
+    private static final Set<FileSignature> ALL_SIGNATURES = EnumSet.allOf(FileSignature.class);
+
     private final FileUploadProperties fileUploadProperties;
+    private final BlobStore blobStore;
+
+    // 임시 저장 병렬 처리용 (큐가 가득 차면 호출 스레드에서 실행)
+    private ThreadPoolExecutor stagingExecutor;
+
+    @PostConstruct
+    void initStagingExecutor() {
+        int threads = Math.max(1, fileUploadProperties.getStagingThreads());
+        AtomicInteger sequence = new AtomicInteger();
+        stagingExecutor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "file-staging-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        stagingExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdownStagingExecutor() {
+        stagingExecutor.shutdown();
+    }
 
     /**
      * 파일을 저장하고 저장된 파일 경로를 반환
+     * 내용(SHA-256) 기준 경로에 저장하므로 동일한 파일은 한 번만 저장됨
      */
     public String saveFile(MultipartFile file, String subDirectory) throws IOException {
-        // 파일 유효성 검사
-        validateFile(file);
-        
-        // 저장 디렉토리 생성
-        Path uploadDir = createUploadDirectory(subDirectory);
-        
-        // 파일명 생성 (중복 방지)
-        String originalFileName = StringUtils.cleanPath(file.getOriginalFilename());
-        String fileExtension = getFileExtension(originalFileName);
-        String newFileName = generateUniqueFileName(fileExtension);
-        
-        // 파일 저장
-        Path targetPath = uploadDir.resolve(newFileName);
-        Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
-        
-        // 상대 경로 반환
-        String relativePath = subDirectory + "/" + newFileName;
-        log.info("파일 업로드 완료: {}", relativePath);
-        
-        return relativePath;
+        StagedFile stagedFile = stageFile(file, subDirectory);
+        log.info("파일 업로드 완료: {}", stagedFile.relativePath());
+        return stagedFile.relativePath();
+    }
+
+    /**
+     * 파일을 저장소에 저장 (트랜잭션 시작 전 호출)
+     * 업로드 중 커넥션을 점유하지 않도록 트랜잭션 밖에서 저장하며,
+     * 실패/롤백으로 참조되지 않은 파일은 OrphanFileCollector가 유예 기간 후 회수
+     */
+    public StagedFile stageFile(MultipartFile file, String subDirectory) throws IOException {
+        FileSignature signature = validateFile(file);
+
+        Path stagingDir = Paths.get(fileUploadProperties.getBasePath(), fileUploadProperties.getStagingDirectory());
+        Files.createDirectories(stagingDir);
+
+        Path tempPath = stagingDir.resolve(UUID.randomUUID() + ".part").toAbsolutePath();
+
+        try {
+            // 컨테이너 임시 파일이 있으면 rename, 메모리에 있으면 바로 기록 (스트림 복사 없음)
+            file.transferTo(tempPath.toFile());
+            // 확장자는 내용으로 판별한 형식 기준 (a.jpeg와 스트림 업로드가 같은 파일로 저장되도록)
+            String relativePath = contentAddressedPath(subDirectory, sha256(tempPath), signature.extension());
+            return store(tempPath, Files.size(tempPath), relativePath, signature.contentType());
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * 요청 본문 스트림을 저장소에 저장 (트랜잭션 시작 전 호출)
+     * 고정 크기 버퍼 하나로 읽으면서 해시를 계산하므로 동시 업로드당 힙 사용량이 일정하며,
+     * 형식은 첫 청크의 매직 바이트로 판별하고 최대 크기를 넘으면 즉시 중단한다.
+     *
+     * @param contentLength 요청 Content-Length (모르면 -1)
+     */
+    public StagedFile stageStream(InputStream content, long contentLength, String subDirectory,
+                                  Collection<FileSignature> acceptedTypes) throws IOException {
+        long maxFileSize = fileUploadProperties.getMaxFileSize();
+        if (contentLength > maxFileSize) {
+            throw new IllegalArgumentException(fileSizeExceededMessage());
+        }
+
+        Path stagingDir = Paths.get(fileUploadProperties.getBasePath(), fileUploadProperties.getStagingDirectory());
+        Files.createDirectories(stagingDir);
+        Path tempPath = stagingDir.resolve(UUID.randomUUID() + ".part").toAbsolutePath();
+
+        byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+        MessageDigest digest = newSha256Digest();
+        try {
+            FileSignature signature;
+            long size;
+            try (OutputStream output = Files.newOutputStream(tempPath, StandardOpenOption.CREATE_NEW)) {
+                int headerLength = content.readNBytes(buffer, 0, FileSignature.HEADER_LENGTH);
+                if (headerLength == 0) {
+                    throw new IllegalArgumentException("파일이 선택되지 않았습니다.");
+                }
+                signature = FileSignature.detect(buffer, headerLength, acceptedTypes)
+                        .filter(detected -> fileUploadProperties.getAllowedExtensions().contains(detected.extension()))
+                        .orElseThrow(() -> new IllegalArgumentException("허용되지 않는 파일 형식입니다. 허용 형식: " +
+                                String.join(", ", fileUploadProperties.getAllowedExtensions())));
+                digest.update(buffer, 0, headerLength);
+                output.write(buffer, 0, headerLength);
+                size = headerLength;
+
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxFileSize) {
+                        throw new IllegalArgumentException(fileSizeExceededMessage());
+                    }
+                    digest.update(buffer, 0, read);
+                    output.write(buffer, 0, read);
+                }
+            }
+
+            String relativePath = contentAddressedPath(
+                    subDirectory, HexFormat.of().formatHex(digest.digest()), signature.extension());
+            return store(tempPath, size, relativePath, signature.contentType());
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * 임시 파일을 내용 기준 경로로 저장 (동일 내용이 이미 있으면 생략)
+     * 로컬 저장소는 같은 파일시스템 안의 이동이므로 추가 복사가 없음
+     * 같은 내용을 동시에 올리면 둘 다 저장할 수 있지만 키가 같으면 내용도 같으므로 결과는 동일하다.
+     * 저장한 파일은 다른 요청이 이미 참조했을 수 있어 요청 처리 중에는 삭제하지 않는다.
+     * 기존 파일을 재사용할 때는 수정 시각을 갱신하여, 미사용으로 남아 있던 파일이
+     * 이번 요청이 커밋되기 전에 OrphanFileCollector에 삭제되지 않도록 유예 기간을 다시 시작한다.
+     */
+    private StagedFile store(Path tempPath, long size, String relativePath, String contentType) throws IOException {
+        if (blobStore.touch(relativePath)) {
+            log.debug("동일한 파일이 이미 존재하여 저장 생략: {}", relativePath);
+            return new StagedFile(relativePath, size, false);
+        }
+        blobStore.put(relativePath, tempPath, contentType);
+        return new StagedFile(relativePath, size, true);
+    }
+
+    /**
+     * 파일을 저장소에 비동기 저장 (여러 파일 병렬 처리용)
+     */
+    public CompletableFuture<StagedFile> stageFileAsync(MultipartFile file, String subDirectory) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return stageFile(file, subDirectory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, stagingExecutor);
     }
 
     /**
-     * 파일 유효성 검사
+     * 파일 유효성 검사 (업로드마다 호출, 벤치마크 src/jmh에서 직접 호출)
+     * 클라이언트가 보낸 Content-Type은 신뢰하지 않고 파일 앞부분(매직 바이트)으로 형식을 판별하여
+     * 확장자와 일치하는지 확인한다.
+     *
+     * @return 내용으로 판별한 파일 형식
      */
-    private void validateFile(MultipartFile file) {
+    FileSignature validateFile(MultipartFile file) throws IOException {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("파일이 선택되지 않았습니다.");
         }
 
         // 파일 크기 검사
         if (file.getSize() > fileUploadProperties.getMaxFileSize()) {
-            throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 " + 
-                (fileUploadProperties.getMaxFileSize() / (1024 * 1024)) + "MB까지 허용됩니다.");
+            throw new IllegalArgumentException(fileSizeExceededMessage());
         }
 
         // 파일 확장자 검사
@@ -70,77 +215,131 @@ public class FileUploadService {
             throw new IllegalArgumentException("파일명이 유효하지 않습니다.");
         }
 
-        String fileExtension = getFileExtension(originalFileName);
-        if (!fileUploadProperties.getAllowedExtensions().contains(fileExtension.toLowerCase())) {
+        String fileExtension = getFileExtension(originalFileName).toLowerCase();
+        if (!fileUploadProperties.getAllowedExtensions().contains(fileExtension)) {
             throw new IllegalArgumentException("허용되지 않는 파일 형식입니다. 허용 형식: " + 
                 String.join(", ", fileUploadProperties.getAllowedExtensions()));
         }
 
-        // MIME 타입 검사 (이미지 파일인 경우)
-        String contentType = file.getContentType();
-        if (contentType != null && !isValidImageMimeType(contentType, fileExtension)) {
-            throw new IllegalArgumentException("허용되지 않는 파일 형식입니다. 이미지 파일만 허용됩니다.");
+        // 내용 검사 (매직 바이트로 판별한 형식이 확장자와 같아야 함, jpeg는 jpg와 같은 형식)
+        String expectedExtension = "jpeg".equals(fileExtension) ? "jpg" : fileExtension;
+        byte[] header;
+        try (InputStream content = file.getInputStream()) {
+            header = content.readNBytes(FileSignature.HEADER_LENGTH);
         }
+        return FileSignature.detect(header, header.length, ALL_SIGNATURES)
+                .filter(signature -> signature.extension().equals(expectedExtension))
+                .orElseThrow(() -> new IllegalArgumentException("파일 내용이 확장자(" + fileExtension + ")와 일치하지 않습니다."));
+    }
+
+    private String fileSizeExceededMessage() {
+        return "파일 크기가 너무 큽니다. 최대 " + (fileUploadProperties.getMaxFileSize() / (1024 * 1024)) + "MB까지 허용됩니다.";
     }
 
     /**
-     * 이미지 MIME 타입 검증
+     * 파일 확장자 추출
      */
-    private boolean isValidImageMimeType(String contentType, String fileExtension) {
-        if (!List.of("jpg", "jpeg", "png", "gif").contains(fileExtension.toLowerCase())) {
-            return true;
+    private String getFileExtension(String fileName) {
+        int lastDotIndex = fileName.lastIndexOf('.');
+        if (lastDotIndex == -1) {
+            return "";
         }
-        
-        // 이미지 파일인 경우 MIME 타입 검증
-        return contentType.startsWith("image/");
+        return fileName.substring(lastDotIndex + 1);
     }
 
     /**
-     * 업로드 디렉토리 생성
+     * 내용 기준 저장 경로 생성 (예: order-images/ab/cd/abcd...ef.jpg)
+     * 해시 앞 4자리로 2단계 분산하여 디렉토리당 파일 수를 제한
      */
-    private Path createUploadDirectory(String subDirectory) throws IOException {
-        Path uploadDir = Paths.get(fileUploadProperties.getBasePath(), subDirectory);
-        if (!Files.exists(uploadDir)) {
-            Files.createDirectories(uploadDir);
+    private String contentAddressedPath(String subDirectory, String hash, String fileExtension) {
+        String fileName = fileExtension.isEmpty() ? hash : hash + "." + fileExtension;
+        return subDirectory + "/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + fileName;
+    }
+
+    /**
+     * 파일 SHA-256 해시 (16진수)
+     */
+    private String sha256(Path path) throws IOException {
+        MessageDigest digest = newSha256Digest();
+        ByteBuffer buffer = ByteBuffer.allocate(DIGEST_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
         }
-        return uploadDir;
     }
 
     /**
-     * 파일 확장자 추출
+     * 파생 파일 경로 (원본 옆에 저장, 예: .../abcd...ef_thumb.jpg)
      */
-    private String getFileExtension(String fileName) {
-        int lastDotIndex = fileName.lastIndexOf('.');
-        if (lastDotIndex == -1) {
-            return "";
+    public static String variantPath(String originalPath, String variant, String fileExtension) {
+        int dotIndex = originalPath.lastIndexOf('.');
+        String basePath = dotIndex > originalPath.lastIndexOf('/') ? originalPath.substring(0, dotIndex) : originalPath;
+        return basePath + "_" + variant + "." + fileExtension;
+    }
+
+    /**
+     * 파생 파일 저장 (이미 있으면 수정 시각만 갱신)
+     */
+    public void saveVariant(String variantPath, Path source, String contentType) throws IOException {
+        if (blobStore.touch(variantPath)) {
+            return;
         }
-        return fileName.substring(lastDotIndex + 1);
+        blobStore.put(variantPath, source, contentType);
+        log.debug("파생 파일 저장 완료: {}", variantPath);
+    }
+
+    /**
+     * 저장된 파일 존재 여부
+     */
+    public boolean exists(String relativePath) throws IOException {
+        return blobStore.exists(relativePath);
+    }
+
+    /**
+     * 저장된 파일 읽기
+     */
+    public InputStream openFile(String relativePath) throws IOException {
+        return blobStore.open(relativePath);
     }
 
     /**
-     * 고유한 파일명 생성
+     * 내용 기준으로 저장된 파일이면 파일명의 SHA-256 해시 반환 (파생본은 접미사 포함)
      */
-    private String generateUniqueFileName(String fileExtension) {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        String uuid = UUID.randomUUID().toString().substring(0, 8);
-        return timestamp + "_" + uuid + "." + fileExtension;
+    public static Optional<String> contentHashOf(String relativePath) {
+        String fileName = relativePath.substring(relativePath.lastIndexOf('/') + 1);
+        Matcher matcher = CONTENT_ADDRESSED_FILE_NAME.matcher(fileName);
+        return matcher.matches() ? Optional.of(matcher.group(1)) : Optional.empty();
     }
 
     /**
      * 파일 삭제
+     * 내용 기준으로 저장된 파일은 다른 데이터와 공유될 수 있으므로 삭제하지 않음
      */
     public void deleteFile(String filePath) {
         if (!StringUtils.hasText(filePath)) {
             return;
         }
+        if (contentHashOf(filePath).isPresent()) {
+            log.debug("공유 가능한 파일이므로 삭제 생략: {}", filePath);
+            return;
+        }
         
         try {
-            Path path = Paths.get(fileUploadProperties.getBasePath(), filePath);
-            if (Files.exists(path)) {
-                Files.delete(path);
-                log.info("파일 삭제 완료: {}", filePath);
-            }
-        } catch (IOException e) {
+            blobStore.delete(filePath);
+            log.info("파일 삭제 완료: {}", filePath);
+        } catch (IOException | IllegalArgumentException e) {
             log.error("파일 삭제 실패: {}", filePath, e);
         }
     }
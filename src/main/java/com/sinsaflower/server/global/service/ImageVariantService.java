@@ -0,0 +1,218 @@
+package com.sinsaflower.server.global.service;
+
+import com.sinsaflower.server.global.config.ImageVariantProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 파생본(썸네일/중간 크기) 생성
+ * 원본 옆에 JPEG로 저장하며, 원본이 내용 기준 경로이므로 같은 이미지의 파생본은 한 번만 생성된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageVariantService {
+
+    public static final String THUMBNAIL = "thumb";
+    public static final String MEDIUM = "medium";
+
+    private static final String VARIANT_EXTENSION = "jpg";
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private final FileUploadService fileUploadService;
+    private final ImageVariantProperties imageVariantProperties;
+
+    // 파생본 생성 전용 (대기열이 가득 차면 생성 생략)
+    private ThreadPoolExecutor variantExecutor;
+
+    @PostConstruct
+    void initVariantExecutor() {
+        // 디코딩 캐시를 임시 파일 대신 메모리에 둠 (원본 최대 크기가 제한되어 있음)
+        ImageIO.setUseCache(false);
+
+        int threads = Math.max(1, imageVariantProperties.getThreads());
+        AtomicInteger sequence = new AtomicInteger();
+        variantExecutor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, imageVariantProperties.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        variantExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdownVariantExecutor() {
+        variantExecutor.shutdown();
+    }
+
+    /**
+     * 파생본을 백그라운드에서 생성
+     * 대기열이 가득 차면 생성하지 않음 (목록은 원본 경로로 대체됨)
+     */
+    public CompletableFuture<Optional<ImageVariants>> generateAsync(String originalPath) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return generate(originalPath);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, variantExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 파생본 생성 대기열이 가득 차 생략: {}", originalPath);
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+    }
+
+    /**
+     * 파생본 생성 (이미지가 아니거나 너무 크면 빈 값)
+     */
+    public Optional<ImageVariants> generate(String originalPath) throws IOException {
+        ImageVariants variants = new ImageVariants(
+                FileUploadService.variantPath(originalPath, THUMBNAIL, VARIANT_EXTENSION),
+                FileUploadService.variantPath(originalPath, MEDIUM, VARIANT_EXTENSION));
+
+        // 같은 내용의 원본을 이미 처리했으면 재사용
+        if (fileUploadService.exists(variants.thumbnailPath()) && fileUploadService.exists(variants.mediumPath())) {
+            return Optional.of(variants);
+        }
+
+        BufferedImage source = decode(originalPath);
+        if (source == null) {
+            return Optional.empty();
+        }
+
+        BufferedImage medium = resize(source, imageVariantProperties.getMediumSize());
+        BufferedImage thumbnail = resize(medium, imageVariantProperties.getThumbnailSize());
+        store(variants.mediumPath(), medium);
+        store(variants.thumbnailPath(), thumbnail);
+
+        log.info("이미지 파생본 생성 완료: {} ({}x{} -> {}x{}, {}x{})", originalPath,
+                source.getWidth(), source.getHeight(),
+                medium.getWidth(), medium.getHeight(),
+                thumbnail.getWidth(), thumbnail.getHeight());
+        return Optional.of(variants);
+    }
+
+    /**
+     * 원본 디코딩
+     * 중간 크기의 2배를 넘는 이미지는 디코딩 단계에서 샘플링하여 메모리/CPU 사용을 줄임
+     */
+    private BufferedImage decode(String originalPath) throws IOException {
+        try (InputStream content = fileUploadService.openFile(originalPath);
+             ImageInputStream imageInput = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = imageInput != null ? ImageIO.getImageReaders(imageInput) : null;
+            if (readers == null || !readers.hasNext()) {
+                log.debug("이미지 형식이 아니므로 파생본 생략: {}", originalPath);
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > imageVariantProperties.getMaxPixels()) {
+                    log.warn("이미지가 너무 커서 파생본 생략: {} ({}x{})", originalPath, width, height);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (imageVariantProperties.getMediumSize() * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxSize 이하가 되도록 축소 (작은 이미지는 확대하지 않음)
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소
+     */
+    private BufferedImage resize(BufferedImage image, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    /**
+     * JPEG 저장용 RGB 이미지로 그리기 (투명 영역은 흰색)
+     */
+    private BufferedImage draw(BufferedImage image, int width, int height) {
+        BufferedImage canvas = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = canvas.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return canvas;
+    }
+
+    private void store(String variantPath, BufferedImage image) throws IOException {
+        Path temp = Files.createTempFile("image-variant-", "." + VARIANT_EXTENSION);
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(imageVariantProperties.getQuality());
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            fileUploadService.saveVariant(variantPath, temp, VARIANT_CONTENT_TYPE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
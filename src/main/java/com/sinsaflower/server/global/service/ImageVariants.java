@@ -0,0 +1,10 @@
+package com.sinsaflower.server.global.service;
+
+/**
+ * 이미지 파생본 경로
+ *
+ * @param thumbnailPath 썸네일 (목록용)
+ * @param mediumPath 중간 크기 (상세용)
+ */
+public record ImageVariants(String thumbnailPath, String mediumPath) {
+}
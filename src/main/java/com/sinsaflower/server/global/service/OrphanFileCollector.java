@@ -0,0 +1,205 @@
+package com.sinsaflower.server.global.service;
+
+import com.sinsaflower.server.domain.member.repository.MemberBankAccountRepository;
+import com.sinsaflower.server.domain.member.repository.MemberBusinessProfileRepository;
+import com.sinsaflower.server.domain.order.repository.OrderArchiveRepository;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.global.config.OrphanFileProperties;
+import com.sinsaflower.server.global.storage.BlobInfo;
+import com.sinsaflower.server.global.storage.BlobStore;
+import com.sinsaflower.server.global.util.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 참조되지 않는 업로드 파일 정리
+ * 저장소를 키 순서로 조금씩 순회하면서 주문(보관 주문 포함)/회원 데이터가 참조하지 않는 파일 중 유예 기간이 지난 것을 삭제한다.
+ * 내용 기준 파일은 공유될 수 있어 요청 처리 중에는 삭제하지 않으므로, 교체/삭제/롤백으로 남은 파일은 여기서 회수된다.
+ * 유예 기간은 파일의 수정 시각 기준이며, 업로드가 기존 파일을 재사용하면 수정 시각이 갱신되어 다시 시작된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrphanFileCollector {
+
+    private final BlobStore blobStore;
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final MemberBusinessProfileRepository memberBusinessProfileRepository;
+    private final MemberBankAccountRepository memberBankAccountRepository;
+    private final OrphanFileProperties orphanFileProperties;
+    private final MeterRegistry meterRegistry;
+
+    private Counter reclaimedBytes;
+    private Counter deletedFiles;
+
+    // 다음 실행에서 이어서 조회할 위치 (null이면 처음부터)
+    private String cursor;
+
+    // 마지막으로 유지한 원본의 확장자 제외 경로 (바로 뒤에 나오는 파생본 유지 판단용)
+    private String keptOriginalBase;
+
+    @PostConstruct
+    void registerMetrics() {
+        reclaimedBytes = Counter.builder("uploads.orphan.reclaimed")
+                .baseUnit("bytes")
+                .description("미사용 업로드 파일 삭제로 회수한 용량")
+                .register(meterRegistry);
+        deletedFiles = Counter.builder("uploads.orphan.deleted")
+                .description("삭제한 미사용 업로드 파일 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${file.orphan-gc.interval:3600000}",
+            initialDelayString = "${file.orphan-gc.initial-delay:600000}")
+    public void scheduledCollect() {
+        if (!orphanFileProperties.isEnabled()) {
+            return;
+        }
+        try {
+            collect();
+        } catch (IOException | RuntimeException e) {
+            log.warn("미사용 업로드 파일 정리 실패 (다음 실행에서 이어서 진행): {}", cursor, e);
+        }
+    }
+
+    /**
+     * 이전 실행 위치부터 최대 maxFilesPerRun개를 확인하여 미사용 파일 삭제
+     *
+     * @return 이번 실행에서 회수한 용량 (bytes)
+     */
+    public synchronized long collect() throws IOException {
+        Instant cutoff = Instant.now().minus(orphanFileProperties.getGracePeriod());
+        LocalDateTime deletedAfter = LocalDateTime.now().minus(orphanFileProperties.getDeletedOrderRetention());
+        RateLimiter rateLimiter = new RateLimiter(Math.max(1, orphanFileProperties.getFilesPerSecond()));
+
+        int scanned = 0;
+        int deleted = 0;
+        long reclaimed = 0;
+        while (scanned < orphanFileProperties.getMaxFilesPerRun()) {
+            int limit = Math.min(orphanFileProperties.getBatchSize(), orphanFileProperties.getMaxFilesPerRun() - scanned);
+            List<BlobInfo> batch = blobStore.list(cursor, limit);
+            if (!rateLimiter.acquire(batch.size())) {
+                break;
+            }
+
+            Set<String> referenced = findReferenced(batch, cutoff, deletedAfter);
+            for (BlobInfo blob : batch) {
+                if (isOrphan(blob, cutoff, referenced)) {
+                    // 재확인 + 삭제
+                    if (!rateLimiter.acquire(2)) {
+                        return reclaimed;
+                    }
+                    if (!deleteIfStillExpired(blob, cutoff)) {
+                        cursor = blob.key();
+                        continue;
+                    }
+                    reclaimedBytes.increment(blob.size());
+                    deletedFiles.increment();
+                    reclaimed += blob.size();
+                    deleted++;
+                    log.debug("미사용 업로드 파일 삭제: {} ({} bytes)", blob.key(), blob.size());
+                }
+                cursor = blob.key();
+            }
+            scanned += batch.size();
+
+            if (batch.size() < limit) {
+                // 저장소 끝까지 확인함, 다음 실행은 처음부터
+                cursor = null;
+                keptOriginalBase = null;
+                break;
+            }
+        }
+
+        if (deleted > 0) {
+            log.info("미사용 업로드 파일 정리: {}개 확인, {}개 삭제, {} bytes 회수", scanned, deleted, reclaimed);
+        }
+        return reclaimed;
+    }
+
+    /**
+     * 배치 중 삭제 후보(유예 기간이 지난 원본)가 DB에서 참조되는지 조회
+     */
+    private Set<String> findReferenced(List<BlobInfo> batch, Instant cutoff, LocalDateTime deletedAfter) {
+        List<String> candidates = batch.stream()
+                .filter(blob -> blob.lastModified().isBefore(cutoff))
+                .map(BlobInfo::key)
+                .filter(key -> !isVariant(key))
+                .toList();
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> referenced = new HashSet<>();
+        referenced.addAll(orderRepository.findReferencedProductImagePaths(candidates, deletedAfter));
+        referenced.addAll(orderArchiveRepository.findReferencedProductImagePaths(candidates, deletedAfter));
+        referenced.addAll(memberBusinessProfileRepository.findReferencedBusinessCertFilePaths(candidates));
+        referenced.addAll(memberBankAccountRepository.findReferencedBankCertFilePaths(candidates));
+        return referenced;
+    }
+
+    /**
+     * 삭제 대상 여부
+     * 파생본은 키 순서상 원본 바로 뒤에 나오므로 ('.' < '_'), 직전에 유지한 원본과 같은 해시면 함께 유지한다.
+     */
+    private boolean isOrphan(BlobInfo blob, Instant cutoff, Set<String> referenced) {
+        boolean expired = blob.lastModified().isBefore(cutoff);
+        String base = withoutExtension(blob.key());
+
+        if (isVariant(blob.key())) {
+            String originalBase = base.substring(0, base.lastIndexOf('_'));
+            return expired && !originalBase.equals(keptOriginalBase);
+        }
+
+        if (expired && !referenced.contains(blob.key())) {
+            return true;
+        }
+        keptOriginalBase = base;
+        return false;
+    }
+
+    /**
+     * 삭제 직전에 수정 시각을 다시 확인하고 여전히 유예 기간이 지났으면 삭제
+     * 목록 조회 이후 같은 내용이 다시 업로드되면 저장 시 수정 시각이 갱신되므로 (FileUploadService.store) 삭제하지 않는다.
+     * 재확인과 삭제 사이에 재사용되는 경우는 막지 못하므로, 이 구간은 저장소 호출 1회 수준으로 짧게 유지한다.
+     */
+    private boolean deleteIfStillExpired(BlobInfo blob, Instant cutoff) throws IOException {
+        Optional<BlobInfo> current = blobStore.stat(blob.key());
+        if (current.isEmpty()) {
+            return false;
+        }
+        if (!current.get().lastModified().isBefore(cutoff)) {
+            log.debug("목록 조회 이후 재사용된 파일이므로 삭제 생략: {}", blob.key());
+            if (!isVariant(blob.key())) {
+                keptOriginalBase = withoutExtension(blob.key());
+            }
+            return false;
+        }
+        blobStore.delete(blob.key());
+        return true;
+    }
+
+    private static boolean isVariant(String key) {
+        Optional<String> hash = FileUploadService.contentHashOf(key);
+        return hash.isPresent() && hash.get().indexOf('_') >= 0;
+    }
+
+    private static String withoutExtension(String key) {
+        int dotIndex = key.lastIndexOf('.');
+        return dotIndex > key.lastIndexOf('/') ? key.substring(0, dotIndex) : key;
+    }
+}
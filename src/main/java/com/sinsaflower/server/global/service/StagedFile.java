@@ -0,0 +1,12 @@
+package com.sinsaflower.server.global.service;
+
+/**
+ * 트랜잭션 시작 전에 저장소에 저장된 업로드 파일
+ * 트랜잭션이 롤백되어 참조되지 않으면 OrphanFileCollector가 유예 기간 후 회수함
+ *
+ * @param relativePath 저장소 키 (DB에 기록되는 값)
+ * @param size 파일 크기 (bytes)
+ * @param created 이번 요청에서 새로 저장했는지 여부 (동일 내용이 이미 있었으면 false, 동시 업로드가 있으면 둘 다 true일 수 있음)
+ */
+public record StagedFile(String relativePath, long size, boolean created) {
+}
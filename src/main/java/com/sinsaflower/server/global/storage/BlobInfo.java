@@ -0,0 +1,13 @@
+package com.sinsaflower.server.global.storage;
+
+import java.time.Instant;
+
+/**
+ * 저장소 목록 조회 결과 항목
+ *
+ * @param key 저장소 키
+ * @param size 크기 (bytes)
+ * @param lastModified 마지막 수정 시각
+ */
+public record BlobInfo(String key, long size, Instant lastModified) {
+}
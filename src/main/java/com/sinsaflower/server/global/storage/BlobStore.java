@@ -0,0 +1,77 @@
+package com.sinsaflower.server.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 저장소 SPI
+ * 키는 '/'로 구분된 상대 경로 (예: order-images/ab/cd/abcd...ef.jpg)이며 DB에 그대로 기록된다.
+ * 구현체: LocalBlobStore (로컬 디스크), S3BlobStore (S3 호환 오브젝트 스토리지)
+ */
+public interface BlobStore {
+
+    /**
+     * 로컬 파일 내용을 저장 (저장 후 source 파일은 이동되어 없을 수 있음)
+     */
+    void put(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * 스트림 내용을 저장
+     *
+     * @param contentLength 내용 길이 (모르면 -1)
+     */
+    void put(String key, InputStream content, long contentLength, String contentType) throws IOException;
+
+    /**
+     * 키 존재 여부
+     */
+    boolean exists(String key) throws IOException;
+
+    /**
+     * 마지막 수정 시각을 현재 시각으로 갱신 (없으면 false)
+     * 내용 기준 파일을 재사용할 때 호출하여 OrphanFileCollector의 유예 기간을 다시 시작한다.
+     */
+    boolean touch(String key) throws IOException;
+
+    /**
+     * 단건 메타데이터 조회 (없으면 empty)
+     */
+    Optional<BlobInfo> stat(String key) throws IOException;
+
+    /**
+     * 내용 읽기 (없으면 NoSuchFileException)
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 삭제 (없으면 무시)
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * 키 사전순 목록 조회 (startAfter 다음 키부터 최대 limit건)
+     * 전체를 한 번에 읽지 않고 이어서 조회할 수 있도록 마지막 키를 다음 호출의 startAfter로 사용
+     *
+     * @param startAfter 이 키 다음부터 조회 (처음부터면 null)
+     */
+    List<BlobInfo> list(String startAfter, int limit) throws IOException;
+
+    /**
+     * 로컬 디스크 경로 (sendfile 전송용, 로컬 저장소만 제공)
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    /**
+     * 클라이언트가 저장소에서 직접 내려받을 수 있는 서명 URL (오브젝트 스토리지만 제공)
+     */
+    default Optional<URI> presignedGetUrl(String key, Duration ttl) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,176 @@
+package com.sinsaflower.server.global.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크 저장소 (단일 노드 또는 공유 디스크 환경)
+ * '.'으로 시작하는 경로(임시 저장 영역 등)는 키로 사용할 수 없다.
+ */
+@Slf4j
+public class LocalBlobStore implements BlobStore {
+
+    private final Path root;
+
+    public LocalBlobStore(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+
+        // 쓰는 도중의 파일이 노출되지 않도록 같은 디렉토리에 쓴 뒤 이동
+        Path temp = target.resolveSibling("." + UUID.randomUUID() + ".part");
+        try {
+            Files.copy(content, temp);
+            put(key, temp, contentType);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public boolean touch(String key) throws IOException {
+        try {
+            Files.setLastModifiedTime(resolve(key), FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String key) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(
+                    resolve(key), BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            return attributes.isRegularFile()
+                    ? Optional.of(new BlobInfo(key, attributes.size(), attributes.lastModifiedTime().toInstant()))
+                    : Optional.empty();
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public List<BlobInfo> list(String startAfter, int limit) throws IOException {
+        List<BlobInfo> result = new ArrayList<>(Math.min(limit, 1024));
+        if (Files.isDirectory(root)) {
+            collect(root, "", startAfter, limit, result);
+        }
+        return result;
+    }
+
+    /**
+     * 디렉토리를 키 사전순으로 순회 (startAfter 이전 하위 트리는 내려가지 않음)
+     */
+    private void collect(Path directory, String prefix, String startAfter, int limit,
+                         List<BlobInfo> result) throws IOException {
+        // 하위 키는 "이름/"으로 시작하므로 디렉토리는 "이름/" 기준으로 정렬해야 키 순서와 일치
+        Map<String, Path> children = new TreeMap<>();
+        try (Stream<Path> entries = Files.list(directory)) {
+            entries.filter(entry -> !entry.getFileName().toString().startsWith("."))
+                    .forEach(entry -> children.put(
+                            prefix + entry.getFileName() + (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS) ? "/" : ""),
+                            entry));
+        }
+
+        for (Map.Entry<String, Path> child : children.entrySet()) {
+            if (result.size() >= limit) {
+                return;
+            }
+            String key = child.getKey();
+            if (key.endsWith("/")) {
+                boolean alreadyListed = startAfter != null && !startAfter.startsWith(key) && startAfter.compareTo(key) > 0;
+                if (!alreadyListed) {
+                    collect(child.getValue(), key, startAfter, limit, result);
+                }
+                continue;
+            }
+            if (startAfter != null && key.compareTo(startAfter) <= 0) {
+                continue;
+            }
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(
+                        child.getValue(), BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                if (attributes.isRegularFile()) {
+                    result.add(new BlobInfo(key, attributes.size(), attributes.lastModifiedTime().toInstant()));
+                }
+            } catch (NoSuchFileException e) {
+                // 조회 중 삭제됨
+            }
+        }
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        try {
+            Path path = resolve(key);
+            return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 키를 디스크 경로로 변환 (루트 밖, 숨김 경로 차단)
+     */
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("유효하지 않은 저장 경로입니다: " + key);
+        }
+        for (Path segment : root.relativize(path)) {
+            if (segment.toString().startsWith(".")) {
+                throw new IllegalArgumentException("유효하지 않은 저장 경로입니다: " + key);
+            }
+        }
+        return path;
+    }
+}
@@ -0,0 +1,259 @@
+package com.sinsaflower.server.global.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * S3 호환 오브젝트 스토리지 저장소 (AWS S3, MinIO 등)
+ * partSize를 넘는 내용은 멀티파트 업로드로 파트 단위 스트리밍하여 메모리 사용을 파트 1개로 제한한다.
+ */
+@Slf4j
+public class S3BlobStore implements BlobStore {
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final String bucket;
+    private final int partSize;
+
+    public S3BlobStore(S3Client s3Client, S3Presigner s3Presigner, String bucket, int partSize) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.bucket = bucket;
+        this.partSize = partSize;
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        long size = Files.size(source);
+        if (size <= partSize) {
+            try {
+                s3Client.putObject(putRequest(key, contentType, size), RequestBody.fromFile(source));
+            } catch (SdkException e) {
+                throw new IOException("오브젝트 업로드 실패: " + key, e);
+            }
+            return;
+        }
+        try (InputStream content = Files.newInputStream(source)) {
+            putMultipart(key, content, contentType);
+        }
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType) throws IOException {
+        if (contentLength >= 0 && contentLength <= partSize) {
+            try {
+                s3Client.putObject(putRequest(key, contentType, contentLength),
+                        RequestBody.fromInputStream(content, contentLength));
+            } catch (SdkException e) {
+                throw new IOException("오브젝트 업로드 실패: " + key, e);
+            }
+            return;
+        }
+        putMultipart(key, content, contentType);
+    }
+
+    /**
+     * 멀티파트 업로드 (실패 시 업로드 중단하여 파트 정리)
+     */
+    private void putMultipart(String key, InputStream content, String contentType) throws IOException {
+        String uploadId;
+        try {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .build()).uploadId();
+        } catch (SdkException e) {
+            throw new IOException("멀티파트 업로드 시작 실패: " + key, e);
+        }
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[partSize];
+            int read;
+            // 마지막 파트 외에는 partSize를 채워서 전송 (S3 최소 파트 크기 조건)
+            while ((read = content.readNBytes(buffer, 0, partSize)) > 0 || parts.isEmpty()) {
+                int partNumber = parts.size() + 1;
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) read)
+                                .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read)).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                if (read < partSize) {
+                    break;
+                }
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.debug("멀티파트 업로드 완료: {} ({} parts)", key, parts.size());
+        } catch (IOException | SdkException e) {
+            abortQuietly(key, uploadId);
+            throw e instanceof IOException ioException ? ioException : new IOException("멀티파트 업로드 실패: " + key, e);
+        }
+    }
+
+    private void abortQuietly(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            log.warn("멀티파트 업로드 중단 실패: {} ({})", key, uploadId, e);
+        }
+    }
+
+    private PutObjectRequest putRequest(String key, String contentType, long contentLength) {
+        return PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        return head(key).isPresent();
+    }
+
+    @Override
+    public boolean touch(String key) throws IOException {
+        Optional<HeadObjectResponse> head = head(key);
+        if (head.isEmpty()) {
+            return false;
+        }
+        try {
+            // 같은 키로 복사해야 LastModified가 갱신됨 (자기 자신 복사는 메타데이터 교체가 필요하므로 기존 값을 그대로 지정)
+            s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucket)
+                    .sourceKey(key)
+                    .destinationBucket(bucket)
+                    .destinationKey(key)
+                    .metadataDirective(MetadataDirective.REPLACE)
+                    .contentType(head.get().contentType())
+                    .metadata(head.get().metadata())
+                    .build());
+            return true;
+        } catch (SdkException e) {
+            if (isNotFound(e)) {
+                return false;
+            }
+            throw new IOException("오브젝트 수정 시각 갱신 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String key) throws IOException {
+        return head(key).map(head -> new BlobInfo(key, head.contentLength(), head.lastModified()));
+    }
+
+    private Optional<HeadObjectResponse> head(String key) throws IOException {
+        try {
+            return Optional.of(s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build()));
+        } catch (SdkException e) {
+            if (isNotFound(e)) {
+                return Optional.empty();
+            }
+            throw new IOException("오브젝트 조회 실패: " + key, e);
+        }
+    }
+
+    private static boolean isNotFound(SdkException e) {
+        return e instanceof NoSuchKeyException || (e instanceof S3Exception s3Exception && s3Exception.statusCode() == 404);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (SdkException e) {
+            throw new IOException("오브젝트 읽기 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (SdkException e) {
+            throw new IOException("오브젝트 삭제 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public List<BlobInfo> list(String startAfter, int limit) throws IOException {
+        try {
+            // S3 목록은 키의 UTF-8 바이트 순서 (ASCII 키에서는 사전순과 동일), 1회 최대 1000건
+            return s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                            .bucket(bucket)
+                            .startAfter(startAfter)
+                            .maxKeys(Math.min(limit, 1000))
+                            .build())
+                    .contents().stream()
+                    .map(object -> new BlobInfo(object.key(), object.size(), object.lastModified()))
+                    .toList();
+        } catch (SdkException e) {
+            throw new IOException("오브젝트 목록 조회 실패: " + startAfter, e);
+        }
+    }
+
+    @Override
+    public Optional<URI> presignedGetUrl(String key, Duration ttl) {
+        try {
+            return Optional.of(s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                            .signatureDuration(ttl)
+                            .getObjectRequest(request -> request.bucket(bucket).key(key))
+                            .build())
+                    .url()
+                    .toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("서명 URL 생성 실패: " + key, e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.sinsaflower.server.global.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 처리량 제한
+ * 요청한 횟수만큼 시간을 예약하고 예약 구간이 끝날 때까지 대기한다 (쉬는 동안 쌓인 허용량은 버려 순간 폭주 방지).
+ * 여러 스레드에서 동시에 호출 가능
+ */
+public class RateLimiter {
+
+    private final long nanosPerPermit;
+    private long nextFreeNanos = System.nanoTime();
+
+    /**
+     * @param permitsPerSecond 초당 허용 횟수 (0보다 커야 함)
+     */
+    public RateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.nanosPerPermit = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+    }
+
+    /**
+     * 허용될 때까지 대기
+     *
+     * @return 대기 중 인터럽트되었으면 false (인터럽트 상태는 유지)
+     */
+    public boolean acquire(int permits) {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            nextFreeNanos = Math.max(nextFreeNanos, now) + permits * nanosPerPermit;
+            waitNanos = nextFreeNanos - now;
+        }
+        if (waitNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.sinsaflower.server.global.util;
+
+import com.sinsaflower.server.domain.common.BaseTimeEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+/**
+ * 소프트 삭제 필터 관련 유틸리티 클래스
+ * 삭제된 행까지 조회해야 하는 작업(보관, 정리 등)에서 현재 세션의 필터를 끈다
+ */
+public final class SoftDeleteFilterUtils {
+
+    private SoftDeleteFilterUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 현재 세션에서 소프트 삭제 필터 해제
+     * 필터 상태는 세션(트랜잭션) 단위이므로 트랜잭션 안에서 호출해야 하며, 트랜잭션이 끝나면 다시 켜진다.
+     *
+     * @param entityManager 트랜잭션에 바인딩된 EntityManager
+     */
+    public static void includeDeleted(EntityManager entityManager) {
+        entityManager.unwrap(Session.class).disableFilter(BaseTimeEntity.NOT_DELETED_FILTER);
+    }
+}
@@ -0,0 +1,35 @@
+package com.sinsaflower.server.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 동기화 관련 유틸리티 클래스
+ * 커밋 이후/롤백 시점에 실행되어야 하는 후처리 로직을 등록
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후 실행
+     * 활성 트랜잭션이 없으면 즉시 실행
+     *
+     * @param action 커밋 이후 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
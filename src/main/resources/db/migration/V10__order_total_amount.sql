@@ -0,0 +1,9 @@
+-- 총 주문 금액 (결제금액 + 선택된 옵션 금액 합계, Order.updateTotalAmount와 같은 계산)
+-- 기존 주문은 추가 후 같은 계산으로 채우고 NOT NULL로 바꾼다.
+ALTER TABLE orders ADD COLUMN total_amount NUMERIC(12, 0);
+
+UPDATE orders o
+SET total_amount = COALESCE(o.payment, 0)
+    + COALESCE((SELECT SUM(oo.price) FROM order_option oo WHERE oo.order_id = o.id AND oo.checked = TRUE), 0);
+
+ALTER TABLE orders ALTER COLUMN total_amount SET NOT NULL;
@@ -0,0 +1,3 @@
+-- 날짜별/회원별 매출 합계 조회 (V10에서 채운 total_amount, CONCURRENTLY이므로 V11__*.sql.conf)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_date_total ON orders (delivery_date, total_amount);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_member_total ON orders (member_id, total_amount);
@@ -0,0 +1,272 @@
+-- 기준 스키마: Flyway 도입 전 ddl-auto(create/update)로 만들어지던 스키마 그대로
+-- ddl-auto=update로 운영하던 기존 DB(docker의 postgres_data 볼륨 등)는 spring.flyway.baseline-on-migrate로
+-- 이 버전을 적용된 것으로 기록하고 V2부터 실행하므로, 이 파일은 Flyway 도입 전 엔티티 매핑과 같아야 한다.
+-- 이후 스키마 변경은 엔티티 수정과 함께 새 버전 파일로 추가한다. (적용된 파일은 수정하지 않음)
+-- 기존 DB의 제약 조건 이름은 Hibernate가 생성한 이름이므로 이후 버전에서 제약 조건을 이름으로 참조하지 않는다.
+
+-- 관리자
+CREATE TABLE admin (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    login_id      VARCHAR(50)  NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    name          VARCHAR(50)  NOT NULL,
+    status        VARCHAR(20)  NOT NULL,
+    last_login_at TIMESTAMP(6),
+    created_at    TIMESTAMP    NOT NULL,
+    updated_at    TIMESTAMP    NOT NULL,
+    created_by    VARCHAR(50),
+    updated_by    VARCHAR(50),
+    is_deleted    BOOLEAN      NOT NULL,
+    deleted_at    TIMESTAMP(6),
+    deleted_by    VARCHAR(255),
+    CONSTRAINT uk_admin_login_id UNIQUE (login_id)
+);
+CREATE INDEX idx_admin_login_id ON admin (login_id);
+CREATE INDEX idx_admin_status ON admin (status);
+
+-- 배송 지역
+CREATE TABLE region (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    sido         VARCHAR(50) NOT NULL,
+    sigungu      VARCHAR(50) NOT NULL,
+    eupmyeondong VARCHAR(50),
+    zipcode      VARCHAR(10) NOT NULL,
+    is_active    BOOLEAN     NOT NULL
+);
+CREATE INDEX idx_region_sido_sigungu ON region (sido, sigungu);
+
+-- 상품
+CREATE TABLE product (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_name VARCHAR(50) NOT NULL,
+    product_code INTEGER     NOT NULL,
+    sort_number  INTEGER     NOT NULL,
+    is_active    BOOLEAN     NOT NULL
+);
+
+-- 회원
+CREATE TABLE member (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    login_id      VARCHAR(50)   NOT NULL,
+    password      VARCHAR(255)  NOT NULL,
+    name          VARCHAR(100)  NOT NULL,
+    nickname      VARCHAR(50)   NOT NULL,
+    mobile        VARCHAR(20)   NOT NULL,
+    memo          VARCHAR(2000),
+    status        VARCHAR(10)   NOT NULL,
+    last_login_at TIMESTAMP(6),
+    rank          VARCHAR(20),
+    created_at    TIMESTAMP     NOT NULL,
+    updated_at    TIMESTAMP     NOT NULL,
+    created_by    VARCHAR(50),
+    updated_by    VARCHAR(50),
+    is_deleted    BOOLEAN       NOT NULL,
+    deleted_at    TIMESTAMP(6),
+    deleted_by    VARCHAR(255),
+    CONSTRAINT uk_member_login_id UNIQUE (login_id)
+);
+CREATE INDEX idx_login_id ON member (login_id);
+CREATE INDEX idx_status ON member (status);
+
+CREATE TABLE member_activity_region (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    member_id    BIGINT      NOT NULL,
+    sido         VARCHAR(50) NOT NULL,
+    sigungu      VARCHAR(50) NOT NULL,
+    eupmyeondong VARCHAR(255),
+    is_active    BOOLEAN,
+    CONSTRAINT fk_member_activity_region_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE member_business_profile (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    member_id               BIGINT        NOT NULL,
+    company_address         VARCHAR(255),
+    office_sido             VARCHAR(255),
+    office_sigungu          VARCHAR(255),
+    office_eupmyeondong     VARCHAR(255),
+    office_detail           VARCHAR(255),
+    office_zipcode          VARCHAR(255),
+    fax                     VARCHAR(20),
+    business_number         VARCHAR(12)   NOT NULL,
+    corp_name               VARCHAR(100)  NOT NULL,
+    ceo_name                VARCHAR(50)   NOT NULL,
+    business_type           VARCHAR(100),
+    business_item           VARCHAR(100),
+    business_cert_file_path VARCHAR(500),
+    memo                    VARCHAR(2000),
+    auto_product_register   BOOLEAN,
+    can_night_delivery      BOOLEAN,
+    delivery_start_time     TIME(6),
+    delivery_end_time       TIME(6),
+    approval_status         VARCHAR(255)  NOT NULL,
+    approved_at             TIMESTAMP(6),
+    approved_by             VARCHAR(255),
+    rejection_reason        VARCHAR(255),
+    CONSTRAINT uk_member_business_profile_member UNIQUE (member_id),
+    CONSTRAINT uk_member_business_profile_business_number UNIQUE (business_number),
+    CONSTRAINT fk_member_business_profile_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+CREATE INDEX idx_business_number ON member_business_profile (business_number);
+
+CREATE TABLE member_bank_account (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    business_profile_id BIGINT       NOT NULL,
+    bank_name           VARCHAR(50)  NOT NULL,
+    account_number      VARCHAR(50)  NOT NULL,
+    account_owner       VARCHAR(50)  NOT NULL,
+    bank_cert_file_path VARCHAR(500),
+    is_primary          BOOLEAN      NOT NULL,
+    is_active           BOOLEAN      NOT NULL,
+    CONSTRAINT fk_member_bank_account_business_profile
+        FOREIGN KEY (business_profile_id) REFERENCES member_business_profile (id)
+);
+
+CREATE TABLE handling_product (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    member_id    BIGINT       NOT NULL,
+    product_type VARCHAR(255) NOT NULL,
+    product_name VARCHAR(255) NOT NULL,
+    is_active    BOOLEAN      NOT NULL,
+    created_at   TIMESTAMP    NOT NULL,
+    updated_at   TIMESTAMP    NOT NULL,
+    created_by   VARCHAR(50),
+    updated_by   VARCHAR(50),
+    is_deleted   BOOLEAN      NOT NULL,
+    deleted_at   TIMESTAMP(6),
+    deleted_by   VARCHAR(255),
+    CONSTRAINT uk_member_product_type UNIQUE (member_id, product_type),
+    CONSTRAINT fk_handling_product_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE notification_setting (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    member_id               BIGINT     NOT NULL,
+    sms_order_created       BOOLEAN DEFAULT FALSE,
+    sms_order_canceled      BOOLEAN DEFAULT FALSE,
+    sms_delivery_started    BOOLEAN DEFAULT FALSE,
+    sms_delivery_completed  BOOLEAN DEFAULT FALSE,
+    sms_payment_completed   BOOLEAN DEFAULT FALSE,
+    call_order_created      BOOLEAN DEFAULT FALSE,
+    call_delivery_started   BOOLEAN DEFAULT FALSE,
+    call_emergency_only     BOOLEAN DEFAULT FALSE,
+    email_order_created     BOOLEAN DEFAULT FALSE,
+    email_order_canceled    BOOLEAN DEFAULT FALSE,
+    email_weekly_report     BOOLEAN DEFAULT FALSE,
+    email_monthly_report    BOOLEAN DEFAULT FALSE,
+    push_order_created      BOOLEAN DEFAULT FALSE,
+    push_delivery_started   BOOLEAN DEFAULT FALSE,
+    push_system_notice      BOOLEAN DEFAULT FALSE,
+    notification_start_time VARCHAR(5),
+    notification_end_time   VARCHAR(5),
+    night_time_notification BOOLEAN DEFAULT FALSE,
+    CONSTRAINT uk_notification_setting_member UNIQUE (member_id),
+    CONSTRAINT fk_notification_setting_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE member_product_price (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    member_id     BIGINT         NOT NULL,
+    sido          VARCHAR(50)    NOT NULL,
+    sigungu       VARCHAR(50)    NOT NULL,
+    category_name VARCHAR(50)    NOT NULL,
+    price         NUMERIC(10, 0) NOT NULL,
+    is_available  BOOLEAN        NOT NULL,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    CONSTRAINT uk_member_region_category UNIQUE (member_id, sido, sigungu, category_name),
+    CONSTRAINT fk_member_product_price_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+CREATE INDEX idx_member_region_category ON member_product_price (member_id, sido, sigungu, category_name);
+
+-- 주문
+CREATE TABLE orders (
+    id                          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_number                VARCHAR(6)     NOT NULL,
+    member_id                   BIGINT,
+    region_id                   BIGINT,
+    product_id                  BIGINT,
+    order_type                  VARCHAR(10),
+    shop_name                   VARCHAR(100)   NOT NULL,
+    phone                       VARCHAR(20)    NOT NULL,
+    product_name                VARCHAR(200)   NOT NULL,
+    product_detail              VARCHAR(500),
+    quantity                    INTEGER        NOT NULL,
+    origin_price                NUMERIC(10, 0),
+    price                       NUMERIC(10, 0) NOT NULL,
+    payment                     NUMERIC(10, 0) NOT NULL,
+    order_customer_name         VARCHAR(50)    NOT NULL,
+    order_customer_phone        VARCHAR(20),
+    order_customer_mobile       VARCHAR(20)    NOT NULL,
+    receiver_name               VARCHAR(50)    NOT NULL,
+    receiver_phone              VARCHAR(20),
+    receiver_mobile             VARCHAR(20),
+    consignee                   VARCHAR(50),
+    delivery_date               DATE           NOT NULL,
+    delivery_year               INTEGER,
+    delivery_hours              VARCHAR(10),
+    delivery_minutes            VARCHAR(10),
+    delivery_type               VARCHAR(20),
+    event_hours                 VARCHAR(10),
+    event_minutes               VARCHAR(10),
+    delivery_place              VARCHAR(200)   NOT NULL,
+    card                        VARCHAR(50),
+    request                     VARCHAR(500),
+    hide_delivery_photo         BOOLEAN        NOT NULL,
+    sms                         VARCHAR(10),
+    fax                         VARCHAR(10),
+    is_delivery                 BOOLEAN        NOT NULL,
+    on_site                     BOOLEAN        NOT NULL,
+    order_status                VARCHAR(20)    NOT NULL,
+    product_image_path          VARCHAR(500),
+    product_image_original_name VARCHAR(255),
+    product_image_content_type  VARCHAR(100),
+    product_image_size          BIGINT,
+    created_at                  TIMESTAMP      NOT NULL,
+    updated_at                  TIMESTAMP      NOT NULL,
+    created_by                  VARCHAR(50),
+    updated_by                  VARCHAR(50),
+    is_deleted                  BOOLEAN        NOT NULL,
+    deleted_at                  TIMESTAMP(6),
+    deleted_by                  VARCHAR(255),
+    CONSTRAINT uk_orders_order_number UNIQUE (order_number),
+    CONSTRAINT fk_orders_member FOREIGN KEY (member_id) REFERENCES member (id),
+    CONSTRAINT fk_orders_region FOREIGN KEY (region_id) REFERENCES region (id),
+    CONSTRAINT fk_orders_product FOREIGN KEY (product_id) REFERENCES product (id)
+);
+CREATE INDEX idx_order_date ON orders (delivery_date);
+CREATE INDEX idx_order_status ON orders (order_status);
+CREATE INDEX idx_member_id ON orders (member_id);
+
+CREATE TABLE order_message (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id     BIGINT       NOT NULL,
+    text         VARCHAR(500) NOT NULL,
+    message_type VARCHAR(20)  NOT NULL,
+    sort_order   INTEGER      NOT NULL,
+    CONSTRAINT fk_order_message_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+CREATE INDEX idx_order_message_order_id ON order_message (order_id);
+
+CREATE TABLE order_option (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id    BIGINT       NOT NULL,
+    option_name VARCHAR(100) NOT NULL,
+    checked     BOOLEAN      NOT NULL,
+    price       NUMERIC(10, 0),
+    description VARCHAR(200),
+    CONSTRAINT fk_order_option_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+CREATE INDEX idx_order_option_order_id ON order_option (order_id);
+
+CREATE TABLE order_sender (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id     BIGINT       NOT NULL,
+    name         VARCHAR(50)  NOT NULL,
+    relationship VARCHAR(100),
+    phone        VARCHAR(20),
+    sort_order   INTEGER      NOT NULL,
+    is_main      BOOLEAN      NOT NULL,
+    CONSTRAINT fk_order_sender_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+CREATE INDEX idx_order_sender_order_id ON order_sender (order_id);
@@ -0,0 +1,3 @@
+-- 부분 문자열 검색(LIKE '%검색어%')용 trigram 인덱스 확장
+-- 확장 생성 권한이 없는 계정이면 DBA가 미리 생성해 둔다. (이미 있으면 건너뜀)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
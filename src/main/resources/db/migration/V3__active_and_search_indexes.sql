@@ -0,0 +1,31 @@
+-- 성능용 인덱스: 운영 중인 테이블에 쓰기를 막지 않도록 CONCURRENTLY로 생성
+-- CREATE INDEX CONCURRENTLY는 트랜잭션 안에서 실행할 수 없으므로 이 파일은 트랜잭션 없이 실행한다. (V3__*.sql.conf)
+-- 중간에 실패하면 INVALID 인덱스가 남을 수 있으니 DROP INDEX CONCURRENTLY 후 flyway repair로 다시 실행한다.
+-- 트랜잭션이 필요한 DDL은 이 파일에 섞지 말고 별도 버전으로 추가한다.
+
+-- 삭제되지 않은 행만 담는 부분 인덱스: 삭제된 행이 쌓여도 인덱스 크기와 조회 비용은 활성 행 기준으로 유지
+-- 회원별 주문 목록 (최신순)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_member_active
+    ON orders (member_id, created_at DESC) WHERE is_deleted = false;
+
+-- 상태별 주문 목록/건수
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_status_active
+    ON orders (order_status, created_at DESC) WHERE is_deleted = false;
+
+-- 배송일별 주문 목록 (오늘 배송 등)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_delivery_date_active
+    ON orders (delivery_date, created_at DESC) WHERE is_deleted = false;
+
+-- 회원 상태별 목록
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_status_active
+    ON member (status, id) WHERE is_deleted = false;
+
+-- 회원 이름/닉네임/아이디 부분 검색 (MemberRepository의 LIKE '%검색어%')
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_name_trgm
+    ON member USING gin (name gin_trgm_ops) WHERE is_deleted = false;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_nickname_trgm
+    ON member USING gin (nickname gin_trgm_ops) WHERE is_deleted = false;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_login_id_trgm
+    ON member USING gin (login_id gin_trgm_ops) WHERE is_deleted = false;
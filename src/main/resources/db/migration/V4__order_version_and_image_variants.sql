@@ -0,0 +1,6 @@
+-- 주문 낙관적 잠금 버전 (기존 주문은 0부터 시작)
+ALTER TABLE orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- 상품 이미지 파생본 경로 (업로드 후 비동기 생성, 기존 주문은 비어 있고 목록/상세는 원본으로 대체)
+ALTER TABLE orders ADD COLUMN product_image_thumbnail_path VARCHAR(500);
+ALTER TABLE orders ADD COLUMN product_image_medium_path VARCHAR(500);
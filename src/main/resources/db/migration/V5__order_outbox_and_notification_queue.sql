@@ -0,0 +1,35 @@
+-- 주문 이벤트 아웃박스
+CREATE TABLE order_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type      VARCHAR(20)  NOT NULL,
+    order_id        BIGINT       NOT NULL,
+    order_number    VARCHAR(6),
+    member_id       BIGINT,
+    previous_status VARCHAR(20),
+    status          VARCHAR(20),
+    occurred_at     TIMESTAMP(6) NOT NULL,
+    dispatched_at   TIMESTAMP(6),
+    attempts        INTEGER      NOT NULL,
+    next_attempt_at TIMESTAMP(6),
+    last_error      VARCHAR(500)
+);
+CREATE INDEX idx_order_outbox_pending ON order_outbox (dispatched_at, id);
+CREATE INDEX idx_order_outbox_order ON order_outbox (order_id);
+
+-- 알림(SMS/FAX) 발송 대기열
+CREATE TABLE notification_queue (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    channel         VARCHAR(10)   NOT NULL,
+    status          VARCHAR(20)   NOT NULL,
+    order_id        BIGINT        NOT NULL,
+    source_event_id BIGINT,
+    recipient       VARCHAR(30)   NOT NULL,
+    content         VARCHAR(1000) NOT NULL,
+    attempts        INTEGER       NOT NULL,
+    next_attempt_at TIMESTAMP(6)  NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      TIMESTAMP(6)  NOT NULL,
+    completed_at    TIMESTAMP(6),
+    CONSTRAINT uk_notification_queue_event UNIQUE (source_event_id, channel)
+);
+CREATE INDEX idx_notification_queue_due ON notification_queue (channel, status, next_attempt_at);
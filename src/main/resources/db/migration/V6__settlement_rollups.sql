@@ -0,0 +1,22 @@
+-- 정산 집계
+CREATE TABLE settlement_daily (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    business_date DATE           NOT NULL,
+    member_id     BIGINT         NOT NULL,
+    region_id     BIGINT         NOT NULL,
+    order_count   BIGINT         NOT NULL,
+    revenue       NUMERIC(15, 0) NOT NULL,
+    cost          NUMERIC(15, 0) NOT NULL,
+    CONSTRAINT uk_settlement_daily_key UNIQUE (business_date, member_id, region_id)
+);
+CREATE INDEX idx_settlement_daily_member ON settlement_daily (member_id, business_date);
+
+CREATE TABLE settlement_order_state (
+    order_id      BIGINT         PRIMARY KEY,
+    business_date DATE           NOT NULL,
+    member_id     BIGINT         NOT NULL,
+    region_id     BIGINT         NOT NULL,
+    revenue       NUMERIC(12, 0) NOT NULL,
+    cost          NUMERIC(12, 0) NOT NULL,
+    last_event_id BIGINT
+);
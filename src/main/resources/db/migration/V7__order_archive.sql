@@ -0,0 +1,21 @@
+-- 주문 보관 (종료된 배송월, 원본 주문은 payload에 직렬화)
+CREATE TABLE order_archive (
+    id                 BIGINT         PRIMARY KEY,
+    order_number       VARCHAR(6)     NOT NULL,
+    member_id          BIGINT,
+    region_id          BIGINT,
+    order_status       VARCHAR(20)    NOT NULL,
+    delivery_date      DATE           NOT NULL,
+    delivery_year      INTEGER,
+    total_amount       NUMERIC(12, 0) NOT NULL,
+    product_image_path VARCHAR(500),
+    deleted            BOOLEAN        NOT NULL,
+    deleted_at         TIMESTAMP(6),
+    order_created_at   TIMESTAMP(6)   NOT NULL,
+    archived_at        TIMESTAMP(6)   NOT NULL,
+    payload            BYTEA          NOT NULL
+);
+CREATE INDEX idx_order_archive_member_date ON order_archive (member_id, delivery_date);
+CREATE INDEX idx_order_archive_member_year ON order_archive (member_id, delivery_year);
+CREATE INDEX idx_order_archive_order_number ON order_archive (order_number);
+CREATE INDEX idx_order_archive_product_image_path ON order_archive (product_image_path);
@@ -0,0 +1,17 @@
+-- 엔티티 @Index 변경 반영: 운영 중인 테이블에 쓰기를 막지 않도록 CONCURRENTLY로 생성/삭제 (V8__*.sql.conf)
+-- 기존 DB에는 ddl-auto가 만든 인덱스가 있을 수도 없을 수도 있으므로 IF (NOT) EXISTS로 처리한다.
+
+-- 미사용 업로드 파일 정리의 참조 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_product_image_path ON orders (product_image_path);
+
+-- 삭제되지 않은 주문 대상 부분 인덱스(V3)로 대체
+DROP INDEX CONCURRENTLY IF EXISTS idx_order_date;
+DROP INDEX CONCURRENTLY IF EXISTS idx_order_status;
+DROP INDEX CONCURRENTLY IF EXISTS idx_member_id;
+
+-- 회원 상태별 조회에 삭제 여부 포함 (status) -> (status, is_deleted)
+DROP INDEX CONCURRENTLY IF EXISTS idx_status;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_status ON member (status, is_deleted);
+
+-- 회원별 활동 지역 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_activity_region_member ON member_activity_region (member_id);
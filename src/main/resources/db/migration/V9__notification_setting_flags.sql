@@ -0,0 +1,43 @@
+-- 알림 항목별 boolean 컬럼을 NotificationFlag 비트(flags 한 컬럼)로 변환
+-- 비트 위치와 기본값은 NotificationFlag 선언 순서/기본값과 같아야 한다.
+-- 기존 엔티티는 @Builder.Default 없이 빌더로 생성되어 항목 컬럼이 NULL로 저장된 행이 있으므로
+-- NULL은 해당 항목의 기본값(기존 엔티티 필드 초기값, NotificationFlag 기본값과 같음)으로 본다.
+ALTER TABLE notification_setting ADD COLUMN flags BIGINT;
+
+UPDATE notification_setting SET flags =
+      (CASE WHEN COALESCE(sms_order_created, TRUE)        THEN 1     ELSE 0 END)
+    + (CASE WHEN COALESCE(sms_order_canceled, TRUE)       THEN 2     ELSE 0 END)
+    + (CASE WHEN COALESCE(sms_delivery_started, TRUE)     THEN 4     ELSE 0 END)
+    + (CASE WHEN COALESCE(sms_delivery_completed, TRUE)   THEN 8     ELSE 0 END)
+    + (CASE WHEN COALESCE(sms_payment_completed, TRUE)    THEN 16    ELSE 0 END)
+    + (CASE WHEN COALESCE(call_order_created, FALSE)      THEN 32    ELSE 0 END)
+    + (CASE WHEN COALESCE(call_delivery_started, FALSE)   THEN 64    ELSE 0 END)
+    + (CASE WHEN COALESCE(call_emergency_only, TRUE)      THEN 128   ELSE 0 END)
+    + (CASE WHEN COALESCE(email_order_created, FALSE)     THEN 256   ELSE 0 END)
+    + (CASE WHEN COALESCE(email_order_canceled, FALSE)    THEN 512   ELSE 0 END)
+    + (CASE WHEN COALESCE(email_weekly_report, TRUE)      THEN 1024  ELSE 0 END)
+    + (CASE WHEN COALESCE(email_monthly_report, TRUE)     THEN 2048  ELSE 0 END)
+    + (CASE WHEN COALESCE(push_order_created, TRUE)       THEN 4096  ELSE 0 END)
+    + (CASE WHEN COALESCE(push_delivery_started, TRUE)    THEN 8192  ELSE 0 END)
+    + (CASE WHEN COALESCE(push_system_notice, TRUE)       THEN 16384 ELSE 0 END)
+    + (CASE WHEN COALESCE(night_time_notification, FALSE) THEN 32768 ELSE 0 END);
+
+ALTER TABLE notification_setting ALTER COLUMN flags SET NOT NULL;
+
+ALTER TABLE notification_setting
+    DROP COLUMN sms_order_created,
+    DROP COLUMN sms_order_canceled,
+    DROP COLUMN sms_delivery_started,
+    DROP COLUMN sms_delivery_completed,
+    DROP COLUMN sms_payment_completed,
+    DROP COLUMN call_order_created,
+    DROP COLUMN call_delivery_started,
+    DROP COLUMN call_emergency_only,
+    DROP COLUMN email_order_created,
+    DROP COLUMN email_order_canceled,
+    DROP COLUMN email_weekly_report,
+    DROP COLUMN email_monthly_report,
+    DROP COLUMN push_order_created,
+    DROP COLUMN push_delivery_started,
+    DROP COLUMN push_system_notice,
+    DROP COLUMN night_time_notification;
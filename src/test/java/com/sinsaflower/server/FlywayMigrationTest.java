@@ -0,0 +1,193 @@
+package com.sinsaflower.server;
+
+import com.sinsaflower.server.domain.member.entity.NotificationFlag;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PostgreSQL 마이그레이션 검증
+ * 일반 테스트는 H2 create-drop(Flyway 비활성)이라 db/migration을 실행하지 않으므로, 실제 PostgreSQL에서
+ * 1) 빈 DB에 전체 마이그레이션을 적용한 스키마가 엔티티 매핑과 맞는지 (ddl-auto=validate로 컨텍스트 기동)
+ * 2) ddl-auto=update로 운영하던 기존 DB(Flyway 이력 없음)가 baseline-on-migrate로 같은 스키마까지 올라가고 데이터가 변환되는지
+ * 확인한다. ./gradlew postgresTest 로 실행 (Docker 필요, 기본 test 태스크에서는 제외)
+ */
+@Tag("postgres")
+@Testcontainers
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "order.outbox.enabled=false",
+        "notification.enabled=false"
+})
+@DisplayName("PostgreSQL 마이그레이션 검증")
+class FlywayMigrationTest {
+
+    private static final String LEGACY_DATABASE = "legacy_upgrade";
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", postgres::getDriverClassName);
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private DataSource legacyDataSource;
+    private JdbcTemplate legacy;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + LEGACY_DATABASE);
+        jdbcTemplate.execute("CREATE DATABASE " + LEGACY_DATABASE);
+        legacyDataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl().replace("/" + postgres.getDatabaseName(), "/" + LEGACY_DATABASE),
+                postgres.getUsername(), postgres.getPassword());
+        legacy = new JdbcTemplate(legacyDataSource);
+    }
+
+    @Test
+    @DisplayName("빈 DB - 전체 마이그레이션 적용 후 엔티티 매핑 검증(ddl-auto=validate) 통과")
+    void migrate_EmptyDatabase_MatchesEntityMappings() {
+        // then (컨텍스트 기동 시 Flyway 적용 후 Hibernate 스키마 검증)
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).allMatch(migration -> migration.getState().isApplied()
+                && !migration.getState().isFailed());
+    }
+
+    @Test
+    @DisplayName("기존 DB - ddl-auto로 만들어진 스키마를 V1으로 기록하고 최신 스키마까지 업그레이드")
+    void migrate_ExistingDatabase_UpgradesToLatestSchema() throws Exception {
+        // given (Flyway 도입 전 ddl-auto=update로 만들어진 DB: 이력 테이블 없이 V1 스키마와 데이터만 있음)
+        try (Connection connection = legacyDataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V1__baseline.sql"));
+        }
+        Long memberId = insertLegacyMember("legacy");
+        Long customizedMemberId = insertLegacyMember("legacy_customized");
+        // 빌더로 생성되어 항목 컬럼이 모두 NULL인 설정
+        legacy.update("INSERT INTO notification_setting (member_id, notification_start_time, notification_end_time) "
+                + "VALUES (?, NULL, NULL)", memberId);
+        // 회원이 직접 바꾼 설정
+        legacy.update("""
+                INSERT INTO notification_setting (member_id,
+                    sms_order_created, sms_order_canceled, sms_delivery_started, sms_delivery_completed, sms_payment_completed,
+                    call_order_created, call_delivery_started, call_emergency_only,
+                    email_order_created, email_order_canceled, email_weekly_report, email_monthly_report,
+                    push_order_created, push_delivery_started, push_system_notice,
+                    notification_start_time, notification_end_time, night_time_notification)
+                VALUES (?, true, false, true, true, true, true, false, false, false, false, false, false,
+                        true, true, true, '08:00', '22:00', true)""", customizedMemberId);
+        Long orderId = legacy.queryForObject("""
+                INSERT INTO orders (order_number, member_id, shop_name, phone, product_name, quantity, price, payment,
+                                    order_customer_name, order_customer_mobile, receiver_name, delivery_date,
+                                    delivery_place, hide_delivery_photo, is_delivery, on_site, order_status,
+                                    created_at, updated_at, is_deleted)
+                VALUES ('A00001', ?, '기존화환', '02-123-4567', '근조화환', 1, 50000, 50000,
+                        '주문자', '010-1111-2222', '수령자', DATE '2025-01-10',
+                        '서울병원', false, true, false, 'DELIVERED', now(), now(), false)
+                RETURNING id""", Long.class, memberId);
+        // 선택된 옵션(금액 있음/없음)과 선택되지 않은 옵션
+        legacy.update("""
+                INSERT INTO order_option (order_id, option_name, checked, price)
+                VALUES (?, '리본', true, 5000), (?, '카드', true, NULL), (?, '배송사진', false, 7000)""",
+                orderId, orderId, orderId);
+
+        // when
+        Flyway.configure()
+                .configuration(flyway.getConfiguration())
+                .dataSource(legacyDataSource)
+                .load()
+                .migrate();
+
+        // then
+        assertThat(legacy.queryForObject(
+                "SELECT version FROM flyway_schema_history WHERE type = 'BASELINE'", String.class)).isEqualTo("1");
+        assertThat(legacy.queryForObject("SELECT version FROM orders WHERE id = ?", Long.class, orderId)).isZero();
+        assertThat(legacy.queryForObject("SELECT total_amount FROM orders WHERE id = ?", BigDecimal.class, orderId))
+                .isEqualByComparingTo("55000");
+        assertThat(flagsOf(memberId)).isEqualTo(NotificationFlag.DEFAULT_MASK);
+        assertThat(flagsOf(customizedMemberId)).isEqualTo(mask(
+                NotificationFlag.SMS_ORDER_CREATED, NotificationFlag.SMS_DELIVERY_STARTED,
+                NotificationFlag.SMS_DELIVERY_COMPLETED, NotificationFlag.SMS_PAYMENT_COMPLETED,
+                NotificationFlag.CALL_ORDER_CREATED,
+                NotificationFlag.PUSH_ORDER_CREATED, NotificationFlag.PUSH_DELIVERY_STARTED, NotificationFlag.PUSH_SYSTEM_NOTICE,
+                NotificationFlag.NIGHT_TIME_NOTIFICATION));
+        assertThat(columns(legacy)).containsExactlyInAnyOrderElementsOf(columns(jdbcTemplate));
+        assertThat(indexes(legacy)).containsExactlyInAnyOrderElementsOf(indexes(jdbcTemplate));
+    }
+
+    private Long insertLegacyMember(String loginId) {
+        return legacy.queryForObject("""
+                INSERT INTO member (login_id, password, name, nickname, mobile, status, created_at, updated_at, is_deleted)
+                VALUES (?, 'encoded', '기존화환', '기존', '010-1234-5678', 'ACTIVE', now(), now(), false)
+                RETURNING id""", Long.class, loginId);
+    }
+
+    private long flagsOf(Long memberId) {
+        return legacy.queryForObject("SELECT flags FROM notification_setting WHERE member_id = ?", Long.class, memberId);
+    }
+
+    private static long mask(NotificationFlag... enabled) {
+        long mask = 0;
+        for (NotificationFlag flag : enabled) {
+            mask = flag.applyTo(mask, true);
+        }
+        return mask;
+    }
+
+    /**
+     * 테이블 컬럼 정의 (마이그레이션 이력 테이블 제외)
+     */
+    private static List<Map<String, Object>> columns(JdbcTemplate jdbc) {
+        return jdbc.queryForList("""
+                SELECT table_name, column_name, data_type, is_nullable,
+                       character_maximum_length, numeric_precision, numeric_scale
+                FROM information_schema.columns
+                WHERE table_schema = 'public' AND table_name <> 'flyway_schema_history'""");
+    }
+
+    /**
+     * 인덱스 정의 (제약 조건 인덱스는 기존 DB에서 Hibernate가 생성한 이름이므로 이름 없이 정의만 비교)
+     */
+    private static List<String> indexes(JdbcTemplate jdbc) {
+        return jdbc.queryForList("""
+                SELECT regexp_replace(indexdef, 'INDEX \\S+ ON', 'INDEX ON')
+                FROM pg_indexes
+                WHERE schemaname = 'public' AND tablename <> 'flyway_schema_history'""", String.class);
+    }
+}
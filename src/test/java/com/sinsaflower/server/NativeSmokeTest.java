@@ -0,0 +1,198 @@
+package com.sinsaflower.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+/**
+ * 네이티브 실행 파일 스모크 테스트
+ * nativeCompile 결과를 H2 인메모리 DB로 띄워 기동 시간, 메모리(RSS), 로그인(JJWT)과 JPA 조회 경로를 확인한다.
+ * PostgreSQL 전용 마이그레이션 대신 Hibernate가 스키마를 생성한다.
+ * ./gradlew nativeSmokeTest -Pnative 로 실행 (기본 test 태스크에서는 제외)
+ */
+@Tag("native")
+@DisplayName("네이티브 이미지 스모크 테스트")
+class NativeSmokeTest {
+
+    private static final long MAX_STARTUP_MILLIS = Long.getLong("native.smoke.max-startup-millis", 1_000);
+    private static final long MAX_RSS_MB = Long.getLong("native.smoke.max-rss-mb", 200);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+    @TempDir
+    static Path workDir;
+
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static Process process;
+    private static String baseUrl;
+    private static long startupMillis;
+
+    @BeforeAll
+    static void startNativeExecutable() throws Exception {
+        Path executable = Path.of(System.getProperty("native.executable", "build/native/nativeCompile/server"));
+        if (!Files.isExecutable(executable)) {
+            throw new IllegalStateException("네이티브 실행 파일 없음 (./gradlew nativeCompile -Pnative): " + executable);
+        }
+
+        int port = freePort();
+        baseUrl = "http://localhost:" + port;
+        Path log = workDir.resolve("native.log");
+        long started = System.nanoTime();
+        process = new ProcessBuilder(List.of(
+                executable.toString(),
+                "--spring.profiles.active=fast-start",
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:smoke;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.flyway.locations=classpath:db/smoke-none", // 마이그레이션 없음 (스키마는 Hibernate가 생성)
+                "--jwt.secret=nativeSmokeTestSecretKeyForJwtTokenGenerationAndValidation",
+                "--file.upload.base-path=" + workDir.resolve("uploads"),
+                "--logging.file.name=" + workDir.resolve("native-file.log")))
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        long deadline = started + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("기동 실패:\n" + Files.readString(log));
+            }
+            if (isUp()) {
+                startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                System.out.printf("native time-to-first-request=%,dms%n", startupMillis);
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("기동 시간 초과:\n" + Files.readString(log));
+    }
+
+    @AfterAll
+    static void stopNativeExecutable() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("프로세스 시작부터 첫 요청 응답까지 기준 시간 이내")
+    void startsWithinBudget() {
+        assertThat(startupMillis).isLessThan(MAX_STARTUP_MILLIS);
+    }
+
+    @Test
+    @DisplayName("관리자 생성, 로그인(JWT 발급) 후 관리자 주문 조회")
+    void loginAndQueryOrders() throws Exception {
+        // given
+        HttpResponse<String> created = post("/api/admin/init",
+                "{\"loginId\":\"smoke-admin\",\"password\":\"smokePassword123\",\"name\":\"스모크 관리자\"}");
+        assertThat(created.statusCode()).isEqualTo(201);
+
+        // when
+        HttpResponse<String> login = post("/api/auth/login",
+                "{\"loginId\":\"smoke-admin\",\"password\":\"smokePassword123\"}");
+        assertThat(login.statusCode()).isEqualTo(200);
+        String token = objectMapper.readTree(login.body()).path("data").path("accessToken").asText();
+
+        // then
+        assertThat(token).isNotBlank();
+        HttpResponse<String> orders = get("/api/admin/orders/today", token);
+        assertThat(orders.statusCode()).isEqualTo(200);
+        JsonNode data = objectMapper.readTree(orders.body()).path("data");
+        assertThat(data.isArray()).isTrue();
+    }
+
+    @Test
+    @DisplayName("인증 없이 관리자 API 호출 시 거부")
+    void rejectsUnauthenticatedRequest() throws Exception {
+        // when
+        HttpResponse<String> response = get("/api/admin/orders/today", null);
+
+        // then
+        assertThat(response.statusCode()).isIn(401, 403);
+    }
+
+    @Test
+    @DisplayName("요청 처리 후 상주 메모리(RSS) 기준 이내")
+    void residentMemoryWithinBudget() throws Exception {
+        // given
+        Path status = Path.of("/proc", String.valueOf(process.pid()), "status");
+        assumeTrue(Files.isReadable(status), "/proc이 없는 환경");
+        for (int i = 0; i < 50; i++) {
+            get("/actuator/health", null);
+        }
+
+        // when
+        long rssKb = Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                .findFirst()
+                .orElseThrow();
+        System.out.printf("native rss=%,dMB%n", rssKb / 1024);
+
+        // then
+        assertThat(rssKb / 1024).isLessThan(MAX_RSS_MB);
+    }
+
+    private static boolean isUp() throws InterruptedException {
+        try {
+            return get("/actuator/health", null).statusCode() == 200;
+        } catch (IOException e) {
+            return false; // 아직 포트가 열리지 않음
+        }
+    }
+
+    private static HttpResponse<String> get(String path, String token) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(5))
+                .GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpResponse<String> post(String path, String json) throws IOException, InterruptedException {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.sinsaflower.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 기동 시간 벤치마크 (프로세스 시작부터 첫 요청 응답까지)
+ * 테스트 클래스패스로 애플리케이션을 별도 JVM에서 띄워 기본 설정, fast-start 프로필, fast-start + CDS 아카이브를 비교한다.
+ * Spring AOT 효과는 AOT 처리된 jar(./gradlew bootJar -PfastStart)에서만 측정할 수 있어 여기서는 제외한다.
+ * ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+@DisplayName("기동 시간 벤치마크")
+class StartupBenchmarkTest {
+
+    private static final int RUNS = Integer.getInteger("benchmark.startup.runs", 3);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+    private static final String DEFAULT_PROFILES = "test";
+    private static final String FAST_START_PROFILES = "test,fast-start";
+
+    @TempDir
+    Path workDir;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    @Test
+    @DisplayName("첫 요청 응답까지 시간 - fast-start 프로필과 CDS 아카이브 적용 시 단축")
+    void timeToFirstRequest() throws Exception {
+        Path archive = workDir.resolve("app.jsa");
+        trainArchive(archive);
+
+        Result defaults = measure("default", DEFAULT_PROFILES, List.of());
+        Result fastStart = measure("fast-start", FAST_START_PROFILES, List.of());
+        Result fastStartCds = measure("fast+cds", FAST_START_PROFILES, List.of("-XX:SharedArchiveFile=" + archive));
+
+        System.out.println(defaults);
+        System.out.println(fastStart);
+        System.out.println(fastStartCds);
+        assertThat(Files.size(archive)).isPositive();
+        assertThat(fastStartCds.medianMillis).isLessThan(defaults.medianMillis);
+    }
+
+    // 컨텍스트 초기화까지만 실행하고 종료하며 로드된 클래스를 CDS 아카이브로 기록 (Dockerfile과 같은 방식)
+    private void trainArchive(Path archive) throws Exception {
+        Process process = start(FAST_START_PROFILES,
+                List.of("-XX:ArchiveClassesAtExit=" + archive, "-Dspring.context.exit=onRefresh"),
+                0, workDir.resolve("train.log"));
+        assertThat(process.waitFor(STARTUP_TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+    }
+
+    private Result measure(String name, String profiles, List<String> jvmArgs) throws Exception {
+        List<Long> millis = new ArrayList<>();
+        for (int run = 1; run <= RUNS; run++) {
+            millis.add(timeToFirstRequest(profiles, jvmArgs, workDir.resolve(name + "-" + run + ".log")));
+        }
+        millis.sort(null);
+        return new Result(name, millis.get(millis.size() / 2), millis.get(0), millis.get(millis.size() - 1));
+    }
+
+    private long timeToFirstRequest(String profiles, List<String> jvmArgs, Path log) throws Exception {
+        int port = freePort();
+        URI health = URI.create("http://localhost:" + port + "/actuator/health");
+        long started = System.nanoTime();
+        Process process = start(profiles, jvmArgs, port, log);
+        try {
+            long deadline = started + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("기동 실패: " + log);
+                }
+                if (isUp(health)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("기동 시간 초과: " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static Process start(String profiles, List<String> jvmArgs, int port, Path log) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ServerApplication.class.getName());
+        command.add("--spring.profiles.active=" + profiles);
+        command.add("--server.port=" + port);
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+    }
+
+    private boolean isUp(URI health) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(health).timeout(Duration.ofSeconds(1)).GET().build();
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false; // 아직 포트가 열리지 않음
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Result(String name, long medianMillis, long minMillis, long maxMillis) {
+
+        @Override
+        public String toString() {
+            return String.format("%-10s time-to-first-request median=%,6dms  min=%,6dms  max=%,6dms",
+                    name, medianMillis, minMillis, maxMillis);
+        }
+    }
+}
@@ -4,8 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sinsaflower.server.domain.admin.dto.AdminResponse;
 import com.sinsaflower.server.domain.admin.service.AdminService;
 import com.sinsaflower.server.domain.member.dto.MemberResponse;
+import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
+import com.sinsaflower.server.domain.member.service.MemberExportService;
 import com.sinsaflower.server.domain.member.service.MemberService;
 import com.sinsaflower.server.global.dto.ApiResponse;
+import com.sinsaflower.server.global.dto.CursorResponse;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
 import com.sinsaflower.server.global.security.CustomUserDetails;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,15 +19,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
@@ -37,6 +50,9 @@ class AdminControllerTest {
     @Mock
     private MemberService memberService;
 
+    @Mock
+    private MemberExportService memberExportService;
+
     @InjectMocks
     private AdminController adminController;
 
@@ -91,20 +107,42 @@ class AdminControllerTest {
     @DisplayName("승인 대기 멤버 목록 조회 API 성공 테스트")
     void getPendingMembers_Success() {
         // given
-        List<MemberResponse> pendingMembers = List.of(mockMemberResponse);
-        given(memberService.getPendingMembers()).willReturn(pendingMembers);
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<MemberResponse> pendingMembers = new PageImpl<>(List.of(mockMemberResponse), pageable, 1);
+        given(memberService.getPendingMembers(pageable)).willReturn(pendingMembers);
 
         // when
-        ResponseEntity<ApiResponse<List<MemberResponse>>> response = adminController.getPendingMembers(mockAdminUser);
+        ResponseEntity<ApiResponse<Page<MemberResponse>>> response = adminController.getPendingMembers(pageable, mockAdminUser);
 
         // then
         assertThat(response.getStatusCode().value()).isEqualTo(200);
         assertThat(response.getBody().getCode()).isEqualTo(200);
-        assertThat(response.getBody().getData()).hasSize(1);
-        assertThat(response.getBody().getData().get(0).getLoginId()).isEqualTo("testuser");
+        assertThat(response.getBody().getData().getContent()).hasSize(1);
+        assertThat(response.getBody().getData().getContent().get(0).getLoginId()).isEqualTo("testuser");
+
+        // verify
+        then(memberService).should().getPendingMembers(pageable);
+    }
+
+    @Test
+    @DisplayName("승인 대기 멤버 커서 조회 API 성공 테스트")
+    void getPendingMembersByCursor_Success() {
+        // given
+        CursorResponse<MemberResponse> pendingMembers = CursorResponse.of(List.of(mockMemberResponse), 20, MemberResponse::getId);
+        given(memberService.getPendingMembers(null, 20)).willReturn(pendingMembers);
+
+        // when
+        ResponseEntity<ApiResponse<CursorResponse<MemberResponse>>> response =
+                adminController.getPendingMembersByCursor(null, 20, mockAdminUser);
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody().getData().getContent()).hasSize(1);
+        assertThat(response.getBody().getData().isHasNext()).isFalse();
+        assertThat(response.getBody().getData().getNextCursor()).isNull();
 
         // verify
-        then(memberService).should().getPendingMembers();
+        then(memberService).should().getPendingMembers(null, 20);
     }
 
     @Test
@@ -219,6 +257,52 @@ class AdminControllerTest {
         then(adminService).should(never()).createInitialAdmin(anyString(), anyString(), anyString());
     }
 
+    @Test
+    @DisplayName("회원 내보내기 API - CSV 첨부 파일로 응답하고 본문 출력 시점에 스트리밍")
+    void exportMembers_Csv() throws Exception {
+        // when
+        ResponseEntity<StreamingResponseBody> response = adminController.exportMembers("csv", MemberStatus.ACTIVE, mockAdminUser);
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.parseMediaType("text/csv"))).isTrue();
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+                .startsWith("attachment; filename=\"members-")
+                .endsWith(".csv\"");
+        then(memberExportService).should(never()).export(any(), anyString(), any()); // 응답 본문을 쓸 때 조회
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        // then
+        then(memberExportService).should().export(MemberStatus.ACTIVE, "csv", out);
+    }
+
+    @Test
+    @DisplayName("회원 내보내기 API - NDJSON 형식")
+    void exportMembers_Ndjson() {
+        // when
+        ResponseEntity<StreamingResponseBody> response = adminController.exportMembers("ndjson", null, mockAdminUser);
+
+        // then
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).endsWith(".ndjson\"");
+    }
+
+    @Test
+    @DisplayName("회원 내보내기 API 실패 테스트 - 지원하지 않는 형식")
+    void exportMembers_Failure_UnsupportedFormat() throws Exception {
+        // given
+        willThrow(InvalidRequestException.invalidParameter("format", "csv 또는 ndjson만 지원합니다"))
+                .given(memberExportService).validateFormat("xlsx");
+
+        // when & then
+        assertThatThrownBy(() -> adminController.exportMembers("xlsx", null, mockAdminUser))
+                .isInstanceOf(InvalidRequestException.class);
+        then(memberExportService).should(never()).export(any(), anyString(), any());
+    }
+
     // === 테스트 데이터 생성 헬퍼 메서드들 ===
 
     private AdminResponse createMockAdminResponse() {
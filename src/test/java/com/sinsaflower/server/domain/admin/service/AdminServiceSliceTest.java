@@ -6,6 +6,8 @@ import com.sinsaflower.server.domain.member.entity.Member;
 import com.sinsaflower.server.domain.member.entity.MemberBusinessProfile;
 import com.sinsaflower.server.domain.member.repository.MemberBusinessProfileRepository;
 import com.sinsaflower.server.domain.member.repository.MemberRepository;
+import com.sinsaflower.server.domain.member.service.MemberStatisticsService;
+import com.sinsaflower.server.domain.member.service.NotificationSettingCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,6 +37,12 @@ class AdminServiceSliceTest {
     
     @Mock
     private PasswordEncoder passwordEncoder;
+    
+    @Mock
+    private MemberStatisticsService memberStatisticsService;
+
+    @Mock
+    private NotificationSettingCache notificationSettingCache;
 
     @InjectMocks
     private AdminService adminService;
@@ -61,6 +69,8 @@ class AdminServiceSliceTest {
 
         verify(memberRepository).findById(memberId);
         verify(memberBusinessProfileRepository).findByMemberId(memberId);
+        verify(memberStatisticsService).recordStatusChange(member, Member.MemberStatus.PENDING);
+        verify(notificationSettingCache).refresh(member);
     }
 
     @Test
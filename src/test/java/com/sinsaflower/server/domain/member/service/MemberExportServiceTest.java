@@ -0,0 +1,170 @@
+package com.sinsaflower.server.domain.member.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinsaflower.server.domain.member.constants.MemberConstants;
+import com.sinsaflower.server.domain.member.entity.Member;
+import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
+import com.sinsaflower.server.domain.member.entity.MemberBusinessProfile;
+import com.sinsaflower.server.domain.member.repository.MemberRepository;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberExportService 테스트")
+class MemberExportServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private MemberExportService memberExportService;
+
+    @BeforeEach
+    void setUp() {
+        memberExportService = new MemberExportService(memberRepository, entityManager, objectMapper);
+    }
+
+    @Test
+    @DisplayName("CSV - BOM, 헤더, 값에 쉼표/따옴표가 있으면 따옴표로 감쌈")
+    void export_Csv() throws Exception {
+        // given
+        Member member = createMember(1L, "신사플라워, 강남점", "\"꽃\"집");
+        member.setBusinessProfile(MemberBusinessProfile.builder().corpName("(주)신사").businessNumber("123-45-67890").build());
+        given(memberRepository.streamAllForExport()).willReturn(Stream.of(member));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = memberExportService.export(null, MemberConstants.Export.FORMAT_CSV, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(count).isEqualTo(1);
+        assertThat(lines[0]).isEqualTo("\uFEFFid,loginId,name,nickname,mobile,status,corpName,businessNumber,approvalStatus,createdAt,lastLoginAt");
+        assertThat(lines[1]).startsWith("1,member1,\"신사플라워, 강남점\",\"\"\"꽃\"\"집\",010-1234-5678,ACTIVE,(주)신사,123-45-67890,");
+    }
+
+    @Test
+    @DisplayName("CSV - 수식으로 시작하는 값은 작은따옴표를 붙여 수식 실행 방지")
+    void export_Csv_FormulaInjection() throws Exception {
+        // given
+        given(memberRepository.streamByStatusForExport(MemberStatus.ACTIVE)).willReturn(Stream.of(
+                createMember(1L, "=HYPERLINK(\"http://evil\",\"x\")", "+1+2"),
+                createMember(2L, "-2+3", "@SUM(A1)")
+        ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        memberExportService.export(MemberStatus.ACTIVE, MemberConstants.Export.FORMAT_CSV, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines[1]).startsWith("1,member1,\"'=HYPERLINK(\"\"http://evil\"\",\"\"x\"\")\",'+1+2,");
+        assertThat(lines[2]).startsWith("2,member2,'-2+3,'@SUM(A1),");
+    }
+
+    @Test
+    @DisplayName("NDJSON - 회원 한 명당 JSON 한 줄")
+    void export_Ndjson() throws Exception {
+        // given
+        given(memberRepository.streamAllForExport()).willReturn(Stream.of(
+                createMember(1L, "화환1", "닉1"),
+                createMember(2L, "=화환2", "닉2")
+        ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = memberExportService.export(null, MemberConstants.Export.FORMAT_NDJSON, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.path("id").asLong()).isEqualTo(2L);
+        assertThat(second.path("name").asText()).isEqualTo("=화환2"); // JSON은 수식 방지 대상 아님
+        assertThat(second.path("status").asText()).isEqualTo("ACTIVE");
+    }
+
+    @Test
+    @DisplayName("스트리밍 - 전체를 읽기 전에 출력하고 주기적으로 영속성 컨텍스트를 비우며 스트림을 닫음")
+    void export_StreamsWithConstantMemory() throws Exception {
+        // given
+        int total = MemberConstants.Export.CLEAR_INTERVAL * 2 + 10;
+        AtomicInteger produced = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Member> members = Stream.iterate(1L, id -> id + 1)
+                .limit(total)
+                .map(id -> {
+                    produced.incrementAndGet();
+                    return createMember(id, "화환" + id, "닉" + id);
+                })
+                .onClose(() -> closed.set(true));
+        given(memberRepository.streamAllForExport()).willReturn(members);
+        List<Integer> producedAtWrite = new ArrayList<>();
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                producedAtWrite.add(produced.get());
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                producedAtWrite.add(produced.get());
+            }
+        };
+
+        // when
+        long count = memberExportService.export(null, MemberConstants.Export.FORMAT_CSV, out);
+
+        // then
+        assertThat(count).isEqualTo(total);
+        assertThat(producedAtWrite).isNotEmpty();
+        assertThat(producedAtWrite.get(0)).isLessThan(total); // 전체를 메모리에 모으지 않고 읽는 중에 출력
+        then(entityManager).should(times(2)).clear();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식 - 예외")
+    void validateFormat_Unsupported() {
+        // when & then
+        assertThatThrownBy(() -> memberExportService.validateFormat("xlsx"))
+                .isInstanceOf(InvalidRequestException.class);
+        then(memberRepository).shouldHaveNoInteractions();
+    }
+
+    private Member createMember(Long id, String name, String nickname) {
+        return Member.builder()
+                .id(id)
+                .loginId("member" + id)
+                .name(name)
+                .nickname(nickname)
+                .mobile("010-1234-5678")
+                .status(MemberStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,188 @@
+package com.sinsaflower.server.domain.member.service;
+
+import com.sinsaflower.server.domain.admin.service.AdminService;
+import com.sinsaflower.server.domain.member.constants.MemberConstants;
+import com.sinsaflower.server.domain.member.dto.MemberResponse;
+import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
+import com.sinsaflower.server.global.dto.LoginRequest;
+import com.sinsaflower.server.global.service.AuthService;
+import com.sinsaflower.server.testutil.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 회원 프로필 캐시 테스트
+ * 테스트 프로필은 캐시를 끄므로(spring.cache.type: none) 여기서만 Caffeine 캐시를 켜고,
+ * 트랜잭션 커밋 후 무효화되는지 보기 위해 테스트 트랜잭션 없이 실행한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:member-profile-cache;DB_CLOSE_DELAY=-1",
+        "spring.cache.type=caffeine",
+        "spring.cache.cache-names=" + MemberConstants.CacheNames.MEMBER_PROFILE,
+        "order.outbox.enabled=false",
+        "notification.enabled=false"
+})
+@DisplayName("회원 프로필 캐시 테스트")
+class MemberProfileCacheTest {
+
+    private static final String PASSWORD = "password123"; // TestDataFactory 가입 요청 비밀번호
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private MemberRegionPriceService memberRegionPriceService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Cache cache;
+    private Long memberId;
+    private String loginId;
+
+    @BeforeEach
+    void setUp() {
+        long unique = System.nanoTime();
+        loginId = "cache_" + unique;
+        String businessNumber = String.format("555-44-%05d", unique % 100000);
+        memberId = memberService.signUp(TestDataFactory.createSignupRequest(loginId, "캐시화환", businessNumber)).getId();
+        adminService.approveMember(memberId);
+
+        cache = cacheManager.getCache(MemberConstants.CacheNames.MEMBER_PROFILE);
+        cache.clear();
+    }
+
+    @Test
+    @DisplayName("캐시 적중 - 두 번째 조회는 DB를 보지 않고 캐시된 응답 반환")
+    void getMemberInfo_CacheHit() {
+        // given
+        MemberResponse first = memberService.getMemberInfo(memberId);
+        renameInDatabase("DB에서변경");
+
+        // when
+        MemberResponse second = memberService.getMemberInfo(memberId);
+
+        // then
+        assertThat(cache.get(memberId)).isNotNull();
+        assertThat(second).isSameAs(first);
+        assertThat(second.getName()).isEqualTo("캐시화환");
+    }
+
+    @Test
+    @DisplayName("정지/정지 해제 - 커밋 후 캐시 무효화되어 바뀐 상태 조회")
+    void suspendAndUnsuspend_Evict() {
+        // given
+        memberService.getMemberInfo(memberId);
+
+        // when
+        adminService.suspendMember(memberId);
+
+        // then
+        assertThat(cache.get(memberId)).isNull();
+        assertThat(memberService.getMemberInfo(memberId).getStatus()).isNotEqualTo(MemberStatus.ACTIVE.getDescription());
+
+        // when
+        adminService.unsuspendMember(memberId);
+
+        // then
+        assertThat(cache.get(memberId)).isNull();
+        assertThat(memberService.getMemberInfo(memberId).getStatus()).isEqualTo(MemberStatus.ACTIVE.getDescription());
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 - 캐시 무효화")
+    void changePassword_Evicts() {
+        // given
+        memberService.getMemberInfo(memberId);
+
+        // when
+        memberService.changePassword(memberId, PASSWORD, "newPassword123");
+
+        // then
+        assertThat(cache.get(memberId)).isNull();
+    }
+
+    @Test
+    @DisplayName("지역/가격 저장 - 캐시 무효화")
+    void saveRegionPrices_Evicts() {
+        // given
+        memberService.getMemberInfo(memberId);
+
+        // when
+        memberRegionPriceService.save(memberId, List.of());
+
+        // then
+        assertThat(cache.get(memberId)).isNull();
+    }
+
+    @Test
+    @DisplayName("회원 삭제 - 캐시 무효화")
+    void deleteMember_Evicts() {
+        // given
+        memberService.getMemberInfo(memberId);
+
+        // when
+        adminService.deleteMember(memberId, "admin");
+
+        // then
+        assertThat(cache.get(memberId)).isNull();
+    }
+
+    @Test
+    @DisplayName("파트너 로그인 - 캐시 무효화되어 마지막 로그인 일시 반영")
+    void login_Evicts() {
+        // given
+        assertThat(memberService.getMemberInfo(memberId).getLastLoginAt()).isNull();
+        LoginRequest request = new LoginRequest();
+        request.setLoginId(loginId);
+        request.setPassword(PASSWORD);
+
+        // when
+        authService.login(request);
+
+        // then
+        assertThat(cache.get(memberId)).isNull();
+        assertThat(memberService.getMemberInfo(memberId).getLastLoginAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("로그인 실패 - 캐시 유지")
+    void loginFailure_KeepsCache() {
+        // given
+        memberService.getMemberInfo(memberId);
+        LoginRequest request = new LoginRequest();
+        request.setLoginId(loginId);
+        request.setPassword("wrongPassword");
+
+        // when & then
+        assertThatThrownBy(() -> authService.login(request)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(cache.get(memberId)).isNotNull();
+    }
+
+    private void renameInDatabase(String name) {
+        jdbcTemplate.update("UPDATE member SET name = ? WHERE id = ?", name, memberId);
+    }
+}
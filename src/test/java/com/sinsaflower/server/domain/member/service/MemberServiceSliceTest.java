@@ -6,15 +6,19 @@ import com.sinsaflower.server.domain.member.entity.Member;
 import com.sinsaflower.server.domain.member.entity.MemberBusinessProfile;
 import com.sinsaflower.server.domain.member.repository.*;
 import com.sinsaflower.server.domain.product.repository.MemberProductPriceRepository;
-import com.sinsaflower.server.global.service.FileUploadService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -44,10 +48,16 @@ class MemberServiceSliceTest {
     private NotificationSettingRepository notificationSettingRepository;
     
     @Mock
-    private FileUploadService fileUploadService;
+    private NotificationSettingCache notificationSettingCache;
     
     @Mock
     private PasswordEncoder passwordEncoder;
+    
+    @Mock
+    private MemberStatisticsService memberStatisticsService;
+    
+    @Mock
+    private MemberDuplicateFilter memberDuplicateFilter;
 
     @InjectMocks
     private MemberService memberService;
@@ -60,6 +70,8 @@ class MemberServiceSliceTest {
         Member savedMember = createMemberEntity();
         MemberBusinessProfile savedProfile = createBusinessProfileEntity();
 
+        given(memberDuplicateFilter.mightContainLoginId(anyString())).willReturn(true);
+        given(memberDuplicateFilter.mightContainBusinessNumber(anyString())).willReturn(true);
         given(memberRepository.existsByLoginId(anyString())).willReturn(false);
         given(businessProfileRepository.existsByBusinessNumber(anyString())).willReturn(false);
         given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
@@ -79,6 +91,7 @@ class MemberServiceSliceTest {
         verify(businessProfileRepository).existsByBusinessNumber("123-45-67890");
         verify(memberRepository).save(any(Member.class));
         verify(businessProfileRepository).save(any(MemberBusinessProfile.class));
+        verify(memberDuplicateFilter).register(eq("testuser"), any(), eq("123-45-67890"));
     }
 
     @Test
@@ -86,6 +99,7 @@ class MemberServiceSliceTest {
     void signUp_Fail_DuplicateLoginId() {
         // given
         MemberSignupRequest request = createBasicSignupRequest();
+        given(memberDuplicateFilter.mightContainLoginId(anyString())).willReturn(true);
         given(memberRepository.existsByLoginId(anyString())).willReturn(true);
 
         // when & then
@@ -102,6 +116,8 @@ class MemberServiceSliceTest {
     void signUp_Fail_DuplicateBusinessNumber() {
         // given
         MemberSignupRequest request = createBasicSignupRequest();
+        given(memberDuplicateFilter.mightContainLoginId(anyString())).willReturn(true);
+        given(memberDuplicateFilter.mightContainBusinessNumber(anyString())).willReturn(true);
         given(memberRepository.existsByLoginId(anyString())).willReturn(false);
         given(businessProfileRepository.existsByBusinessNumber(anyString())).willReturn(true);
 
@@ -118,6 +134,7 @@ class MemberServiceSliceTest {
     @DisplayName("로그인 ID 중복 확인 - 존재함")
     void isLoginIdDuplicate_Exists() {
         // given
+        given(memberDuplicateFilter.mightContainLoginId("testuser")).willReturn(true);
         given(memberRepository.existsByLoginId("testuser")).willReturn(true);
 
         // when
@@ -132,6 +149,7 @@ class MemberServiceSliceTest {
     @DisplayName("로그인 ID 중복 확인 - 존재하지 않음")
     void isLoginIdDuplicate_NotExists() {
         // given
+        given(memberDuplicateFilter.mightContainLoginId("newuser")).willReturn(true);
         given(memberRepository.existsByLoginId("newuser")).willReturn(false);
 
         // when
@@ -142,6 +160,20 @@ class MemberServiceSliceTest {
         verify(memberRepository).existsByLoginId("newuser");
     }
 
+    @Test
+    @DisplayName("로그인 ID 중복 확인 - 필터에 없으면 DB 조회 없이 사용 가능")
+    void isLoginIdDuplicate_FilterMiss() {
+        // given
+        given(memberDuplicateFilter.mightContainLoginId("brandnew")).willReturn(false);
+
+        // when
+        boolean result = memberService.isLoginIdDuplicate("brandnew");
+
+        // then
+        assertThat(result).isFalse();
+        verify(memberRepository, never()).existsByLoginId(anyString());
+    }
+
     @Test
     @DisplayName("회원 정보 조회 성공")
     void getMemberInfo_Success() {
@@ -175,6 +207,23 @@ class MemberServiceSliceTest {
         verify(memberRepository).findById(memberId);
     }
 
+    @Test
+    @DisplayName("전체 회원 페이징 조회 - ID 조회 후 삭제된 회원은 건너뛰고 페이지 순서 유지")
+    void getAllActiveMembers_SkipsMissingMembers() {
+        // given
+        Pageable pageable = PageRequest.of(0, 3);
+        given(memberRepository.findActiveIds(any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(3L, 2L, 1L), pageable, 3));
+        given(memberRepository.findAllWithBusinessProfileByIdIn(List.of(3L, 2L, 1L)))
+                .willReturn(List.of(createMember(1L), createMember(3L))); // 2번 회원은 그 사이 삭제됨
+
+        // when
+        Page<MemberResponse> result = memberService.getAllActiveMembers(pageable);
+
+        // then
+        assertThat(result.getContent()).extracting(MemberResponse::getId).containsExactly(3L, 1L);
+    }
+
     // === 테스트 데이터 생성 헬퍼 메서드 ===
 
     private MemberSignupRequest createBasicSignupRequest() {
@@ -219,6 +268,14 @@ class MemberServiceSliceTest {
                 .build();
     }
 
+    private Member createMember(Long id) {
+        return Member.builder()
+                .id(id)
+                .loginId("member" + id)
+                .status(Member.MemberStatus.ACTIVE)
+                .build();
+    }
+
     private MemberBusinessProfile createBusinessProfileEntity() {
         return MemberBusinessProfile.builder()
                 .id(1L)
@@ -0,0 +1,233 @@
+package com.sinsaflower.server.domain.member.service;
+
+import com.sinsaflower.server.domain.member.dto.MemberSignupRequest;
+import com.sinsaflower.server.domain.member.repository.MemberBankAccountRepository;
+import com.sinsaflower.server.domain.member.repository.MemberBusinessProfileRepository;
+import com.sinsaflower.server.domain.member.repository.MemberRepository;
+import com.sinsaflower.server.global.service.OrphanFileCollector;
+import com.sinsaflower.server.testutil.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 회원 가입 첨부 파일 처리 테스트
+ * 첨부 파일은 트랜잭션 전에 저장소에 저장되고, 커밋되면 DB가 참조하며,
+ * 롤백되면 삭제하지 않고 남겨 두었다가 유예 기간 후 OrphanFileCollector가 회수하는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:member-signup;DB_CLOSE_DELAY=-1",
+        "order.outbox.enabled=false",
+        "notification.enabled=false",
+        "file.orphan-gc.enabled=false"
+})
+@DisplayName("회원 가입 첨부 파일 처리 테스트")
+class MemberSignupServiceTest {
+
+    private static final String STAGING_DIRECTORY = ".staging";
+
+    @TempDir
+    static Path basePath;
+
+    @DynamicPropertySource
+    static void fileUploadProperties(DynamicPropertyRegistry registry) {
+        registry.add("file.upload.base-path", () -> basePath.toString());
+    }
+
+    @Autowired
+    private MemberSignupService memberSignupService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberBusinessProfileRepository memberBusinessProfileRepository;
+
+    @Autowired
+    private MemberBankAccountRepository memberBankAccountRepository;
+
+    @Autowired
+    private OrphanFileCollector orphanFileCollector;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // 테스트 간 저장소 공유 방지 (저장소 전체를 확인하므로 이전 테스트 파일 제거)
+        for (String key : storedFiles()) {
+            Files.delete(basePath.resolve(key));
+        }
+    }
+
+    @Test
+    @DisplayName("커밋 - 트랜잭션 전에 저장한 첨부 파일을 커밋된 회원 정보가 참조")
+    void signUp_Commit_ReferencesStagedFiles() throws Exception {
+        // given
+        MemberSignupRequest request = signupRequest("commit");
+        AtomicInteger completion = new AtomicInteger(-1);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            memberSignupService.signUp(request);
+            registerCompletionListener(completion);
+        });
+
+        // then
+        assertThat(completion).hasValue(TransactionSynchronization.STATUS_COMMITTED);
+        List<String> stored = storedFiles();
+        assertThat(stored).hasSize(2);
+        assertThat(memberRepository.findByLoginId(request.getLoginId())).isPresent();
+        assertThat(referenced(stored)).containsExactlyInAnyOrderElementsOf(stored);
+        assertThat(stagingFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("롤백 - 첨부 파일은 바로 삭제하지 않고 유예 기간이 지나면 미사용 파일 정리에서 회수")
+    void signUp_Rollback_LeavesFilesForCollector() throws Exception {
+        // given
+        MemberSignupRequest request = signupRequest("rollback");
+        AtomicInteger completion = new AtomicInteger(-1);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            memberSignupService.signUp(request);
+            registerCompletionListener(completion);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(completion).hasValue(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(memberRepository.findByLoginId(request.getLoginId())).isEmpty();
+        List<String> stored = storedFiles();
+        assertThat(stored).hasSize(2);
+        assertThat(referenced(stored)).isEmpty();
+        assertThat(stagingFiles()).isEmpty();
+
+        // 유예 기간 안에는 회수하지 않음
+        orphanFileCollector.collect();
+        assertThat(storedFiles()).containsExactlyInAnyOrderElementsOf(stored);
+
+        // 유예 기간이 지나면 회수
+        expire(stored);
+        long reclaimed = orphanFileCollector.collect();
+        assertThat(reclaimed).isPositive();
+        assertThat(storedFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가입 실패 - 중복 아이디로 가입 트랜잭션이 롤백되어도 저장한 첨부 파일은 회수 전까지 유지")
+    void signUp_Failure_LeavesFilesForCollector() throws Exception {
+        // given
+        MemberSignupRequest first = signupRequest("duplicate");
+        memberSignupService.signUp(first);
+        List<String> committed = storedFiles();
+
+        MemberSignupRequest duplicate = signupRequest("duplicate-retry");
+        duplicate.setLoginId(first.getLoginId());
+
+        // when & then
+        assertThatThrownBy(() -> memberSignupService.signUp(duplicate))
+                .isInstanceOf(IllegalArgumentException.class);
+        List<String> stored = storedFiles();
+        assertThat(stored).hasSize(committed.size() + 2);
+        assertThat(stagingFiles()).isEmpty();
+
+        // 유예 기간이 지나면 참조되지 않는 실패한 가입의 파일만 회수
+        expire(stored);
+        orphanFileCollector.collect();
+        assertThat(storedFiles()).containsExactlyInAnyOrderElementsOf(committed);
+    }
+
+    private MemberSignupRequest signupRequest(String name) {
+        long unique = System.nanoTime();
+        MemberSignupRequest request = TestDataFactory.createSignupRequest(
+                "signup_" + unique, "첨부화환", String.format("777-66-%05d", unique % 100000));
+        MemberSignupRequest.BusinessProfileRequest profile = request.getBusinessProfile();
+        profile.setBankName("신사은행");
+        profile.setAccountNumber("123-456-789012");
+        profile.setAccountOwner("김대표");
+        profile.setBusinessCertFile(pdf("business-cert.pdf", name + "-business-" + unique));
+        profile.setBankCertFile(pdf("bank-cert.pdf", name + "-bank-" + unique));
+        return request;
+    }
+
+    private static MockMultipartFile pdf(String fileName, String content) {
+        return new MockMultipartFile("file", fileName, "application/pdf",
+                ("%PDF-1.4\n" + content).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void registerCompletionListener(AtomicInteger completion) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                completion.set(status);
+            }
+        });
+    }
+
+    private List<String> referenced(List<String> paths) {
+        return Stream.concat(
+                memberBusinessProfileRepository.findReferencedBusinessCertFilePaths(paths).stream(),
+                memberBankAccountRepository.findReferencedBankCertFilePaths(paths).stream()
+        ).toList();
+    }
+
+    /**
+     * 저장소의 파일 키 목록 (임시 저장 영역 제외)
+     */
+    private static List<String> storedFiles() throws Exception {
+        try (Stream<Path> files = Files.walk(basePath)) {
+            return files.filter(Files::isRegularFile)
+                    .map(path -> basePath.relativize(path).toString().replace('\\', '/'))
+                    .filter(key -> !key.startsWith(STAGING_DIRECTORY + "/"))
+                    .toList();
+        }
+    }
+
+    private static List<Path> stagingFiles() throws Exception {
+        Path stagingDir = basePath.resolve(STAGING_DIRECTORY);
+        if (!Files.isDirectory(stagingDir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(stagingDir)) {
+            return files.toList();
+        }
+    }
+
+    private static void expire(List<String> keys) throws Exception {
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofDays(2)));
+        for (String key : keys) {
+            Files.setLastModifiedTime(basePath.resolve(key), old);
+        }
+    }
+}
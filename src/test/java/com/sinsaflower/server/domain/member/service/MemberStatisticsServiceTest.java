@@ -0,0 +1,134 @@
+package com.sinsaflower.server.domain.member.service;
+
+import com.sinsaflower.server.domain.member.entity.HandlingProduct;
+import com.sinsaflower.server.domain.member.entity.Member;
+import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
+import com.sinsaflower.server.domain.member.entity.MemberActivityRegion;
+import com.sinsaflower.server.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberStatisticsService 테스트")
+class MemberStatisticsServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private MemberStatisticsService memberStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        given(memberRepository.countGroupByStatus()).willReturn(rows(
+                new Object[]{MemberStatus.PENDING, 2L},
+                new Object[]{MemberStatus.ACTIVE, 1L},
+                new Object[]{MemberStatus.DELETED, 5L}
+        ));
+        given(memberRepository.findActiveMemberSidos()).willReturn(rows(
+                new Object[]{1L, "서울특별시"}
+        ));
+        given(memberRepository.findActiveMemberProductTypes()).willReturn(rows(
+                new Object[]{1L, HandlingProduct.ProductType.FUNERAL}
+        ));
+        memberStatisticsService.reconcile();
+    }
+
+    @Test
+    @DisplayName("재집계 - 삭제 회원은 전체 수에서 제외")
+    void reconcile_ExcludesDeleted() {
+        // when
+        Map<String, Long> result = memberStatisticsService.getStatusStatistics();
+
+        // then
+        assertThat(result)
+                .containsEntry("pending", 2L)
+                .containsEntry("active", 1L)
+                .containsEntry("suspended", 0L)
+                .containsEntry("total", 3L);
+        assertThat(memberStatisticsService.getRegionStatistics()).containsExactly(entry("서울특별시", 1L));
+        assertThat(memberStatisticsService.getProductStatistics()).containsExactly(entry("FUNERAL", 1L));
+    }
+
+    @Test
+    @DisplayName("승인 - 상태/지역/상품 카운터 증가")
+    void recordStatusChange_Approve() {
+        // given
+        Member member = createMember(2L, MemberStatus.ACTIVE);
+        member.getActivityRegions().add(MemberActivityRegion.builder().sido("서울특별시").sigungu("강남구").build());
+        member.getActivityRegions().add(MemberActivityRegion.builder().sido("부산광역시").sigungu("해운대구").isActive(false).build());
+        member.getHandlingProducts().add(HandlingProduct.builder().productType(HandlingProduct.ProductType.BONSAI).isActive(true).build());
+
+        // when
+        memberStatisticsService.recordStatusChange(member, MemberStatus.PENDING);
+
+        // then
+        assertThat(memberStatisticsService.getStatusStatistics())
+                .containsEntry("pending", 1L)
+                .containsEntry("active", 2L)
+                .containsEntry("total", 3L);
+        assertThat(memberStatisticsService.getRegionStatistics())
+                .containsEntry("서울특별시", 2L)
+                .doesNotContainKey("부산광역시");
+        assertThat(memberStatisticsService.getProductStatistics()).containsEntry("BONSAI", 1L);
+    }
+
+    @Test
+    @DisplayName("정지/삭제 - 활성 회원의 지역/상품 카운터 감소")
+    void recordStatusChange_SuspendAndDelete() {
+        // given
+        Member member = createMember(1L, MemberStatus.SUSPENDED);
+
+        // when
+        memberStatisticsService.recordStatusChange(member, MemberStatus.ACTIVE);
+        member.setStatus(MemberStatus.DELETED);
+        memberStatisticsService.recordStatusChange(member, MemberStatus.SUSPENDED);
+
+        // then
+        assertThat(memberStatisticsService.getStatusStatistics())
+                .containsEntry("active", 0L)
+                .containsEntry("suspended", 0L)
+                .containsEntry("total", 2L);
+        assertThat(memberStatisticsService.getRegionStatistics()).isEmpty();
+        assertThat(memberStatisticsService.getProductStatistics()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("활동 지역 변경 - 기존 지역 차감 후 신규 지역 반영")
+    void recordRegionsChanged() {
+        // given
+        Member member = createMember(1L, MemberStatus.ACTIVE);
+
+        // when
+        memberStatisticsService.recordRegionsChanged(member, Set.of("경기도", "인천광역시"));
+
+        // then
+        assertThat(memberStatisticsService.getRegionStatistics())
+                .containsOnlyKeys("경기도", "인천광역시");
+    }
+
+    private Member createMember(Long id, MemberStatus status) {
+        return Member.builder()
+                .id(id)
+                .loginId("member" + id)
+                .status(status)
+                .build();
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
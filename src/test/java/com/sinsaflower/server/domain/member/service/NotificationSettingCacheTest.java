@@ -0,0 +1,181 @@
+package com.sinsaflower.server.domain.member.service;
+
+import com.sinsaflower.server.domain.member.entity.Member;
+import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
+import com.sinsaflower.server.domain.member.entity.NotificationFlag;
+import com.sinsaflower.server.domain.member.entity.NotificationSetting;
+import com.sinsaflower.server.domain.member.repository.NotificationSettingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationSettingCache 테스트")
+class NotificationSettingCacheTest {
+
+    @Mock
+    private NotificationSettingRepository notificationSettingRepository;
+
+    private NotificationSettingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NotificationSettingCache(notificationSettingRepository);
+    }
+
+    @Test
+    @DisplayName("대상 회원 조회 - 적재 후에는 회원별 DB 조회 없이 플래그로 필터링")
+    void findMemberIds_FromCache() {
+        // given
+        long withoutNotice = NotificationFlag.PUSH_SYSTEM_NOTICE.applyTo(NotificationFlag.DEFAULT_MASK, false);
+        given(notificationSettingRepository.findAllPreferences()).willReturn(rows(
+                new Object[]{1L, NotificationFlag.DEFAULT_MASK, "09:00", "21:00", MemberStatus.ACTIVE, false},
+                new Object[]{2L, withoutNotice, "09:00", "21:00", MemberStatus.ACTIVE, false},
+                new Object[]{3L, NotificationFlag.DEFAULT_MASK, "10:00", "18:00", MemberStatus.ACTIVE, false}));
+        cache.reload();
+
+        // when
+        List<Long> memberIds = cache.findMemberIds(NotificationFlag.PUSH_SYSTEM_NOTICE);
+
+        // then
+        assertThat(memberIds).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(cache.isEnabled(2L, NotificationFlag.SMS_ORDER_CREATED)).isTrue();
+        assertThat(cache.isEnabled(2L, NotificationFlag.PUSH_SYSTEM_NOTICE)).isFalse();
+        then(notificationSettingRepository).should(never()).findByMemberId(any());
+    }
+
+    @Test
+    @DisplayName("설정 조회 - 적재 전에는 DB 조회, 설정이 없으면 기본값")
+    void isEnabled_BeforeReload() {
+        // given
+        NotificationSetting setting = new NotificationSetting();
+        setting.setEnabled(NotificationFlag.EMAIL_ORDER_CREATED, true);
+        given(notificationSettingRepository.findByMemberId(1L)).willReturn(Optional.of(setting));
+        given(notificationSettingRepository.findByMemberId(2L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThat(cache.isEnabled(1L, NotificationFlag.EMAIL_ORDER_CREATED)).isTrue();
+        assertThat(cache.isEnabled(2L, NotificationFlag.EMAIL_ORDER_CREATED)).isFalse();
+        assertThat(cache.isEnabled(2L, NotificationFlag.SMS_ORDER_CREATED)).isTrue();
+    }
+
+    @Test
+    @DisplayName("설정 변경 - 커밋 후 캐시에 즉시 반영")
+    void update_AppliesToCache() {
+        // given
+        given(notificationSettingRepository.findAllPreferences()).willReturn(rows(
+                new Object[]{1L, NotificationFlag.DEFAULT_MASK, "09:00", "21:00", MemberStatus.ACTIVE, false}));
+        cache.reload();
+        NotificationSetting setting = NotificationSetting.builder()
+                .member(Member.builder().id(1L).status(MemberStatus.ACTIVE).build())
+                .build();
+        setting.disableAllSmsNotifications();
+
+        // when
+        cache.update(setting);
+
+        // then
+        assertThat(cache.isEnabled(1L, NotificationFlag.SMS_ORDER_CREATED)).isFalse();
+        assertThat(cache.findMemberIds(NotificationFlag.SMS_ORDER_CREATED)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대상 회원 조회 - 승인 대기/정지/삭제 회원은 제외하고 개별 알림 설정은 유지")
+    void findMemberIds_ExcludesInactiveMembers() {
+        // given
+        given(notificationSettingRepository.findAllPreferences()).willReturn(rows(
+                new Object[]{1L, NotificationFlag.DEFAULT_MASK, "09:00", "21:00", MemberStatus.ACTIVE, false},
+                new Object[]{2L, NotificationFlag.DEFAULT_MASK, "09:00", "21:00", MemberStatus.PENDING, false},
+                new Object[]{3L, NotificationFlag.DEFAULT_MASK, "09:00", "21:00", MemberStatus.SUSPENDED, false},
+                new Object[]{4L, NotificationFlag.DEFAULT_MASK, "09:00", "21:00", MemberStatus.DELETED, true}));
+        cache.reload();
+
+        // when
+        List<Long> memberIds = cache.findMemberIds(NotificationFlag.PUSH_SYSTEM_NOTICE);
+
+        // then
+        assertThat(memberIds).containsExactly(1L);
+        assertThat(cache.isEnabled(3L, NotificationFlag.PUSH_SYSTEM_NOTICE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("회원 상태 변경 - 정지/삭제되면 대상에서 빠지고 정지 해제되면 다시 포함")
+    void refresh_AppliesMemberStatus() {
+        // given
+        given(notificationSettingRepository.findAllPreferences()).willReturn(rows(
+                new Object[]{1L, NotificationFlag.DEFAULT_MASK, "09:00", "21:00", MemberStatus.ACTIVE, false}));
+        cache.reload();
+        Member member = Member.builder().id(1L).status(MemberStatus.ACTIVE).build();
+        given(notificationSettingRepository.findByMemberId(1L))
+                .willReturn(Optional.of(NotificationSetting.builder().member(member).build()));
+
+        // when & then
+        member.suspend();
+        cache.refresh(member);
+        assertThat(cache.findMemberIds(NotificationFlag.PUSH_SYSTEM_NOTICE)).isEmpty();
+
+        member.unsuspend();
+        cache.refresh(member);
+        assertThat(cache.findMemberIds(NotificationFlag.PUSH_SYSTEM_NOTICE)).containsExactly(1L);
+
+        member.softDelete("admin");
+        cache.refresh(member);
+        assertThat(cache.findMemberIds(NotificationFlag.PUSH_SYSTEM_NOTICE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("알림 시간대 - 시간대 밖이면 다음 시작 시각으로 미룸")
+    void nextAllowedTime_DefersOutsideWindow() {
+        // given (기본 09:00 ~ 21:00)
+        long preference = NotificationSettingCache.DEFAULT_PREFERENCE;
+        long nightAllowed = NotificationSettingCache.pack(nightAllowedSetting());
+        LocalDateTime morning = LocalDateTime.of(2024, 5, 1, 7, 30);
+        LocalDateTime night = LocalDateTime.of(2024, 5, 1, 22, 0);
+        LocalDateTime noon = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+        // when & then
+        assertThat(NotificationSettingCache.nextAllowedTime(preference, morning)).isEqualTo(LocalDateTime.of(2024, 5, 1, 9, 0));
+        assertThat(NotificationSettingCache.nextAllowedTime(preference, night)).isEqualTo(LocalDateTime.of(2024, 5, 2, 9, 0));
+        assertThat(NotificationSettingCache.nextAllowedTime(preference, noon)).isEqualTo(noon);
+        assertThat(NotificationSettingCache.nextAllowedTime(nightAllowed, night)).isEqualTo(night);
+    }
+
+    @Test
+    @DisplayName("알림 시간대 - 자정을 넘기는 시간대(22:00 ~ 07:00)는 밤과 새벽 모두 허용")
+    void nextAllowedTime_OvernightWindow() {
+        // given
+        long preference = NotificationSettingCache.pack(NotificationSetting.builder()
+                .notificationStartTime("22:00")
+                .notificationEndTime("07:00")
+                .build());
+        LocalDateTime lateNight = LocalDateTime.of(2024, 5, 1, 23, 30);
+        LocalDateTime dawn = LocalDateTime.of(2024, 5, 2, 6, 59);
+        LocalDateTime noon = LocalDateTime.of(2024, 5, 2, 12, 0);
+
+        // when & then
+        assertThat(NotificationSettingCache.nextAllowedTime(preference, lateNight)).isEqualTo(lateNight);
+        assertThat(NotificationSettingCache.nextAllowedTime(preference, dawn)).isEqualTo(dawn);
+        assertThat(NotificationSettingCache.nextAllowedTime(preference, noon)).isEqualTo(LocalDateTime.of(2024, 5, 2, 22, 0));
+    }
+
+    private NotificationSetting nightAllowedSetting() {
+        NotificationSetting setting = new NotificationSetting();
+        setting.setEnabled(NotificationFlag.NIGHT_TIME_NOTIFICATION, true);
+        return setting;
+    }
+
+    private List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
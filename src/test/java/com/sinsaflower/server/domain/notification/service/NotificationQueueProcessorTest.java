@@ -0,0 +1,223 @@
+package com.sinsaflower.server.domain.notification.service;
+
+import com.sinsaflower.server.domain.notification.entity.NotificationChannel;
+import com.sinsaflower.server.domain.notification.entity.NotificationJob;
+import com.sinsaflower.server.domain.notification.entity.NotificationJob.Status;
+import com.sinsaflower.server.domain.notification.provider.FakeNotificationProvider;
+import com.sinsaflower.server.domain.notification.provider.NotificationProvider;
+import com.sinsaflower.server.domain.notification.provider.SendResult;
+import com.sinsaflower.server.domain.notification.repository.NotificationJobRepository;
+import com.sinsaflower.server.domain.order.constants.OrderConstants;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.global.config.NotificationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationQueueProcessor 테스트")
+class NotificationQueueProcessorTest {
+
+    @Mock
+    private NotificationJobRepository notificationJobRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ObjectProvider<NotificationProvider> providers;
+
+    private final FakeNotificationProvider smsProvider = new FakeNotificationProvider(NotificationChannel.SMS);
+    private NotificationProperties properties;
+    private NotificationQueueProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NotificationProperties();
+        properties.setBatchSize(2);
+        properties.setMaxAttempts(3);
+        properties.getRatePerSecond().put(NotificationChannel.SMS, 100_000.0);
+        given(providers.orderedStream()).willReturn(Stream.of(smsProvider));
+        processor = new NotificationQueueProcessor(notificationJobRepository, orderRepository, providers, properties);
+        processor.initLanes();
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdownSendExecutor();
+    }
+
+    @Test
+    @DisplayName("발송 - 배치 크기로 묶어 발송하고 주문에 성공 기록")
+    void drain_SendsInBatches() {
+        // given
+        given(notificationJobRepository.findDue(eq(NotificationChannel.SMS), eq(Status.PENDING), any(), any(Pageable.class)))
+                .willReturn(List.of(job(1L, 10L), job(2L, 20L)))
+                .willReturn(List.of(job(3L, 30L)));
+
+        // when
+        int processed = processor.drain(NotificationChannel.SMS);
+
+        // then
+        assertThat(processed).isEqualTo(3);
+        assertThat(smsProvider.batchSizes()).containsExactly(2, 1);
+        then(notificationJobRepository).should().markCompleted(eq(List.of(1L, 2L)), eq(Status.SENT), any());
+        then(notificationJobRepository).should().markCompleted(eq(List.of(3L)), eq(Status.SENT), any());
+        then(orderRepository).should().updateSmsStatus(List.of(10L, 20L), OrderConstants.NotificationStatus.SUCCESS);
+        then(orderRepository).should().updateSmsStatus(List.of(30L), OrderConstants.NotificationStatus.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("발송 실패 - 일시적 실패는 지수 백오프로 재시도 예약")
+    void drain_SchedulesRetryWithBackoff() {
+        // given
+        smsProvider.respondWith(message -> SendResult.retry(message.id(), "busy"));
+        NotificationJob retried = job(1L, 10L);
+        retried.setAttempts(1);
+        given(notificationJobRepository.findDue(eq(NotificationChannel.SMS), eq(Status.PENDING), any(), any(Pageable.class)))
+                .willReturn(List.of(retried));
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        processor.drain(NotificationChannel.SMS);
+
+        // then (두 번째 실패: 초기 간격 10초의 2배)
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        then(notificationJobRepository).should().scheduleRetry(eq(1L), eq(2), eq("busy"), nextAttemptAt.capture());
+        assertThat(Duration.between(before, nextAttemptAt.getValue())).isBetween(Duration.ofSeconds(20), Duration.ofSeconds(21));
+        then(notificationJobRepository).should(never()).markCompleted(anyCollection(), any(), any());
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("발송 실패 - 업체 호출 예외 시 배치 전체 재시도, 최대 횟수 초과 건은 실패 기록")
+    void drain_BatchFailure() {
+        // given
+        smsProvider.respondWith(message -> {
+            throw new IllegalStateException("provider down");
+        });
+        NotificationJob exhausted = job(2L, 20L);
+        exhausted.setAttempts(2);
+        given(notificationJobRepository.findDue(eq(NotificationChannel.SMS), eq(Status.PENDING), any(), any(Pageable.class)))
+                .willReturn(List.of(job(1L, 10L), exhausted))
+                .willReturn(List.of());
+
+        // when
+        processor.drain(NotificationChannel.SMS);
+
+        // then
+        then(notificationJobRepository).should().scheduleRetry(eq(1L), eq(1), contains("provider down"), any());
+        then(notificationJobRepository).should().recordError(eq(2L), eq(3), contains("provider down"));
+        then(notificationJobRepository).should().markCompleted(eq(List.of(2L)), eq(Status.FAILED), any());
+        then(orderRepository).should().updateSmsStatus(List.of(20L), OrderConstants.NotificationStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("발송 거부 - 재시도 없이 주문에 거부 기록")
+    void drain_RecordsRejection() {
+        // given
+        smsProvider.respondWith(message -> message.id() == 1L
+                ? SendResult.rejected(message.id(), "invalid number")
+                : SendResult.sent(message.id()));
+        given(notificationJobRepository.findDue(eq(NotificationChannel.SMS), eq(Status.PENDING), any(), any(Pageable.class)))
+                .willReturn(List.of(job(1L, 10L), job(2L, 20L)))
+                .willReturn(List.of());
+
+        // when
+        processor.drain(NotificationChannel.SMS);
+
+        // then
+        then(notificationJobRepository).should().recordError(1L, 0, "invalid number");
+        then(notificationJobRepository).should().markCompleted(eq(List.of(1L)), eq(Status.REJECTED), any());
+        then(orderRepository).should().updateSmsStatus(List.of(10L), OrderConstants.NotificationStatus.REJECTED);
+        then(orderRepository).should().updateSmsStatus(List.of(20L), OrderConstants.NotificationStatus.SUCCESS);
+        then(notificationJobRepository).should(never()).scheduleRetry(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("발송량 제한 - 업체별 초당 발송 건수를 넘지 않음")
+    void drain_RateLimited() {
+        // given
+        properties.getRatePerSecond().put(NotificationChannel.SMS, 50.0);
+        given(providers.orderedStream()).willReturn(Stream.of(smsProvider));
+        processor.shutdownSendExecutor();
+        processor = new NotificationQueueProcessor(notificationJobRepository, orderRepository, providers, properties);
+        processor.initLanes();
+        given(notificationJobRepository.findDue(eq(NotificationChannel.SMS), eq(Status.PENDING), any(), any(Pageable.class)))
+                .willReturn(LongStream.rangeClosed(1, 2).mapToObj(id -> job(id, id)).toList())
+                .willReturn(LongStream.rangeClosed(3, 4).mapToObj(id -> job(id, id)).toList())
+                .willReturn(List.of(job(5L, 5L)));
+
+        // when
+        long startNanos = System.nanoTime();
+        int processed = processor.drain(NotificationChannel.SMS);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        // then (5건 / 초당 50건 = 100ms 이상)
+        assertThat(processed).isEqualTo(5);
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(90));
+    }
+
+    @Test
+    @DisplayName("발송량 제한 - 허용을 받지 못한 건은 발송하지 않고 대기열에 남김")
+    void drain_InterruptedBeforePermit() {
+        // given
+        given(notificationJobRepository.findDue(eq(NotificationChannel.SMS), eq(Status.PENDING), any(), any(Pageable.class)))
+                .willReturn(List.of(job(1L, 10L), job(2L, 20L)));
+        Thread.currentThread().interrupt();
+
+        // when
+        int processed;
+        try {
+            processed = processor.drain(NotificationChannel.SMS);
+        } finally {
+            Thread.interrupted();
+        }
+
+        // then
+        assertThat(processed).isZero();
+        assertThat(smsProvider.batchSizes()).isEmpty();
+        then(notificationJobRepository).should(never()).markCompleted(anyCollection(), any(), any());
+        then(notificationJobRepository).should(never()).scheduleRetry(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("발송 - 등록된 업체가 없는 채널은 처리하지 않음")
+    void drain_UnknownChannel() {
+        // when
+        int processed = processor.drain(NotificationChannel.FAX);
+
+        // then
+        assertThat(processed).isZero();
+        verifyNoInteractions(notificationJobRepository);
+    }
+
+    private NotificationJob job(Long id, Long orderId) {
+        return NotificationJob.builder()
+                .id(id)
+                .channel(NotificationChannel.SMS)
+                .orderId(orderId)
+                .recipient("01012345678")
+                .content("[신사플라워] 주문 " + id)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
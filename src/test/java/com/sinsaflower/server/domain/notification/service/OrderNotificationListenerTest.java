@@ -0,0 +1,109 @@
+package com.sinsaflower.server.domain.notification.service;
+
+import com.sinsaflower.server.domain.member.entity.Member;
+import com.sinsaflower.server.domain.member.entity.MemberBusinessProfile;
+import com.sinsaflower.server.domain.member.entity.NotificationFlag;
+import com.sinsaflower.server.domain.member.repository.MemberBusinessProfileRepository;
+import com.sinsaflower.server.domain.member.repository.MemberRepository;
+import com.sinsaflower.server.domain.member.service.NotificationSettingCache;
+import com.sinsaflower.server.domain.notification.entity.NotificationChannel;
+import com.sinsaflower.server.domain.notification.entity.NotificationJob;
+import com.sinsaflower.server.domain.notification.repository.NotificationJobRepository;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.event.OrderEvent;
+import com.sinsaflower.server.domain.order.event.OrderEventType;
+import com.sinsaflower.server.global.config.NotificationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderNotificationListener 테스트")
+class OrderNotificationListenerTest {
+
+    @Mock
+    private NotificationJobRepository notificationJobRepository;
+
+    @Mock
+    private NotificationSettingCache notificationSettingCache;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MemberBusinessProfileRepository memberBusinessProfileRepository;
+
+    private OrderNotificationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new OrderNotificationListener(notificationJobRepository, notificationSettingCache,
+                memberRepository, memberBusinessProfileRepository, new NotificationProperties());
+    }
+
+    @Test
+    @DisplayName("주문 접수 - 회원 휴대폰으로 SMS, 사업자 팩스로 FAX 적재")
+    void onOrderEvent_CreatedQueuesSmsAndFax() {
+        // given
+        given(notificationSettingCache.nextAllowedTime(eq(1L), any())).willAnswer(invocation -> invocation.getArgument(1));
+        given(notificationSettingCache.isEnabled(1L, NotificationFlag.SMS_ORDER_CREATED)).willReturn(true);
+        given(memberRepository.findById(1L)).willReturn(Optional.of(Member.builder().mobile("01012345678").build()));
+        given(memberBusinessProfileRepository.findByMemberId(1L))
+                .willReturn(Optional.of(MemberBusinessProfile.builder().fax("0212345678").build()));
+
+        // when
+        listener.onOrderEvent(event(OrderEventType.CREATED, OrderStatus.PENDING));
+
+        // then
+        ArgumentCaptor<NotificationJob> jobs = ArgumentCaptor.forClass(NotificationJob.class);
+        then(notificationJobRepository).should(times(2)).save(jobs.capture());
+        assertThat(jobs.getAllValues()).extracting(NotificationJob::getChannel, NotificationJob::getRecipient)
+                .containsExactly(tuple(NotificationChannel.SMS, "01012345678"), tuple(NotificationChannel.FAX, "0212345678"));
+        assertThat(jobs.getAllValues().get(0).getContent()).contains("A-100");
+    }
+
+    @Test
+    @DisplayName("상태 변경 - 회원이 끈 알림은 적재하지 않음")
+    void onOrderEvent_RespectsMemberSetting() {
+        // given
+        given(notificationSettingCache.isEnabled(1L, NotificationFlag.SMS_DELIVERY_COMPLETED)).willReturn(false);
+
+        // when
+        listener.onOrderEvent(event(OrderEventType.STATUS_CHANGED, OrderStatus.DELIVERED));
+
+        // then
+        then(notificationJobRepository).should(never()).save(any());
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    @DisplayName("재전달 - 같은 이벤트로 이미 적재된 알림은 다시 적재하지 않음")
+    void onOrderEvent_SkipsDuplicateEvent() {
+        // given
+        given(notificationSettingCache.isEnabled(1L, NotificationFlag.SMS_ORDER_CANCELED)).willReturn(true);
+        given(memberRepository.findById(1L)).willReturn(Optional.of(Member.builder().mobile("01012345678").build()));
+        given(notificationJobRepository.existsBySourceEventIdAndChannel(99L, NotificationChannel.SMS)).willReturn(true);
+
+        // when
+        listener.onOrderEvent(event(OrderEventType.STATUS_CHANGED, OrderStatus.CANCELLED));
+
+        // then
+        then(notificationJobRepository).should(never()).save(any());
+    }
+
+    private OrderEvent event(OrderEventType type, OrderStatus status) {
+        return new OrderEvent(99L, type, 5L, "A-100", 1L, null, status, LocalDateTime.now());
+    }
+}
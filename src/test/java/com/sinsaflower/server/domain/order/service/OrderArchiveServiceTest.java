@@ -0,0 +1,133 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinsaflower.server.domain.common.BaseTimeEntity;
+import com.sinsaflower.server.domain.member.entity.Member;
+import com.sinsaflower.server.domain.order.dto.OrderResponse;
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.entity.OrderArchive;
+import com.sinsaflower.server.domain.order.entity.OrderOption;
+import com.sinsaflower.server.domain.order.repository.OrderArchiveRepository;
+import com.sinsaflower.server.domain.order.repository.OrderMessageRepository;
+import com.sinsaflower.server.domain.order.repository.OrderOptionRepository;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.domain.order.repository.OrderSenderRepository;
+import com.sinsaflower.server.global.exception.ResourceNotFoundException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderArchiveService 테스트")
+class OrderArchiveServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderArchiveRepository orderArchiveRepository;
+
+    @Mock
+    private OrderOptionRepository orderOptionRepository;
+
+    @Mock
+    private OrderMessageRepository orderMessageRepository;
+
+    @Mock
+    private OrderSenderRepository orderSenderRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    private OrderArchiveService orderArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        orderArchiveService = new OrderArchiveService(orderRepository, orderArchiveRepository, orderOptionRepository,
+                orderMessageRepository, orderSenderRepository, new ObjectMapper().findAndRegisterModules(),
+                entityManager);
+    }
+
+    @Test
+    @DisplayName("보관 - 압축한 주문 내용을 보관 테이블에 저장하고 주문과 하위 데이터 삭제")
+    @SuppressWarnings("unchecked")
+    void archive_MovesOrders() {
+        // given
+        given(entityManager.unwrap(Session.class)).willReturn(session);
+        given(orderRepository.findAllById(List.of(1L))).willReturn(List.of(deliveredOrder()));
+
+        // when
+        int archived = orderArchiveService.archive(List.of(1L));
+
+        // then
+        then(session).should().disableFilter(BaseTimeEntity.NOT_DELETED_FILTER);
+        ArgumentCaptor<List<OrderArchive>> captor = ArgumentCaptor.forClass(List.class);
+        then(orderArchiveRepository).should().saveAll(captor.capture());
+        OrderArchive archive = captor.getValue().get(0);
+        assertThat(archived).isEqualTo(1);
+        assertThat(archive.getId()).isEqualTo(1L);
+        assertThat(archive.getMemberId()).isEqualTo(2L);
+        assertThat(archive.getDeliveryYear()).isEqualTo(2023);
+        assertThat(archive.getTotalAmount()).isEqualByComparingTo("55000");
+
+        then(orderOptionRepository).should().deleteByOrderIds(List.of(1L));
+        then(orderMessageRepository).should().deleteByOrderIds(List.of(1L));
+        then(orderSenderRepository).should().deleteByOrderIds(List.of(1L));
+        then(orderRepository).should().deleteAllByIdInBatch(List.of(1L));
+
+        // 보관 내용 복원
+        given(orderArchiveRepository.findById(1L)).willReturn(Optional.of(archive));
+        OrderResponse restored = orderArchiveService.getArchivedOrder(1L, 2L);
+        assertThat(restored.getOrderNumber()).isEqualTo("123456");
+        assertThat(restored.getOptions()).extracting(OrderResponse.OrderOptionResponse::getOptionName)
+                .containsExactly("리본");
+    }
+
+    @Test
+    @DisplayName("보관 주문 상세 - 다른 회원의 주문은 조회 불가")
+    void getArchivedOrder_OtherMember() {
+        // given
+        given(orderArchiveRepository.findById(1L)).willReturn(Optional.of(OrderArchive.builder().id(1L).memberId(2L).build()));
+
+        // when & then
+        assertThatThrownBy(() -> orderArchiveService.getArchivedOrder(1L, 3L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private Order deliveredOrder() {
+        Order order = Order.builder()
+                .id(1L)
+                .orderNumber("123456")
+                .member(Member.builder().id(2L).name("파트너").build())
+                .orderStatus(OrderStatus.DELIVERED)
+                .deliveryDate(LocalDate.of(2023, 3, 15))
+                .deliveryYear(2023)
+                .quantity(1)
+                .price(BigDecimal.valueOf(50000))
+                .payment(BigDecimal.valueOf(50000))
+                .totalAmount(BigDecimal.valueOf(55000))
+                .build();
+        order.addOrderOption(OrderOption.builder().optionName("리본").checked(true).price(BigDecimal.valueOf(5000)).build());
+        order.setCreatedAt(LocalDateTime.of(2023, 3, 1, 10, 0));
+        return order;
+    }
+}
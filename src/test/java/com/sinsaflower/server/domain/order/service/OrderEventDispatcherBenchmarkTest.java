@@ -0,0 +1,110 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.entity.OrderOutboxEvent;
+import com.sinsaflower.server.domain.order.event.OrderEvent;
+import com.sinsaflower.server.domain.order.event.OrderEventListener;
+import com.sinsaflower.server.domain.order.event.OrderEventType;
+import com.sinsaflower.server.domain.order.repository.OrderOutboxRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 이벤트 디스패처 배치 크기별 처리량 측정
+ * ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "order.outbox.enabled=false")
+@DisplayName("주문 이벤트 디스패처 벤치마크")
+class OrderEventDispatcherBenchmarkTest {
+
+    private static final int EVENTS = 20_000;
+    private static final int ORDERS = 500;
+
+    @Autowired
+    private OrderEventDispatcher orderEventDispatcher;
+
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Autowired
+    private RecordingListener recordingListener;
+
+    @Test
+    @DisplayName("배치 크기별 전달 처리량 (events/s)")
+    void throughputByBatchSize() {
+        for (int batchSize : new int[]{1, 50, 200, 1000}) {
+            // given
+            orderOutboxRepository.deleteAllInBatch();
+            orderOutboxRepository.saveAll(IntStream.range(0, EVENTS)
+                    .mapToObj(i -> OrderOutboxEvent.builder()
+                            .eventType(OrderEventType.STATUS_CHANGED)
+                            .orderId((long) (i % ORDERS))
+                            .previousStatus(OrderStatus.PENDING)
+                            .status(OrderStatus.CONFIRMED)
+                            .occurredAt(LocalDateTime.now())
+                            .build())
+                    .toList());
+            recordingListener.received.clear();
+            ReflectionTestUtils.setField(orderEventDispatcher, "batchSize", batchSize);
+
+            // when
+            long startNanos = System.nanoTime();
+            int completed = orderEventDispatcher.dispatchPending();
+            double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+            // then
+            System.out.printf("batch-size=%-5d %,8d events  %6.2fs  %,10.0f events/s%n",
+                    batchSize, completed, seconds, completed / seconds);
+            assertThat(completed).isEqualTo(EVENTS);
+            assertThat(orderOutboxRepository.countByDispatchedAtIsNull()).isZero();
+            assertOrderedPerOrder(recordingListener.received);
+        }
+    }
+
+    private void assertOrderedPerOrder(List<OrderEvent> events) {
+        Map<Long, Long> lastEventIds = new HashMap<>();
+        for (OrderEvent event : events) {
+            Long previous = lastEventIds.put(event.orderId(), event.eventId());
+            assertThat(previous == null || previous < event.eventId()).isTrue();
+        }
+    }
+
+    @TestConfiguration
+    static class ListenerConfig {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    static class RecordingListener implements OrderEventListener {
+
+        private final List<OrderEvent> received = new ArrayList<>();
+
+        @Override
+        public void onOrderEvent(OrderEvent event) {
+            received.add(event);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.entity.OrderOutboxEvent;
+import com.sinsaflower.server.domain.order.event.OrderEvent;
+import com.sinsaflower.server.domain.order.event.OrderEventListener;
+import com.sinsaflower.server.domain.order.event.OrderEventType;
+import com.sinsaflower.server.domain.order.repository.OrderOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderEventDispatcher 테스트")
+class OrderEventDispatcherTest {
+
+    @Mock
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Mock
+    private ObjectProvider<OrderEventListener> listeners;
+
+    private final List<OrderEvent> received = new ArrayList<>();
+    private OrderEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new OrderEventDispatcher(orderOutboxRepository, listeners);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 2);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+    }
+
+    @Test
+    @DisplayName("전달 - ID 순서로 배치 전달 후 배치 단위로 완료 처리")
+    void dispatchPending_DeliversInBatches() {
+        // given
+        given(listeners.orderedStream()).willReturn(Stream.of(received::add));
+        given(orderOutboxRepository.findPending(eq(0L), any())).willReturn(List.of(event(1L, 10L), event(2L, 20L)));
+        given(orderOutboxRepository.findPending(eq(2L), any())).willReturn(List.of(event(3L, 10L)));
+
+        // when
+        int completed = dispatcher.dispatchPending();
+
+        // then
+        assertThat(completed).isEqualTo(3);
+        assertThat(received).extracting(OrderEvent::eventId).containsExactly(1L, 2L, 3L);
+        then(orderOutboxRepository).should().markDispatched(eq(List.of(1L, 2L)), any());
+        then(orderOutboxRepository).should().markDispatched(eq(List.of(3L)), any());
+    }
+
+    @Test
+    @DisplayName("전달 실패 - 같은 주문의 이후 이벤트는 보류하고 다른 주문은 계속 전달")
+    void dispatchPending_BlocksOrderAfterFailure() {
+        // given
+        OrderEventListener failingForOrder10 = event -> {
+            if (event.orderId().equals(10L)) {
+                throw new IllegalStateException("listener down");
+            }
+            received.add(event);
+        };
+        given(listeners.orderedStream()).willReturn(Stream.of(failingForOrder10));
+        given(orderOutboxRepository.findPending(eq(0L), any())).willReturn(List.of(event(1L, 10L), event(2L, 20L)));
+        given(orderOutboxRepository.findPending(eq(2L), any())).willReturn(List.of(event(3L, 10L)));
+
+        // when
+        int completed = dispatcher.dispatchPending();
+
+        // then
+        assertThat(completed).isEqualTo(1);
+        assertThat(received).extracting(OrderEvent::eventId).containsExactly(2L);
+        then(orderOutboxRepository).should().recordFailure(eq(1L), eq(1), contains("listener down"), any());
+        then(orderOutboxRepository).should().markDispatched(eq(List.of(2L)), any());
+        then(orderOutboxRepository).should(never()).markDispatched(eq(List.of(3L)), any());
+    }
+
+    @Test
+    @DisplayName("전달 실패 - 재시도 대기 중인 이벤트가 있으면 같은 주문은 보류")
+    void dispatchPending_SkipsBackingOffOrder() {
+        // given
+        given(listeners.orderedStream()).willReturn(Stream.of(received::add));
+        OrderOutboxEvent backingOff = event(1L, 10L);
+        backingOff.setAttempts(1);
+        backingOff.setNextAttemptAt(LocalDateTime.now().plusMinutes(1));
+        given(orderOutboxRepository.findPending(eq(0L), any())).willReturn(List.of(backingOff, event(2L, 10L)));
+        given(orderOutboxRepository.findPending(eq(2L), any())).willReturn(List.of());
+
+        // when
+        int completed = dispatcher.dispatchPending();
+
+        // then
+        assertThat(completed).isZero();
+        assertThat(received).isEmpty();
+        then(orderOutboxRepository).should(never()).markDispatched(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("전달 실패 - 최대 횟수를 넘으면 포기하고 오류 보관")
+    void dispatchPending_AbandonsAfterMaxAttempts() {
+        // given
+        given(listeners.orderedStream()).willReturn(Stream.of(event -> {
+            throw new IllegalStateException("still down");
+        }));
+        OrderOutboxEvent exhausted = event(1L, 10L);
+        exhausted.setAttempts(2);
+        given(orderOutboxRepository.findPending(eq(0L), any())).willReturn(List.of(exhausted));
+
+        // when
+        int completed = dispatcher.dispatchPending();
+
+        // then
+        assertThat(completed).isEqualTo(1);
+        then(orderOutboxRepository).should().markAbandoned(eq(1L), eq(3), contains("still down"), any());
+    }
+
+    private OrderOutboxEvent event(Long id, Long orderId) {
+        return OrderOutboxEvent.builder()
+                .id(id)
+                .eventType(OrderEventType.STATUS_CHANGED)
+                .orderId(orderId)
+                .previousStatus(OrderStatus.PENDING)
+                .status(OrderStatus.CONFIRMED)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
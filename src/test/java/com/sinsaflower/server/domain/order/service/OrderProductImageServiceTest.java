@@ -0,0 +1,91 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.constants.OrderConstants;
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.global.service.FileUploadService;
+import com.sinsaflower.server.global.service.ImageVariantService;
+import com.sinsaflower.server.global.service.ImageVariants;
+import com.sinsaflower.server.global.service.StagedFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderProductImageService 테스트")
+class OrderProductImageServiceTest {
+
+    private static final String IMAGE_PATH = "order-images/ab/cd/abcd.png";
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @Mock
+    private ImageVariantService imageVariantService;
+
+    @InjectMocks
+    private OrderProductImageService orderProductImageService;
+
+    @Test
+    @DisplayName("이미지와 함께 주문 생성 - 주문 생성 후 이미지를 연결하고 파생본 생성 예약")
+    void createOrderWithImage_SchedulesVariants() throws Exception {
+        // given
+        MockMultipartFile productImage = new MockMultipartFile("file", "flower.png", "image/png", new byte[]{1});
+        Order orderData = Order.builder().build();
+        Order created = Order.builder().id(1L).build();
+        ImageVariants variants = new ImageVariants("order-images/ab/cd/abcd_thumb.jpg", "order-images/ab/cd/abcd_medium.jpg");
+        given(fileUploadService.stageFile(productImage, OrderConstants.FileUpload.ORDER_PRODUCT_IMAGE_PATH))
+                .willReturn(new StagedFile(IMAGE_PATH, 1, true));
+        given(orderService.createOrder(10L, orderData)).willReturn(created);
+        given(orderService.attachProductImage(eq(1L), any(StagedFile.class), eq("flower.png"), eq("image/png")))
+                .willReturn(created);
+        given(imageVariantService.generateAsync(IMAGE_PATH))
+                .willReturn(CompletableFuture.completedFuture(Optional.of(variants)));
+
+        // when
+        Order result = orderProductImageService.createOrderWithImage(10L, orderData, productImage);
+
+        // then
+        assertThat(result).isSameAs(created);
+        InOrder inOrder = inOrder(fileUploadService, orderService, imageVariantService);
+        inOrder.verify(fileUploadService).stageFile(productImage, OrderConstants.FileUpload.ORDER_PRODUCT_IMAGE_PATH);
+        inOrder.verify(orderService).createOrder(10L, orderData);
+        inOrder.verify(orderService).attachProductImage(eq(1L), any(StagedFile.class), eq("flower.png"), eq("image/png"));
+        inOrder.verify(imageVariantService).generateAsync(IMAGE_PATH);
+        then(orderService).should().updateProductImageVariants(1L, IMAGE_PATH, variants);
+    }
+
+    @Test
+    @DisplayName("이미지와 함께 주문 생성 - 이미지 저장에 실패해도 주문은 생성")
+    void createOrderWithImage_StagingFailure() throws Exception {
+        // given
+        MockMultipartFile productImage = new MockMultipartFile("file", "flower.png", "image/png", new byte[]{1});
+        Order orderData = Order.builder().build();
+        Order created = Order.builder().id(1L).build();
+        given(fileUploadService.stageFile(productImage, OrderConstants.FileUpload.ORDER_PRODUCT_IMAGE_PATH))
+                .willThrow(new IOException("disk full"));
+        given(orderService.createOrder(10L, orderData)).willReturn(created);
+
+        // when
+        Order result = orderProductImageService.createOrderWithImage(10L, orderData, productImage);
+
+        // then
+        assertThat(result).isSameAs(created);
+        then(orderService).should(never()).attachProductImage(any(), any(), any(), any());
+        then(imageVariantService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,137 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.entity.OrderOutboxEvent;
+import com.sinsaflower.server.domain.order.event.OrderEventType;
+import com.sinsaflower.server.domain.order.repository.OrderOutboxRepository;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.global.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 소프트 삭제 필터 테스트
+ * 조회 쿼리에서는 삭제된 주문이 제외되고, 중복 확인/보관/정리에서는 삭제된 주문도 보이는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {"order.outbox.enabled=false", "notification.enabled=false",
+        "order.archive.enabled=false"})
+@DisplayName("주문 소프트 삭제 필터 테스트")
+class OrderSoftDeleteFilterTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Test
+    @DisplayName("삭제된 주문 - 주문번호/ID 조회에서 제외되고 주문번호 중복 확인에는 포함")
+    void deletedOrder_ExcludedFromQueries() {
+        // given
+        Order order = newOrder("900001");
+        order.softDelete("test");
+        Long orderId = orderRepository.save(order).getId();
+
+        // when & then
+        assertThat(orderRepository.findByOrderNumber("900001")).isEmpty();
+        assertThat(orderRepository.findActiveById(orderId)).isEmpty();
+        assertThatThrownBy(() -> orderService.getOrder(orderId))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> orderService.getOrder("900001"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(orderRepository.existsByOrderNumber("900001")).isTrue();
+        assertThat(orderRepository.findById(orderId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 주문 - 주문번호/ID 조회 가능")
+    void activeOrder_Found() {
+        // given
+        Long orderId = orderRepository.save(newOrder("900002")).getId();
+
+        // when & then
+        assertThat(orderService.getOrder(orderId).getId()).isEqualTo(orderId);
+        assertThat(orderService.getOrder("900002").getId()).isEqualTo(orderId);
+    }
+
+    @Test
+    @DisplayName("정리 대상 - 보존 기간이 지난 삭제 주문만 조회되고 보관 테이블로 이동")
+    void purgeableOrders_ArchivedAfterRetention() {
+        // given
+        Order expired = newOrder("900003");
+        expired.softDelete("test");
+        expired.setDeletedAt(LocalDateTime.now().minusDays(40));
+        Long expiredId = orderRepository.save(expired).getId();
+
+        Order recent = newOrder("900004");
+        recent.softDelete("test");
+        Long recentId = orderRepository.save(recent).getId();
+
+        // when
+        List<Long> purgeable = orderArchiveService.findPurgeableIds(LocalDateTime.now().minusDays(30), 100);
+        int archived = orderArchiveService.archive(purgeable);
+
+        // then
+        assertThat(purgeable).contains(expiredId).doesNotContain(recentId);
+        assertThat(archived).isEqualTo(purgeable.size());
+        assertThat(orderRepository.findById(expiredId)).isEmpty();
+        assertThat(orderRepository.findById(recentId)).isPresent();
+        assertThat(orderArchiveService.getArchivedOrder(expiredId, null).getOrderNumber()).isEqualTo("900003");
+    }
+
+    @Test
+    @DisplayName("정리/보관 대상 - 전달되지 않은 주문 이벤트가 남은 주문은 제외")
+    void pendingOutboxEvent_ExcludedFromArchive() {
+        // given
+        Order order = newOrder("900005");
+        order.softDelete("test");
+        order.setDeletedAt(LocalDateTime.now().minusDays(40));
+        order.setDeliveryDate(LocalDate.now().minusMonths(3));
+        Long orderId = orderRepository.save(order).getId();
+        OrderOutboxEvent pending = orderOutboxRepository.save(OrderOutboxEvent.of(OrderEventType.DELETED, order, null));
+
+        // when & then
+        assertThat(orderArchiveService.findPurgeableIds(LocalDateTime.now().minusDays(30), 100)).doesNotContain(orderId);
+        assertThat(orderArchiveService.findArchivableIds(LocalDate.now(), 100)).doesNotContain(orderId);
+
+        orderOutboxRepository.markDispatched(List.of(pending.getId()), LocalDateTime.now());
+        assertThat(orderArchiveService.findPurgeableIds(LocalDateTime.now().minusDays(30), 100)).contains(orderId);
+        assertThat(orderArchiveService.findArchivableIds(LocalDate.now(), 100)).contains(orderId);
+    }
+
+    private static Order newOrder(String orderNumber) {
+        return Order.builder()
+                .orderNumber(orderNumber)
+                .shopName("삭제테스트화원")
+                .phone("0212345678")
+                .productName("축하화환")
+                .quantity(1)
+                .price(BigDecimal.valueOf(50000))
+                .payment(BigDecimal.valueOf(50000))
+                .orderCustomerName("주문자")
+                .orderCustomerMobile("01012345678")
+                .receiverName("수령자")
+                .deliveryDate(LocalDate.now().plusDays(1))
+                .deliveryPlace("서울시 강남구")
+                .build();
+    }
+}
@@ -0,0 +1,176 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.entity.OrderOutboxEvent;
+import com.sinsaflower.server.domain.order.repository.OrderOutboxRepository;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.global.exception.ConcurrentUpdateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 상태 동시 변경 스트레스 테스트
+ * 여러 스레드가 같은 주문의 상태를 동시에 바꿔도 성공한 전환이 유실되거나 덮어써지지 않는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {"order.outbox.enabled=false", "notification.enabled=false"})
+@DisplayName("주문 상태 동시 변경 테스트")
+class OrderStatusConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int ATTEMPTS_PER_THREAD = 50;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Test
+    @DisplayName("동시 상태 전환 - 성공한 전환 수만큼 버전이 증가하고 모든 전환이 직전 전환에 이어짐")
+    void concurrentTransitions_NoLostUpdates() throws Exception {
+        // given
+        Long orderId = orderRepository.save(newOrder()).getId();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        // when (PENDING -> CONFIRMED -> PREPARING -> PENDING 순환)
+        runConcurrently(() -> {
+            for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                Order current = orderRepository.findById(orderId).orElseThrow();
+                try {
+                    orderService.transitionStatus(orderId, current.getOrderStatus(), current.getVersion(),
+                            next(current.getOrderStatus()));
+                    succeeded.incrementAndGet();
+                } catch (ConcurrentUpdateException | ConcurrencyFailureException e) {
+                    conflicts.incrementAndGet();
+                }
+            }
+        });
+
+        // then
+        Order result = orderRepository.findById(orderId).orElseThrow();
+        List<OrderOutboxEvent> events = statusEventsOf(orderId);
+        assertThat(succeeded.get() + conflicts.get()).isEqualTo(THREADS * ATTEMPTS_PER_THREAD);
+        assertThat(succeeded.get()).isPositive();
+        assertThat(result.getVersion()).isEqualTo(succeeded.get());
+        assertThat(events).hasSize(succeeded.get());
+
+        OrderStatus expectedPrevious = OrderStatus.PENDING;
+        for (OrderOutboxEvent event : events) {
+            assertThat(event.getPreviousStatus()).isEqualTo(expectedPrevious);
+            expectedPrevious = event.getStatus();
+        }
+        assertThat(result.getOrderStatus()).isEqualTo(expectedPrevious);
+    }
+
+    @Test
+    @DisplayName("같은 버전으로 동시 전환 - 하나만 성공하고 나머지는 충돌")
+    void concurrentTransitions_SameVersionOnlyOneWins() throws Exception {
+        // given
+        Order order = orderRepository.save(newOrder());
+        Long orderId = order.getId();
+        Long version = order.getVersion();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        AtomicInteger threadIndex = new AtomicInteger();
+
+        // when (절반은 확인, 절반은 취소 시도)
+        runConcurrently(() -> {
+            OrderStatus target = threadIndex.getAndIncrement() % 2 == 0 ? OrderStatus.CONFIRMED : OrderStatus.CANCELLED;
+            try {
+                orderService.transitionStatus(orderId, OrderStatus.PENDING, version, target);
+                succeeded.incrementAndGet();
+            } catch (ConcurrentUpdateException | ConcurrencyFailureException e) {
+                conflicts.incrementAndGet();
+            }
+        });
+
+        // then
+        Order result = orderRepository.findById(orderId).orElseThrow();
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(conflicts.get()).isEqualTo(THREADS - 1);
+        assertThat(result.getVersion()).isEqualTo(version + 1);
+        assertThat(statusEventsOf(orderId)).singleElement()
+                .extracting(OrderOutboxEvent::getStatus)
+                .isEqualTo(result.getOrderStatus());
+    }
+
+    private void runConcurrently(Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<OrderOutboxEvent> statusEventsOf(Long orderId) {
+        return orderOutboxRepository.findAll().stream()
+                .filter(event -> event.getOrderId().equals(orderId))
+                .sorted(Comparator.comparing(OrderOutboxEvent::getId))
+                .toList();
+    }
+
+    private static OrderStatus next(OrderStatus status) {
+        return switch (status) {
+            case PENDING -> OrderStatus.CONFIRMED;
+            case CONFIRMED -> OrderStatus.PREPARING;
+            default -> OrderStatus.PENDING;
+        };
+    }
+
+    private static Order newOrder() {
+        return Order.builder()
+                .orderNumber(String.valueOf(ThreadLocalRandom.current().nextInt(100000, 1000000)))
+                .shopName("동시성테스트화원")
+                .phone("0212345678")
+                .productName("축하화환")
+                .quantity(1)
+                .price(BigDecimal.valueOf(50000))
+                .payment(BigDecimal.valueOf(50000))
+                .orderCustomerName("주문자")
+                .orderCustomerMobile("01012345678")
+                .receiverName("수령자")
+                .deliveryDate(LocalDate.now().plusDays(1))
+                .deliveryPlace("서울시 강남구")
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderTotalAmountChecker 테스트")
+class OrderTotalAmountCheckerTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderTotalAmountChecker checker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        checker = new OrderTotalAmountChecker(orderRepository, meterRegistry);
+        ReflectionTestUtils.setField(checker, "batchSize", 100);
+        checker.registerMetrics();
+    }
+
+    @Test
+    @DisplayName("점검 - 최대 주문 ID까지 구간 단위로 조회하고 불일치 건수를 기록")
+    void check_ScansInIdRanges() {
+        // given
+        given(orderRepository.findMaxId()).willReturn(250L);
+        given(orderRepository.findTotalAmountDrift(0L, 100L)).willReturn(rows(
+                new Object[]{7L, BigDecimal.valueOf(50000), BigDecimal.valueOf(55000)}));
+        given(orderRepository.findTotalAmountDrift(100L, 200L)).willReturn(rows());
+        given(orderRepository.findTotalAmountDrift(200L, 250L)).willReturn(rows(
+                new Object[]{230L, BigDecimal.ZERO, BigDecimal.valueOf(30000)}));
+
+        // when
+        int drifted = checker.check();
+
+        // then
+        assertThat(drifted).isEqualTo(2);
+        assertThat(meterRegistry.counter("orders.total_amount.drift").count()).isEqualTo(2.0);
+        then(orderRepository).should(never()).repairTotalAmount(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("보정 - 점검 이후 금액이 바뀌지 않은 주문만 계산값으로 보정")
+    void check_RepairsWhenEnabled() {
+        // given
+        ReflectionTestUtils.setField(checker, "repair", true);
+        given(orderRepository.findMaxId()).willReturn(50L);
+        given(orderRepository.findTotalAmountDrift(0L, 50L)).willReturn(rows(
+                new Object[]{1L, BigDecimal.valueOf(50000), BigDecimal.valueOf(55000)},
+                new Object[]{2L, BigDecimal.valueOf(10000), BigDecimal.valueOf(12000)}));
+        given(orderRepository.repairTotalAmount(1L, BigDecimal.valueOf(50000), BigDecimal.valueOf(55000))).willReturn(1);
+        given(orderRepository.repairTotalAmount(2L, BigDecimal.valueOf(10000), BigDecimal.valueOf(12000))).willReturn(0);
+
+        // when
+        checker.check();
+
+        // then
+        assertThat(meterRegistry.counter("orders.total_amount.drift").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("orders.total_amount.repaired").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("점검 - 주문이 없으면 조회하지 않음")
+    void check_NoOrders() {
+        // given
+        given(orderRepository.findMaxId()).willReturn(null);
+
+        // when
+        int drifted = checker.check();
+
+        // then
+        assertThat(drifted).isZero();
+        then(orderRepository).should(never()).findTotalAmountDrift(anyLong(), anyLong());
+    }
+
+    private List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,117 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.constants.OrderConstants;
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.global.service.ImageVariants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 수정과 백그라운드 결과 기록이 겹칠 때의 유실 테스트
+ * 주문을 읽은 트랜잭션이 저장하기 전에 다른 스레드가 버전 없이 일괄 갱신한 컬럼을 이전 값으로 덮어쓰지 않는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {"order.outbox.enabled=false", "notification.enabled=false"})
+@DisplayName("주문 백그라운드 기록 동시성 테스트")
+class OrderWriteBackConcurrencyTest {
+
+    private static final String IMAGE_PATH = "order-images/ab/cd/abcd.png";
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("주문 수정 중 SMS 발송 결과 기록 - 수정 저장 후에도 발송 결과 유지")
+    void updateOrder_KeepsSmsStatusWrittenMeanwhile() {
+        // given
+        Long orderId = orderRepository.save(newOrder()).getId();
+
+        // when (수정 트랜잭션이 주문을 읽은 뒤, 저장 전에 발송 결과 기록)
+        transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.findById(orderId).orElseThrow();
+            inAnotherThread(() -> orderRepository.updateSmsStatus(List.of(orderId),
+                    OrderConstants.NotificationStatus.SUCCESS));
+            orderService.updateOrder(orderId, Order.builder().request("문 앞에 놓아주세요").build());
+        });
+
+        // then
+        Order result = orderRepository.findById(orderId).orElseThrow();
+        assertThat(result.getRequest()).isEqualTo("문 앞에 놓아주세요");
+        assertThat(result.getSms()).isEqualTo(OrderConstants.NotificationStatus.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("주문 수정 중 이미지 파생본 경로 기록 - 수정 저장 후에도 파생본 경로 유지")
+    void updateOrder_KeepsImageVariantsWrittenMeanwhile() {
+        // given
+        Order order = newOrder();
+        order.setProductImage(IMAGE_PATH, "flower.png", "image/png", 1024L);
+        Long orderId = orderRepository.save(order).getId();
+        ImageVariants variants = new ImageVariants("order-images/ab/cd/abcd_thumb.jpg", "order-images/ab/cd/abcd_medium.jpg");
+
+        // when (수정 트랜잭션이 주문을 읽은 뒤, 저장 전에 파생본 경로 기록)
+        transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.findById(orderId).orElseThrow();
+            inAnotherThread(() -> orderService.updateProductImageVariants(orderId, IMAGE_PATH, variants));
+            orderService.updateOrder(orderId, Order.builder().request("문 앞에 놓아주세요").build());
+        });
+
+        // then
+        Order result = orderRepository.findById(orderId).orElseThrow();
+        assertThat(result.getRequest()).isEqualTo("문 앞에 놓아주세요");
+        assertThat(result.getProductImageThumbnailPath()).isEqualTo(variants.thumbnailPath());
+        assertThat(result.getProductImageMediumPath()).isEqualTo(variants.mediumPath());
+    }
+
+    private void inAnotherThread(Runnable task) {
+        CompletableFuture.runAsync(task).orTimeout(30, TimeUnit.SECONDS).join();
+    }
+
+    private static Order newOrder() {
+        return Order.builder()
+                .orderNumber(String.valueOf(ThreadLocalRandom.current().nextInt(100000, 1000000)))
+                .shopName("기록테스트화원")
+                .phone("0212345678")
+                .productName("축하화환")
+                .quantity(1)
+                .price(BigDecimal.valueOf(50000))
+                .payment(BigDecimal.valueOf(50000))
+                .orderCustomerName("주문자")
+                .orderCustomerMobile("01012345678")
+                .receiverName("수령자")
+                .deliveryDate(LocalDate.now().plusDays(1))
+                .deliveryPlace("서울시 강남구")
+                .build();
+    }
+}
@@ -0,0 +1,194 @@
+package com.sinsaflower.server.domain.settlement.service;
+
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.domain.settlement.dto.SettlementResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 일별 정산 집계 증분 반영 및 기간 조회 벤치마크
+ * 합성 주문을 DB에 넣고 SettlementService.apply로 생성/금액 변경/취소를 반영한 뒤,
+ * 이번 달/90일 기간 합계를 일별 집계에서 조회하는 경우(SettlementService)와
+ * 주문 테이블을 집계하는 경우(OrderRepository 매출 조회)를 비교한다.
+ * 테스트 프로필의 H2(인메모리)에서 측정하므로 절대값보다 두 조회의 상대 비교로 본다.
+ * 주문 수는 -Dbenchmark.orders로 조정한다. ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:settlement-benchmark;DB_CLOSE_DELAY=-1",
+        "order.outbox.enabled=false",
+        "notification.enabled=false"
+})
+@DisplayName("일별 정산 집계 벤치마크")
+class SettlementRollupBenchmarkTest {
+
+    private static final int ORDERS = Integer.getInteger("benchmark.orders", 100_000);
+    private static final int MEMBERS = 500;
+    private static final int DAYS = 365;
+    private static final int QUERY_REPEAT = 20;
+    private static final int INSERT_BATCH = 1_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("증분 반영 처리량 및 기간 조회 시간 (집계 vs 주문 테이블 집계)")
+    void rollupVersusScan() {
+        // given
+        List<Long> memberIds = insertMembers();
+        List<Long> orderIds = insertOrders(memberIds);
+
+        // when (주문 생성 + 일부 금액 변경/취소를 SettlementService로 반영)
+        long startNanos = System.nanoTime();
+        int applied = applyAll(orderIds);
+        double applySeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        System.out.printf("apply     %,10d events  %6.2fs  %,10.0f events/s  (%,d rollup rows)%n",
+                applied, applySeconds, applied / applySeconds,
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM settlement_daily", Long.class));
+
+        // then
+        LocalDate today = FIRST_DAY.plusDays(DAYS - 20);
+        compare("month-to-date (all)", null, today.withDayOfMonth(1), today);
+        compare("month-to-date (member)", memberIds.get(7), today.withDayOfMonth(1), today);
+        compare("90 days (all)", null, today.minusDays(89), today);
+    }
+
+    private List<Long> insertMembers() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO member (login_id, password, name, nickname, mobile, status, created_at, updated_at, is_deleted)
+                VALUES (?, 'encoded', '정산화환', '정산', '010-1234-5678', 'ACTIVE', ?, ?, false)""",
+                IntStream.range(0, MEMBERS)
+                        .mapToObj(i -> new Object[]{"settlement_" + i, now, now})
+                        .toList());
+        return jdbcTemplate.queryForList("SELECT id FROM member WHERE login_id LIKE 'settlement\\_%' ORDER BY id", Long.class);
+    }
+
+    private List<Long> insertOrders(List<Long> memberIds) {
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < ORDERS; i++) {
+            long payment = 30_000 + random.nextInt(200) * 1_000L;
+            long cost = payment * (50 + random.nextInt(30)) / 100;
+            batch.add(new Object[]{
+                    String.format("%06d", i), memberIds.get(random.nextInt(MEMBERS)),
+                    payment, payment, payment, cost,
+                    Date.valueOf(FIRST_DAY.plusDays(random.nextInt(DAYS))), now, now});
+            if (batch.size() == INSERT_BATCH || i == ORDERS - 1) {
+                jdbcTemplate.batchUpdate("""
+                        INSERT INTO orders (order_number, member_id, shop_name, phone, product_name, quantity,
+                                            price, payment, total_amount, origin_price,
+                                            order_customer_name, order_customer_mobile, receiver_name, delivery_date,
+                                            delivery_place, hide_delivery_photo, is_delivery, on_site, order_status,
+                                            version, created_at, updated_at, is_deleted)
+                        VALUES (?, ?, '정산화환', '02-123-4567', '근조화환', 1, ?, ?, ?, ?,
+                                '주문자', '010-1111-2222', '수령자', ?,
+                                '서울병원', false, true, false, 'PENDING', 0, ?, ?, false)""", batch);
+                batch.clear();
+            }
+        }
+        return jdbcTemplate.queryForList("SELECT id FROM orders ORDER BY id", Long.class);
+    }
+
+    private int applyAll(List<Long> orderIds) {
+        int applied = 0;
+        long eventId = 0;
+        Random random = new Random(7);
+        for (Long orderId : orderIds) {
+            settlementService.apply(orderId, ++eventId);
+            applied++;
+
+            // 10%는 금액 변경, 5%는 취소 이벤트가 이어짐
+            int roll = random.nextInt(100);
+            if (roll < 15) {
+                if (roll < 5) {
+                    jdbcTemplate.update("UPDATE orders SET order_status = 'CANCELLED' WHERE id = ?", orderId);
+                } else {
+                    jdbcTemplate.update("UPDATE orders SET total_amount = total_amount + 10000 WHERE id = ?", orderId);
+                }
+                settlementService.apply(orderId, ++eventId);
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    private void compare(String label, Long memberId, LocalDate startDate, LocalDate endDate) {
+        Totals fromRollup = measure(() -> {
+            SettlementResponse summary = settlementService.getSummary(memberId, startDate, endDate);
+            return new Totals(summary.getOrderCount(), summary.getRevenue());
+        });
+        Totals fromScan = measure(() -> scanOrders(memberId, startDate, endDate));
+
+        System.out.printf("%-24s rollup %8.2fms  scan %8.2fms  (%,d orders, revenue %,d)%n",
+                label, fromRollup.millis, fromScan.millis, fromRollup.orderCount, fromRollup.revenue.longValue());
+        assertThat(fromRollup.orderCount).isEqualTo(fromScan.orderCount);
+        assertThat(fromRollup.revenue).isEqualByComparingTo(fromScan.revenue);
+    }
+
+    private Totals scanOrders(Long memberId, LocalDate startDate, LocalDate endDate) {
+        List<Object[]> rows = memberId == null
+                ? orderRepository.sumRevenueByDeliveryDate(startDate, endDate)
+                : orderRepository.sumRevenueByMember(startDate, endDate).stream()
+                        .filter(row -> memberId.equals(row[0]))
+                        .toList();
+        long orderCount = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (Object[] row : rows) {
+            orderCount += ((Number) row[1]).longValue();
+            revenue = revenue.add((BigDecimal) row[2]);
+        }
+        return new Totals(orderCount, revenue);
+    }
+
+    private Totals measure(Supplier<Totals> query) {
+        query.get(); // 워밍업
+        Totals result = null;
+        long startNanos = System.nanoTime();
+        for (int repeat = 0; repeat < QUERY_REPEAT; repeat++) {
+            result = query.get();
+        }
+        result.millis = (System.nanoTime() - startNanos) / 1_000_000.0 / QUERY_REPEAT;
+        return result;
+    }
+
+    private static final class Totals {
+        private final long orderCount;
+        private final BigDecimal revenue;
+        private double millis;
+
+        private Totals(long orderCount, BigDecimal revenue) {
+            this.orderCount = orderCount;
+            this.revenue = revenue;
+        }
+    }
+}
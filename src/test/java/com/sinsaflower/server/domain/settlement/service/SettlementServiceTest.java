@@ -0,0 +1,167 @@
+package com.sinsaflower.server.domain.settlement.service;
+
+import com.sinsaflower.server.domain.delivery.entity.Region;
+import com.sinsaflower.server.domain.member.entity.Member;
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.domain.settlement.entity.DailySettlement;
+import com.sinsaflower.server.domain.settlement.entity.SettlementOrderState;
+import com.sinsaflower.server.domain.settlement.repository.DailySettlementRepository;
+import com.sinsaflower.server.domain.settlement.repository.SettlementOrderStateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SettlementService 테스트")
+class SettlementServiceTest {
+
+    private static final LocalDate DELIVERY_DATE = LocalDate.of(2024, 5, 1);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private DailySettlementRepository dailySettlementRepository;
+
+    @Mock
+    private SettlementOrderStateRepository settlementOrderStateRepository;
+
+    private SettlementService settlementService;
+
+    @BeforeEach
+    void setUp() {
+        settlementService = new SettlementService(orderRepository, dailySettlementRepository, settlementOrderStateRepository);
+    }
+
+    @Test
+    @DisplayName("신규 주문 - 일별 집계 행이 없으면 새로 저장하고 반영 상태 기록")
+    void apply_NewOrder() {
+        // given
+        given(orderRepository.findById(1L)).willReturn(Optional.of(order(OrderStatus.PENDING, 55000)));
+        given(settlementOrderStateRepository.findById(1L)).willReturn(Optional.empty());
+        given(dailySettlementRepository.addTo(any(), any(), any(), anyLong(), any(), any())).willReturn(0);
+
+        // when
+        settlementService.apply(1L, 100L);
+
+        // then
+        ArgumentCaptor<DailySettlement> daily = ArgumentCaptor.forClass(DailySettlement.class);
+        then(dailySettlementRepository).should().save(daily.capture());
+        assertThat(daily.getValue().getOrderCount()).isEqualTo(1);
+        assertThat(daily.getValue().getRevenue()).isEqualByComparingTo("55000");
+        assertThat(daily.getValue().getCost()).isEqualByComparingTo("60000");
+        assertThat(daily.getValue().getRegionId()).isEqualTo(3L);
+
+        ArgumentCaptor<SettlementOrderState> state = ArgumentCaptor.forClass(SettlementOrderState.class);
+        then(settlementOrderStateRepository).should().save(state.capture());
+        assertThat(state.getValue().getRevenue()).isEqualByComparingTo("55000");
+        assertThat(state.getValue().getLastEventId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("금액 변경 - 이전 기여분을 빼고 새 기여분을 더함")
+    void apply_AmountChanged() {
+        // given
+        given(orderRepository.findById(1L)).willReturn(Optional.of(order(OrderStatus.CONFIRMED, 70000)));
+        given(settlementOrderStateRepository.findById(1L)).willReturn(Optional.of(state(55000)));
+        given(dailySettlementRepository.addTo(any(), any(), any(), anyLong(), any(), any())).willReturn(1);
+
+        // when
+        settlementService.apply(1L, 101L);
+
+        // then
+        then(dailySettlementRepository).should().addTo(DELIVERY_DATE, 2L, 3L, -1,
+                new BigDecimal("-55000"), new BigDecimal("-60000"));
+        then(dailySettlementRepository).should().addTo(DELIVERY_DATE, 2L, 3L, 1,
+                new BigDecimal("70000"), new BigDecimal("60000"));
+        then(dailySettlementRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("주문 취소 - 기여분을 빼고 반영 상태 삭제")
+    void apply_Cancelled() {
+        // given
+        SettlementOrderState state = state(55000);
+        given(orderRepository.findById(1L)).willReturn(Optional.of(order(OrderStatus.CANCELLED, 55000)));
+        given(settlementOrderStateRepository.findById(1L)).willReturn(Optional.of(state));
+        given(dailySettlementRepository.addTo(any(), any(), any(), anyLong(), any(), any())).willReturn(1);
+
+        // when
+        settlementService.apply(1L, 102L);
+
+        // then
+        then(dailySettlementRepository).should().addTo(DELIVERY_DATE, 2L, 3L, -1,
+                new BigDecimal("-55000"), new BigDecimal("-60000"));
+        then(settlementOrderStateRepository).should().delete(state);
+    }
+
+    @Test
+    @DisplayName("같은 이벤트 재수신 - 기여분이 같으면 집계를 변경하지 않음")
+    void apply_Redelivered() {
+        // given
+        given(orderRepository.findById(1L)).willReturn(Optional.of(order(OrderStatus.PENDING, 55000)));
+        given(settlementOrderStateRepository.findById(1L)).willReturn(Optional.of(state(55000)));
+
+        // when
+        settlementService.apply(1L, 100L);
+
+        // then
+        then(dailySettlementRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("보관된 주문의 지연 이벤트 - 주문 행이 없으면 집계를 변경하지 않음")
+    void apply_OrderArchived() {
+        // given
+        SettlementOrderState state = state(55000);
+        given(orderRepository.findById(1L)).willReturn(Optional.empty());
+        given(settlementOrderStateRepository.findById(1L)).willReturn(Optional.of(state));
+
+        // when
+        settlementService.apply(1L, 103L);
+
+        // then
+        then(dailySettlementRepository).shouldHaveNoInteractions();
+        then(settlementOrderStateRepository).should(never()).delete(any());
+        assertThat(state.getLastEventId()).isEqualTo(103L);
+    }
+
+    private Order order(OrderStatus status, long totalAmount) {
+        return Order.builder()
+                .id(1L)
+                .member(Member.builder().id(2L).build())
+                .region(Region.builder().id(3L).build())
+                .orderStatus(status)
+                .deliveryDate(DELIVERY_DATE)
+                .quantity(2)
+                .originPrice(BigDecimal.valueOf(30000))
+                .payment(BigDecimal.valueOf(totalAmount))
+                .totalAmount(BigDecimal.valueOf(totalAmount))
+                .build();
+    }
+
+    private SettlementOrderState state(long revenue) {
+        return SettlementOrderState.builder()
+                .orderId(1L)
+                .businessDate(DELIVERY_DATE)
+                .memberId(2L)
+                .regionId(3L)
+                .revenue(BigDecimal.valueOf(revenue))
+                .cost(BigDecimal.valueOf(60000))
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.sinsaflower.server.global.config;
+
+import com.sinsaflower.server.global.datasource.ReadYourWritesTracker;
+import com.sinsaflower.server.global.datasource.ReplicaHealthChecker;
+import com.sinsaflower.server.global.datasource.ReplicaNode;
+import com.sinsaflower.server.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 읽기 복제본 연결 풀 설정 테스트
+ * 연결할 수 없는 주소를 가리키는 실제 Hikari 풀로 복제본 장애 시 읽기와 상태 점검이 연결 대기 한도 안에 끝나는지 확인
+ */
+@DisplayName("DataSourceRoutingConfig 테스트")
+class DataSourceRoutingConfigTest {
+
+    // 열려 있지 않은 포트로 연결 시도 (연결 거부)
+    private static final String UNREACHABLE_URL = "jdbc:h2:tcp://127.0.0.1:1/unreachable";
+    private static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(1);
+
+    private EmbeddedDatabase primary;
+    private HikariDataSource replicaPool;
+
+    @BeforeEach
+    void setUp() {
+        primary = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+        new JdbcTemplate(primary).execute("CREATE TABLE probe (source VARCHAR(20))");
+        new JdbcTemplate(primary).update("INSERT INTO probe (source) VALUES ('primary')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (replicaPool != null) {
+            replicaPool.close();
+        }
+        primary.shutdown();
+    }
+
+    @Test
+    @DisplayName("복제본 장애 - 연결 대기 한도 안에 주 DB로 전환하고 상태 점검도 한도 안에 종료")
+    void unreachableReplica_FailsOverWithinConnectionTimeout() {
+        // given
+        DataSourceRoutingProperties.Replica replica = new DataSourceRoutingProperties.Replica();
+        replica.setUrl(UNREACHABLE_URL);
+        replica.setConnectionTimeout(CONNECTION_TIMEOUT);
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(UNREACHABLE_URL);
+        dataSourceProperties.setUsername("sa");
+        replicaPool = DataSourceRoutingConfig.replicaDataSource("replica-down", replica,
+                DataSourceRoutingConfig.replicaConnectionTimeout(replica, new DataSourceRoutingProperties()),
+                dataSourceProperties, new SimpleMeterRegistry());
+        ReplicaNode replicaNode = new ReplicaNode("replica-down", replicaPool);
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, null, List.of(replicaNode),
+                new ReadYourWritesTracker(Duration.ofSeconds(5), "test-secret"), new SimpleMeterRegistry());
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly.setReadOnly(true);
+
+        // when
+        long startNanos = System.nanoTime();
+        String source = readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT source FROM probe", String.class));
+        Duration readElapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        startNanos = System.nanoTime();
+        new ReplicaHealthChecker(List.of(replicaNode), new SimpleMeterRegistry(), Duration.ofSeconds(5), null, 2)
+                .checkAll();
+        Duration checkElapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        // then (Hikari 기본 대기 30초가 아니라 설정한 1초 안팎)
+        assertThat(source).isEqualTo("primary");
+        assertThat(replicaNode.isAvailable()).isFalse();
+        assertThat(replicaPool.getConnectionTimeout()).isEqualTo(CONNECTION_TIMEOUT.toMillis());
+        assertThat(readElapsed).isLessThan(CONNECTION_TIMEOUT.plusSeconds(2));
+        assertThat(checkElapsed).isLessThan(CONNECTION_TIMEOUT.plusSeconds(2));
+    }
+
+    @Test
+    @DisplayName("복제본 연결 대기 한도 - 상태 점검 제한 시간보다 길면 제한 시간 적용")
+    void replicaConnectionTimeout_CappedByHealthCheckTimeout() {
+        // given
+        DataSourceRoutingProperties routingProperties = new DataSourceRoutingProperties();
+        routingProperties.setHealthCheckTimeoutSeconds(2);
+        DataSourceRoutingProperties.Replica slow = new DataSourceRoutingProperties.Replica();
+        slow.setConnectionTimeout(Duration.ofSeconds(10));
+        DataSourceRoutingProperties.Replica fast = new DataSourceRoutingProperties.Replica();
+        fast.setConnectionTimeout(Duration.ofMillis(500));
+
+        // when & then
+        assertThat(DataSourceRoutingConfig.replicaConnectionTimeout(slow, routingProperties)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(DataSourceRoutingConfig.replicaConnectionTimeout(fast, routingProperties)).isEqualTo(Duration.ofMillis(500));
+    }
+}
@@ -0,0 +1,165 @@
+package com.sinsaflower.server.global.controller;
+
+import com.sinsaflower.server.global.config.BlobStoreProperties;
+import com.sinsaflower.server.global.config.FileUploadProperties;
+import com.sinsaflower.server.global.service.FileUploadService;
+import com.sinsaflower.server.global.storage.LocalBlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("UploadFileController 테스트")
+class UploadFileControllerTest {
+
+    private static final String CONTENT = "GIF89a6789abcdefghij"; // GIF 시그니처로 시작하는 20바이트
+
+    @TempDir
+    Path basePath;
+
+    private FileUploadProperties properties;
+    private UploadFileController uploadFileController;
+    private String relativePath;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties = new FileUploadProperties();
+        properties.setBasePath(basePath.toString());
+        LocalBlobStore blobStore = new LocalBlobStore(basePath);
+        FileUploadService fileUploadService = new FileUploadService(properties, blobStore);
+        uploadFileController = new UploadFileController(blobStore, properties, new BlobStoreProperties());
+        relativePath = fileUploadService.saveFile(
+                new MockMultipartFile("file", "a.gif", "image/gif", CONTENT.getBytes(StandardCharsets.UTF_8)),
+                "order-images");
+    }
+
+    @Test
+    @DisplayName("전체 조회 - 내용 해시를 ETag로 사용")
+    void serve_Full() throws Exception {
+        // when
+        MockHttpServletResponse response = serve(request());
+
+        // then
+        String hash = Path.of(relativePath).getFileName().toString().substring(0, 64);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("ETag")).isEqualTo("\"" + hash + "\"");
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getHeader("Cache-Control")).contains("immutable");
+        assertThat(response.getContentType()).isEqualTo("image/gif");
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("조건부 조회 - ETag 일치 시 304")
+    void serve_NotModified() throws Exception {
+        // given
+        String etag = serve(request()).getHeader("ETag");
+        MockHttpServletRequest request = request();
+        request.addHeader("If-None-Match", etag);
+
+        // when
+        MockHttpServletResponse response = serve(request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("범위 조회 - 206과 Content-Range")
+    void serve_Range() throws Exception {
+        // given
+        MockHttpServletRequest request = request();
+        request.addHeader("Range", "bytes=5-9");
+
+        // when
+        MockHttpServletResponse response = serve(request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 5-9/20");
+        assertThat(response.getContentAsString()).isEqualTo("a6789");
+    }
+
+    @Test
+    @DisplayName("범위 조회 - If-Range 불일치 시 전체 응답")
+    void serve_IfRangeMismatch() throws Exception {
+        // given
+        MockHttpServletRequest request = request();
+        request.addHeader("Range", "bytes=5-9");
+        request.addHeader("If-Range", "\"other\"");
+
+        // when
+        MockHttpServletResponse response = serve(request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("범위 조회 - 파일 크기를 벗어나면 416")
+    void serve_RangeNotSatisfiable() throws Exception {
+        // given
+        MockHttpServletRequest request = request();
+        request.addHeader("Range", "bytes=100-");
+
+        // when
+        MockHttpServletResponse response = serve(request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */20");
+    }
+
+    @Test
+    @DisplayName("sendfile 지원 시 본문 대신 전송 범위를 요청 속성으로 전달")
+    void serve_Sendfile() throws Exception {
+        // given
+        properties.setSendfileMinSize(1);
+        MockHttpServletRequest request = request();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=-4");
+
+        // when
+        MockHttpServletResponse response = serve(request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(16L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않거나 기본 경로 밖의 파일은 404")
+    void serve_NotFound() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/../application.yml");
+
+        // when
+        MockHttpServletResponse response = serve(request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(404);
+    }
+
+    private MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/uploads/" + relativePath);
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        uploadFileController.serve(request, response);
+        return response;
+    }
+}
@@ -0,0 +1,129 @@
+package com.sinsaflower.server.global.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 업로드 파일 전송 방식별 처리량/CPU 비교
+ * ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+@DisplayName("업로드 파일 전송 벤치마크")
+class UploadFileTransferBenchmarkTest {
+
+    private static final int FILE_SIZE = 256 * 1024 * 1024;
+    private static final int ITERATIONS = 5;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("스트림 복사 vs FileChannel.transferTo (커널 zero-copy)")
+    void compareTransfer() throws IOException {
+        // given
+        Path source = tempDir.resolve("source.bin");
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            ByteBuffer chunk = ByteBuffer.allocate(1024 * 1024);
+            while (chunk.hasRemaining()) {
+                chunk.put((byte) chunk.position());
+            }
+            for (int i = 0; i < FILE_SIZE / chunk.capacity(); i++) {
+                chunk.rewind();
+                channel.write(chunk);
+            }
+        }
+
+        // when
+        Result stream = measure("InputStream -> OutputStream", () -> {
+            try (InputStream in = Files.newInputStream(source); OutputStream out = sinkStream()) {
+                return in.transferTo(out);
+            }
+        });
+        Result channelToStream = measure("transferTo -> Channels.newChannel(OutputStream)", () -> {
+            try (FileChannel in = FileChannel.open(source); OutputStream out = sinkStream()) {
+                return transferFully(in, Channels.newChannel(out));
+            }
+        });
+        Result zeroCopy = measure("transferTo -> FileChannel (sendfile)", () -> {
+            try (FileChannel in = FileChannel.open(source); FileChannel out = sinkChannel()) {
+                return transferFully(in, out);
+            }
+        });
+
+        // then
+        System.out.println(stream);
+        System.out.println(channelToStream);
+        System.out.println(zeroCopy);
+        assertThat(zeroCopy.bytes()).isEqualTo((long) FILE_SIZE * ITERATIONS);
+    }
+
+    private Result measure(String name, TransferTask task) throws IOException {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        task.run(); // 워밍업
+
+        long bytes = 0;
+        long cpuStart = threadMXBean.getCurrentThreadCpuTime();
+        long wallStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            bytes += task.run();
+        }
+        long wallNanos = System.nanoTime() - wallStart;
+        long cpuNanos = threadMXBean.getCurrentThreadCpuTime() - cpuStart;
+        return new Result(name, bytes, wallNanos, cpuNanos);
+    }
+
+    private long transferFully(FileChannel in, WritableByteChannel out) throws IOException {
+        long position = 0;
+        long size = in.size();
+        while (position < size) {
+            position += in.transferTo(position, size - position, out);
+        }
+        return position;
+    }
+
+    private FileChannel sinkChannel() throws IOException {
+        Path devNull = Path.of("/dev/null");
+        if (Files.exists(devNull)) {
+            return FileChannel.open(devNull, StandardOpenOption.WRITE);
+        }
+        return FileChannel.open(tempDir.resolve("sink.bin"), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private OutputStream sinkStream() throws IOException {
+        return Channels.newOutputStream(sinkChannel());
+    }
+
+    @FunctionalInterface
+    private interface TransferTask {
+        long run() throws IOException;
+    }
+
+    private record Result(String name, long bytes, long wallNanos, long cpuNanos) {
+
+        @Override
+        public String toString() {
+            double megabytes = bytes / (1024.0 * 1024.0);
+            double gigabytesPerSecond = (bytes / (1024.0 * 1024.0 * 1024.0)) / (wallNanos / 1_000_000_000.0);
+            double cpuMicrosPerMegabyte = (cpuNanos / 1_000.0) / megabytes;
+            return String.format("%-50s %6.2f GB/s, CPU %8.1f us/MB", name, gigabytesPerSecond, cpuMicrosPerMegabyte);
+        }
+    }
+}
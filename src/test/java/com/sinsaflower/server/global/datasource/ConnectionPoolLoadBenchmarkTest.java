@@ -0,0 +1,158 @@
+package com.sinsaflower.server.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 보고서 조회와 주문 쓰기 동시 부하 시 연결 풀 대기 측정
+ * 보고서가 OLTP 풀을 같이 쓰는 경우와 보고서 풀을 분리한 경우를 비교한다.
+ * ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+@DisplayName("연결 풀 분리 부하 벤치마크")
+class ConnectionPoolLoadBenchmarkTest {
+
+    private static final int OLTP_POOL_SIZE = 4;
+    private static final int REPORT_POOL_SIZE = 2;
+    private static final int REPORT_THREADS = 6;
+    private static final int WRITER_THREADS = 8;
+    private static final long REPORT_HOLD_MILLIS = 300; // 보고서 한 건이 연결을 잡고 있는 시간
+    private static final long DURATION_MILLIS = Long.getLong("benchmark.pool.duration", 5_000);
+
+    @Test
+    @DisplayName("보고서와 주문 쓰기 동시 실행 - 보고서 풀 분리 시 주문 쓰기의 연결 대기 실패 없음")
+    void reportsDoNotStarveOrderWrites() throws Exception {
+        Result shared = run("shared", false);
+        Result separated = run("separated", true);
+
+        System.out.println(shared);
+        System.out.println(separated);
+        assertThat(separated.reports).isPositive();
+        assertThat(separated.writeFailures).isZero();
+        assertThat(separated.writes).isGreaterThan(shared.writes);
+    }
+
+    private Result run(String name, boolean separateReportPool) throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        String url = "jdbc:h2:mem:pool-" + name + ";DB_CLOSE_DELAY=-1";
+        try (HikariDataSource oltp = pool(url, "oltp", OLTP_POOL_SIZE, 1_000, meterRegistry);
+             HikariDataSource report = pool(url, "report", REPORT_POOL_SIZE, 30_000, meterRegistry)) {
+            ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(oltp, separateReportPool ? report : null,
+                    List.of(), new ReadYourWritesTracker(Duration.ofSeconds(5), "test-secret"), meterRegistry);
+            LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS orders_probe (id BIGINT AUTO_INCREMENT PRIMARY KEY, amount INT)");
+
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicInteger reports = new AtomicInteger();
+            AtomicInteger writes = new AtomicInteger();
+            AtomicInteger writeFailures = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(REPORT_THREADS + WRITER_THREADS);
+            List<Future<?>> futures = new ArrayList<>();
+            try {
+                for (int i = 0; i < REPORT_THREADS; i++) {
+                    futures.add(executor.submit(() -> {
+                        while (running.get()) {
+                            boolean previous = DataSourceWorkload.beginReport();
+                            try {
+                                readOnly.executeWithoutResult(status -> {
+                                    jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders_probe", Long.class);
+                                    sleep(REPORT_HOLD_MILLIS);
+                                });
+                                reports.incrementAndGet();
+                            } catch (TransactionException e) {
+                                // 보고서 연결 대기 초과는 측정 대상이 아님
+                            } finally {
+                                DataSourceWorkload.restore(previous);
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                for (int i = 0; i < WRITER_THREADS; i++) {
+                    futures.add(executor.submit(() -> {
+                        while (running.get()) {
+                            try {
+                                readWrite.executeWithoutResult(status ->
+                                        jdbcTemplate.update("INSERT INTO orders_probe (amount) VALUES (?)", 50000));
+                                writes.incrementAndGet();
+                            } catch (TransactionException e) {
+                                writeFailures.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+
+                Thread.sleep(DURATION_MILLIS);
+                running.set(false);
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", "oltp").timer();
+            return new Result(name, reports.get(), writes.get(), writeFailures.get(),
+                    acquire.mean(TimeUnit.MILLISECONDS), acquire.max(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static HikariDataSource pool(String url, String name, int size, long connectionTimeoutMillis,
+                                         MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername("sa");
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(size);
+        dataSource.setConnectionTimeout(connectionTimeoutMillis);
+        dataSource.setMetricRegistry(meterRegistry);
+        return dataSource;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(String name, int reports, int writes, int writeFailures,
+                          double meanAcquireMillis, double maxAcquireMillis) {
+
+        @Override
+        public String toString() {
+            return String.format("%-10s reports=%,6d  writes=%,8d  write-failures=%,5d  oltp-acquire mean=%.2fms max=%.0fms",
+                    name, reports, writes, writeFailures, meanAcquireMillis, maxAcquireMillis);
+        }
+    }
+}
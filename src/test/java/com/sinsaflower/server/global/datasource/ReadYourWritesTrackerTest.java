@@ -0,0 +1,112 @@
+package com.sinsaflower.server.global.datasource;
+
+import com.sinsaflower.server.global.security.CustomUserDetails;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 읽기 일관성 표식 테스트
+ * 노드마다 별도 ReadYourWritesTracker를 두고, 쓰기를 커밋한 노드의 응답 표식만으로
+ * 다른 노드가 해당 사용자의 읽기를 주 DB로 보내는지 확인한다.
+ */
+@DisplayName("ReadYourWritesTracker 테스트")
+class ReadYourWritesTrackerTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+    private static final String SECRET = "shared-secret";
+
+    private final ReadYourWritesTracker writerNode = new ReadYourWritesTracker(WINDOW, SECRET);
+    private final ReadYourWritesTracker otherNode = new ReadYourWritesTracker(WINDOW, SECRET);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 - 응답 쿠키 표식으로 다른 노드에서도 해당 사용자의 읽기는 주 DB")
+    void marker_AppliesOnOtherNode() {
+        // given
+        authenticate(1L);
+        MockHttpServletResponse writeResponse = bind(new MockHttpServletRequest());
+        writerNode.recordWrite(writerNode.currentUserKey());
+        Cookie marker = writeResponse.getCookie(ReadYourWritesTracker.MARKER_COOKIE);
+
+        // when & then
+        assertThat(marker).isNotNull();
+        assertThat(marker.getMaxAge()).isEqualTo((int) WINDOW.toSeconds());
+        assertThat(writeResponse.getHeader(ReadYourWritesTracker.MARKER_HEADER)).isEqualTo(marker.getValue());
+
+        MockHttpServletRequest nextRequest = new MockHttpServletRequest();
+        bind(nextRequest);
+        assertThat(otherNode.requiresPrimary()).isFalse();
+
+        nextRequest.setCookies(marker);
+        assertThat(otherNode.requiresPrimary()).isTrue();
+
+        authenticate(2L);
+        assertThat(otherNode.requiresPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("헤더 표식 - 쿠키를 쓰지 않는 클라이언트도 다른 노드에서 주 DB")
+    void marker_FromHeader() {
+        // given
+        authenticate(1L);
+        String marker = writerNode.issueMarker(writerNode.currentUserKey(), System.currentTimeMillis() + 1_000);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ReadYourWritesTracker.MARKER_HEADER, marker);
+        bind(request);
+
+        // when & then
+        assertThat(otherNode.requiresPrimary()).isTrue();
+    }
+
+    @Test
+    @DisplayName("표식 검증 - 만료, 서명 위조, 다른 서명 키, 설정 기간을 넘는 만료 시각은 무시")
+    void marker_Rejected() {
+        // given
+        String userKey = "PARTNER:1";
+        long now = System.currentTimeMillis();
+        String marker = writerNode.issueMarker(userKey, now + 1_000);
+        ReadYourWritesTracker otherSecret = new ReadYourWritesTracker(WINDOW, "other-secret");
+
+        // when & then
+        assertThat(otherNode.isValidMarker(userKey, marker, now)).isTrue();
+        assertThat(otherNode.isValidMarker(userKey, marker, now + 1_000)).isFalse();
+        assertThat(otherNode.isValidMarker("PARTNER:2", marker, now)).isFalse();
+        assertThat(otherSecret.isValidMarker(userKey, marker, now)).isFalse();
+        assertThat(otherNode.isValidMarker(userKey, (now + 1_000) + ".forged", now)).isFalse();
+        String farFuture = writerNode.issueMarker(userKey, now + WINDOW.toMillis() * 100);
+        assertThat(otherNode.isValidMarker(userKey, farFuture, now)).isFalse();
+        assertThat(otherNode.isValidMarker(userKey, "garbage", now)).isFalse();
+    }
+
+    private static MockHttpServletResponse bind(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private static void authenticate(Long memberId) {
+        CustomUserDetails user = new CustomUserDetails(memberId, "partner" + memberId,
+                CustomUserDetails.USER_TYPE_PARTNER, List.of(new SimpleGrantedAuthority(CustomUserDetails.ROLE_PARTNER)));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
@@ -0,0 +1,193 @@
+package com.sinsaflower.server.global.datasource;
+
+import com.sinsaflower.server.global.security.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 읽기 복제본 라우팅 테스트
+ * 임베디드 H2를 주 DB/복제본/보고서 DB로 두고, 각 DB에 자신을 나타내는 값을 넣어 어느 쪽에서 읽었는지 확인
+ */
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String SOURCE_QUERY = "SELECT source FROM probe";
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private EmbeddedDatabase report;
+    private FailingDataSource replicaConnections;
+    private ReplicaNode replicaNode;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        report = database("report");
+        replicaConnections = new FailingDataSource(replica);
+        replicaNode = new ReplicaNode("replica-1", replicaConnections);
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, report, List.of(replicaNode),
+                new ReadYourWritesTracker(Duration.ofSeconds(5), "test-secret"), new SimpleMeterRegistry());
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.shutdown();
+        replica.shutdown();
+        report.shutdown();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 주 DB")
+    void routesByTransactionReadOnly() {
+        // when & then
+        assertThat(readOnly.execute(status -> readSource())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> readSource())).isEqualTo("primary");
+        assertThat(readSource()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("보고서 조회는 읽기 전용 트랜잭션일 때만 보고서 풀")
+    void routesReportQueriesToReportPool() {
+        // given
+        boolean previous = DataSourceWorkload.beginReport();
+        try {
+            // when & then
+            assertThat(readOnly.execute(status -> readSource())).isEqualTo("report");
+            assertThat(readWrite.execute(status -> readSource())).isEqualTo("primary");
+        } finally {
+            DataSourceWorkload.restore(previous);
+        }
+        assertThat(readOnly.execute(status -> readSource())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자의 읽기는 일정 기간 주 DB, 다른 사용자는 복제본")
+    void readYourWrites_StickToPrimaryAfterOwnWrite() {
+        // given
+        authenticate(1L);
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE probe SET touched = touched + 1"));
+
+        // when & then
+        assertThat(readOnly.execute(status -> readSource())).isEqualTo("primary");
+
+        authenticate(2L);
+        assertThat(readOnly.execute(status -> readSource())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 주 DB 고정 대상이 아님")
+    void readYourWrites_IgnoresRolledBackWrite() {
+        // given
+        authenticate(1L);
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE probe SET touched = touched + 1");
+            status.setRollbackOnly();
+        });
+
+        // when & then
+        assertThat(readOnly.execute(status -> readSource())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제본 연결 실패 - 주 DB로 대신 읽고 복제본은 제외, 상태 점검 후 복귀")
+    void failover_WhenReplicaUnavailable() {
+        // given
+        replicaConnections.failing = true;
+
+        // when & then
+        assertThat(readOnly.execute(status -> readSource())).isEqualTo("primary");
+        assertThat(replicaNode.isAvailable()).isFalse();
+
+        replicaConnections.failing = false;
+        new ReplicaHealthChecker(List.of(replicaNode), new SimpleMeterRegistry(), Duration.ofSeconds(5), null, 1)
+                .checkAll();
+        assertThat(replicaNode.isAvailable()).isTrue();
+        assertThat(readOnly.execute(status -> readSource())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("상태 점검 - 복제 지연이 허용치를 넘으면 제외")
+    void healthCheck_ExcludesLaggingReplica() {
+        // when
+        new ReplicaHealthChecker(List.of(replicaNode), new SimpleMeterRegistry(), Duration.ofSeconds(5),
+                "SELECT 30", 1).checkAll();
+
+        // then
+        assertThat(replicaNode.isAvailable()).isFalse();
+        assertThat(readOnly.execute(status -> readSource())).isEqualTo("primary");
+    }
+
+    private String readSource() {
+        return jdbcTemplate.queryForObject(SOURCE_QUERY, String.class);
+    }
+
+    private static EmbeddedDatabase database(String source) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE probe (source VARCHAR(20), touched INT)");
+        jdbc.update("INSERT INTO probe (source, touched) VALUES (?, 0)", source);
+        return database;
+    }
+
+    private static void authenticate(Long memberId) {
+        CustomUserDetails user = new CustomUserDetails(memberId, "partner" + memberId,
+                CustomUserDetails.USER_TYPE_PARTNER, List.of(new SimpleGrantedAuthority(CustomUserDetails.ROLE_PARTNER)));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    // 연결 실패를 흉내내는 복제본 DataSource
+    private static class FailingDataSource extends DelegatingDataSource {
+
+        private volatile boolean failing;
+
+        FailingDataSource(EmbeddedDatabase target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (failing) {
+                throw new SQLException("Connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+}
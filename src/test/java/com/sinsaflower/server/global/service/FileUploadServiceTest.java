@@ -0,0 +1,261 @@
+package com.sinsaflower.server.global.service;
+
+import com.sinsaflower.server.global.config.FileUploadProperties;
+import com.sinsaflower.server.global.storage.LocalBlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FileUploadService 테스트")
+class FileUploadServiceTest {
+
+    @TempDir
+    Path basePath;
+
+    private LocalBlobStore blobStore;
+    private FileUploadService fileUploadService;
+
+    @BeforeEach
+    void setUp() {
+        FileUploadProperties properties = new FileUploadProperties();
+        properties.setBasePath(basePath.toString());
+        blobStore = new LocalBlobStore(basePath);
+        fileUploadService = new FileUploadService(properties, blobStore);
+    }
+
+    @Test
+    @DisplayName("파일 저장 - SHA-256 기준 분산 경로에 저장")
+    void saveFile_ContentAddressedLayout() throws Exception {
+        // given
+        MockMultipartFile file = image("flower.JPG", "rose");
+
+        // when
+        String relativePath = fileUploadService.saveFile(file, "order-images");
+
+        // then
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(jpegBytes("rose")));
+        assertThat(relativePath)
+                .isEqualTo("order-images/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + ".jpg");
+        assertThat(Files.readAllBytes(basePath.resolve(relativePath))).isEqualTo(jpegBytes("rose"));
+    }
+
+    @Test
+    @DisplayName("파일 저장 - 동일한 내용은 한 번만 저장")
+    void saveFile_Deduplicates() throws Exception {
+        // when
+        String first = fileUploadService.saveFile(image("a.jpg", "same"), "order-images");
+        String second = fileUploadService.saveFile(image("b.jpg", "same"), "order-images");
+        String other = fileUploadService.saveFile(image("c.jpg", "different"), "order-images");
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(other).isNotEqualTo(first);
+        try (var staged = Files.list(basePath.resolve(".staging"))) {
+            assertThat(staged).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("파일 검증 - Content-Type과 관계없이 내용이 확장자와 다르면 거부")
+    void stageFile_RejectsContentNotMatchingExtension() {
+        // given
+        MockMultipartFile html = new MockMultipartFile("file", "a.jpg", "image/jpeg",
+                "<html>not an image</html>".getBytes(StandardCharsets.UTF_8));
+        MockMultipartFile pngAsJpeg = new MockMultipartFile("file", "b.jpg", "image/jpeg", pngBytes(64));
+        MockMultipartFile imageAsPdf = new MockMultipartFile("file", "c.pdf", "application/pdf", jpegBytes("pdf"));
+
+        // when & then
+        for (MockMultipartFile file : new MockMultipartFile[]{html, pngAsJpeg, imageAsPdf}) {
+            assertThatThrownBy(() -> fileUploadService.stageFile(file, "order-images"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(basePath.resolve("order-images")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("파일 검증 - 내용이 확장자와 같으면 클라이언트 Content-Type이 틀려도 허용 (jpeg는 jpg와 같은 형식)")
+    void stageFile_AcceptsMatchingContent() throws Exception {
+        // given
+        MockMultipartFile jpeg = new MockMultipartFile("file", "a.jpeg", "application/octet-stream", jpegBytes("jpeg"));
+        MockMultipartFile png = new MockMultipartFile("file", "b.PNG", null, pngBytes(64));
+
+        // when
+        StagedFile stagedJpeg = fileUploadService.stageFile(jpeg, "order-images");
+        StagedFile stagedPng = fileUploadService.stageFile(png, "order-images");
+
+        // then
+        assertThat(stagedJpeg.relativePath()).endsWith(".jpg");
+        assertThat(stagedPng.relativePath()).endsWith(".png");
+    }
+
+    @Test
+    @DisplayName("임시 저장 - 같은 내용은 jpeg 확장자나 스트리밍 업로드여도 같은 파일로 저장")
+    void stageFile_SameKeyForJpegAliasAndStream() throws Exception {
+        // given
+        byte[] content = jpegBytes("alias");
+
+        // when
+        StagedFile multipart = fileUploadService.stageFile(
+                new MockMultipartFile("file", "a.jpeg", "image/jpeg", content), "order-images");
+        StagedFile streamed = fileUploadService.stageStream(
+                new ByteArrayInputStream(content), content.length, "order-images", FileSignature.IMAGES);
+
+        // then
+        assertThat(streamed.relativePath()).isEqualTo(multipart.relativePath());
+        assertThat(streamed.created()).isFalse();
+    }
+
+    @Test
+    @DisplayName("파일 삭제 - 공유 가능한 내용 기준 파일은 삭제하지 않음")
+    void deleteFile_KeepsContentAddressedFile() throws Exception {
+        // given
+        String relativePath = fileUploadService.saveFile(image("a.jpg", "shared"), "order-images");
+
+        // when
+        fileUploadService.deleteFile(relativePath);
+
+        // then
+        assertThat(basePath.resolve(relativePath)).exists();
+    }
+
+    @Test
+    @DisplayName("임시 저장 - 동일 내용이 이미 있으면 기존 파일을 재사용")
+    void stageFile_ReusesExistingContent() throws Exception {
+        // when
+        StagedFile existing = fileUploadService.stageFile(image("a.jpg", "existing"), "bank-cert");
+        StagedFile duplicate = fileUploadService.stageFile(image("b.jpg", "existing"), "bank-cert");
+
+        // then
+        assertThat(existing.created()).isTrue();
+        assertThat(duplicate.created()).isFalse();
+        assertThat(duplicate.relativePath()).isEqualTo(existing.relativePath());
+        assertThat(basePath.resolve(existing.relativePath())).exists();
+    }
+
+    @Test
+    @DisplayName("임시 저장 - 기존 파일을 재사용하면 수정 시각을 갱신하여 미사용 파일 정리 유예 기간을 다시 시작")
+    void stageFile_ReuseRefreshesLastModified() throws Exception {
+        // given
+        StagedFile existing = fileUploadService.stageFile(image("a.jpg", "orphaned"), "order-images");
+        Path path = basePath.resolve(existing.relativePath());
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofDays(2)));
+        Files.setLastModifiedTime(path, old);
+
+        // when
+        StagedFile reused = fileUploadService.stageFile(image("b.jpg", "orphaned"), "order-images");
+
+        // then
+        assertThat(reused.created()).isFalse();
+        assertThat(Files.getLastModifiedTime(path)).isGreaterThan(old);
+    }
+
+    @Test
+    @DisplayName("로컬 경로 조회 - 기본 경로 밖/임시 영역 접근 차단")
+    void localPath_RejectsOutsidePaths() throws Exception {
+        // given
+        String relativePath = fileUploadService.saveFile(image("a.jpg", "content"), "order-images");
+        Files.writeString(basePath.resolve(".staging").resolve("pending.part"), "pending");
+
+        // when & then
+        assertThat(blobStore.localPath(relativePath)).isPresent();
+        assertThat(blobStore.localPath("../etc/passwd")).isEmpty();
+        assertThat(blobStore.localPath(".staging/pending.part")).isEmpty();
+        assertThat(blobStore.localPath("order-images")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스트리밍 저장 - 매직 바이트로 형식을 판별하여 확장자 결정")
+    void stageStream_DetectsTypeFromContent() throws Exception {
+        // given
+        byte[] png = pngBytes(4096);
+
+        // when
+        StagedFile staged = fileUploadService.stageStream(
+                new ByteArrayInputStream(png), -1, "order-images", FileSignature.IMAGES);
+
+        // then
+        assertThat(staged.relativePath()).endsWith(".png");
+        assertThat(staged.size()).isEqualTo(png.length);
+        assertThat(staged.created()).isTrue();
+        assertThat(Files.readAllBytes(basePath.resolve(staged.relativePath()))).isEqualTo(png);
+        assertThat(staged.relativePath())
+                .isEqualTo(fileUploadService.saveFile(
+                        new MockMultipartFile("file", "a.png", "image/png", png), "order-images"));
+    }
+
+    @Test
+    @DisplayName("스트리밍 저장 - 이미지가 아닌 내용은 거부")
+    void stageStream_RejectsUnknownSignature() {
+        // given
+        byte[] content = "<html>not an image</html>".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThatThrownBy(() -> fileUploadService.stageStream(
+                new ByteArrayInputStream(content), content.length, "order-images", FileSignature.IMAGES))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("허용되지 않는 파일 형식");
+        assertThat(basePath.resolve("order-images")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("스트리밍 저장 - 최대 크기를 넘으면 끝까지 읽지 않고 중단")
+    void stageStream_AbortsWhenOversized() throws Exception {
+        // given
+        FileUploadProperties properties = new FileUploadProperties();
+        properties.setBasePath(basePath.toString());
+        properties.setMaxFileSize(64 * 1024);
+        FileUploadService limited = new FileUploadService(properties, blobStore);
+        byte[] png = pngBytes(1024 * 1024);
+        ByteArrayInputStream content = new ByteArrayInputStream(png);
+
+        // when & then
+        assertThatThrownBy(() -> limited.stageStream(content, -1, "order-images", FileSignature.IMAGES))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("파일 크기가 너무 큽니다");
+        assertThat(content.available()).isGreaterThan(png.length / 2);
+        assertThatThrownBy(() -> limited.stageStream(
+                new ByteArrayInputStream(png), png.length, "order-images", FileSignature.IMAGES))
+                .isInstanceOf(IllegalArgumentException.class);
+        try (var staged = Files.list(basePath.resolve(".staging"))) {
+            assertThat(staged).isEmpty();
+        }
+    }
+
+    private byte[] pngBytes(int length) {
+        byte[] content = new byte[length];
+        byte[] magic = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+        System.arraycopy(magic, 0, content, 0, magic.length);
+        for (int i = magic.length; i < length; i++) {
+            content[i] = (byte) i;
+        }
+        return content;
+    }
+
+    private byte[] jpegBytes(String content) {
+        byte[] body = content.getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[3 + body.length];
+        bytes[0] = (byte) 0xFF;
+        bytes[1] = (byte) 0xD8;
+        bytes[2] = (byte) 0xFF;
+        System.arraycopy(body, 0, bytes, 3, body.length);
+        return bytes;
+    }
+
+    private MockMultipartFile image(String fileName, String content) {
+        return new MockMultipartFile("file", fileName, "image/jpeg", jpegBytes(content));
+    }
+}
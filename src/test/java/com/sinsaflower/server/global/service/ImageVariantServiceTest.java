@@ -0,0 +1,133 @@
+package com.sinsaflower.server.global.service;
+
+import com.sinsaflower.server.global.config.FileUploadProperties;
+import com.sinsaflower.server.global.config.ImageVariantProperties;
+import com.sinsaflower.server.global.storage.LocalBlobStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ImageVariantService 테스트")
+class ImageVariantServiceTest {
+
+    @TempDir
+    Path basePath;
+
+    private FileUploadService fileUploadService;
+    private ImageVariantService imageVariantService;
+
+    @BeforeEach
+    void setUp() {
+        FileUploadProperties properties = new FileUploadProperties();
+        properties.setBasePath(basePath.toString());
+        fileUploadService = new FileUploadService(properties, new LocalBlobStore(basePath));
+        imageVariantService = new ImageVariantService(fileUploadService, new ImageVariantProperties());
+        imageVariantService.initVariantExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageVariantService.shutdownVariantExecutor();
+    }
+
+    @Test
+    @DisplayName("파생본 생성 - 원본 비율을 유지하며 썸네일/중간 크기로 축소")
+    void generate_ResizesToVariants() throws Exception {
+        // given
+        String originalPath = fileUploadService.saveFile(png("flower.png", 1600, 1200), "order-images");
+
+        // when
+        ImageVariants variants = imageVariantService.generateAsync(originalPath).get().orElseThrow();
+
+        // then
+        assertThat(variants.thumbnailPath()).isEqualTo(originalPath.replace(".png", "_thumb.jpg"));
+        assertThat(variants.mediumPath()).isEqualTo(originalPath.replace(".png", "_medium.jpg"));
+
+        BufferedImage thumbnail = ImageIO.read(basePath.resolve(variants.thumbnailPath()).toFile());
+        BufferedImage medium = ImageIO.read(basePath.resolve(variants.mediumPath()).toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(200);
+        assertThat(thumbnail.getHeight()).isEqualTo(150);
+        assertThat(medium.getWidth()).isEqualTo(800);
+        assertThat(medium.getHeight()).isEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("파생본 생성 - 작은 이미지는 확대하지 않음")
+    void generate_DoesNotUpscale() throws Exception {
+        // given
+        String originalPath = fileUploadService.saveFile(png("small.png", 120, 90), "order-images");
+
+        // when
+        ImageVariants variants = imageVariantService.generate(originalPath).orElseThrow();
+
+        // then
+        BufferedImage medium = ImageIO.read(basePath.resolve(variants.mediumPath()).toFile());
+        assertThat(medium.getWidth()).isEqualTo(120);
+        assertThat(medium.getHeight()).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("파생본 생성 - 같은 내용의 원본은 기존 파생본 재사용")
+    void generate_ReusesExistingVariants() throws Exception {
+        // given
+        String originalPath = fileUploadService.saveFile(png("flower.png", 1600, 1200), "order-images");
+        ImageVariants first = imageVariantService.generate(originalPath).orElseThrow();
+        Path thumbnail = basePath.resolve(first.thumbnailPath());
+        FileTime marker = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(thumbnail, marker);
+
+        // when
+        Optional<ImageVariants> second = imageVariantService.generate(originalPath);
+
+        // then
+        assertThat(second).contains(first);
+        assertThat(Files.getLastModifiedTime(thumbnail)).isEqualTo(marker);
+    }
+
+    @Test
+    @DisplayName("파생본 생성 - 이미지가 아니면 생성하지 않음")
+    void generate_NonImage() throws Exception {
+        // given
+        MockMultipartFile document = new MockMultipartFile(
+                "file", "doc.pdf", "application/pdf", "%PDF-1.4 not an image".getBytes(StandardCharsets.UTF_8));
+        String originalPath = fileUploadService.saveFile(document, "order-images");
+
+        // when
+        Optional<ImageVariants> variants = imageVariantService.generate(originalPath);
+
+        // then
+        assertThat(variants).isEmpty();
+        assertThat(fileUploadService.exists(FileUploadService.variantPath(originalPath, ImageVariantService.THUMBNAIL, "jpg")))
+                .isFalse();
+    }
+
+    private MockMultipartFile png(String filename, int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.PINK);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.setColor(Color.GREEN);
+        graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+        graphics.dispose();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return new MockMultipartFile("file", filename, "image/png", output.toByteArray());
+    }
+}
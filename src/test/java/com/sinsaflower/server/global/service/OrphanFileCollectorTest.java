@@ -0,0 +1,191 @@
+package com.sinsaflower.server.global.service;
+
+import com.sinsaflower.server.domain.member.repository.MemberBankAccountRepository;
+import com.sinsaflower.server.domain.member.repository.MemberBusinessProfileRepository;
+import com.sinsaflower.server.domain.order.repository.OrderArchiveRepository;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.global.config.OrphanFileProperties;
+import com.sinsaflower.server.global.storage.LocalBlobStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrphanFileCollector 테스트")
+class OrphanFileCollectorTest {
+
+    private static final String HASH_A = "a".repeat(64);
+    private static final String HASH_B = "b".repeat(64);
+
+    @TempDir
+    Path basePath;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderArchiveRepository orderArchiveRepository;
+
+    @Mock
+    private MemberBusinessProfileRepository memberBusinessProfileRepository;
+
+    @Mock
+    private MemberBankAccountRepository memberBankAccountRepository;
+
+    private OrphanFileProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private OrphanFileCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OrphanFileProperties();
+        properties.setFilesPerSecond(100_000);
+        meterRegistry = new SimpleMeterRegistry();
+        collector = new OrphanFileCollector(new LocalBlobStore(basePath), orderRepository, orderArchiveRepository,
+                memberBusinessProfileRepository, memberBankAccountRepository, properties, meterRegistry);
+        collector.registerMetrics();
+    }
+
+    @Test
+    @DisplayName("정리 - 참조되지 않고 유예 기간이 지난 파일만 삭제하고 회수 용량 기록")
+    void collect_DeletesOnlyExpiredUnreferencedFiles() throws Exception {
+        // given
+        String orderImage = file("orders/products/aa/aa/" + HASH_A + ".jpg", 10, true);
+        String bankCert = file("bank-cert/legacy.pdf", 20, true);
+        String orphan = file("orders/products/bb/bb/" + HASH_B + ".png", 30, true);
+        String recent = file("orders/products/cc/cc/" + "c".repeat(64) + ".png", 40, false);
+        given(orderRepository.findReferencedProductImagePaths(anyCollection(), any())).willReturn(List.of(orderImage));
+        given(memberBusinessProfileRepository.findReferencedBusinessCertFilePaths(anyCollection())).willReturn(List.of());
+        given(memberBankAccountRepository.findReferencedBankCertFilePaths(anyCollection())).willReturn(List.of(bankCert));
+
+        // when
+        long reclaimed = collector.collect();
+
+        // then
+        assertThat(reclaimed).isEqualTo(30);
+        assertThat(basePath.resolve(orphan)).doesNotExist();
+        assertThat(basePath.resolve(orderImage)).exists();
+        assertThat(basePath.resolve(bankCert)).exists();
+        assertThat(basePath.resolve(recent)).exists();
+        assertThat(meterRegistry.counter("uploads.orphan.reclaimed").count()).isEqualTo(30);
+        assertThat(meterRegistry.counter("uploads.orphan.deleted").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정리 - 파생본은 같은 해시의 원본이 유지될 때만 유지")
+    void collect_VariantsFollowOriginal() throws Exception {
+        // given
+        String keptOriginal = file("orders/products/aa/aa/" + HASH_A + ".png", 10, true);
+        String keptThumb = file("orders/products/aa/aa/" + HASH_A + "_thumb.jpg", 1, true);
+        String orphanOriginal = file("orders/products/bb/bb/" + HASH_B + ".png", 10, true);
+        String orphanMedium = file("orders/products/bb/bb/" + HASH_B + "_medium.jpg", 2, true);
+        String orphanThumb = file("orders/products/bb/bb/" + HASH_B + "_thumb.jpg", 1, true);
+        given(orderRepository.findReferencedProductImagePaths(anyCollection(), any())).willReturn(List.of(keptOriginal));
+        given(memberBusinessProfileRepository.findReferencedBusinessCertFilePaths(anyCollection())).willReturn(List.of());
+        given(memberBankAccountRepository.findReferencedBankCertFilePaths(anyCollection())).willReturn(List.of());
+
+        // when
+        long reclaimed = collector.collect();
+
+        // then
+        assertThat(reclaimed).isEqualTo(13);
+        assertThat(basePath.resolve(keptOriginal)).exists();
+        assertThat(basePath.resolve(keptThumb)).exists();
+        assertThat(basePath.resolve(orphanOriginal)).doesNotExist();
+        assertThat(basePath.resolve(orphanMedium)).doesNotExist();
+        assertThat(basePath.resolve(orphanThumb)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("정리 - 목록 조회 이후 같은 내용이 다시 업로드되면 원본과 파생본 모두 삭제하지 않음")
+    void collect_SkipsFilesReusedAfterListing() throws Exception {
+        // given
+        String original = file("orders/products/aa/aa/" + HASH_A + ".png", 10, true);
+        String thumb = file("orders/products/aa/aa/" + HASH_A + "_thumb.jpg", 1, true);
+        // 참조 조회 시점(목록 조회 이후)에 같은 내용이 다시 업로드되어 (FileUploadService.store가 수정 시각 갱신) 아직 커밋 전인 상황
+        given(orderRepository.findReferencedProductImagePaths(anyCollection(), any())).willAnswer(invocation -> {
+            new LocalBlobStore(basePath).touch(original);
+            return List.of();
+        });
+        given(memberBusinessProfileRepository.findReferencedBusinessCertFilePaths(anyCollection())).willReturn(List.of());
+        given(memberBankAccountRepository.findReferencedBankCertFilePaths(anyCollection())).willReturn(List.of());
+
+        // when
+        long reclaimed = collector.collect();
+
+        // then
+        assertThat(reclaimed).isZero();
+        assertThat(basePath.resolve(original)).exists();
+        assertThat(basePath.resolve(thumb)).exists();
+    }
+
+    @Test
+    @DisplayName("정리 - 실행당 확인 파일 수를 제한하고 다음 실행에서 이어서 진행")
+    void collect_ResumesFromCursor() throws Exception {
+        // given
+        properties.setBatchSize(2);
+        properties.setMaxFilesPerRun(3);
+        for (int i = 0; i < 5; i++) {
+            file("orders/products/0" + i + "/legacy-" + i + ".jpg", 1, true);
+        }
+        given(orderRepository.findReferencedProductImagePaths(anyCollection(), any())).willReturn(List.of());
+        given(memberBusinessProfileRepository.findReferencedBusinessCertFilePaths(anyCollection())).willReturn(List.of());
+        given(memberBankAccountRepository.findReferencedBankCertFilePaths(anyCollection())).willReturn(List.of());
+
+        // when
+        long first = collector.collect();
+        long second = collector.collect();
+
+        // then
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isEqualTo(2);
+        assertThat(basePath.resolve("orders/products/00/legacy-0.jpg")).doesNotExist();
+        assertThat(basePath.resolve("orders/products/04/legacy-4.jpg")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("정리 - 초당 IO 횟수 제한")
+    void collect_RateLimited() throws Exception {
+        // given
+        properties.setFilesPerSecond(50);
+        for (int i = 0; i < 5; i++) {
+            file("orders/products/recent-" + i + ".jpg", 1, false);
+        }
+
+        // when
+        long startNanos = System.nanoTime();
+        collector.collect();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        // then (5건 / 초당 50건 = 100ms 이상)
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(90));
+        verifyNoInteractions(orderRepository);
+    }
+
+    private String file(String key, int size, boolean expired) throws Exception {
+        Path path = basePath.resolve(key);
+        Files.createDirectories(path.getParent());
+        Files.write(path, new byte[size]);
+        if (expired) {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        }
+        return key;
+    }
+}
@@ -0,0 +1,199 @@
+package com.sinsaflower.server.global.storage;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * S3BlobStore 테스트용 인프로세스 S3 (단일 버킷, 메모리 저장)
+ * 사용하는 API만 구현하고 나머지는 S3Client 기본 동작(UnsupportedOperationException)을 따른다.
+ */
+class InMemoryS3Client implements S3Client {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, String> contentTypes = new ConcurrentHashMap<>();
+    private final Map<String, Instant> lastModified = new ConcurrentHashMap<>();
+    private final Map<String, String> uploadContentTypes = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private int completedMultipartUploads;
+
+    Map<String, byte[]> objects() {
+        return objects;
+    }
+
+    int completedMultipartUploads() {
+        return completedMultipartUploads;
+    }
+
+    int pendingMultipartUploads() {
+        return uploads.size();
+    }
+
+    Map<String, Instant> lastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+        store(request.key(), read(requestBody), request.contentType());
+        return PutObjectResponse.builder().eTag(UUID.randomUUID().toString()).build();
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+        byte[] content = find(request.key());
+        return HeadObjectResponse.builder()
+                .contentLength((long) content.length)
+                .contentType(contentTypes.get(request.key()))
+                .lastModified(lastModified.get(request.key()))
+                .build();
+    }
+
+    @Override
+    public CopyObjectResponse copyObject(CopyObjectRequest request) {
+        byte[] content = find(request.sourceKey());
+        boolean sameKey = request.sourceKey().equals(request.destinationKey());
+        if (sameKey && request.metadataDirective() != MetadataDirective.REPLACE) {
+            // S3와 동일하게 변경 없는 자기 자신 복사는 거부
+            throw S3Exception.builder().statusCode(400)
+                    .message("This copy request is illegal because it is trying to copy an object to itself "
+                            + "without changing the object's metadata.")
+                    .build();
+        }
+        String contentType = request.metadataDirective() == MetadataDirective.REPLACE
+                ? request.contentType()
+                : contentTypes.get(request.sourceKey());
+        store(request.destinationKey(), content, contentType);
+        return CopyObjectResponse.builder().build();
+    }
+
+    @Override
+    public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+        byte[] content = find(request.key());
+        return new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength((long) content.length).build(),
+                AbortableInputStream.create(new ByteArrayInputStream(content)));
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.key());
+        contentTypes.remove(request.key());
+        lastModified.remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new TreeMap<>());
+        if (request.contentType() != null) {
+            uploadContentTypes.put(uploadId, request.contentType());
+        }
+        return CreateMultipartUploadResponse.builder().uploadId(uploadId).key(request.key()).build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody requestBody) {
+        upload(request.uploadId()).put(request.partNumber(), read(requestBody));
+        return UploadPartResponse.builder().eTag("part-" + request.partNumber()).build();
+    }
+
+    @Override
+    public synchronized CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        Map<Integer, byte[]> parts = upload(request.uploadId());
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (CompletedPart part : request.multipartUpload().parts()) {
+            content.writeBytes(parts.get(part.partNumber()));
+        }
+        store(request.key(), content.toByteArray(), uploadContentTypes.remove(request.uploadId()));
+        uploads.remove(request.uploadId());
+        completedMultipartUploads++;
+        return CompleteMultipartUploadResponse.builder().key(request.key()).build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        uploads.remove(request.uploadId());
+        uploadContentTypes.remove(request.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private void store(String key, byte[] content, String contentType) {
+        objects.put(key, content);
+        if (contentType != null) {
+            contentTypes.put(key, contentType);
+        } else {
+            contentTypes.remove(key);
+        }
+        lastModified.put(key, Instant.now());
+    }
+
+    private byte[] find(String key) {
+        byte[] content = objects.get(key);
+        if (content == null) {
+            throw NoSuchKeyException.builder().statusCode(404).message("The specified key does not exist.").build();
+        }
+        return content;
+    }
+
+    private Map<Integer, byte[]> upload(String uploadId) {
+        Map<Integer, byte[]> parts = uploads.get(uploadId);
+        if (parts == null) {
+            throw NoSuchUploadException.builder().statusCode(404).message("The specified upload does not exist.").build();
+        }
+        return parts;
+    }
+
+    private static byte[] read(RequestBody requestBody) {
+        try (InputStream content = requestBody.contentStreamProvider().newStream()) {
+            return content.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
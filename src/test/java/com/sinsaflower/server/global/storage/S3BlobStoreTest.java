@@ -0,0 +1,182 @@
+package com.sinsaflower.server.global.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("S3BlobStore 테스트 (인프로세스 S3)")
+class S3BlobStoreTest {
+
+    private static final int PART_SIZE = 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private InMemoryS3Client s3Client;
+    private S3Presigner s3Presigner;
+    private S3BlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = new InMemoryS3Client();
+        // 서명은 로컬 계산이므로 실제 MinIO 없이 생성 가능
+        s3Presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .endpointOverride(URI.create("http://localhost:9000"))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("minio", "minio123")))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        blobStore = new S3BlobStore(s3Client, s3Presigner, "uploads", PART_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Presigner.close();
+    }
+
+    @Test
+    @DisplayName("파트 크기 이하 파일은 단일 업로드")
+    void put_SmallFile() throws Exception {
+        // given
+        Path source = Files.write(tempDir.resolve("small.jpg"), bytes(PART_SIZE));
+
+        // when
+        blobStore.put("order-images/a.jpg", source, "image/jpeg");
+
+        // then
+        assertThat(s3Client.objects().get("order-images/a.jpg")).isEqualTo(bytes(PART_SIZE));
+        assertThat(s3Client.completedMultipartUploads()).isZero();
+    }
+
+    @Test
+    @DisplayName("파트 크기를 넘는 파일은 멀티파트 업로드")
+    void put_LargeFile() throws Exception {
+        // given
+        byte[] content = bytes(PART_SIZE * 3 + 100);
+        Path source = Files.write(tempDir.resolve("large.jpg"), content);
+
+        // when
+        blobStore.put("order-images/b.jpg", source, "image/jpeg");
+
+        // then
+        assertThat(s3Client.objects().get("order-images/b.jpg")).isEqualTo(content);
+        assertThat(s3Client.completedMultipartUploads()).isEqualTo(1);
+        assertThat(s3Client.pendingMultipartUploads()).isZero();
+    }
+
+    @Test
+    @DisplayName("길이를 모르는 스트림은 파트 단위로 멀티파트 업로드")
+    void put_StreamWithUnknownLength() throws Exception {
+        // given
+        byte[] content = bytes(PART_SIZE * 2);
+
+        // when
+        blobStore.put("order-images/c.jpg", new ByteArrayInputStream(content), -1, "image/jpeg");
+
+        // then
+        assertThat(s3Client.objects().get("order-images/c.jpg")).isEqualTo(content);
+        assertThat(s3Client.completedMultipartUploads()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스트림 읽기 실패 시 멀티파트 업로드 중단")
+    void put_AbortsOnFailure() {
+        // given
+        InputStream failing = new InputStream() {
+            private int remaining = PART_SIZE + 10;
+
+            @Override
+            public int read() throws IOException {
+                if (remaining-- <= 0) {
+                    throw new IOException("connection reset");
+                }
+                return 1;
+            }
+        };
+
+        // when & then
+        assertThatThrownBy(() -> blobStore.put("order-images/d.jpg", failing, -1, "image/jpeg"))
+                .isInstanceOf(IOException.class);
+        assertThat(s3Client.pendingMultipartUploads()).isZero();
+        assertThat(s3Client.objects()).doesNotContainKey("order-images/d.jpg");
+    }
+
+    @Test
+    @DisplayName("존재 확인/읽기/삭제")
+    void existsOpenDelete() throws Exception {
+        // given
+        blobStore.put("bank-cert/e.pdf", new ByteArrayInputStream(bytes(10)), 10, "application/pdf");
+
+        // when & then
+        assertThat(blobStore.exists("bank-cert/e.pdf")).isTrue();
+        try (InputStream content = blobStore.open("bank-cert/e.pdf")) {
+            assertThat(content.readAllBytes()).isEqualTo(bytes(10));
+        }
+
+        blobStore.delete("bank-cert/e.pdf");
+        assertThat(blobStore.exists("bank-cert/e.pdf")).isFalse();
+        assertThatThrownBy(() -> blobStore.open("bank-cert/e.pdf")).isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    @DisplayName("수정 시각 갱신 - 내용/타입은 유지하고 LastModified만 갱신, 없으면 false")
+    void touchAndStat() throws Exception {
+        // given
+        blobStore.put("order-images/f.jpg", new ByteArrayInputStream(bytes(10)), 10, "image/jpeg");
+        Instant old = Instant.now().minus(Duration.ofDays(2));
+        s3Client.lastModified().put("order-images/f.jpg", old);
+
+        // when
+        boolean touched = blobStore.touch("order-images/f.jpg");
+
+        // then
+        assertThat(touched).isTrue();
+        BlobInfo info = blobStore.stat("order-images/f.jpg").orElseThrow();
+        assertThat(info.size()).isEqualTo(10);
+        assertThat(info.lastModified()).isAfter(old);
+        assertThat(s3Client.objects().get("order-images/f.jpg")).isEqualTo(bytes(10));
+        assertThat(s3Client.headObject(request -> request.bucket("uploads").key("order-images/f.jpg")).contentType())
+                .isEqualTo("image/jpeg");
+        assertThat(blobStore.touch("order-images/missing.jpg")).isFalse();
+        assertThat(blobStore.stat("order-images/missing.jpg")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서명 URL 생성")
+    void presignedGetUrl() {
+        // when
+        URI url = blobStore.presignedGetUrl("order-images/a.jpg", Duration.ofMinutes(5)).orElseThrow();
+
+        // then
+        assertThat(url.getHost()).isEqualTo("localhost");
+        assertThat(url.getPath()).isEqualTo("/uploads/order-images/a.jpg");
+        assertThat(url.getQuery()).contains("X-Amz-Expires=300").contains("X-Amz-Signature=");
+        assertThat(blobStore.localPath("order-images/a.jpg")).isEmpty();
+    }
+
+    private static byte[] bytes(int length) {
+        byte[] content = new byte[length];
+        new Random(length).nextBytes(content);
+        return content;
+    }
+}
@@ -0,0 +1,55 @@
+package com.sinsaflower.server.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함으로 판단 (미탐 없음)")
+    void mightContain_NoFalseNegatives() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("partner" + i);
+        }
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("partner" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률이 목표치 근처")
+    void mightContain_FalsePositiveRate() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("partner" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then - 목표 1%, 여유를 두고 3% 미만
+        assertThat(falsePositives / 100_000.0).isLessThan(0.03);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정값은 예외")
+    void constructor_InvalidArguments() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
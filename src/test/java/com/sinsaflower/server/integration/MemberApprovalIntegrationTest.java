@@ -14,6 +14,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
@@ -184,6 +186,23 @@ class MemberApprovalIntegrationTest {
         assertThat(isNewBusinessNumberDuplicate).isFalse();
     }
 
+    @Test
+    @DisplayName("통합 테스트: 전체 회원 페이징 조회 (DB 페이징)")
+    void getAllActiveMembersPaging() {
+        // given - 회원 3명 가입
+        for (int i = 0; i < 3; i++) {
+            String businessNumber = String.format("777-66-%05d", (System.currentTimeMillis() + i) % 100000);
+            memberService.signUp(TestDataFactory.createSignupRequest(testLoginId + "_" + i, "페이징화환" + i, businessNumber));
+        }
+
+        // when - 2건씩 조회 (메모리 페이징이 발생하면 예외)
+        Page<MemberResponse> firstPage = memberService.getAllActiveMembers(PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(firstPage.getTotalElements()).isGreaterThanOrEqualTo(3);
+    }
+
     @Test
     @DisplayName("통합 테스트: 회원 정보 조회")
     void getMemberInfoIntegration() {